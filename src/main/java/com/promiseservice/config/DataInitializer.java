@@ -12,6 +12,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 애플리케이션 시작 시 테스트용 더미 데이터를 생성하는 설정 클래스
@@ -72,27 +73,27 @@ public class DataInitializer {
             {"주말 맛집 탐방", "강남역 근처 맛집들을 돌아보며 즐거운 시간을 보내요!", 
              LocalDateTime.of(2024, 1, 20, 14, 0), "강남역 2번 출구", 
              "서울특별시 강남구 강남대로 396", "{\"latitude\": 37.498095, \"longitude\": 127.027610}", 
-             6, Meeting.MeetingStatus.WAITING, LocalDateTime.of(2024, 1, 15, 9, 0)},
+             6, Meeting.MeetingStatus.WAITING, LocalDateTime.of(2024, 1, 15, 9, 0), 1L},
             
             {"영화 관람", "최신 영화를 함께 보러 가요", 
              LocalDateTime.of(2024, 1, 21, 19, 30), "롯데시네마 잠실점", 
              "서울특별시 송파구 올림픽로 240", "{\"latitude\": 37.513294, \"longitude\": 127.098422}", 
-             4, Meeting.MeetingStatus.CONFIRMED, LocalDateTime.of(2024, 1, 15, 10, 0)},
+             4, Meeting.MeetingStatus.CONFIRMED, LocalDateTime.of(2024, 1, 15, 10, 0), 2L},
             
             {"등산 모임", "북한산 등산을 함께 해요", 
              LocalDateTime.of(2024, 1, 22, 8, 0), "북한산 우이동 입구", 
              "서울특별시 강북구 우이동", "{\"latitude\": 37.663294, \"longitude\": 127.012422}", 
-             8, Meeting.MeetingStatus.WAITING, LocalDateTime.of(2024, 1, 15, 11, 0)},
+             8, Meeting.MeetingStatus.WAITING, LocalDateTime.of(2024, 1, 15, 11, 0), 3L},
             
             {"카페 모임", "홍대 카페에서 수다 떨어요", 
              LocalDateTime.of(2024, 1, 23, 15, 0), "스타벅스 홍대점", 
              "서울특별시 마포구 양화로 160", "{\"latitude\": 37.556294, \"longitude\": 126.922422}", 
-             5, Meeting.MeetingStatus.COMPLETED, LocalDateTime.of(2024, 1, 10, 12, 0)},
+             5, Meeting.MeetingStatus.COMPLETED, LocalDateTime.of(2024, 1, 10, 12, 0), 1L},
             
             {"보드게임 카페", "보드게임을 함께 즐겨요", 
              LocalDateTime.of(2024, 1, 25, 18, 0), "보드게임카페 코드게임", 
              "서울특별시 강남구 테헤란로 152", "{\"latitude\": 37.498594, \"longitude\": 127.028010}", 
-             6, Meeting.MeetingStatus.CANCELLED, LocalDateTime.of(2024, 1, 15, 13, 0)}
+             6, Meeting.MeetingStatus.CANCELLED, LocalDateTime.of(2024, 1, 15, 13, 0), 4L}
         };
 
         for (Object[] data : meetingData) {
@@ -107,6 +108,7 @@ public class DataInitializer {
             meeting.setStatus((Meeting.MeetingStatus) data[7]);
             meeting.setCreatedAt((LocalDateTime) data[8]);
             meeting.setUpdatedAt((LocalDateTime) data[8]);
+            meeting.setHostId((Long) data[9]);
             
             meetingRepository.save(meeting);
         }
@@ -191,6 +193,11 @@ public class DataInitializer {
             
             participantRepository.save(participant);
         }
+
+        // 저장한 참여자 기준으로 약속의 참여자 카운터 맞추기
+        // 이유: 참여자를 직접 저장하면 카운터가 바뀌지 않아 보정 작업이 돌기 전까지 참여자 수가 0으로 보이므로
+        participantRepository.flush();
+        meetingRepository.recountParticipantCounts(List.of(meetingId));
     }
 
     /**
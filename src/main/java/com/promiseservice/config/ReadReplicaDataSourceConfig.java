@@ -0,0 +1,89 @@
+package com.promiseservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본 DataSource 설정
+ * 이유: app.datasource.replica.url이 설정된 경우에만 기본 DB 풀과 복제본 풀을 따로 만들고,
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 DataSource를 JPA가 사용하는 기본 DataSource로 등록하기 위해
+ * (설정하지 않으면 이 설정은 로드되지 않고 Spring Boot 기본 DataSource 하나만 사용)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReadReplicaDataSourceConfig {
+
+    @Value("${app.datasource.replica.url}")
+    private String replicaUrl;
+
+    @Value("${app.datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${app.datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${app.datasource.replica.driver-class-name:${spring.datasource.driverClassName:}}")
+    private String replicaDriverClassName;
+
+    // 복제본 풀 크기
+    // 이유: 읽기가 트래픽 대부분을 차지하므로 기본 DB 풀과 따로 크기를 정하기 위해
+    @Value("${app.datasource.replica.maximum-pool-size:20}")
+    private int replicaMaximumPoolSize = 20;
+
+    /**
+     * 기본 DB(쓰기) 커넥션 풀
+     * spring.datasource.* 와 spring.datasource.hikari.* 설정을 그대로 사용
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * 읽기 복제본 커넥션 풀
+     */
+    @Bean
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(replicaUrl);
+        dataSource.setUsername(replicaUsername);
+        dataSource.setPassword(replicaPassword);
+        if (!replicaDriverClassName.isBlank()) {
+            dataSource.setDriverClassName(replicaDriverClassName);
+        }
+        dataSource.setMaximumPoolSize(replicaMaximumPoolSize);
+        dataSource.setReadOnly(true);
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    /**
+     * JPA/트랜잭션이 사용하는 라우팅 DataSource
+     * 이유: LazyConnectionDataSourceProxy가 실제 커넥션을 첫 SQL 실행 때까지 미루므로,
+     * 그 시점에는 트랜잭션의 읽기 전용 여부가 설정되어 있어 올바른 풀을 고를 수 있음
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        log.info("읽기/쓰기 라우팅 DataSource 사용 - 복제본: {}", replicaUrl);
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, readYourWritesTracker));
+    }
+}
@@ -0,0 +1,87 @@
+package com.promiseservice.config;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource
+ * 이유: 읽기 전용 트랜잭션은 복제본 풀로, 쓰기 트랜잭션과 트랜잭션 밖의 작업은 기본 DB 풀로 보내
+ * 대부분을 차지하는 읽기 부하를 기본 DB에서 덜어내기 위해
+ *
+ * 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 설정되지 않으므로,
+ * 반드시 LazyConnectionDataSourceProxy로 감싸 첫 SQL 실행 시점에 대상 풀을 고르도록 해야 한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * 라우팅 대상
+     */
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // 같은 사용자가 방금 쓴 경우에는 복제 지연으로 쓴 내용이 안 보이지 않도록 기본 DB에서 읽음
+            if (readYourWritesTracker.isPinnedToPrimary()) {
+                return Route.PRIMARY;
+            }
+            suppressSecondLevelCachePuts();
+            return Route.REPLICA;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            readYourWritesTracker.markWrite();
+        }
+        return Route.PRIMARY;
+    }
+
+    /**
+     * 현재 트랜잭션의 Hibernate 세션이 2차 캐시에 넣지 않도록 설정 (조회는 그대로 사용)
+     * 이유: 복제 지연으로 오래된 행을 읽어 캐시에 넣으면, 기본 DB로 고정된 쓰기 사용자도
+     * 캐시 TTL 동안 그 오래된 값을 읽게 되어 read-your-writes가 깨지므로 복제본에서 읽은 값은 캐시에 넣지 않기 위해
+     *
+     * 세션은 요청 전체에서 재사용될 수 있으므로(open-in-view) 트랜잭션이 끝나면 원래 모드로 되돌린다.
+     */
+    private static void suppressSecondLevelCachePuts() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (!(resource instanceof EntityManagerHolder holder)) {
+                continue;
+            }
+            Session session = holder.getEntityManager().unwrap(Session.class);
+            CacheMode previous = session.getCacheMode();
+            if (previous == CacheMode.GET || previous == CacheMode.IGNORE) {
+                continue;
+            }
+            session.setCacheMode(CacheMode.GET);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (session.isOpen()) {
+                        session.setCacheMode(previous);
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.promiseservice.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 단위 read-your-writes 상태 관리 필터
+ * 이유: 요청 사용자(X-User-ID 헤더)를 읽기/쓰기 라우팅에 알려, 최근에 쓴 사용자의 읽기를 기본 DB로 고정하고
+ * 쓰기 트랜잭션이 커밋될 때 그 사용자의 쓰기 시각이 기록되도록 요청 상태를 시작하고 정리하기 위해
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final String USER_ID_HEADER = "X-User-ID";
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        readYourWritesTracker.beginRequest(resolveUserId(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWritesTracker.endRequest();
+        }
+    }
+
+    private Long resolveUserId(HttpServletRequest request) {
+        String header = request.getHeader(USER_ID_HEADER);
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(header.trim());
+        } catch (NumberFormatException e) {
+            log.debug("잘못된 X-User-ID 헤더 형식 - 라우팅 고정 제외: {}", header);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.promiseservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 쓰기 직후 읽기(read-your-writes) 추적기
+ * 이유: 복제본은 기본 DB보다 조금 늦게 반영되므로, 방금 쓴 사용자가 바로 이어서 읽을 때
+ * 자신이 쓴 내용이 안 보이는 일이 없도록 일정 시간 동안 그 사용자의 읽기를 기본 DB로 고정하기 위해
+ *
+ * 요청 단위 상태는 스레드 로컬에 두고(ReadYourWritesFilter가 시작/종료), 사용자별 마지막 쓰기 시각은 쓰기 트랜잭션 커밋 시 메모리에 남긴다.
+ * 같은 요청 안에서 쓰기가 일어나면 이후의 읽기 전용 트랜잭션(커밋 후 이벤트 리스너 포함)도 기본 DB를 사용한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReadYourWritesTracker {
+
+    // 마지막 쓰기 시각 맵을 정리하기 시작하는 크기
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    // 쓰기 후 기본 DB로 고정하는 시간 (복제 지연보다 넉넉하게)
+    @Value("${app.datasource.replica.read-your-writes-window-ms:3000}")
+    private long windowMs = 3000;
+
+    private final Map<Long, Long> lastWriteAt = new ConcurrentHashMap<>();
+    private final ThreadLocal<RequestState> currentRequest = new ThreadLocal<>();
+
+    /**
+     * 요청 시작
+     *
+     * @param userId 요청 사용자 ID (알 수 없으면 null)
+     */
+    public void beginRequest(Long userId) {
+        currentRequest.set(new RequestState(userId, userId != null && wroteRecently(userId)));
+    }
+
+    /**
+     * 요청 종료
+     */
+    public void endRequest() {
+        currentRequest.remove();
+    }
+
+    /**
+     * 현재 요청의 읽기를 기본 DB로 보내야 하는지 여부
+     */
+    public boolean isPinnedToPrimary() {
+        RequestState state = currentRequest.get();
+        return state != null && (state.pinned || state.wrote);
+    }
+
+    /**
+     * 현재 요청에서 쓰기 트랜잭션이 시작됨
+     * 이유: 요청이 끝난 뒤(응답이 이미 나간 뒤)가 아니라 커밋 시점에 쓰기 시각을 남겨,
+     * 응답을 받은 클라이언트의 다음 읽기가 고정 시간보다 먼저 복제본으로 가지 않도록 하기 위해
+     */
+    public void markWrite() {
+        RequestState state = currentRequest.get();
+        if (state == null) {
+            return;
+        }
+        state.wrote = true;
+        if (state.userId != null && TransactionSynchronizationManager.isSynchronizationActive()
+                && !isRegistered(state.userId)) {
+            TransactionSynchronizationManager.registerSynchronization(new WriteCommitRecorder(state.userId));
+        }
+    }
+
+    private boolean isRegistered(Long userId) {
+        return TransactionSynchronizationManager.getSynchronizations().stream()
+                .anyMatch(synchronization -> synchronization instanceof WriteCommitRecorder recorder
+                        && recorder.owner() == this && recorder.userId.equals(userId));
+    }
+
+    private void recordWrite(Long userId) {
+        lastWriteAt.put(userId, System.currentTimeMillis());
+        if (lastWriteAt.size() > SWEEP_THRESHOLD) {
+            long expiredBefore = System.currentTimeMillis() - windowMs;
+            lastWriteAt.values().removeIf(writtenAt -> writtenAt < expiredBefore);
+        }
+    }
+
+    private boolean wroteRecently(Long userId) {
+        Long writtenAt = lastWriteAt.get(userId);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - writtenAt < windowMs) {
+            return true;
+        }
+        lastWriteAt.remove(userId, writtenAt);
+        return false;
+    }
+
+    /**
+     * 쓰기 트랜잭션 커밋 시 사용자의 마지막 쓰기 시각을 기록하는 동기화
+     */
+    private final class WriteCommitRecorder implements TransactionSynchronization {
+        private final Long userId;
+
+        private WriteCommitRecorder(Long userId) {
+            this.userId = userId;
+        }
+
+        private ReadYourWritesTracker owner() {
+            return ReadYourWritesTracker.this;
+        }
+
+        @Override
+        public void afterCommit() {
+            recordWrite(userId);
+        }
+    }
+
+    /**
+     * 요청 단위 라우팅 상태
+     */
+    private static final class RequestState {
+        private final Long userId;
+        private final boolean pinned;
+        private boolean wrote;
+
+        private RequestState(Long userId, boolean pinned) {
+            this.userId = userId;
+            this.pinned = pinned;
+        }
+    }
+}
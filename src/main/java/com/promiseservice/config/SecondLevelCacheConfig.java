@@ -0,0 +1,125 @@
+package com.promiseservice.config;
+
+import com.promiseservice.model.entity.Meeting;
+import com.promiseservice.model.entity.MeetingParticipant;
+import com.promiseservice.model.entity.UserConsent;
+import com.promiseservice.service.CacheRegionEventCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.CacheEventListenerConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.event.CacheEventListener;
+import org.ehcache.event.EventType;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Ehcache 3 인프로세스 캐시)
+ * 이유: 요청마다 기본키로 다시 읽는 약속/참여자/동의 정보를 애플리케이션 메모리에서 제공하고,
+ * 영역(region)마다 TTL과 최대 항목 수를 설정 파일로 조정할 수 있도록 캐시를 코드로 만들어 Hibernate에 넘기기 위해
+ *
+ * 영역 설정: app.cache.regions.{영역 이름}.ttl-seconds (0이면 만료 없음), app.cache.regions.{영역 이름}.max-entries
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+    // Hibernate JCache 설정 키 (hibernate-jcache ConfigSettings와 동일)
+    private static final String JCACHE_CACHE_MANAGER = "hibernate.javax.cache.cache_manager";
+    private static final String REGION_FACTORY = "hibernate.cache.region.factory_class";
+
+    /**
+     * 영역별 기본값
+     * 갱신 시각 영역은 쿼리 캐시 결과가 최신인지 판단하는 기준이므로 만료시키지 않는다
+     */
+    private static final List<RegionDefaults> REGIONS = List.of(
+            new RegionDefaults(Meeting.CACHE_REGION, 300, 10_000),
+            new RegionDefaults(Meeting.PARTICIPANTS_CACHE_REGION, 300, 10_000),
+            new RegionDefaults(MeetingParticipant.CACHE_REGION, 300, 50_000),
+            new RegionDefaults(UserConsent.CACHE_REGION, 1800, 10_000),
+            new RegionDefaults(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, 300, 5_000),
+            new RegionDefaults(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, 0, 1_000)
+    );
+
+    /**
+     * 2차 캐시용 JCache CacheManager
+     * 이유: 영역마다 힙 항목 수 제한과 TTL을 적용하고, 제거/만료 이벤트를 영역별로 세기 위해
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(Environment environment, CacheRegionEventCounter eventCounter) {
+        CachingProvider provider = Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+
+        for (RegionDefaults region : REGIONS) {
+            long ttlSeconds = environment.getProperty(
+                    "app.cache.regions." + region.name() + ".ttl-seconds", Long.class, region.ttlSeconds());
+            long maxEntries = environment.getProperty(
+                    "app.cache.regions." + region.name() + ".max-entries", Long.class, region.maxEntries());
+
+            // 재시작(테스트 컨텍스트, devtools) 시 같은 CacheManager가 반환될 수 있으므로 기존 영역을 비우고 다시 생성
+            if (cacheManager.getCache(region.name()) != null) {
+                cacheManager.destroyCache(region.name());
+            }
+            cacheManager.createCache(region.name(),
+                    Eh107Configuration.fromEhcacheCacheConfiguration(
+                            regionConfiguration(region.name(), ttlSeconds, maxEntries, eventCounter)));
+
+            log.info("2차 캐시 영역 생성 - 영역: {}, TTL: {}초, 최대 항목: {}", region.name(), ttlSeconds, maxEntries);
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Hibernate에 JCache 영역 팩토리와 위 CacheManager 전달
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(REGION_FACTORY, "jcache");
+            properties.put(JCACHE_CACHE_MANAGER, hibernateCacheManager);
+        };
+    }
+
+    private CacheConfiguration<Object, Object> regionConfiguration(String region, long ttlSeconds, long maxEntries,
+                                                                   CacheRegionEventCounter eventCounter) {
+        CacheEventListener<Object, Object> listener = event -> {
+            if (event.getType() == EventType.EVICTED) {
+                eventCounter.recordEviction(region);
+            } else if (event.getType() == EventType.EXPIRED) {
+                eventCounter.recordExpiration(region);
+            }
+        };
+
+        return CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(maxEntries))
+                .withExpiry(ttlSeconds > 0
+                        ? ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ttlSeconds))
+                        : ExpiryPolicyBuilder.noExpiration())
+                .withService(CacheEventListenerConfigurationBuilder
+                        .newEventListenerConfiguration(listener, EventType.EVICTED, EventType.EXPIRED)
+                        .unordered()
+                        .asynchronous())
+                .build();
+    }
+
+    /**
+     * 영역 이름과 기본 TTL/최대 항목 수
+     */
+    private record RegionDefaults(String name, long ttlSeconds, long maxEntries) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.promiseservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.promiseservice.dto.MeetingChangeFeedItem;
+import com.promiseservice.dto.MeetingHistoryEntry;
+import com.promiseservice.event.MeetingHistoryWrittenEvent;
+import com.promiseservice.model.entity.MeetingHistory;
+import com.promiseservice.model.entity.NotificationLog;
+import com.promiseservice.repository.MeetingHistoryRepository;
+import com.promiseservice.repository.MeetingRepository;
+import com.promiseservice.repository.NotificationLogRepository;
+import com.promiseservice.service.UserTimelineService;
+import com.promiseservice.service.WriteBehindBuffer;
+import com.promiseservice.service.WriteBehindBuffer.Durability;
+import com.promiseservice.service.WriteBehindJournal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 추가 전용 테이블(meeting_history, notification_log) 쓰기 지연 버퍼 설정
+ * 이유: 쓰기 요청마다 보내던 히스토리/알림 로그 INSERT를 버퍼에 모아 크기나 시간 기준으로 배치 INSERT 하기 위해
+ * (배치 INSERT 자체는 시퀀스 ID와 hibernate.jdbc.batch_size 설정으로 처리)
+ */
+@Slf4j
+@Configuration
+public class WriteBehindConfig {
+
+    // 내구성 모드 (NONE: 메모리만, JOURNAL: 로컬 저널, BEFORE_COMMIT: 요청 트랜잭션 커밋 직전에 씀)
+    @Value("${app.write-behind.durability:BEFORE_COMMIT}")
+    private Durability durability = Durability.BEFORE_COMMIT;
+
+    // 버퍼별 최대 항목 수
+    @Value("${app.write-behind.capacity:10000}")
+    private int capacity = 10000;
+
+    // 한 번에 쓰는 항목 수 (hibernate.jdbc.batch_size의 배수로 두면 배치가 꽉 차서 나감)
+    @Value("${app.write-behind.batch-size:200}")
+    private int batchSize = 200;
+
+    // 비우기 주기 (밀리초)
+    @Value("${app.write-behind.flush-interval-ms:1000}")
+    private long flushIntervalMs = 1000;
+
+    // 저널 파일 디렉터리 (JOURNAL 모드)
+    @Value("${app.write-behind.journal-dir:./data/write-behind}")
+    private String journalDir = "./data/write-behind";
+
+    /**
+     * 약속 히스토리 쓰기 지연 버퍼
+     * 약속 참조는 getReferenceById 프록시로 연결하여 배치마다 약속을 다시 조회하지 않음
+     * 같은 트랜잭션에서 참여자 타임라인에 퍼뜨리고, 저장된 히스토리는 ID와 함께 이벤트로 발행하여 커밋 후 변경 피드로 전달
+     */
+    @Bean(destroyMethod = "close")
+    public WriteBehindBuffer<MeetingHistoryEntry> meetingHistoryBuffer(MeetingHistoryRepository historyRepository,
+                                                                       MeetingRepository meetingRepository,
+                                                                       UserTimelineService timelineService,
+                                                                       PlatformTransactionManager transactionManager,
+                                                                       ObjectMapper objectMapper,
+                                                                       ApplicationEventPublisher eventPublisher) {
+        return new WriteBehindBuffer<>("meeting_history",
+                entries -> {
+                    List<MeetingHistory> saved = historyRepository.saveAll(entries.stream()
+                            .map(entry -> entry.toEntity(meetingRepository.getReferenceById(entry.meetingId())))
+                            .toList());
+                    List<Long> meetingIds = entries.stream().map(MeetingHistoryEntry::meetingId).toList();
+                    timelineService.fanOut(meetingIds, saved);
+
+                    List<MeetingChangeFeedItem> items = new ArrayList<>(saved.size());
+                    for (int i = 0; i < saved.size(); i++) {
+                        items.add(MeetingChangeFeedItem.from(meetingIds.get(i), saved.get(i)));
+                    }
+                    eventPublisher.publishEvent(new MeetingHistoryWrittenEvent(items));
+                },
+                transactionManager,
+                settings(),
+                journal("meeting_history", MeetingHistoryEntry.class, objectMapper));
+    }
+
+    /**
+     * 알림 전송 로그 쓰기 지연 버퍼
+     */
+    @Bean(destroyMethod = "close")
+    public WriteBehindBuffer<NotificationLog> notificationLogBuffer(NotificationLogRepository notificationLogRepository,
+                                                                    PlatformTransactionManager transactionManager,
+                                                                    ObjectMapper objectMapper) {
+        return new WriteBehindBuffer<>("notification_log",
+                notificationLogRepository::saveAll,
+                transactionManager,
+                settings(),
+                journal("notification_log", NotificationLog.class, objectMapper));
+    }
+
+    private WriteBehindBuffer.Settings settings() {
+        return new WriteBehindBuffer.Settings(durability, capacity, batchSize, flushIntervalMs);
+    }
+
+    private <T> WriteBehindJournal<T> journal(String name, Class<T> type, ObjectMapper objectMapper) {
+        if (durability != Durability.JOURNAL) {
+            return null;
+        }
+        log.info("쓰기 지연 저널 사용 - 이름: {}, 디렉터리: {}", name, journalDir);
+        return new WriteBehindJournal<>(Path.of(journalDir), name, type, objectMapper);
+    }
+}
@@ -0,0 +1,33 @@
+package com.promiseservice.controller;
+
+import com.promiseservice.dto.CacheRegionStatsResponse;
+import com.promiseservice.service.CacheStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 2차 캐시 통계 컨트롤러
+ * 이유: 운영 중 영역별 적중률과 제거 건수를 확인하여 캐시 크기/TTL 설정이 트래픽에 맞는지 판단하기 위해
+ */
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheStatisticsController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    /**
+     * 영역별 2차 캐시 통계를 조회하는 엔드포인트
+     *
+     * GET /api/cache/regions/stats
+     */
+    @GetMapping("/regions/stats")
+    public ResponseEntity<List<CacheRegionStatsResponse>> getRegionStats() {
+        return ResponseEntity.ok(cacheStatisticsService.getRegionStats());
+    }
+}
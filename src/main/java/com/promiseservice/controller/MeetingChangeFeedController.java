@@ -0,0 +1,60 @@
+package com.promiseservice.controller;
+
+import com.promiseservice.service.MeetingChangeFeedHub;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 약속 변경 피드 컨트롤러
+ * 이유: 약속/참여자 조회를 반복 호출하던 클라이언트가 SSE 연결 하나로 약속, 참여자, 상태 변경을 받도록 하기 위해
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/meetings")
+@RequiredArgsConstructor
+public class MeetingChangeFeedController {
+
+    private final MeetingChangeFeedHub changeFeedHub;
+
+    /**
+     * 약속 변경 피드 구독
+     * GET /api/meetings/{meetingId}/changes
+     *
+     * 이벤트 종류:
+     * - meeting-change: 변경 항목 (id가 재개 토큰)
+     * - resync: 놓친 변경이 너무 많아 연결을 끊음 (약속을 다시 조회한 뒤 토큰 없이 재구독)
+     * - removed: 약속이 삭제되거나 보관되어 더 이상 변경이 없음
+     *
+     * 브라우저 EventSource는 재연결 시 Last-Event-ID 헤더를 자동으로 보내며,
+     * 헤더를 쓸 수 없는 클라이언트는 since 파라미터로 같은 토큰을 전달할 수 있다.
+     * 토큰은 커밋 순서를 보장하지 않는 히스토리 ID라 재개는 단일 인스턴스 기준의 최선 노력 방식이므로,
+     * 정확한 상태가 필요하면 재연결 후 약속을 다시 조회한다.
+     */
+    @GetMapping(value = "/{meetingId}/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeChanges(
+            @PathVariable Long meetingId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(value = "since", required = false) Long since) {
+
+        Long resumeToken = lastEventId != null ? lastEventId : since;
+        log.info("약속 변경 피드 구독 요청 - 약속 ID: {}, 재개 토큰: {}", meetingId, resumeToken);
+
+        try {
+            return changeFeedHub.subscribe(meetingId, resumeToken);
+        } catch (EntityNotFoundException e) {
+            log.error("약속 변경 피드 구독 실패 - 약속 ID: {}, 에러: {}", meetingId, e.getMessage());
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+    }
+}
@@ -3,11 +3,15 @@ package com.promiseservice.controller;
 import com.promiseservice.dto.MeetingSearchRequest;
 import com.promiseservice.dto.MeetingSearchResponse;
 import com.promiseservice.dto.MeetingSummaryResponse;
+import com.promiseservice.dto.SearchCacheStatsResponse;
+import com.promiseservice.service.MeetingExportService;
 import com.promiseservice.service.MeetingSearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -24,6 +28,7 @@ import java.util.List;
 public class MeetingSearchController {
 
     private final MeetingSearchService meetingSearchService;
+    private final MeetingExportService meetingExportService;
 
     /**
      * 고급 약속 검색을 수행하는 엔드포인트
@@ -48,18 +53,39 @@ public class MeetingSearchController {
         }
     }
 
+    /**
+     * 검색 조건에 일치하는 약속을 NDJSON으로 내보내는 엔드포인트
+     * 이유: 분석 등 대량 조회가 필요한 클라이언트가 페이지 API를 반복 호출하지 않고
+     * 한 번의 요청으로 전체 결과를 한 줄에 약속 하나씩 스트리밍으로 받을 수 있도록 하기 위해
+     * 
+     * POST /api/meetings/search/export (페이지/정렬 조건은 무시하고 약속 ID 순으로 전체 내보냄)
+     */
+    @PostMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<ResponseBodyEmitter> exportMeetings(
+            @Valid @RequestBody MeetingSearchRequest request,
+            @RequestHeader("X-User-ID") Long currentUserId) {
+        
+        log.info("약속 내보내기 요청 - 사용자: {}, 검색 조건: {}", currentUserId, request);
+        
+        ResponseBodyEmitter emitter = meetingExportService.startExport(request);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(emitter);
+    }
+
     /**
      * 키워드로 약속을 검색하는 엔드포인트
      * 이유: 사용자가 제목이나 설명에서 특정 키워드를 포함한 약속을 빠르게 찾을 수 있도록 
      * 간편한 검색 기능을 제공하기 위해
      * 
-     * GET /api/meetings/search/keyword?q={keyword}&page={page}&size={size}
+     * GET /api/meetings/search/keyword?q={keyword}&page={page}&size={size}&pagingMode={OFFSET|SLICE}
      */
     @GetMapping("/keyword")
     public ResponseEntity<MeetingSearchResponse> searchByKeyword(
             @RequestParam String q,
             @RequestParam(defaultValue = "0") Integer page,
             @RequestParam(defaultValue = "20") Integer size,
+            @RequestParam(defaultValue = "OFFSET") String pagingMode,
             @RequestHeader("X-User-ID") Long currentUserId) {
         
         log.info("키워드 검색 요청 - 사용자: {}, 키워드: {}, 페이지: {}", currentUserId, q, page);
@@ -67,8 +93,11 @@ public class MeetingSearchController {
         try {
             MeetingSearchRequest request = new MeetingSearchRequest();
             request.setKeyword(q);
+            // 키워드 단독 검색은 색인 관련도 순으로 정렬
+            request.setSortBy("relevance");
             request.setPage(page);
             request.setSize(size);
+            request.setPagingMode(pagingMode);
             
             MeetingSearchResponse response = meetingSearchService.searchMeetings(request, currentUserId);
             return ResponseEntity.ok(response);
@@ -82,13 +111,14 @@ public class MeetingSearchController {
      * 특정 상태의 약속을 검색하는 엔드포인트
      * 이유: 사용자가 원하는 상태의 약속만 조회할 수 있도록 상태별 필터링 기능을 제공하기 위해
      * 
-     * GET /api/meetings/search/status/{status}?page={page}&size={size}
+     * GET /api/meetings/search/status/{status}?page={page}&size={size}&pagingMode={OFFSET|SLICE}
      */
     @GetMapping("/status/{status}")
     public ResponseEntity<MeetingSearchResponse> searchByStatus(
             @PathVariable String status,
             @RequestParam(defaultValue = "0") Integer page,
             @RequestParam(defaultValue = "20") Integer size,
+            @RequestParam(defaultValue = "OFFSET") String pagingMode,
             @RequestHeader("X-User-ID") Long currentUserId) {
         
         log.info("상태별 검색 요청 - 사용자: {}, 상태: {}, 페이지: {}", currentUserId, status, page);
@@ -98,6 +128,7 @@ public class MeetingSearchController {
             request.setStatus(status);
             request.setPage(page);
             request.setSize(size);
+            request.setPagingMode(pagingMode);
             
             MeetingSearchResponse response = meetingSearchService.searchMeetings(request, currentUserId);
             return ResponseEntity.ok(response);
@@ -111,13 +142,14 @@ public class MeetingSearchController {
      * 장소명으로 약속을 검색하는 엔드포인트
      * 이유: 사용자가 특정 지역의 약속을 찾을 수 있도록 위치 기반 검색 기능을 제공하기 위해
      * 
-     * GET /api/meetings/search/location?location={locationName}&page={page}&size={size}
+     * GET /api/meetings/search/location?location={locationName}&page={page}&size={size}&pagingMode={OFFSET|SLICE}
      */
     @GetMapping("/location")
     public ResponseEntity<MeetingSearchResponse> searchByLocation(
             @RequestParam String location,
             @RequestParam(defaultValue = "0") Integer page,
             @RequestParam(defaultValue = "20") Integer size,
+            @RequestParam(defaultValue = "OFFSET") String pagingMode,
             @RequestHeader("X-User-ID") Long currentUserId) {
         
         log.info("장소별 검색 요청 - 사용자: {}, 장소: {}, 페이지: {}", currentUserId, location, page);
@@ -127,6 +159,7 @@ public class MeetingSearchController {
             request.setLocationName(location);
             request.setPage(page);
             request.setSize(size);
+            request.setPagingMode(pagingMode);
             
             MeetingSearchResponse response = meetingSearchService.searchMeetings(request, currentUserId);
             return ResponseEntity.ok(response);
@@ -183,6 +216,60 @@ public class MeetingSearchController {
         }
     }
 
+    /**
+     * 주변 약속을 조회하는 엔드포인트
+     * 이유: 모바일 클라이언트가 전체 약속을 내려받지 않고 현재 위치 반경 안의 약속만 가까운 순으로 받을 수 있도록 하기 위해
+     * 
+     * GET /api/meetings/search/nearby?lat={latitude}&lng={longitude}&radiusKm={radiusKm}&limit={limit}
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<MeetingSummaryResponse>> searchNearby(
+            @RequestParam Double lat,
+            @RequestParam Double lng,
+            @RequestParam(defaultValue = "3") Double radiusKm,
+            @RequestParam(defaultValue = "20") Integer limit,
+            @RequestHeader("X-User-ID") Long currentUserId) {
+        
+        log.info("주변 약속 조회 요청 - 사용자: {}, 위도: {}, 경도: {}, 반경: {}km", currentUserId, lat, lng, radiusKm);
+        
+        try {
+            List<MeetingSummaryResponse> nearbyMeetings = 
+                meetingSearchService.searchNearby(lat, lng, radiusKm, limit, currentUserId);
+            return ResponseEntity.ok(nearbyMeetings);
+        } catch (Exception e) {
+            log.error("주변 약속 조회 실패 - 에러: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * 지도 영역 안의 약속을 조회하는 엔드포인트
+     * 이유: 지도 화면에 보이는 영역(경계 상자)의 약속만 조회할 수 있도록 하기 위해
+     * 
+     * GET /api/meetings/search/area?minLat={minLat}&minLng={minLng}&maxLat={maxLat}&maxLng={maxLng}&limit={limit}
+     */
+    @GetMapping("/area")
+    public ResponseEntity<List<MeetingSummaryResponse>> searchInArea(
+            @RequestParam Double minLat,
+            @RequestParam Double minLng,
+            @RequestParam Double maxLat,
+            @RequestParam Double maxLng,
+            @RequestParam(defaultValue = "50") Integer limit,
+            @RequestHeader("X-User-ID") Long currentUserId) {
+        
+        log.info("영역 약속 조회 요청 - 사용자: {}, 위도: {}~{}, 경도: {}~{}", 
+                currentUserId, minLat, maxLat, minLng, maxLng);
+        
+        try {
+            List<MeetingSummaryResponse> meetings = 
+                meetingSearchService.searchInArea(minLat, minLng, maxLat, maxLng, limit, currentUserId);
+            return ResponseEntity.ok(meetings);
+        } catch (Exception e) {
+            log.error("영역 약속 조회 실패 - 에러: {}", e.getMessage());
+            throw e;
+        }
+    }
+
     /**
      * 시간 범위로 약속을 검색하는 엔드포인트
      * 이유: 사용자가 특정 기간의 약속만 조회할 수 있도록 시간 기반 필터링 기능을 제공하기 위해
@@ -218,4 +305,15 @@ public class MeetingSearchController {
             throw e;
         }
     }
+
+    /**
+     * 검색 결과 캐시 통계를 조회하는 엔드포인트
+     * 이유: 캐시 적중/미적중/제거/무효화 횟수를 확인하여 캐시 설정이 트래픽에 맞는지 판단하기 위해
+     * 
+     * GET /api/meetings/search/cache/stats
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<SearchCacheStatsResponse> getSearchCacheStats() {
+        return ResponseEntity.ok(meetingSearchService.getSearchCacheStats());
+    }
 }
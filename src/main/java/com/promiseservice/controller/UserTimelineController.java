@@ -0,0 +1,40 @@
+package com.promiseservice.controller;
+
+import com.promiseservice.dto.UserTimelineResponse;
+import com.promiseservice.service.UserTimelineService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 사용자 활동 타임라인 컨트롤러
+ * 이유: 사용자가 참여한 약속들의 활동(생성, 수정, 참여, 완료 등)을 최신 순으로 커서 페이지네이션하여 제공하기 위해
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/timeline")
+@RequiredArgsConstructor
+public class UserTimelineController {
+
+    private final UserTimelineService timelineService;
+
+    /**
+     * 내 활동 타임라인 조회
+     * GET /api/timeline?cursor={nextCursor}&size={size}
+     * 이유: 첫 페이지는 cursor 없이, 다음 페이지는 이전 응답의 nextCursor로 이어서 조회하기 위해
+     */
+    @GetMapping
+    public ResponseEntity<UserTimelineResponse> getTimeline(
+            @RequestHeader("X-User-ID") Long userId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") Integer size) {
+
+        log.debug("타임라인 조회 요청 - 사용자 ID: {}, 커서: {}, 크기: {}", userId, cursor, size);
+        return ResponseEntity.ok(timelineService.getTimeline(userId, cursor, size));
+    }
+}
@@ -0,0 +1,33 @@
+package com.promiseservice.controller;
+
+import com.promiseservice.dto.WriteBehindStatsResponse;
+import com.promiseservice.service.WriteBehindBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 쓰기 지연 버퍼 통계 컨트롤러
+ * 이유: 운영 중 버퍼에 쌓인 항목 수와 비우기 지연 시간을 확인하여 DB 쓰기가 밀리고 있는지 판단하기 위해
+ */
+@RestController
+@RequestMapping("/api/write-behind")
+@RequiredArgsConstructor
+public class WriteBehindStatisticsController {
+
+    private final List<WriteBehindBuffer<?>> buffers;
+
+    /**
+     * 버퍼별 통계를 조회하는 엔드포인트
+     *
+     * GET /api/write-behind/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<WriteBehindStatsResponse>> getStats() {
+        return ResponseEntity.ok(buffers.stream().map(WriteBehindBuffer::getStats).toList());
+    }
+}
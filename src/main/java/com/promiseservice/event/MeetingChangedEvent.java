@@ -0,0 +1,38 @@
+package com.promiseservice.event;
+
+/**
+ * 약속 변경 이벤트
+ * 이유: 약속 생성/수정/삭제 등 변경 사항을 트랜잭션 커밋 이후 검색 색인 등 파생 데이터에 반영하기 위해
+ *
+ * @param meetingId 변경된 약속 ID
+ * @param changeType 변경 유형
+ */
+public record MeetingChangedEvent(Long meetingId, ChangeType changeType) {
+
+    /**
+     * 약속 변경 유형
+     * 이유: 구독자가 변경 유형에 따라 필요한 갱신만 수행할 수 있도록 하기 위해
+     */
+    public enum ChangeType {
+        /** 약속 생성 */
+        CREATED,
+        /** 약속 정보(제목, 설명, 장소, 시간 등) 수정 */
+        UPDATED,
+        /** 약속 상태 변경 */
+        STATUS_CHANGED,
+        /** 참여자 초대/응답/제거 */
+        PARTICIPANTS_CHANGED,
+        /** 약속 삭제 */
+        DELETED,
+        /** 오래된 완료/취소 약속을 보관 테이블로 이동 */
+        ARCHIVED;
+
+        /**
+         * 약속이 더 이상 조회 대상이 아닌 변경인지 확인
+         * 이유: 삭제되거나 보관 테이블로 옮겨진 약속은 다시 조회하지 않고 파생 데이터에서 바로 제거하기 위해
+         */
+        public boolean isRemoval() {
+            return this == DELETED || this == ARCHIVED;
+        }
+    }
+}
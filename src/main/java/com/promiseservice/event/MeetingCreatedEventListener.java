@@ -35,7 +35,7 @@ public class MeetingCreatedEventListener {
         log.info("약속 생성 완료 이벤트 처리 시작 - 약속 ID: {}", event.meetingId());
         
         try {
-            Meeting meeting = meetingRepository.findById(event.meetingId())
+            Meeting meeting = meetingRepository.findWithParticipantsById(event.meetingId())
                 .orElseThrow(() -> new RuntimeException("생성된 약속을 찾을 수 없습니다: " + event.meetingId()));
             
             log.info("약속 조회 완료 - 제목: {}, 참가자 수: {}", meeting.getTitle(), meeting.getParticipants().size());
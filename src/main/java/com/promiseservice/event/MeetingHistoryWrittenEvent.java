@@ -0,0 +1,15 @@
+package com.promiseservice.event;
+
+import com.promiseservice.dto.MeetingChangeFeedItem;
+
+import java.util.List;
+
+/**
+ * 약속 히스토리 저장 이벤트
+ * 이유: 히스토리가 ID를 받아 저장된 트랜잭션이 커밋된 뒤 변경 피드 구독자에게 전달하여,
+ * 실시간으로 받은 항목과 재개 시 DB에서 다시 읽는 항목이 같은 히스토리 ID를 토큰으로 쓰도록 하기 위해
+ *
+ * @param items 저장된 히스토리의 피드 항목
+ */
+public record MeetingHistoryWrittenEvent(List<MeetingChangeFeedItem> items) {
+}
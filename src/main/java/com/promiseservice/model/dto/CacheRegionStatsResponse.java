@@ -0,0 +1,30 @@
+package com.promiseservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 2차 캐시 영역별 통계 응답 DTO
+ * 이유: 영역마다 적중률과 제거/만료 건수를 확인하여 영역별 TTL과 최대 항목 수 설정을 조정할 수 있도록 하기 위해
+ */
+@Getter
+@AllArgsConstructor
+public class CacheRegionStatsResponse {
+
+    private String region;
+    private long hits;
+    private long misses;
+    private long puts;
+    private long evictions;
+    private long expirations;
+    // 메모리에 있는 항목 수 (캐시 구현이 지원하지 않으면 -1)
+    private long size;
+
+    /**
+     * 캐시 적중률 (조회가 없으면 0)
+     */
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
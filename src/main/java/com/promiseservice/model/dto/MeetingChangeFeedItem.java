@@ -0,0 +1,49 @@
+package com.promiseservice.dto;
+
+import com.promiseservice.model.entity.MeetingHistory;
+import com.promiseservice.model.entity.MeetingHistory.ActionType;
+import com.promiseservice.model.entity.UserTimelineEntry;
+
+import java.time.LocalDateTime;
+
+/**
+ * 약속 변경 피드 항목
+ * 이유: 약속/참여자/상태 변경을 SSE로 보낼 때 히스토리 ID를 재개 토큰(Last-Event-ID)으로 함께 전달하여,
+ * 다시 연결한 클라이언트가 그 이후 변경만 이어 받을 수 있도록 하기 위해
+ * (히스토리 ID는 커밋 순서를 보장하지 않으므로 재개는 최선 노력 방식, MeetingChangeFeedHub 참고)
+ *
+ * @param id 히스토리 ID (재개 토큰)
+ * @param meetingId 약속 ID
+ * @param userId 행동 주체 사용자 ID
+ * @param action 히스토리 액션
+ * @param timestamp 액션이 일어난 시각
+ */
+public record MeetingChangeFeedItem(
+    Long id,
+    Long meetingId,
+    Long userId,
+    ActionType action,
+    LocalDateTime timestamp
+) {
+
+    /**
+     * 저장된 히스토리로 피드 항목 생성
+     *
+     * @param meetingId 약속 ID (지연 로딩 프록시를 건드리지 않도록 따로 받음)
+     * @param history ID가 할당된 히스토리
+     * @return 피드 항목
+     */
+    public static MeetingChangeFeedItem from(Long meetingId, MeetingHistory history) {
+        return new MeetingChangeFeedItem(history.getId(), meetingId, history.getUserId(), history.getAction(), history.getTimestamp());
+    }
+
+    /**
+     * 사용자 타임라인 항목으로 피드 항목 생성
+     *
+     * @param entry 타임라인 항목
+     * @return 피드 항목 (id는 원본 히스토리 ID)
+     */
+    public static MeetingChangeFeedItem from(UserTimelineEntry entry) {
+        return new MeetingChangeFeedItem(entry.getHistoryId(), entry.getMeetingId(), entry.getActorUserId(), entry.getAction(), entry.getTimestamp());
+    }
+}
@@ -0,0 +1,31 @@
+package com.promiseservice.dto;
+
+import com.promiseservice.model.entity.Meeting.MeetingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 약속 내보내기(NDJSON) 한 줄에 해당하는 프로젝션 DTO
+ * 이유: 내보내기 스트림에서 약속 엔티티(참여자 즉시 로딩 포함)를 영속성 컨텍스트에 쌓지 않고
+ * 필요한 컬럼만 생성자 표현식으로 읽어 행 수와 무관하게 메모리 사용량을 일정하게 유지하기 위해
+ */
+@Getter
+@AllArgsConstructor
+public class MeetingExportRow {
+
+    private Long id;
+    private String title;
+    private String description;
+    private LocalDateTime meetingTime;
+    private Integer maxParticipants;
+    private MeetingStatus status;
+    private String locationName;
+    private String locationAddress;
+    private Double latitude;
+    private Double longitude;
+    private Long hostId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,14 @@
+package com.promiseservice.dto;
+
+/**
+ * 위치 색인에 필요한 약속 좌표만 조회하는 프로젝션
+ * 이유: 격자 색인 구축 시 좌표 JSON 파싱이나 연관 엔티티 로딩 없이 위도/경도 컬럼만 읽기 위해
+ */
+public interface MeetingGeoPoint {
+
+    Long getId();
+
+    Double getLatitude();
+
+    Double getLongitude();
+}
@@ -0,0 +1,50 @@
+package com.promiseservice.dto;
+
+import com.promiseservice.model.entity.Meeting;
+import com.promiseservice.model.entity.MeetingHistory;
+import com.promiseservice.model.entity.MeetingHistory.ActionType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쓰기 지연 버퍼에 담는 약속 히스토리 항목
+ * 이유: 영속성 컨텍스트와 지연 로딩 프록시에 묶인 엔티티 대신 값만 담아,
+ * 요청이 끝난 뒤 다른 스레드에서 쓰거나 로컬 저널에 JSON으로 남길 수 있도록 하기 위해
+ *
+ * @param meetingId 약속 ID
+ * @param userId 행동 주체 사용자 ID
+ * @param action 히스토리 액션
+ * @param timestamp 액션이 일어난 시각 (버퍼에서 쓰이는 시각이 아니라 요청 시각)
+ */
+public record MeetingHistoryEntry(
+    Long meetingId,
+    Long userId,
+    ActionType action,
+    LocalDateTime timestamp
+) {
+
+    /**
+     * 히스토리 엔티티의 값으로 항목 생성
+     *
+     * @param history 정적 팩토리(createHistory 등)로 만든 히스토리
+     * @return 히스토리 항목
+     */
+    public static MeetingHistoryEntry from(MeetingHistory history) {
+        return new MeetingHistoryEntry(history.getMeeting().getId(), history.getUserId(), history.getAction(), LocalDateTime.now());
+    }
+
+    /**
+     * 저장할 히스토리 엔티티로 변환
+     *
+     * @param meeting 약속 참조 (getReferenceById로 얻은 프록시면 충분)
+     * @return 히스토리 엔티티
+     */
+    public MeetingHistory toEntity(Meeting meeting) {
+        MeetingHistory history = new MeetingHistory();
+        history.setMeeting(meeting);
+        history.setUserId(userId);
+        history.setAction(action);
+        history.setTimestamp(timestamp);
+        return history;
+    }
+}
@@ -0,0 +1,16 @@
+package com.promiseservice.dto;
+
+/**
+ * 키워드 색인에 필요한 약속 텍스트 필드만 조회하는 프로젝션
+ * 이유: 색인 구축 시 참여자 등 연관 엔티티를 함께 로딩하지 않고 필요한 컬럼만 읽기 위해
+ */
+public interface MeetingKeywordText {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    String getLocationName();
+}
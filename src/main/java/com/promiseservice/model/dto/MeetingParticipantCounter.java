@@ -0,0 +1,16 @@
+package com.promiseservice.dto;
+
+/**
+ * 약속 행에 저장된 참여자 카운터만 조회하는 프로젝션
+ * 이유: 참여자 통계와 카운터 보정 작업에서 약속 엔티티 전체를 불러오지 않고 카운터 컬럼만 읽기 위해
+ */
+public interface MeetingParticipantCounter {
+
+    Long getId();
+
+    int getAcceptedCount();
+
+    int getInvitedCount();
+
+    int getRejectedCount();
+}
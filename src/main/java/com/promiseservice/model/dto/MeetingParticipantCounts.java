@@ -0,0 +1,45 @@
+package com.promiseservice.dto;
+
+import com.promiseservice.model.entity.Meeting;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 약속별 참여자 수 집계 결과를 담는 프로젝션 DTO
+ * 이유: 검색 결과의 각 약속마다 참여자 수를 개별 쿼리로 세지 않고,
+ * meeting_id 기준 GROUP BY 한 번으로 수락/초대/전체 인원을 함께 받아오기 위해
+ */
+@Getter
+@AllArgsConstructor
+public class MeetingParticipantCounts {
+
+    private Long meetingId;
+    private Long acceptedCount;
+    private Long invitedCount;
+    private Long totalCount;
+
+    /**
+     * 참여자가 한 명도 없는 약속을 위한 빈 집계 생성
+     * 이유: GROUP BY 결과에 나타나지 않는 약속도 0명으로 일관되게 응답하기 위해
+     *
+     * @param meetingId 약속 ID
+     * @return 모든 수가 0인 집계 결과
+     */
+    public static MeetingParticipantCounts empty(Long meetingId) {
+        return new MeetingParticipantCounts(meetingId, 0L, 0L, 0L);
+    }
+
+    /**
+     * 약속 행의 참여자 카운터로 집계 생성
+     * 이유: 카운터 컬럼이 있는 약속은 참여자 테이블 GROUP BY 없이 이미 읽은 약속 행에서 바로 인원을 채우기 위해
+     *
+     * @param meeting 약속 엔티티
+     * @return 카운터 기준 집계 결과
+     */
+    public static MeetingParticipantCounts of(Meeting meeting) {
+        return new MeetingParticipantCounts(meeting.getId(),
+                (long) meeting.getAcceptedCount(),
+                (long) meeting.getInvitedCount(),
+                (long) meeting.getTotalParticipantCount());
+    }
+}
@@ -1,6 +1,8 @@
 package com.promiseservice.dto;
 
 import com.promiseservice.model.entity.Meeting;
+import com.promiseservice.model.entity.MeetingArchive;
+import com.promiseservice.model.entity.MeetingParticipantArchive;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -78,5 +80,34 @@ public class MeetingResponse {
         
         return response;
     }
-}
 
+    /**
+     * 보관된 약속으로부터 MeetingResponse 생성
+     * 이유: 운영 테이블에서 보관 테이블로 옮겨진 약속을 ID로 조회해도 클라이언트가 차이를 느끼지 않도록
+     * 운영 중인 약속과 같은 형태로 변환하기 위해
+     *
+     * @param meeting MeetingArchive 엔티티
+     * @param participants 보관된 참여자 목록
+     * @return MeetingResponse 객체
+     */
+    public static MeetingResponse from(MeetingArchive meeting, List<MeetingParticipantArchive> participants) {
+        MeetingResponse response = new MeetingResponse();
+        response.setId(meeting.getId());
+        response.setTitle(meeting.getTitle());
+        response.setDescription(meeting.getDescription());
+        response.setMeetingTime(meeting.getMeetingTime());
+        response.setMaxParticipants(meeting.getMaxParticipants());
+        response.setStatus(meeting.getStatus().name());
+        response.setLocationName(meeting.getLocationName());
+        response.setLocationAddress(meeting.getLocationAddress());
+        response.setLocationCoordinates(meeting.getLocationCoordinates());
+        response.setCreatedAt(meeting.getCreatedAt());
+        response.setUpdatedAt(meeting.getUpdatedAt());
+        response.setParticipants(participants.stream()
+            .map(ParticipantResponse::from)
+            .collect(Collectors.toList()));
+        response.setCurrentParticipantCount(participants.size());
+        response.setIsMaxParticipantsReached(participants.size() >= meeting.getMaxParticipants());
+        return response;
+    }
+}
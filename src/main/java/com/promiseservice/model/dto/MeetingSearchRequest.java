@@ -17,7 +17,7 @@ import java.util.List;
 @NoArgsConstructor
 public class MeetingSearchRequest {
 
-    // 제목, 설명에서 검색할 키워드
+    // 제목, 설명, 장소명에서 검색할 키워드
     // 이유: 사용자가 원하는 약속을 빠르게 찾을 수 있도록 텍스트 기반 검색 제공
     @Size(max = 255, message = "검색어는 255자를 초과할 수 없습니다")
     private String keyword;
@@ -45,6 +45,10 @@ public class MeetingSearchRequest {
     // 이유: 특정 사용자들이 참여하는 약속을 찾을 수 있도록 관계 기반 검색 제공
     private List<Long> participantUserIds;
 
+    // 참여자 조건 일치 방식 (ANY: 한 명이라도 참여, ALL: 모두 참여)
+    // 이유: 친구 여러 명이 함께 있는 약속만 찾는 그룹 검색을 지원하기 위해
+    private String participantMatch = "ANY";
+
     // 최소 참여자 수 제한
     // 이유: 참여자 수가 적은 약속을 제외하여 활성도가 높은 약속만 조회
     private Integer minParticipants;
@@ -53,8 +57,9 @@ public class MeetingSearchRequest {
     // 이유: 참여자 수가 많은 약속을 제외하여 소규모 약속만 조회
     private Integer maxParticipants;
 
-    // 정렬 기준 필드
+    // 정렬 기준 필드 (meetingTime, createdAt, title, relevance)
     // 이유: 사용자가 원하는 순서로 약속 목록을 정렬할 수 있도록 정렬 옵션 제공
+    // relevance는 키워드 단독 검색에서 색인 관련도 순으로 정렬하며, 그 외에는 meetingTime으로 처리
     private String sortBy = "meetingTime";
 
     // 정렬 순서 (오름차순/내림차순)
@@ -68,4 +73,17 @@ public class MeetingSearchRequest {
     // 페이지 크기
     // 이유: 한 번에 로드할 데이터 양을 제어하여 성능 최적화 및 사용자 경험 향상
     private Integer size = 20;
+
+    // 페이지네이션 방식 (OFFSET: 페이지 번호 기반, CURSOR: 커서 기반, SLICE: 전체 건수 없이 페이지 번호 기반)
+    // 이유: 무한 스크롤처럼 깊은 페이지까지 내려가는 클라이언트가 OFFSET 스캔 비용 없이 일정한 속도로 조회할 수 있도록 선택 제공
+    // SLICE는 전체 건수를 표시하지 않는 클라이언트를 위해 count 쿼리를 생략하고 hasNext만 응답
+    private String pagingMode = "OFFSET";
+
+    // 이전 응답의 nextCursor 값 (CURSOR 모드에서만 사용, 첫 페이지는 비워둠)
+    // 이유: 마지막으로 받은 약속 바로 뒤부터 이어서 조회하기 위해
+    private String cursor;
+
+    // 분류별 건수(상태/날짜/장소) 포함 여부
+    // 이유: 필터 칩을 그리는 화면만 집계 쿼리 비용을 부담하도록 선택 제공
+    private boolean includeFacets;
 }
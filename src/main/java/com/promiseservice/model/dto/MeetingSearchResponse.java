@@ -1,10 +1,12 @@
 package com.promiseservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 약속 검색 결과를 위한 응답 DTO
@@ -36,13 +38,17 @@ public class MeetingSearchResponse {
         @Getter
         @Setter
         @NoArgsConstructor
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         public static class PageInfo {
-        private int currentPage;
-        private int totalPages;
-        private long totalElements;
+        private Integer currentPage;
+        // 이유: 커서 모드에서는 count 쿼리를 생략하므로 전체 건수/페이지 수를 응답에서 제외(null)하기 위해 래퍼 타입 사용
+        private Integer totalPages;
+        private Long totalElements;
         private int pageSize;
         private boolean hasNext;
         private boolean hasPrevious;
+        // 다음 페이지 조회용 커서 (커서 모드에서 다음 페이지가 있을 때만 설정)
+        private String nextCursor;
     }
 
         /**
@@ -59,5 +65,24 @@ public class MeetingSearchResponse {
         private int appliedFilters;
         private String sortBy;
         private String sortOrder;
+        // 검색 조건 전체 결과의 분류별 건수 (includeFacets 요청 시에만 포함)
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Facets facets;
+    }
+
+        /**
+         * 검색 결과 분류별 건수를 담는 내부 클래스
+         * 이유: 필터 칩(상태/날짜/장소)에 표시할 건수를 검색 응답에 함께 담아 클라이언트의 후속 집계 요청을 없애기 위해
+         */
+        @Getter
+        @Setter
+        @NoArgsConstructor
+        public static class Facets {
+        // 상태별 건수 (모든 상태 포함, 없으면 0)
+        private Map<String, Long> status;
+        // 약속 날짜(yyyy-MM-dd)별 건수 (날짜 오름차순)
+        private Map<String, Long> day;
+        // 장소명별 건수 (건수 내림차순 상위 항목만)
+        private Map<String, Long> location;
     }
 }
@@ -0,0 +1,14 @@
+package com.promiseservice.dto;
+
+import com.promiseservice.model.entity.Meeting.MeetingStatus;
+
+/**
+ * 상태별 약속 수 집계 결과 프로젝션
+ * 이유: 상태 통계를 GROUP BY 한 번으로 받아오기 위해
+ */
+public interface MeetingStatusCount {
+
+    MeetingStatus getStatus();
+
+    Long getCount();
+}
@@ -1,5 +1,7 @@
 package com.promiseservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.promiseservice.model.entity.Meeting;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -27,8 +29,19 @@ public class MeetingSummaryResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private int currentParticipantCount;
+    private int acceptedParticipantCount;
+    private int invitedParticipantCount;
     private boolean isHost;
 
+    // 방장 사용자 ID (응답에는 포함하지 않음)
+    // 이유: 여러 사용자가 공유하는 캐시된 요약에 요청 사용자 기준 방장 여부를 다시 계산하기 위해
+    @JsonIgnore
+    private Long hostId;
+
+    // 근처 약속 검색 시 검색 중심으로부터의 거리 (km, 위치 검색이 아니면 응답에서 생략)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distanceKm;
+
     /**
      * Meeting 엔티티로부터 MeetingSummaryResponse 객체 생성
      * 이유: 엔티티 데이터를 DTO로 변환하여 API 응답에 적합한 형태로 가공
@@ -52,6 +65,61 @@ public class MeetingSummaryResponse {
         response.setUpdatedAt(meeting.getUpdatedAt());
         response.setCurrentParticipantCount(currentParticipantCount);
         response.setHost(isHost);
+        response.setHostId(meeting.getHostId());
+        return response;
+    }
+
+    /**
+     * Meeting 엔티티와 참여자 수 집계 결과로부터 MeetingSummaryResponse 객체 생성
+     * 이유: 목록 조회 시 약속별 COUNT 쿼리 대신 일괄 집계된 수락/초대/전체 인원을 그대로 응답에 담기 위해
+     *
+     * @param meeting 약속 엔티티
+     * @param counts 해당 약속의 참여자 수 집계 결과
+     * @param isHost 현재 사용자가 방장인지 여부
+     * @return MeetingSummaryResponse 객체
+     */
+    public static MeetingSummaryResponse from(Meeting meeting, MeetingParticipantCounts counts, boolean isHost) {
+        MeetingSummaryResponse response = from(meeting, counts.getTotalCount().intValue(), isHost);
+        response.setAcceptedParticipantCount(counts.getAcceptedCount().intValue());
+        response.setInvitedParticipantCount(counts.getInvitedCount().intValue());
         return response;
     }
+
+    /**
+     * 방장 여부만 다른 복사본 생성
+     * 이유: 여러 사용자가 공유하는 요약 스냅샷(최근 약속 목록 등)을 변경하지 않고 요청 사용자 기준 방장 여부를 적용하기 위해
+     *
+     * @param isHost 요청 사용자가 방장인지 여부
+     * @return 복사된 MeetingSummaryResponse 객체
+     */
+    public MeetingSummaryResponse copyWithHost(boolean isHost) {
+        MeetingSummaryResponse copy = new MeetingSummaryResponse();
+        copy.setId(id);
+        copy.setTitle(title);
+        copy.setDescription(description);
+        copy.setMeetingTime(meetingTime);
+        copy.setMaxParticipants(maxParticipants);
+        copy.setStatus(status);
+        copy.setLocationName(locationName);
+        copy.setLocationAddress(locationAddress);
+        copy.setCreatedAt(createdAt);
+        copy.setUpdatedAt(updatedAt);
+        copy.setCurrentParticipantCount(currentParticipantCount);
+        copy.setAcceptedParticipantCount(acceptedParticipantCount);
+        copy.setInvitedParticipantCount(invitedParticipantCount);
+        copy.setHost(isHost);
+        copy.setHostId(hostId);
+        copy.setDistanceKm(distanceKm);
+        return copy;
+    }
+
+    /**
+     * 요청 사용자 기준 방장 여부를 적용한 복사본 생성
+     *
+     * @param currentUserId 요청 사용자 ID
+     * @return 복사된 MeetingSummaryResponse 객체
+     */
+    public MeetingSummaryResponse copyFor(Long currentUserId) {
+        return copyWithHost(hostId != null && hostId.equals(currentUserId));
+    }
 }
@@ -0,0 +1,12 @@
+package com.promiseservice.dto;
+
+/**
+ * 참여자 포스팅 색인에 필요한 (약속 ID, 사용자 ID) 쌍만 조회하는 프로젝션
+ * 이유: 색인 구축 시 약속 엔티티나 응답 상태 등 다른 컬럼을 로딩하지 않고 참여 관계만 읽기 위해
+ */
+public interface ParticipantMembership {
+
+    Long getMeetingId();
+
+    Long getUserId();
+}
@@ -1,6 +1,7 @@
 package com.promiseservice.dto;
 
 import com.promiseservice.model.entity.MeetingParticipant;
+import com.promiseservice.model.entity.MeetingParticipantArchive;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -47,6 +48,22 @@ public class ParticipantResponse {
         return response;
     }
 
-
+    /**
+     * 보관된 참여자로부터 ParticipantResponse 생성
+     * 이유: 보관 테이블로 옮겨진 약속도 운영 중인 약속과 같은 응답 형태로 보여주기 위해
+     *
+     * @param participant MeetingParticipantArchive 엔티티
+     * @return ParticipantResponse 객체
+     */
+    public static ParticipantResponse from(MeetingParticipantArchive participant) {
+        ParticipantResponse response = new ParticipantResponse();
+        response.setMeetingId(participant.getMeetingId());
+        response.setUserId(participant.getUserId());
+        response.setResponse(participant.getResponse().name());
+        response.setResponseDisplayName(participant.getResponse().getDisplayName());
+        response.setJoinedAt(participant.getJoinedAt());
+        response.setInvitedAt(participant.getInvitedAt());
+        response.setHasActuallyJoined(participant.getJoinedAt() != null);
+        return response;
+    }
 }
-
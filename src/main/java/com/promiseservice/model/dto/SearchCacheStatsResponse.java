@@ -0,0 +1,27 @@
+package com.promiseservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검색 결과 캐시 통계 응답 DTO
+ * 이유: 캐시 적중률과 제거/무효화 횟수를 확인하여 TTL과 최대 항목 수 설정을 조정할 수 있도록 하기 위해
+ */
+@Getter
+@AllArgsConstructor
+public class SearchCacheStatsResponse {
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+    private int size;
+
+    /**
+     * 캐시 적중률 (조회가 없으면 0)
+     */
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,35 @@
+package com.promiseservice.dto;
+
+import java.util.Set;
+
+/**
+ * 여러 사용자의 존재 여부 일괄 확인 결과
+ * 이유: 초대 대상 중 존재하지 않는 사용자를 첫 번째 하나가 아니라 한 번에 모두 알려주기 위해
+ *
+ * @param existingUserIds 존재가 확인된 사용자 ID
+ * @param missingUserIds 존재하지 않거나 확인에 실패한 사용자 ID
+ */
+public record UserExistenceResult(
+    Set<Long> existingUserIds,
+    Set<Long> missingUserIds
+) {
+
+    /**
+     * 모든 사용자가 존재하는지 여부
+     *
+     * @return 누락된 사용자가 없으면 true
+     */
+    public boolean allExist() {
+        return missingUserIds.isEmpty();
+    }
+
+    /**
+     * 특정 사용자가 존재하는지 여부
+     *
+     * @param userId 사용자 ID
+     * @return 존재가 확인되었으면 true
+     */
+    public boolean exists(Long userId) {
+        return existingUserIds.contains(userId);
+    }
+}
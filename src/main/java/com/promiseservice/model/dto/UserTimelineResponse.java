@@ -0,0 +1,23 @@
+package com.promiseservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 사용자 활동 타임라인 응답 DTO
+ * 이유: 참여한 약속들의 활동을 최신 순으로 전달하고, 다음 페이지는 마지막 항목의 히스토리 ID를 커서로 이어 읽도록 하기 위해
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class UserTimelineResponse {
+
+    // 변경 피드와 같은 항목 형식 (id는 히스토리 ID)
+    private List<MeetingChangeFeedItem> items;
+    private boolean hasNext;
+    // 다음 페이지 조회용 커서 (다음 페이지가 있을 때만 설정)
+    private Long nextCursor;
+}
@@ -0,0 +1,36 @@
+package com.promiseservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 쓰기 지연 버퍼 통계 응답 DTO
+ * 이유: 버퍼에 쌓인 항목 수와 비우기 지연 시간을 확인하여 용량, 배치 크기, 비우기 주기 설정이 쓰기량에 맞는지 판단하기 위해
+ */
+@Getter
+@AllArgsConstructor
+public class WriteBehindStatsResponse {
+
+    private String name;
+    private String durability;
+    // 메모리 버퍼에 남아 있는 항목 수
+    private int queueDepth;
+    private int capacity;
+    // DB 반영을 기다리는 저널 파일 수 (저널을 쓰지 않으면 0)
+    private int pendingJournalSegments;
+    private long appended;
+    private long written;
+    // 제약 조건 위반 등으로 버린 항목 수
+    private long dropped;
+    private long flushes;
+    private long lastFlushLatencyMs;
+    private long maxFlushLatencyMs;
+    private long totalFlushLatencyMs;
+
+    /**
+     * 평균 비우기 지연 시간 (비운 적이 없으면 0)
+     */
+    public double getAverageFlushLatencyMs() {
+        return flushes == 0 ? 0 : (double) totalFlushLatencyMs / flushes;
+    }
+}
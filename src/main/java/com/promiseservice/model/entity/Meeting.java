@@ -1,10 +1,14 @@
 package com.promiseservice.model.entity;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -27,15 +31,38 @@ import java.util.List;
     @Index(name = "idx_meeting_time", columnList = "meeting_time"),
     // 이유: 약속 상태별 조회 성능 향상을 위해 
     @Index(name = "idx_status", columnList = "status"),
-    // 이유: 방장이 주최한 약속 목록 조회 성능 최적화를 위해
-    @Index(name = "idx_host_id", columnList = "host_id")
+    // 이유: 방장이 주최한 약속 목록(host_id 일치, created_at 역순)을 정렬 없이 인덱스 범위 스캔으로 처리하기 위해
+    @Index(name = "idx_host_id_created_at", columnList = "host_id, created_at"),
+    // 이유: 상태와 시간 범위를 함께 거는 복합 검색에서 두 조건을 한 인덱스로 처리하기 위해
+    @Index(name = "idx_status_meeting_time", columnList = "status, meeting_time"),
+    // 이유: 최근 생성 약속 조회(ORDER BY created_at DESC LIMIT n)를 정렬 없이 인덱스 역순 스캔으로 처리하기 위해
+    @Index(name = "idx_created_at", columnList = "created_at"),
+    // 이유: 보관 작업이 오래된 완료/취소 약속(상태 일치, updated_at 범위)을 전체 스캔 없이 찾기 위해
+    @Index(name = "idx_status_updated_at", columnList = "status, updated_at"),
+    // 이유: 근처 약속 검색의 경계 상자 조회(위도/경도 BETWEEN)를 인덱스 범위 스캔으로 처리하기 위해
+    @Index(name = "idx_latitude_longitude", columnList = "latitude, longitude")
 })
+// 이유: 참여자 목록이 필요한 상세 조회에서만 참여자를 한 번의 조인으로 함께 읽기 위해 (목록 조회는 지연 로딩 유지)
+@NamedEntityGraph(name = Meeting.WITH_PARTICIPANTS, attributeNodes = @NamedAttributeNode("participants"))
+// 이유: 거의 모든 약속 서비스 메서드가 시작할 때 기본키로 다시 읽는 약속 행을 2차 캐시에서 제공하기 위해
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Meeting.CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class Meeting {
 
+    // 참여자 포함 상세 조회용 엔티티 그래프 이름
+    public static final String WITH_PARTICIPANTS = "Meeting.withParticipants";
+
+    // 2차 캐시 영역 이름 (약속 엔티티, 참여자 컬렉션)
+    public static final String CACHE_REGION = "meeting";
+    public static final String PARTICIPANTS_CACHE_REGION = "meeting-participants";
+
+    // 좌표 JSON 파싱용 (스레드 안전하므로 공유)
+    private static final ObjectMapper COORDINATES_MAPPER = new ObjectMapper();
+
     /**
      * 약속 고유 식별자
      * 이유: 시스템 내에서 각 약속을 유일하게 구분하고 참조하기 위한 기본키
@@ -117,12 +144,67 @@ public class Meeting {
     @Column(name = "location_coordinates", columnDefinition = "TEXT")
     private String locationCoordinates;
 
+    /**
+     * 약속 장소 위도
+     * 이유: JSON 좌표 문자열은 조회 조건에 쓸 수 없으므로, 저장 시점에 파싱한 값을 별도 컬럼에 두어
+     * 근처 약속 검색(격자 색인 구축, 경계 상자 조회)에 사용하기 위해
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "latitude")
+    private Double latitude;
+
+    /**
+     * 약속 장소 경도
+     * 이유: 위도와 함께 위치 기반 검색에 사용하기 위해 (locationCoordinates 변경 시 함께 갱신)
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "longitude")
+    private Double longitude;
+
+    /**
+     * 참여 수락(ACCEPTED) 참여자 수 (비정규화 카운터)
+     * 이유: 인원 제한 확인과 참여 가능 약속 조회를 참여자 행을 세지 않고 약속 행 하나로 처리하기 위해
+     * 값은 MeetingRepository의 원자적 UPDATE(adjustParticipantCounts, 좌석 예약)로만 변경되므로
+     * 엔티티 변경 감지가 오래된 값으로 덮어쓰지 않도록 updatable = false로 둔다
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "accepted_count", nullable = false, updatable = false)
+    private int acceptedCount = 0;
+
+    /**
+     * 응답 대기(INVITED) 참여자 수 (비정규화 카운터)
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "invited_count", nullable = false, updatable = false)
+    private int invitedCount = 0;
+
+    /**
+     * 참여 거부(REJECTED) 참여자 수 (비정규화 카운터)
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "rejected_count", nullable = false, updatable = false)
+    private int rejectedCount = 0;
+
+    /**
+     * 낙관적 잠금 버전
+     * 이유: 방장의 약속 수정(최대 인원 축소, 상태 변경 등)이 동시에 확정된 참여 수락을 보지 못한 채
+     * 덮어쓰지 않도록, 수락 좌석 예약(MeetingRepository.reserveAcceptedSeat)이 버전을 올리고
+     * 엔티티 수정은 읽은 버전이 그대로일 때만 반영되도록 하기 위해
+     */
+    @Version
+    @Setter(AccessLevel.NONE)
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     /**
      * 약속 참여자 목록
      * 이유: 약속에 초대된 사용자들과 그들의 응답 상태를 관리하여
      * 참여자 현황 파악 및 알림 발송 대상 선정에 활용
+     * 지연 로딩: 목록/검색 조회가 참여자 행을 끌고 오지 않도록 하고,
+     * 상세 조회는 WITH_PARTICIPANTS 엔티티 그래프로 함께 읽는다
      */
-    @OneToMany(mappedBy = "meeting", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "meeting", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Meeting.PARTICIPANTS_CACHE_REGION)
     private List<MeetingParticipant> participants = new ArrayList<>();
 
     /**
@@ -300,7 +382,21 @@ public class Meeting {
 
         this.locationName = locationName;
         this.locationAddress = locationAddress;
+        setLocationCoordinates(locationCoordinates);
+    }
+
+    /**
+     * 장소 좌표 JSON을 설정하고 위도/경도 컬럼을 함께 갱신하는 메서드
+     * 이유: 좌표 JSON과 위치 검색용 위도/경도 컬럼이 어긋나지 않도록 좌표가 바뀌는 모든 경로에서 함께 파싱하기 위해
+     * 
+     * @param locationCoordinates 좌표 정보 JSON (예: {"lat": 37.49, "lng": 127.02}, null 허용)
+     */
+    public void setLocationCoordinates(String locationCoordinates) {
         this.locationCoordinates = locationCoordinates;
+
+        double[] point = parseCoordinates(locationCoordinates);
+        this.latitude = point != null ? point[0] : null;
+        this.longitude = point != null ? point[1] : null;
     }
 
     /**
@@ -311,11 +407,19 @@ public class Meeting {
      * @return 참여 확정(ACCEPTED) 상태인 참여자 수 (0 이상)
      */
     public int getCurrentParticipantCount() {
-        // Stream API를 활용한 효율적인 필터링 및 카운팅
-        // 이유: 대량의 참여자 데이터도 효율적으로 처리하고 가독성을 높이기 위해
-        return (int) participants.stream()
-                .filter(participant -> participant.getResponse() == MeetingParticipant.ResponseStatus.ACCEPTED)
-                .count();
+        // 참여자 컬렉션을 순회하지 않고 약속 행의 카운터 컬럼을 사용
+        // 이유: 지연 로딩된 참여자 목록을 불러오지 않고 O(1)로 인원을 확인하기 위해
+        return acceptedCount;
+    }
+
+    /**
+     * 응답 상태와 관계없이 초대된 전체 참여자 수를 반환하는 메서드
+     * 이유: 추가 초대 시 최대 인원 검증을 COUNT 쿼리 없이 카운터 컬럼으로 처리하기 위해
+     *
+     * @return 수락/대기/거부 참여자 수의 합
+     */
+    public int getTotalParticipantCount() {
+        return acceptedCount + invitedCount + rejectedCount;
     }
 
     /**
@@ -354,6 +458,38 @@ public class Meeting {
         return coordinates.trim().startsWith("{") && coordinates.trim().endsWith("}");
     }
 
+    /**
+     * 좌표 JSON에서 위도/경도를 추출하는 private 유틸리티 메서드
+     * 이유: 클라이언트마다 lat/lng 또는 latitude/longitude 키를 사용하므로 두 형식을 모두 받아들이고,
+     * 형식이 잘못되었거나 범위를 벗어난 좌표는 위치 검색 대상에서 제외하기 위해
+     * 
+     * @param coordinates 좌표 JSON 문자열
+     * @return [위도, 경도] 배열 (파싱할 수 없으면 null)
+     */
+    private static double[] parseCoordinates(String coordinates) {
+        if (coordinates == null || coordinates.trim().isEmpty()) {
+            return null;
+        }
+
+        try {
+            JsonNode node = COORDINATES_MAPPER.readTree(coordinates);
+            JsonNode lat = node.has("lat") ? node.get("lat") : node.get("latitude");
+            JsonNode lng = node.has("lng") ? node.get("lng") : node.has("lon") ? node.get("lon") : node.get("longitude");
+            if (lat == null || lng == null || !lat.isNumber() || !lng.isNumber()) {
+                return null;
+            }
+
+            double latitude = lat.doubleValue();
+            double longitude = lng.doubleValue();
+            if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+                return null;
+            }
+            return new double[] {latitude, longitude};
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
     /**
      * 정적 팩토리 메서드 - 새로운 약속 생성
      * 이유: 복잡한 객체 생성 과정을 단순화하고 필수/선택 필드를 명확히 구분하여
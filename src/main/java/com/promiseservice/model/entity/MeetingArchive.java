@@ -0,0 +1,85 @@
+package com.promiseservice.model.entity;
+
+import com.promiseservice.model.entity.Meeting.MeetingStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관(아카이브)된 약속 엔티티
+ * 이유: 완료/취소 후 오래 지난 약속을 meeting 테이블에서 빼내 운영 테이블과 인덱스를 작게 유지하면서도,
+ * ID로 조회하면 보관된 약속을 그대로 보여줄 수 있도록 같은 컬럼을 가진 보관 테이블에 두기 위해
+ *
+ * 행은 MeetingArchiveRepository의 INSERT ... SELECT로만 만들어지고 이후 변경되지 않는다.
+ */
+@Entity
+@Immutable
+@Table(name = "meeting_archive", indexes = {
+    // 이유: 보관된 약속도 방장 기준으로 찾을 수 있도록 하기 위해
+    @Index(name = "idx_meeting_archive_host_id", columnList = "host_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MeetingArchive {
+
+    /** 원래 약속 ID (그대로 유지) */
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 255)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "meeting_time", nullable = false)
+    private LocalDateTime meetingTime;
+
+    @Column(name = "max_participants")
+    private Integer maxParticipants;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private MeetingStatus status;
+
+    @Column(name = "host_id", nullable = false)
+    private Long hostId;
+
+    @Column(name = "location_name", length = 500)
+    private String locationName;
+
+    @Column(name = "location_address", length = 500)
+    private String locationAddress;
+
+    @Column(name = "location_coordinates", columnDefinition = "TEXT")
+    private String locationCoordinates;
+
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    @Column(name = "accepted_count", nullable = false)
+    private int acceptedCount;
+
+    @Column(name = "invited_count", nullable = false)
+    private int invitedCount;
+
+    @Column(name = "rejected_count", nullable = false)
+    private int rejectedCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /** 보관 테이블로 옮겨진 시각 */
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
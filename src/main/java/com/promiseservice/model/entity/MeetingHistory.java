@@ -4,8 +4,6 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
@@ -23,11 +21,12 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
 public class MeetingHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 배치 INSERT를 위한 시퀀스 할당 (MeetingParticipant.id와 같음)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meeting_history_seq")
+    @SequenceGenerator(name = "meeting_history_seq", sequenceName = "meeting_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -41,10 +40,18 @@ public class MeetingHistory {
     @Column(nullable = false)
     private ActionType action;
 
-    @CreatedDate
+    // 이유: 쓰기 지연 버퍼로 나중에 저장되는 히스토리도 실제 액션 시각을 유지하도록,
+    // 감사(@CreatedDate)로 저장 시각을 덮어쓰지 않고 값이 없을 때만 채움
     @Column(name = "timestamp", nullable = false, updatable = false)
     private LocalDateTime timestamp;
 
+    @PrePersist
+    protected void onCreate() {
+        if (timestamp == null) {
+            timestamp = LocalDateTime.now();
+        }
+    }
+
     public enum ActionType {
         CREATED, JOINED, DECLINED, COMPLETED, CANCELLED, UPDATED;
 
@@ -0,0 +1,44 @@
+package com.promiseservice.model.entity;
+
+import com.promiseservice.model.entity.MeetingHistory.ActionType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관(아카이브)된 약속 히스토리 엔티티
+ * 이유: 보관된 약속의 활동 이력을 지우지 않고 운영 히스토리 테이블 밖으로 옮겨 두기 위해
+ */
+@Entity
+@Immutable
+@Table(name = "meeting_history_archive", indexes = {
+    @Index(name = "idx_history_archive_meeting_id", columnList = "meeting_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MeetingHistoryArchive {
+
+    /** 원래 히스토리 ID (그대로 유지) */
+    @Id
+    private Long id;
+
+    @Column(name = "meeting_id", nullable = false)
+    private Long meetingId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ActionType action;
+
+    @Column(name = "timestamp")
+    private LocalDateTime timestamp;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
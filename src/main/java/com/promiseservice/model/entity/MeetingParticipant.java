@@ -5,6 +5,8 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -32,18 +34,27 @@ import java.time.LocalDateTime;
            // 이유: 동일한 사용자가 같은 약속에 중복 초대되는 것을 방지하기 위해
            @UniqueConstraint(name = "unique_meeting_user", columnNames = {"meeting_id", "user_id"})
        })
+// 이유: 캐시된 약속의 참여자 컬렉션이 참여자 ID만 저장하므로, 참여자 행도 캐시해야 컬렉션 조회가 DB를 거치지 않음
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = MeetingParticipant.CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class MeetingParticipant {
 
+    // 2차 캐시 영역 이름
+    public static final String CACHE_REGION = "meeting-participant";
+
     /**
      * 참여자 고유 식별자
      * 이유: 시스템 내에서 각 참여자 레코드를 유일하게 구분하기 위한 기본키
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 이유: IDENTITY는 INSERT마다 키를 받아와야 해서 JDBC 배치가 꺼지므로,
+    // 시퀀스에서 50개씩 미리 할당받아(pooled) 여러 참여자 INSERT를 한 번의 배치로 보내기 위해
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meeting_participant_seq")
+    @SequenceGenerator(name = "meeting_participant_seq", sequenceName = "meeting_participant_seq", allocationSize = 50)
     private Long id;
 
     /**
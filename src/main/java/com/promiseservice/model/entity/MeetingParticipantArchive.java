@@ -0,0 +1,48 @@
+package com.promiseservice.model.entity;
+
+import com.promiseservice.model.entity.MeetingParticipant.ResponseStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관(아카이브)된 약속 참여자 엔티티
+ * 이유: 보관된 약속을 ID로 조회할 때 참여자 목록도 함께 보여주기 위해 (MeetingArchive와 같은 배치에서 옮겨짐)
+ */
+@Entity
+@Immutable
+@Table(name = "meeting_participant_archive", indexes = {
+    // 이유: 보관된 약속 상세 조회에서 참여자를 약속 ID로 찾기 위해
+    @Index(name = "idx_participant_archive_meeting_id", columnList = "meeting_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MeetingParticipantArchive {
+
+    /** 원래 참여자 ID (그대로 유지) */
+    @Id
+    private Long id;
+
+    @Column(name = "meeting_id", nullable = false)
+    private Long meetingId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "response", nullable = false)
+    private ResponseStatus response;
+
+    @Column(name = "joined_at")
+    private LocalDateTime joinedAt;
+
+    @Column(name = "invited_at")
+    private LocalDateTime invitedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
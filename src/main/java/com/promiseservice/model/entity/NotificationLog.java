@@ -4,8 +4,6 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 
@@ -18,15 +16,16 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
 public class NotificationLog {
 
     /**
-     * 로그 ID (자동 증가)
+     * 로그 ID (시퀀스 할당)
      * 이유: 각 전송 기록을 고유하게 식별하기 위해
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 배치 INSERT를 위한 시퀀스 할당 (MeetingParticipant.id와 같음)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_log_seq")
+    @SequenceGenerator(name = "notification_log_seq", sequenceName = "notification_log_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -89,11 +88,18 @@ public class NotificationLog {
     /**
      * 생성 시간
      * 이유: 알림 전송 시점을 기록하여 시간순 조회 및 성능 분석에 활용하기 위해
+     * (쓰기 지연 버퍼로 나중에 저장되어도 전송 시각을 유지하도록 값이 없을 때만 저장 시각으로 채움)
      */
-    @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
     /**
      * 성공 여부 판단 메서드
      * 이유: 로그 조회 시 성공/실패를 쉽게 판단할 수 있도록 편의 메서드 제공
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -21,12 +23,18 @@ import java.time.LocalDateTime;
     @Index(name = "idx_user_consents_talk_message", columnList = "talk_message_consent"),
     @Index(name = "idx_user_consents_friends", columnList = "friends_consent")
 })
+// 이유: 알림 발송 때마다 확인하는 동의 정보는 거의 바뀌지 않으므로 2차 캐시에서 제공하기 위해
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = UserConsent.CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
 public class UserConsent {
 
+    // 2차 캐시 영역 이름
+    public static final String CACHE_REGION = "user-consent";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -0,0 +1,75 @@
+package com.promiseservice.model.entity;
+
+import com.promiseservice.model.entity.MeetingHistory.ActionType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 활동 타임라인 항목 엔티티
+ * 이유: 사용자가 참여한 약속의 활동을 조회할 때마다 참여 약속 전체를 IN (SELECT ...)으로 훑지 않도록,
+ * 히스토리가 저장될 때 참여자마다 한 행씩 미리 써 두고(fan-out on write) 읽기는 (user_id, history_id) 범위 스캔 한 번으로 끝내기 위해
+ */
+@Entity
+@Table(name = "user_timeline",
+       uniqueConstraints = {
+           // 사용자 타임라인을 히스토리 ID 역순으로 읽는 범위 스캔 인덱스 (같은 히스토리의 중복 기록도 막음)
+           @UniqueConstraint(name = "uk_user_timeline_user_history", columnNames = {"user_id", "history_id"})
+       },
+       indexes = {
+           @Index(name = "idx_user_timeline_meeting_id", columnList = "meeting_id")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserTimelineEntry {
+
+    @Id
+    // 이유: 히스토리 하나가 참여자 수만큼의 행으로 퍼지므로 시퀀스 ID로 INSERT를 배치로 보내기 위해
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_timeline_seq")
+    @SequenceGenerator(name = "user_timeline_seq", sequenceName = "user_timeline_seq", allocationSize = 50)
+    private Long id;
+
+    /** 타임라인 소유 사용자 ID */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /** 원본 히스토리 ID (커서 및 변경 피드 재개 토큰과 같은 값) */
+    @Column(name = "history_id", nullable = false)
+    private Long historyId;
+
+    @Column(name = "meeting_id", nullable = false)
+    private Long meetingId;
+
+    /** 활동을 한 사용자 ID */
+    @Column(name = "actor_user_id", nullable = false)
+    private Long actorUserId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ActionType action;
+
+    @Column(name = "timestamp", nullable = false)
+    private LocalDateTime timestamp;
+
+    /**
+     * 히스토리를 특정 사용자의 타임라인 항목으로 복사
+     *
+     * @param userId 타임라인 소유 사용자 ID
+     * @param meetingId 약속 ID (지연 로딩 프록시를 건드리지 않도록 따로 받음)
+     * @param history ID가 할당된 히스토리
+     * @return 타임라인 항목
+     */
+    public static UserTimelineEntry of(Long userId, Long meetingId, MeetingHistory history) {
+        UserTimelineEntry entry = new UserTimelineEntry();
+        entry.userId = userId;
+        entry.historyId = history.getId();
+        entry.meetingId = meetingId;
+        entry.actorUserId = history.getUserId();
+        entry.action = history.getAction();
+        entry.timestamp = history.getTimestamp();
+        return entry;
+    }
+}
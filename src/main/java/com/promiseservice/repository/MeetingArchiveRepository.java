@@ -0,0 +1,75 @@
+package com.promiseservice.repository;
+
+import com.promiseservice.model.entity.MeetingArchive;
+import com.promiseservice.model.entity.MeetingParticipantArchive;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 약속 보관(아카이브) 테이블 Repository
+ * 이유: 보관 대상 약속과 그 참여자/히스토리를 행 단위로 읽어 옮기지 않고,
+ * 배치마다 테이블별 INSERT ... SELECT 한 번으로 보관 테이블에 복사하기 위해
+ *
+ * 복사 쿼리는 네이티브 SQL이므로 영향을 받는 테이블을 query space로 지정해,
+ * Hibernate가 2차 캐시 전체를 비우지 않고 보관 테이블 관련 캐시만 무효화하도록 한다.
+ */
+@Repository
+public interface MeetingArchiveRepository extends JpaRepository<MeetingArchive, Long> {
+
+    /**
+     * 약속 행을 보관 테이블로 복사
+     *
+     * @return 복사된 약속 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "meeting_archive"))
+    @Query(value = "INSERT INTO meeting_archive (id, title, description, meeting_time, max_participants, host_id, status, " +
+                   "location_name, location_address, location_coordinates, latitude, longitude, " +
+                   "accepted_count, invited_count, rejected_count, created_at, updated_at, archived_at) " +
+                   "SELECT id, title, description, meeting_time, max_participants, host_id, status, " +
+                   "location_name, location_address, location_coordinates, latitude, longitude, " +
+                   "accepted_count, invited_count, rejected_count, created_at, updated_at, :archivedAt " +
+                   "FROM meeting WHERE id IN (:meetingIds)", nativeQuery = true)
+    int copyMeetings(@Param("meetingIds") Collection<Long> meetingIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * 약속 참여자 행을 보관 테이블로 복사
+     *
+     * @return 복사된 참여자 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "meeting_participant_archive"))
+    @Query(value = "INSERT INTO meeting_participant_archive (id, meeting_id, user_id, response, joined_at, invited_at, archived_at) " +
+                   "SELECT id, meeting_id, user_id, response, joined_at, invited_at, :archivedAt " +
+                   "FROM meeting_participant WHERE meeting_id IN (:meetingIds)", nativeQuery = true)
+    int copyParticipants(@Param("meetingIds") Collection<Long> meetingIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * 약속 히스토리 행을 보관 테이블로 복사
+     *
+     * @return 복사된 히스토리 수
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "meeting_history_archive"))
+    @Query(value = "INSERT INTO meeting_history_archive (id, meeting_id, user_id, action, timestamp, archived_at) " +
+                   "SELECT id, meeting_id, user_id, action, timestamp, :archivedAt " +
+                   "FROM meeting_history WHERE meeting_id IN (:meetingIds)", nativeQuery = true)
+    int copyHistories(@Param("meetingIds") Collection<Long> meetingIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * 보관된 약속의 참여자 목록 조회
+     * 이유: 운영 테이블에 없는 약속을 ID로 조회할 때 참여자까지 보관 테이블에서 채우기 위해
+     */
+    @Query("SELECT p FROM MeetingParticipantArchive p WHERE p.meetingId = :meetingId ORDER BY p.id")
+    List<MeetingParticipantArchive> findParticipantsByMeetingId(@Param("meetingId") Long meetingId);
+}
@@ -0,0 +1,31 @@
+package com.promiseservice.repository;
+
+/**
+ * 약속/참여자 2차 캐시 항목 단위 무효화 (Repository 조각)
+ * 이유: 카운터와 응답 상태의 조건부 UPDATE를 네이티브 쿼리로 실행해 Hibernate가 캐시 영역 전체를 비우지 않도록 하고,
+ * 대신 UPDATE가 바꾼 약속과 참여자 항목만 골라 캐시에서 제거하기 위해
+ */
+public interface MeetingCacheEviction {
+
+    /**
+     * query space 이름
+     * 이유: 네이티브 UPDATE에 실제 테이블(meeting, meeting_participant)을 지정하면 그 테이블에 매핑된
+     * 엔티티/컬렉션 캐시 영역 전체가 비워지므로, 어떤 캐시 영역과도 연결되지 않은 이름을 지정하기 위해
+     */
+    String UNCACHED_QUERY_SPACE = "meeting_counter_update";
+
+    /**
+     * 약속 캐시 항목과 그 참여자 컬렉션 캐시 항목 제거
+     *
+     * @param meetingId 약속 ID
+     */
+    void evictMeetingCache(Long meetingId);
+
+    /**
+     * 참여자 캐시 항목과 그 약속의 참여자 컬렉션 캐시 항목 제거
+     *
+     * @param participantId 참여자 ID
+     * @param meetingId 참여자가 속한 약속 ID
+     */
+    void evictParticipantCache(Long participantId, Long meetingId);
+}
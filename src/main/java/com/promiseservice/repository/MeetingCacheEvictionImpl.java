@@ -0,0 +1,54 @@
+package com.promiseservice.repository;
+
+import com.promiseservice.model.entity.Meeting;
+import com.promiseservice.model.entity.MeetingParticipant;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * MeetingCacheEviction 구현
+ *
+ * 커밋 전에 다른 트랜잭션이 변경 전 행을 읽어 캐시에 다시 넣을 수 있으므로,
+ * UPDATE 직후에 한 번, 트랜잭션이 끝난 뒤 한 번 더 제거한다 (Hibernate 일괄 UPDATE의 캐시 정리와 같은 순서)
+ */
+@RequiredArgsConstructor
+public class MeetingCacheEvictionImpl implements MeetingCacheEviction {
+
+    private static final String PARTICIPANTS_ROLE = Meeting.class.getName() + ".participants";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void evictMeetingCache(Long meetingId) {
+        evictNowAndAfterCompletion(cache -> {
+            cache.evictEntityData(Meeting.class, meetingId);
+            cache.evictCollectionData(PARTICIPANTS_ROLE, meetingId);
+        });
+    }
+
+    @Override
+    public void evictParticipantCache(Long participantId, Long meetingId) {
+        evictNowAndAfterCompletion(cache -> {
+            cache.evictEntityData(MeetingParticipant.class, participantId);
+            cache.evictCollectionData(PARTICIPANTS_ROLE, meetingId);
+        });
+    }
+
+    private void evictNowAndAfterCompletion(Consumer<Cache> eviction) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        eviction.accept(cache);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.accept(cache);
+                }
+            });
+        }
+    }
+}
@@ -6,11 +6,15 @@ import com.promiseservice.model.entity.MeetingHistory.ActionType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -130,7 +134,11 @@ public interface MeetingHistoryRepository extends JpaRepository<MeetingHistory,
     /**
      * 특정 사용자가 참여한 약속들의 모든 히스토리 조회
      * 이유: 사용자와 관련된 모든 약속 활동을 조회하기 위해
+     *
+     * @deprecated 참여한 약속 전체를 IN (SELECT ...)으로 훑으므로, 미리 퍼뜨려 둔 타임라인
+     * (UserTimelineRepository, GET /api/timeline)을 커서로 읽을 것
      */
+    @Deprecated
     @Query("SELECT h FROM MeetingHistory h " +
            "WHERE h.meeting.id IN (" +
            "  SELECT p.meeting.id FROM MeetingParticipant p WHERE p.userId = :userId" +
@@ -146,4 +154,29 @@ public interface MeetingHistoryRepository extends JpaRepository<MeetingHistory,
            "WHERE CAST(h.timestamp AS DATE) = CAST(CURRENT_TIMESTAMP AS DATE) " +
            "ORDER BY h.timestamp DESC")
     List<MeetingHistory> findTodayActivities();
-}
\ No newline at end of file
+
+    /**
+     * 특정 약속에서 주어진 히스토리 ID 이후의 히스토리 조회 (ID 오름차순)
+     * 이유: 변경 피드에 다시 연결한 클라이언트에게 재개 토큰 이후의 변경만 순서대로 다시 보내기 위해
+     * 복제 지연으로 방금 커밋된 히스토리가 빠지지 않도록 읽기 전용 트랜잭션 없이 기본 DB에서 읽음
+     * 히스토리 ID는 시퀀스 블록에서 할당되어 커밋 순서와 다를 수 있으므로, afterId보다 작은 ID로 늦게 커밋된 히스토리는 조회되지 않음
+     * (재개 토큰의 한계는 MeetingChangeFeedHub 참고)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Query("SELECT h FROM MeetingHistory h " +
+           "WHERE h.meeting.id = :meetingId AND h.id > :afterId " +
+           "ORDER BY h.id ASC")
+    List<MeetingHistory> findByMeetingIdAndIdAfter(@Param("meetingId") Long meetingId,
+                                                   @Param("afterId") Long afterId,
+                                                   Pageable pageable);
+
+    /**
+     * 여러 약속의 히스토리 일괄 삭제
+     * 이유: 보관 테이블로 복사한 약속의 히스토리를 한 번의 DELETE로 운영 테이블에서 제거하기 위해
+     *
+     * @return 삭제된 히스토리 수
+     */
+    @Modifying
+    @Query("DELETE FROM MeetingHistory h WHERE h.meeting.id IN :meetingIds")
+    int deleteByMeetingIdIn(@Param("meetingIds") Collection<Long> meetingIds);
+}
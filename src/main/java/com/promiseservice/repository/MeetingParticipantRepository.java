@@ -1,12 +1,22 @@
 package com.promiseservice.repository;
 
+import com.promiseservice.dto.MeetingParticipantCounts;
+import com.promiseservice.dto.ParticipantMembership;
 import com.promiseservice.model.entity.MeetingParticipant;
 import com.promiseservice.model.entity.MeetingParticipant.ResponseStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +25,7 @@ import java.util.Optional;
  * 이유: 약속 참여자 정보에 대한 데이터베이스 접근 계층을 제공하여 참여자 관리 기능을 구현하기 위해
  */
 @Repository
-public interface MeetingParticipantRepository extends JpaRepository<MeetingParticipant, Long> {
+public interface MeetingParticipantRepository extends JpaRepository<MeetingParticipant, Long>, MeetingCacheEviction {
 
     /**
      * 특정 약속의 참여자 목록 조회
@@ -71,6 +81,43 @@ public interface MeetingParticipantRepository extends JpaRepository<MeetingParti
      */
     long countByMeetingId(Long meetingId);
 
+    /**
+     * 여러 약속의 참여자 수를 한 번에 집계
+     * 이유: 검색 결과 목록을 만들 때 약속마다 COUNT 쿼리를 날리지 않고
+     * 수락/초대/전체 인원을 meeting_id 기준 단일 집계 쿼리로 가져오기 위해
+     */
+    @Query("SELECT new com.promiseservice.dto.MeetingParticipantCounts(" +
+           "p.meetingId, " +
+           "SUM(CASE WHEN p.response = 'ACCEPTED' THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN p.response = 'INVITED' THEN 1L ELSE 0L END), " +
+           "COUNT(p)) " +
+           "FROM MeetingParticipant p " +
+           "WHERE p.meetingId IN :meetingIds " +
+           "GROUP BY p.meetingId")
+    List<MeetingParticipantCounts> countParticipantsByMeetingIds(@Param("meetingIds") Collection<Long> meetingIds);
+
+    /**
+     * 모든 약속의 전체 참여자 수를 약속별로 집계
+     * 이유: 인기 약속 순위표를 시작 시 한 번의 GROUP BY 쿼리로 구축하기 위해
+     */
+    @Query("SELECT new com.promiseservice.dto.MeetingParticipantCounts(" +
+           "p.meetingId, " +
+           "SUM(CASE WHEN p.response = 'ACCEPTED' THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN p.response = 'INVITED' THEN 1L ELSE 0L END), " +
+           "COUNT(p)) " +
+           "FROM MeetingParticipant p " +
+           "GROUP BY p.meetingId")
+    List<MeetingParticipantCounts> countParticipantsGroupedByMeeting();
+
+    /**
+     * 참여자 수가 많은 순으로 약속 ID 조회
+     * 이유: 인기 약속 순위표가 준비되기 전에도 정렬과 LIMIT을 데이터베이스에서 처리하여 상위 약속만 가져오기 위해
+     */
+    @Query("SELECT p.meetingId FROM MeetingParticipant p " +
+           "GROUP BY p.meetingId " +
+           "ORDER BY COUNT(p) DESC, p.meetingId DESC")
+    List<Long> findMeetingIdsOrderByParticipantCountDesc(Pageable pageable);
+
     /**
      * 특정 사용자의 수락한 약속 목록 조회
      * 이유: 사용자가 실제로 참여할 약속들만 조회하기 위해
@@ -91,21 +138,22 @@ public interface MeetingParticipantRepository extends JpaRepository<MeetingParti
 
     /**
      * 특정 약속의 방장 정보 조회
-     * 이유: 가장 먼저 초대된(생성한) 참여자를 방장으로 판단
+     * 이유: 약속 행에 저장된 host_id와 일치하는 참여자를 방장으로 판단
+     * (초대 시각 MIN 서브쿼리 없이 기본키 조회 한 번으로 방장을 찾기 위해)
      */
     @Query("SELECT p FROM MeetingParticipant p " +
+           "JOIN p.meeting m " +
            "WHERE p.meetingId = :meetingId " +
-           "AND p.invitedAt = (SELECT MIN(p2.invitedAt) FROM MeetingParticipant p2 WHERE p2.meetingId = :meetingId)")
+           "AND p.userId = m.hostId")
     Optional<MeetingParticipant> findHostByMeetingId(@Param("meetingId") Long meetingId);
 
     /**
      * 특정 약속에서 특정 사용자가 방장인지 확인
      * 이유: 권한 검증을 위해 사용자가 방장인지 확인
      */
-    @Query("SELECT CASE WHEN COUNT(p) > 0 THEN true ELSE false END " +
-           "FROM MeetingParticipant p " +
-           "WHERE p.meetingId = :meetingId AND p.userId = :userId " +
-           "AND p.invitedAt = (SELECT MIN(p2.invitedAt) FROM MeetingParticipant p2 WHERE p2.meetingId = :meetingId)")
+    @Query("SELECT CASE WHEN COUNT(m) > 0 THEN true ELSE false END " +
+           "FROM Meeting m " +
+           "WHERE m.id = :meetingId AND m.hostId = :userId")
     boolean isHost(@Param("meetingId") Long meetingId, @Param("userId") Long userId);
 
     /**
@@ -127,11 +175,8 @@ public interface MeetingParticipantRepository extends JpaRepository<MeetingParti
      * 이유: 방장이 관리하는 약속들의 참여자를 조회하기 위해
      */
     @Query("SELECT p FROM MeetingParticipant p " +
-           "WHERE p.meetingId IN (" +
-           "  SELECT p2.meetingId FROM MeetingParticipant p2 " +
-           "  WHERE p2.userId = :hostId " +
-           "  AND p2.invitedAt = (SELECT MIN(p3.invitedAt) FROM MeetingParticipant p3 WHERE p3.meetingId = p2.meetingId)" +
-           ") " +
+           "JOIN p.meeting m " +
+           "WHERE m.hostId = :hostId " +
            "ORDER BY p.meetingId DESC, p.invitedAt ASC")
     List<MeetingParticipant> findParticipantsByHostId(@Param("hostId") Long hostId);
 
@@ -143,4 +188,68 @@ public interface MeetingParticipantRepository extends JpaRepository<MeetingParti
            "WHERE p.meetingId = :meetingId AND p.joinedAt IS NOT NULL " +
            "ORDER BY p.joinedAt ASC")
     List<MeetingParticipant> findActualParticipantsByMeetingId(@Param("meetingId") Long meetingId);
-}
\ No newline at end of file
+
+    /**
+     * 참여자 포스팅 색인용 참여 관계 조회 (슬라이스 단위)
+     * 이유: 애플리케이션 시작 시 전체 참여 관계를 한 번에 올리지 않고 일정 크기씩 나누어 색인을 구축하기 위해
+     */
+    Slice<ParticipantMembership> findMembershipBy(Pageable pageable);
+
+    /**
+     * 특정 약속의 참여 관계 조회
+     * 이유: 참여자 변경 시 해당 약속의 포스팅만 다시 계산하기 위해
+     */
+    List<ParticipantMembership> findMembershipByMeetingId(Long meetingId);
+
+    /**
+     * 여러 약속의 참여 관계 일괄 조회
+     * 이유: 히스토리 배치를 참여자 타임라인에 퍼뜨릴 때 약속마다 따로 조회하지 않고 한 번에 읽기 위해
+     */
+    List<ParticipantMembership> findMembershipByMeetingIdIn(Collection<Long> meetingIds);
+
+    /**
+     * 이전 응답 상태가 그대로일 때만 응답 상태 변경
+     * 이유: 같은 초대에 대한 동시 응답이 모두 같은 이전 상태를 보고 카운터를 두 번 옮기지 않도록,
+     * 읽은 상태를 WHERE 조건에 넣어 먼저 반영된 요청만 성공하게 하기 위해
+     *
+     * @return 변경되면 1, 그사이 상태가 바뀌었거나 참여자가 제거되었으면 0 (캐시 항목 제거는 compareAndSetResponse에서 처리)
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = UNCACHED_QUERY_SPACE))
+    @Query(value = "UPDATE meeting_participant SET response = :to, joined_at = :joinedAt " +
+                   "WHERE id = :participantId AND response = :from", nativeQuery = true)
+    int updateResponseIfUnchanged(@Param("participantId") Long participantId,
+                                  @Param("from") String from,
+                                  @Param("to") String to,
+                                  @Param("joinedAt") LocalDateTime joinedAt);
+
+    /**
+     * 읽어 둔 참여자의 응답 상태를 조건부로 변경
+     * 참여 시각은 MeetingParticipant.updateResponse와 같은 규칙(최초 수락 시각 유지, 그 외 초기화)을 따른다
+     *
+     * @param participant 변경 전에 조회한 참여자
+     * @param to 새 응답 상태
+     * @return 변경 성공 여부
+     */
+    default boolean compareAndSetResponse(MeetingParticipant participant, ResponseStatus to) {
+        LocalDateTime joinedAt = null;
+        if (to == ResponseStatus.ACCEPTED) {
+            joinedAt = participant.getJoinedAt() != null ? participant.getJoinedAt() : LocalDateTime.now();
+        }
+        if (updateResponseIfUnchanged(participant.getId(), participant.getResponse().name(), to.name(), joinedAt) == 0) {
+            return false;
+        }
+        evictParticipantCache(participant.getId(), participant.getMeetingId());
+        return true;
+    }
+
+    /**
+     * 여러 약속의 참여자 일괄 삭제
+     * 이유: 보관 테이블로 복사한 약속의 참여자를 한 번의 DELETE로 운영 테이블에서 제거하기 위해
+     *
+     * @return 삭제된 참여자 수
+     */
+    @Modifying
+    @Query("DELETE FROM MeetingParticipant p WHERE p.meetingId IN :meetingIds")
+    int deleteByMeetingIdIn(@Param("meetingIds") Collection<Long> meetingIds);
+}
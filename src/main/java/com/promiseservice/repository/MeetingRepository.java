@@ -1,34 +1,58 @@
 package com.promiseservice.repository;
 
+import com.promiseservice.dto.MeetingGeoPoint;
+import com.promiseservice.dto.MeetingKeywordText;
+import com.promiseservice.dto.MeetingParticipantCounter;
+import com.promiseservice.dto.MeetingStatusCount;
 import com.promiseservice.model.entity.Meeting;
 import com.promiseservice.model.entity.Meeting.MeetingStatus;
+import com.promiseservice.model.entity.MeetingParticipant.ResponseStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Meeting 엔티티를 위한 JPA Repository
  * 이유: 약속 정보에 대한 데이터베이스 접근 계층을 제공하여 비즈니스 로직과 데이터 접근을 분리하기 위해
+ *
+ * 카운터 UPDATE는 네이티브 쿼리로 실행하고 캐시와 연결되지 않은 query space를 지정해,
+ * 약속 캐시 영역 전체가 아닌 변경된 약속 항목만 MeetingCacheEviction으로 제거한다.
  */
 @Repository
-public interface MeetingRepository extends JpaRepository<Meeting, Long> {
+public interface MeetingRepository extends JpaRepository<Meeting, Long>, JpaSpecificationExecutor<Meeting>,
+        MeetingCacheEviction {
+
+    /**
+     * 참여자 목록을 포함한 약속 상세 조회
+     * 이유: 참여자는 지연 로딩이므로, 상세 응답(MeetingResponse)을 만드는 경우에만
+     * 엔티티 그래프로 참여자를 한 번의 조인 쿼리로 함께 읽기 위해
+     */
+    @EntityGraph(Meeting.WITH_PARTICIPANTS)
+    Optional<Meeting> findWithParticipantsById(Long id);
 
     /**
      * 특정 사용자가 방장인 약속 목록 조회
-     * 이유: 가장 먼저 초대된 참여자가 방장이므로 해당 조건으로 조회
+     * 이유: 참여자 조인과 MIN(invitedAt) 상관 서브쿼리 대신 약속 행의 host_id로 찾아
+     * idx_host_id_created_at 인덱스 범위 스캔만으로 최신순 목록을 만들기 위해
      */
-    @Query("SELECT DISTINCT m FROM Meeting m " +
-           "JOIN m.participants p " +
-           "WHERE p.userId = :hostId " +
-           "AND p.invitedAt = (SELECT MIN(p2.invitedAt) FROM MeetingParticipant p2 WHERE p2.meetingId = m.id) " +
-           "ORDER BY m.createdAt DESC")
-    List<Meeting> findMeetingsByHostId(@Param("hostId") Long hostId);
+    @EntityGraph(Meeting.WITH_PARTICIPANTS)
+    List<Meeting> findByHostIdOrderByCreatedAtDesc(Long hostId);
 
     /**
      * 사용자가 참여한 약속 목록 조회
@@ -38,6 +62,7 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
            "JOIN m.participants p " +
            "WHERE p.userId = :userId " +
            "ORDER BY m.meetingTime DESC")
+    @EntityGraph(Meeting.WITH_PARTICIPANTS)
     List<Meeting> findMeetingsByParticipantUserId(@Param("userId") Long userId);
 
     /**
@@ -60,13 +85,9 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
 
     /**
      * 특정 사용자가 방장인 약속 목록 조회 (페이지네이션 지원)
-     * 이유: 대량의 데이터를 효율적으로 조회하기 위해
+     * 이유: 대량의 데이터를 효율적으로 조회하기 위해 (host_id 인덱스 사용)
      */
-    @Query("SELECT DISTINCT m FROM Meeting m " +
-           "JOIN m.participants p " +
-           "WHERE p.userId = :hostId " +
-           "AND p.invitedAt = (SELECT MIN(p2.invitedAt) FROM MeetingParticipant p2 WHERE p2.meetingId = m.id)")
-    Page<Meeting> findMeetingsByHostId(@Param("hostId") Long hostId, Pageable pageable);
+    Page<Meeting> findByHostId(Long hostId, Pageable pageable);
 
     /**
      * 제목으로 약속 검색
@@ -90,6 +111,13 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
      */
     long countByStatus(MeetingStatus status);
 
+    /**
+     * 상태별 약속 수 일괄 조회
+     * 이유: 상태마다 countByStatus를 호출하지 않고 GROUP BY 쿼리 한 번으로 모든 상태의 건수를 가져오기 위해
+     */
+    @Query("SELECT m.status AS status, COUNT(m) AS count FROM Meeting m GROUP BY m.status")
+    List<MeetingStatusCount> countGroupedByStatus();
+
     /**
      * 특정 상태의 약속 목록 조회 (페이지네이션 지원)
      * 이유: 상태별 필터링과 페이지네이션을 동시에 지원하여 대량의 약속 데이터를 효율적으로 조회하기 위해
@@ -126,10 +154,224 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
     /**
      * 특정 사용자가 참여 가능한 약속 목록 조회 (최대 인원 미달)
      * 이유: 아직 참여 가능한 약속을 찾아 추천하기 위해
+     * 약속마다 참여자 COUNT 서브쿼리를 실행하지 않고 수락 인원 카운터 컬럼과 비교한다
      */
     @Query("SELECT m FROM Meeting m " +
            "WHERE m.status = 'WAITING' " +
-           "AND (SELECT COUNT(p) FROM MeetingParticipant p WHERE p.meetingId = m.id AND p.response = 'ACCEPTED') < m.maxParticipants " +
+           "AND m.acceptedCount < m.maxParticipants " +
            "ORDER BY m.meetingTime ASC")
     List<Meeting> findAvailableMeetings();
-}
\ No newline at end of file
+
+    /**
+     * 최근 생성된 약속 목록 조회
+     * 이유: 전체 약속을 읽어 메모리에서 정렬하지 않고 idx_created_at 인덱스로 상위 n건만 조회하기 위해
+     */
+    List<Meeting> findByOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+    /**
+     * 키워드 색인용 텍스트 필드 조회 (슬라이스 단위)
+     * 이유: 애플리케이션 시작 시 전체 약속을 한 번에 올리지 않고 일정 크기씩 나누어 색인을 구축하기 위해
+     */
+    Slice<MeetingKeywordText> findKeywordTextBy(Pageable pageable);
+
+    /**
+     * 특정 약속의 키워드 색인용 텍스트 필드 조회
+     * 이유: 약속 변경 시 해당 약속의 색인 항목만 다시 만들기 위해
+     */
+    Optional<MeetingKeywordText> findKeywordTextById(Long id);
+
+    /**
+     * 위치 색인용 좌표 조회 (좌표가 있는 약속만, 슬라이스 단위)
+     * 이유: 애플리케이션 시작 시 위치 격자 색인을 참여자 등 연관 엔티티 로딩 없이 구축하기 위해
+     */
+    Slice<MeetingGeoPoint> findGeoPointByLatitudeIsNotNullAndLongitudeIsNotNull(Pageable pageable);
+
+    /**
+     * 경계 상자 안의 약속 좌표 조회 (슬라이스 단위)
+     * 이유: 위치 색인이 준비되기 전 반경 검색이 상자 안 약속 엔티티를 한 번에 모두 올리지 않고,
+     * idx_latitude_longitude 범위 조건으로 좌표만 일정 크기씩 읽기 위해
+     */
+    Slice<MeetingGeoPoint> findGeoPointByLatitudeBetweenAndLongitudeBetween(double minLatitude, double maxLatitude,
+                                                                            double minLongitude, double maxLongitude,
+                                                                            Pageable pageable);
+
+    /**
+     * 특정 약속의 위치 색인용 좌표 조회
+     * 이유: 약속 변경 시 해당 약속의 격자 칸만 다시 계산하기 위해
+     */
+    Optional<MeetingGeoPoint> findGeoPointById(Long id);
+
+    /**
+     * 약속의 참여자 카운터 조회
+     * 이유: 참여자 통계를 상태별 COUNT 쿼리 대신 약속 행 하나로 응답하기 위해
+     */
+    Optional<MeetingParticipantCounter> findParticipantCounterById(Long id);
+
+    /**
+     * 참여자 카운터 조회 (슬라이스 단위)
+     * 이유: 카운터 보정 작업이 전체 약속을 한 번에 올리지 않고 일정 크기씩 실제 참여자 수와 비교하기 위해
+     */
+    Slice<MeetingParticipantCounter> findParticipantCounterBy(Pageable pageable);
+
+    /**
+     * 참여자 카운터 증감
+     * 이유: 엔티티 값을 읽어 더한 뒤 저장하면 동시 요청끼리 서로의 변경을 덮어쓰므로,
+     * 데이터베이스에서 현재 값 기준으로 더하는 단일 UPDATE로 카운터를 변경하기 위해
+     * 실행 전에 대기 중인 변경을 반영하고 실행 후 영속성 컨텍스트를 비워,
+     * 같은 트랜잭션에서 이후에 다시 조회한 약속이 변경 전 카운터를 보지 않도록 한다 (이전에 읽은 엔티티는 준영속 상태가 됨)
+     *
+     * @return 변경된 약속 행 수
+     */
+    default int adjustParticipantCounts(Long meetingId, int accepted, int invited, int rejected) {
+        int updated = updateParticipantCounts(meetingId, accepted, invited, rejected);
+        evictMeetingCache(meetingId);
+        return updated;
+    }
+
+    /**
+     * 참여자 카운터 증감 UPDATE (캐시 항목 제거는 adjustParticipantCounts에서 처리)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = UNCACHED_QUERY_SPACE))
+    @Query(value = "UPDATE meeting SET " +
+                   "accepted_count = accepted_count + :accepted, " +
+                   "invited_count = invited_count + :invited, " +
+                   "rejected_count = rejected_count + :rejected " +
+                   "WHERE id = :meetingId", nativeQuery = true)
+    int updateParticipantCounts(@Param("meetingId") Long meetingId,
+                                @Param("accepted") int accepted,
+                                @Param("invited") int invited,
+                                @Param("rejected") int rejected);
+
+    /**
+     * 참여자 응답 상태 이동에 맞춰 카운터 증감
+     * 이유: 초대(없음 → INVITED), 응답(INVITED → ACCEPTED 등), 제거(상태 → 없음)를 한 번의 UPDATE로 반영하기 위해
+     *
+     * @param meetingId 약속 ID
+     * @param from 이전 응답 상태 (새 참여자면 null)
+     * @param to 새 응답 상태 (제거된 참여자면 null)
+     */
+    default void moveParticipantCount(Long meetingId, ResponseStatus from, ResponseStatus to) {
+        if (from == to) {
+            return;
+        }
+        int[] delta = new int[ResponseStatus.values().length];
+        if (from != null) {
+            delta[from.ordinal()]--;
+        }
+        if (to != null) {
+            delta[to.ordinal()]++;
+        }
+        adjustParticipantCounts(meetingId,
+                delta[ResponseStatus.ACCEPTED.ordinal()],
+                delta[ResponseStatus.INVITED.ordinal()],
+                delta[ResponseStatus.REJECTED.ordinal()]);
+    }
+
+    /**
+     * 정원이 남아 있을 때만 수락 좌석 예약
+     * 이유: 참여자 수를 읽어 확인한 뒤 수락하면 동시 수락이 같은 빈자리를 보고 정원을 넘기므로,
+     * 정원 확인과 증가를 한 UPDATE의 WHERE 조건으로 묶어 행 잠금 한 번으로 끝내기 위해
+     * 버전도 함께 올려 예약 전에 읽은 약속으로 최대 인원을 줄이는 수정이 낙관적 잠금에 걸리도록 한다
+     *
+     * @param fromInvited 이전 상태가 INVITED면 1
+     * @param fromRejected 이전 상태가 REJECTED면 1
+     * @return 예약되면 1, 정원이 찼거나 약속이 없으면 0
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = UNCACHED_QUERY_SPACE))
+    @Query(value = "UPDATE meeting SET " +
+                   "accepted_count = accepted_count + 1, " +
+                   "invited_count = invited_count - :fromInvited, " +
+                   "rejected_count = rejected_count - :fromRejected, " +
+                   "version = version + 1 " +
+                   "WHERE id = :meetingId AND accepted_count < max_participants", nativeQuery = true)
+    int reserveAcceptedSeat(@Param("meetingId") Long meetingId,
+                            @Param("fromInvited") int fromInvited,
+                            @Param("fromRejected") int fromRejected);
+
+    /**
+     * 응답 상태를 ACCEPTED로 옮기며 수락 좌석 예약
+     *
+     * @param meetingId 약속 ID
+     * @param from 이전 응답 상태 (새 참여자면 null)
+     * @return 예약 성공 여부
+     */
+    default boolean tryReserveAcceptedSeat(Long meetingId, ResponseStatus from) {
+        int updated = reserveAcceptedSeat(meetingId,
+                from == ResponseStatus.INVITED ? 1 : 0,
+                from == ResponseStatus.REJECTED ? 1 : 0);
+        if (updated == 0) {
+            return false;
+        }
+        evictMeetingCache(meetingId);
+        return true;
+    }
+
+    /**
+     * 전체 인원 제한 안에서만 초대 좌석 예약
+     * 이유: 초대 전 인원 확인과 카운터 증가 사이에 다른 초대가 끼어들어 최대 인원을 넘기지 않도록
+     * 확인과 증가를 한 UPDATE로 처리하기 위해
+     * 수락 좌석 예약과 같이 버전도 올려 예약 전에 읽은 약속으로 최대 인원을 줄이는 수정이 낙관적 잠금에 걸리도록 한다
+     *
+     * @param count 새로 초대할 인원
+     * @return 예약되면 1, 인원을 넘거나 약속이 없으면 0
+     */
+    default int reserveInvitedSeats(Long meetingId, int count) {
+        int updated = updateInvitedSeats(meetingId, count);
+        if (updated > 0) {
+            evictMeetingCache(meetingId);
+        }
+        return updated;
+    }
+
+    /**
+     * 초대 좌석 예약 UPDATE (캐시 항목 제거는 reserveInvitedSeats에서 처리)
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = UNCACHED_QUERY_SPACE))
+    @Query(value = "UPDATE meeting SET invited_count = invited_count + :count, " +
+                   "version = version + 1 " +
+                   "WHERE id = :meetingId " +
+                   "AND accepted_count + invited_count + rejected_count + :count <= max_participants", nativeQuery = true)
+    int updateInvitedSeats(@Param("meetingId") Long meetingId, @Param("count") int count);
+
+    /**
+     * 참여자 테이블 기준으로 카운터 재계산
+     * 이유: 카운터가 실제 참여자 수와 어긋난 약속만 골라 한 번의 UPDATE로 바로잡기 위해
+     *
+     * @param meetingIds 재계산할 약속 ID 목록
+     * @return 변경된 약속 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Meeting m SET " +
+           "m.acceptedCount = (SELECT COUNT(p) FROM MeetingParticipant p WHERE p.meetingId = m.id AND p.response = 'ACCEPTED'), " +
+           "m.invitedCount = (SELECT COUNT(p) FROM MeetingParticipant p WHERE p.meetingId = m.id AND p.response = 'INVITED'), " +
+           "m.rejectedCount = (SELECT COUNT(p) FROM MeetingParticipant p WHERE p.meetingId = m.id AND p.response = 'REJECTED') " +
+           "WHERE m.id IN :meetingIds")
+    int recountParticipantCounts(@Param("meetingIds") Collection<Long> meetingIds);
+
+    /**
+     * 보관 대상 약속 ID 조회
+     * 이유: 최종 상태(완료/취소)로 바뀐 뒤 오래 지난 약속만 ID 순서로 일정 개수씩 골라
+     * 보관 배치 하나가 옮길 범위를 정하기 위해 (옮겨진 약속은 사라지므로 항상 첫 페이지를 읽음)
+     *
+     * @param statuses 최종 상태 목록
+     * @param cutoff 이 시각 이전에 마지막으로 변경된 약속만 대상
+     */
+    @Query("SELECT m.id FROM Meeting m WHERE m.status IN :statuses AND m.updatedAt < :cutoff ORDER BY m.id")
+    List<Long> findArchivableIds(@Param("statuses") Collection<MeetingStatus> statuses,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 Pageable pageable);
+
+    /**
+     * 약속 일괄 삭제 (보관 테이블로 복사한 뒤)
+     * 이유: 엔티티를 하나씩 읽어 지우지 않고 한 번의 DELETE로 운영 테이블에서 제거하기 위해
+     *
+     * @return 삭제된 약속 수
+     */
+    @Modifying
+    @Query("DELETE FROM Meeting m WHERE m.id IN :meetingIds")
+    int deleteAllByIdIn(@Param("meetingIds") Collection<Long> meetingIds);
+}
@@ -0,0 +1,144 @@
+package com.promiseservice.repository;
+
+import com.promiseservice.model.entity.Meeting;
+import com.promiseservice.model.entity.Meeting.MeetingStatus;
+import com.promiseservice.model.entity.MeetingParticipant;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Meeting 검색 조건을 Specification으로 제공하는 유틸리티 클래스
+ * 이유: 검색 조건을 파생 쿼리 메서드 이름에 고정하지 않고 조건 단위로 조립하여,
+ * 정렬/페이지네이션/커서 방식과 무관하게 같은 조건을 재사용하기 위해
+ */
+public final class MeetingSpecifications {
+
+    private MeetingSpecifications() {
+    }
+
+    /**
+     * 조건 없이 모든 약속을 대상으로 하는 Specification
+     * 이유: 검색 조건이 없는 경우에도 Specification 기반 조회 경로를 동일하게 사용하기 위해
+     */
+    public static Specification<Meeting> all() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    /**
+     * 주어진 ID 목록에 포함된 약속 (빈 목록이면 결과 없음)
+     * 이유: 키워드 색인 등 외부에서 좁혀진 후보 ID를 다른 검색 조건과 함께 기본키로 조회하기 위해
+     */
+    public static Specification<Meeting> idIn(Collection<Long> meetingIds) {
+        return (root, query, cb) -> meetingIds.isEmpty() ? cb.disjunction() : root.get("id").in(meetingIds);
+    }
+
+    /**
+     * 제목, 설명 또는 장소명에 키워드가 포함된 약속 (대소문자 무시)
+     * 이유: 검색 요청의 키워드가 제목, 설명, 장소명을 모두 대상으로 한다는 요구사항을 하나의 조건으로 표현하기 위해
+     * (키워드 색인과 같은 필드를 대상으로 해야 색인 사용 여부에 따라 검색 결과가 달라지지 않음)
+     */
+    public static Specification<Meeting> keywordContains(String keyword) {
+        String pattern = "%" + keyword.toLowerCase() + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("title")), pattern),
+                cb.like(cb.lower(root.get("description")), pattern),
+                cb.like(cb.lower(root.get("locationName")), pattern));
+    }
+
+    /**
+     * 특정 상태의 약속
+     * 이유: 상태별 필터링을 다른 조건과 조합할 수 있도록 하기 위해
+     */
+    public static Specification<Meeting> hasStatus(MeetingStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    /**
+     * 약속 시간이 주어진 범위 안에 있는 약속 (양 끝 포함)
+     * 이유: idx_meeting_time 인덱스를 활용하는 범위 조건을 제공하기 위해
+     */
+    public static Specification<Meeting> meetingTimeBetween(LocalDateTime startTime, LocalDateTime endTime) {
+        return (root, query, cb) -> cb.between(root.get("meetingTime"), startTime, endTime);
+    }
+
+    /**
+     * 위도/경도가 주어진 경계 상자 안에 있는 약속 (양 끝 포함)
+     * 이유: 위치 색인이 준비되기 전에도 idx_latitude_longitude 인덱스 범위 조건으로 근처 약속 후보를 좁히기 위해
+     */
+    public static Specification<Meeting> locationWithin(double minLatitude, double maxLatitude,
+                                                        double minLongitude, double maxLongitude) {
+        return (root, query, cb) -> cb.and(
+                cb.between(root.get("latitude"), minLatitude, maxLatitude),
+                cb.between(root.get("longitude"), minLongitude, maxLongitude));
+    }
+
+    /**
+     * 장소명에 검색어가 포함된 약속 (대소문자 무시)
+     * 이유: 기존 findByLocationNameContainingIgnoreCase 조건과 동일한 검색을 Specification으로 제공하기 위해
+     */
+    public static Specification<Meeting> locationNameContains(String locationName) {
+        String pattern = "%" + locationName.toLowerCase() + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("locationName")), pattern);
+    }
+
+    /**
+     * 주어진 사용자 중 한 명이라도 참여한 약속
+     * 이유: 참여자 테이블과 조인하지 않고 서브쿼리로 판단하여 결과 행이 중복되지 않게 하기 위해
+     */
+    public static Specification<Meeting> hasAnyParticipant(Collection<Long> userIds) {
+        return (root, query, cb) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<MeetingParticipant> participant = subquery.from(MeetingParticipant.class);
+            subquery.select(participant.get("meetingId"))
+                    .where(participant.get("userId").in(userIds));
+            return root.get("id").in(subquery);
+        };
+    }
+
+    /**
+     * 주어진 사용자가 모두 참여한 약속
+     * 이유: 참여자 포스팅 색인이 준비되지 않았을 때 사용자별로 참여 행을 모아 모든 사용자가 있는 약속만 남기기 위해
+     */
+    public static Specification<Meeting> hasAllParticipants(Collection<Long> userIds) {
+        Set<Long> distinctUserIds = new HashSet<>(userIds);
+        return (root, query, cb) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<MeetingParticipant> participant = subquery.from(MeetingParticipant.class);
+            subquery.select(participant.get("meetingId"))
+                    .where(participant.get("userId").in(distinctUserIds))
+                    .groupBy(participant.get("meetingId"))
+                    .having(cb.equal(cb.countDistinct(participant.get("userId")), (long) distinctUserIds.size()));
+            return root.get("id").in(subquery);
+        };
+    }
+
+    /**
+     * 참여자 수가 주어진 범위 안에 있는 약속 (null인 경계는 제한 없음)
+     * 이유: 약속 행의 참여자 수 카운터(수락/대기/거부 합계)로 비교하여, 약속마다 참여자 행을 세는 상관 서브쿼리 없이 인원 조건을 적용하기 위해
+     */
+    public static Specification<Meeting> participantCountBetween(Integer min, Integer max) {
+        return (root, query, cb) -> {
+            Expression<Integer> participantCount = cb.sum(
+                    cb.sum(root.<Integer>get("acceptedCount"), root.<Integer>get("invitedCount")),
+                    root.<Integer>get("rejectedCount"));
+
+            if (min != null && max != null) {
+                return cb.between(participantCount, min, max);
+            }
+            if (min != null) {
+                return cb.greaterThanOrEqualTo(participantCount, min);
+            }
+            if (max != null) {
+                return cb.lessThanOrEqualTo(participantCount, max);
+            }
+            return cb.conjunction();
+        };
+    }
+}
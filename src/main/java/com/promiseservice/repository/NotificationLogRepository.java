@@ -1,6 +1,6 @@
 package com.promiseservice.repository;
 
-import com.promiseservice.entity.NotificationLog;
+import com.promiseservice.model.entity.NotificationLog;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
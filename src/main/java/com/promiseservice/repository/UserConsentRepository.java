@@ -1,8 +1,11 @@
 package com.promiseservice.repository;
 
 import com.promiseservice.model.entity.UserConsent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -19,7 +22,10 @@ public interface UserConsentRepository extends JpaRepository<UserConsent, Long>
     /**
      * 사용자 ID로 동의 정보 조회
      * 이유: 특정 사용자의 동의 상태를 확인하기 위해
+     * 알림 발송마다 호출되므로 쿼리 캐시로 결과 ID를 기억하고 엔티티는 2차 캐시에서 읽는다
+     * (user_consents 테이블이 변경되면 쿼리 캐시 결과는 자동으로 무효화됨)
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<UserConsent> findByUserId(Long userId);
 
     /**
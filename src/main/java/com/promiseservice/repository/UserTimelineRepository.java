@@ -0,0 +1,50 @@
+package com.promiseservice.repository;
+
+import com.promiseservice.model.entity.UserTimelineEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * UserTimelineEntry 엔티티를 위한 JPA Repository
+ * 이유: 히스토리 저장 시 참여자별 타임라인 행을 쓰고, 사용자 타임라인을 커서 기반으로 읽기 위해
+ */
+@Repository
+public interface UserTimelineRepository extends JpaRepository<UserTimelineEntry, Long> {
+
+    /**
+     * 사용자 타임라인 첫 페이지 조회 (최신 순)
+     * 이유: (user_id, history_id) 인덱스의 끝에서부터 필요한 개수만 읽기 위해
+     */
+    @Query("SELECT t FROM UserTimelineEntry t " +
+           "WHERE t.userId = :userId " +
+           "ORDER BY t.historyId DESC")
+    List<UserTimelineEntry> findLatest(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자 타임라인의 커서 이전 페이지 조회 (최신 순)
+     * 이유: OFFSET 없이 마지막으로 받은 히스토리 ID 바로 뒤부터 범위 스캔으로 이어 읽기 위해
+     */
+    @Query("SELECT t FROM UserTimelineEntry t " +
+           "WHERE t.userId = :userId AND t.historyId < :beforeHistoryId " +
+           "ORDER BY t.historyId DESC")
+    List<UserTimelineEntry> findBefore(@Param("userId") Long userId,
+                                       @Param("beforeHistoryId") Long beforeHistoryId,
+                                       Pageable pageable);
+
+    /**
+     * 여러 약속의 타임라인 항목 일괄 삭제
+     * 이유: 보관 테이블로 옮긴 약속의 활동을 타임라인에서도 한 번의 DELETE로 제거하기 위해
+     *
+     * @return 삭제된 항목 수
+     */
+    @Modifying
+    @Query("DELETE FROM UserTimelineEntry t WHERE t.meetingId IN :meetingIds")
+    int deleteByMeetingIdIn(@Param("meetingIds") Collection<Long> meetingIds);
+}
@@ -0,0 +1,43 @@
+package com.promiseservice.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 2차 캐시 영역별 제거 건수 집계기
+ * 이유: Hibernate 통계는 적중/실패/저장 건수만 제공하므로, 용량 초과로 밀려난 항목(eviction)과
+ * TTL이 지나 만료된 항목(expiry) 수를 캐시 구현의 이벤트로 따로 세어 영역 크기와 TTL 조정 근거로 쓰기 위해
+ */
+@Component
+public class CacheRegionEventCounter {
+
+    private final Map<String, LongAdder> evictions = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> expirations = new ConcurrentHashMap<>();
+
+    /**
+     * 용량 초과로 항목이 제거됨
+     */
+    public void recordEviction(String region) {
+        evictions.computeIfAbsent(region, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * TTL 만료로 항목이 제거됨
+     */
+    public void recordExpiration(String region) {
+        expirations.computeIfAbsent(region, key -> new LongAdder()).increment();
+    }
+
+    public long getEvictionCount(String region) {
+        LongAdder count = evictions.get(region);
+        return count != null ? count.sum() : 0;
+    }
+
+    public long getExpirationCount(String region) {
+        LongAdder count = expirations.get(region);
+        return count != null ? count.sum() : 0;
+    }
+}
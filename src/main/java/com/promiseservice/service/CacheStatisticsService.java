@@ -0,0 +1,73 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.CacheRegionStatsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 2차 캐시 통계 조회 서비스
+ * 이유: Hibernate 영역 통계(적중/실패/저장)와 캐시 구현에서 센 제거/만료 건수를 영역별로 합쳐 보여주기 위해
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheRegionEventCounter eventCounter;
+
+    /**
+     * 영역별 캐시 통계 조회
+     * 이유: 엔티티/컬렉션 영역과 쿼리 결과 영역의 적중률을 한 번에 확인하기 위해
+     * (hibernate.generate_statistics가 꺼져 있으면 적중/실패/저장 건수는 0)
+     *
+     * @return 영역별 통계 (2차 캐시가 꺼져 있으면 빈 목록)
+     */
+    public List<CacheRegionStatsResponse> getRegionStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // 엔티티/컬렉션 영역 이름에는 쿼리 결과 영역이 포함되지 않으므로 함께 조회
+        Set<String> regions = new LinkedHashSet<>(List.of(statistics.getSecondLevelCacheRegionNames()));
+        if (!regions.isEmpty()) {
+            regions.add(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+        }
+
+        List<CacheRegionStatsResponse> result = new ArrayList<>();
+        for (String region : regions) {
+            CacheRegionStatistics regionStatistics = findRegionStatistics(statistics, region);
+            if (regionStatistics == null) {
+                continue;
+            }
+            result.add(new CacheRegionStatsResponse(
+                    region,
+                    regionStatistics.getHitCount(),
+                    regionStatistics.getMissCount(),
+                    regionStatistics.getPutCount(),
+                    eventCounter.getEvictionCount(region),
+                    eventCounter.getExpirationCount(region),
+                    regionStatistics.getElementCountInMemory()));
+        }
+        return result;
+    }
+
+    private CacheRegionStatistics findRegionStatistics(Statistics statistics, String region) {
+        try {
+            return statistics.getCacheRegionStatistics(region);
+        } catch (IllegalArgumentException e) {
+            // 쿼리 캐시가 꺼져 있어 쿼리 결과 영역이 없는 경우
+            log.debug("캐시 영역 통계 없음 - 영역: {}", region);
+            return null;
+        }
+    }
+}
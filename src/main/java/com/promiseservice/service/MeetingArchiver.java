@@ -0,0 +1,144 @@
+package com.promiseservice.service;
+
+import com.promiseservice.event.MeetingChangedEvent;
+import com.promiseservice.event.MeetingChangedEvent.ChangeType;
+import com.promiseservice.model.entity.Meeting.MeetingStatus;
+import com.promiseservice.repository.MeetingArchiveRepository;
+import com.promiseservice.repository.MeetingHistoryRepository;
+import com.promiseservice.repository.MeetingParticipantRepository;
+import com.promiseservice.repository.MeetingRepository;
+import com.promiseservice.repository.UserTimelineRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 오래된 완료/취소 약속 보관(아카이브) 작업
+ * 이유: 최종 상태 약속이 운영 테이블에 계속 쌓이면 참여 가능 약속 조회, 상태별 조회, 방장/참여자 목록 조회가
+ * 쓰지 않는 행과 인덱스까지 읽게 되므로, 일정 기간이 지난 약속을 참여자/히스토리와 함께 보관 테이블로 옮기기 위해
+ *
+ * 배치마다 하나의 트랜잭션에서 테이블별 INSERT ... SELECT와 DELETE를 한 번씩만 실행한다.
+ * 커밋 후 ARCHIVED 이벤트를 발행해 검색 색인 등 파생 데이터에서도 제거한다.
+ */
+@Slf4j
+@Component
+public class MeetingArchiver {
+
+    private static final List<MeetingStatus> FINAL_STATUSES = Arrays.stream(MeetingStatus.values())
+            .filter(MeetingStatus::isFinal)
+            .toList();
+
+    private final MeetingRepository meetingRepository;
+    private final MeetingParticipantRepository participantRepository;
+    private final MeetingHistoryRepository historyRepository;
+    private final MeetingArchiveRepository archiveRepository;
+    private final UserTimelineRepository timelineRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // 최종 상태가 된 뒤 보관하기까지의 기간 (일)
+    @Value("${app.archive.min-age-days:90}")
+    private int minAgeDays = 90;
+
+    // 한 트랜잭션에서 옮길 약속 수
+    // 이유: 트랜잭션과 행 잠금을 짧게 유지해 운영 트래픽과 복제 지연에 주는 영향을 줄이기 위해
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize = 500;
+
+    // 한 번 실행에서 처리할 최대 배치 수
+    // 이유: 처음 켰을 때 쌓인 약속이 많아도 한 번의 실행이 너무 오래 걸리지 않고 다음 주기로 나눠지도록 하기 위해
+    @Value("${app.archive.max-batches-per-run:100}")
+    private int maxBatchesPerRun = 100;
+
+    public MeetingArchiver(MeetingRepository meetingRepository,
+                           MeetingParticipantRepository participantRepository,
+                           MeetingHistoryRepository historyRepository,
+                           MeetingArchiveRepository archiveRepository,
+                           UserTimelineRepository timelineRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager) {
+        this.meetingRepository = meetingRepository;
+        this.participantRepository = participantRepository;
+        this.historyRepository = historyRepository;
+        this.archiveRepository = archiveRepository;
+        this.timelineRepository = timelineRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 주기적으로 보관 대상 약속 이동
+     */
+    @Scheduled(initialDelayString = "${app.archive.initial-delay-ms:300000}",
+               fixedDelayString = "${app.archive.interval-ms:3600000}")
+    public void scheduledArchive() {
+        try {
+            archive();
+        } catch (Exception e) {
+            log.error("약속 보관 작업 실패 - 에러: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 대상이 없어지거나 배치 한도에 이를 때까지 배치 단위로 이동
+     *
+     * @return 보관 테이블로 옮긴 약속 수
+     */
+    public int archive() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(minAgeDays);
+        int archived = 0;
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            archived += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            log.info("약속 보관 완료 - 이동: {}건, 기준 시각: {}, 소요 시간: {}ms",
+                    archived, cutoff, System.currentTimeMillis() - startedAt);
+        }
+        return archived;
+    }
+
+    /**
+     * 배치 하나를 보관 테이블로 복사한 뒤 운영 테이블에서 삭제 (트랜잭션 안에서 실행)
+     * 이유: 복사와 삭제가 같은 트랜잭션이므로 중간에 실패해도 약속이 사라지거나 두 곳에 남지 않음
+     */
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> meetingIds = meetingRepository.findArchivableIds(FINAL_STATUSES, cutoff, PageRequest.of(0, batchSize));
+        if (meetingIds.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime archivedAt = LocalDateTime.now();
+        int meetings = archiveRepository.copyMeetings(meetingIds, archivedAt);
+        int participants = archiveRepository.copyParticipants(meetingIds, archivedAt);
+        int histories = archiveRepository.copyHistories(meetingIds, archivedAt);
+
+        participantRepository.deleteByMeetingIdIn(meetingIds);
+        historyRepository.deleteByMeetingIdIn(meetingIds);
+        timelineRepository.deleteByMeetingIdIn(meetingIds);
+        meetingRepository.deleteAllByIdIn(meetingIds);
+
+        log.debug("약속 보관 배치 - 약속: {}건, 참여자: {}건, 히스토리: {}건", meetings, participants, histories);
+        meetingIds.forEach(meetingId ->
+                eventPublisher.publishEvent(new MeetingChangedEvent(meetingId, ChangeType.ARCHIVED)));
+        return meetingIds.size();
+    }
+}
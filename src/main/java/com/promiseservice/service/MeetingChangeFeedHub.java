@@ -0,0 +1,337 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.MeetingChangeFeedItem;
+import com.promiseservice.event.MeetingChangedEvent;
+import com.promiseservice.event.MeetingHistoryWrittenEvent;
+import com.promiseservice.repository.MeetingHistoryRepository;
+import com.promiseservice.repository.MeetingRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 약속 변경 피드 SSE 허브
+ * 이유: 클라이언트가 약속/참여자 조회를 반복 호출(폴링)하지 않고 연결 하나로 변경을 받도록,
+ * 커밋된 히스토리를 약속별 구독자에게 나눠 보내고 재개 토큰 이후 변경은 DB에서 다시 보내기 위해
+ *
+ * 구독자마다 크기가 제한된 대기열을 두고 공용 전송 스레드가 비운다.
+ * 느린 구독자의 대기열이 가득 차면 쌓인 항목을 버리고 resync 이벤트를 보낸 뒤 연결을 끊어,
+ * 한 구독자 때문에 메모리가 늘거나 다른 구독자 전송이 밀리지 않도록 한다.
+ * 클라이언트는 마지막으로 받은 ID(Last-Event-ID)로 다시 연결하여 빠진 변경을 이어 받는다.
+ *
+ * 재개 토큰은 히스토리 ID이며, 히스토리 ID는 시퀀스 블록(allocationSize 50)에서 할당되므로 커밋 순서를 보장하지 않는다.
+ * 인스턴스가 여러 대이면 인스턴스마다 다른 블록을 쓰고, 한 인스턴스 안에서도 동시 트랜잭션은 ID 순서와 다르게 커밋될 수 있어,
+ * 더 큰 ID를 이미 받은 뒤 커밋된 작은 ID의 변경은 재개 시 다시 보내지 않는다.
+ * 따라서 재개는 단일 인스턴스에서 같은 약속의 변경이 겹치지 않을 때만 빠짐없이 이어지는 최선 노력 방식이며,
+ * 정확한 상태가 필요한 클라이언트는 재연결 후 약속을 다시 조회해야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingChangeFeedHub {
+
+    static final String CHANGE_EVENT = "meeting-change";
+    static final String RESYNC_EVENT = "resync";
+    static final String REMOVED_EVENT = "removed";
+
+    private final MeetingRepository meetingRepository;
+    private final MeetingHistoryRepository historyRepository;
+
+    // 구독자별 전송 대기열 크기 (가득 차면 resync 후 연결 종료)
+    @Value("${app.change-feed.subscriber-buffer:256}")
+    private int subscriberBuffer = 256;
+
+    // 재개 시 DB에서 다시 보낼 최대 변경 수 (넘으면 resync 후 연결 종료)
+    @Value("${app.change-feed.replay-limit:500}")
+    private int replayLimit = 500;
+
+    // SSE 연결 유지 시간 (만료되면 클라이언트가 Last-Event-ID로 다시 연결)
+    @Value("${app.change-feed.timeout-ms:1800000}")
+    private long timeoutMs = 1800000;
+
+    // 구독자 대기열을 비우는 전송 스레드 수
+    @Value("${app.change-feed.sender-threads:4}")
+    private int senderThreads = 4;
+
+    // 약속 ID → 구독자
+    private final Map<Long, Set<Subscriber>> subscribersByMeeting = new ConcurrentHashMap<>();
+
+    private final AtomicLong resyncCount = new AtomicLong();
+
+    private ExecutorService sender;
+
+    /**
+     * 전송 스레드 풀 생성
+     * 이유: 스레드 수를 설정값으로 제한하기 위해 설정 주입 이후에 생성
+     */
+    @PostConstruct
+    public void initSender() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "change-feed-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 전송 스레드 풀 종료 및 구독 연결 정리
+     */
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdown();
+        subscribersByMeeting.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribersByMeeting.clear();
+    }
+
+    /**
+     * 약속 변경 피드 구독
+     *
+     * @param meetingId 약속 ID
+     * @param lastEventId 마지막으로 받은 변경 ID (없으면 지금 이후 변경만 전송)
+     * @return SSE 연결
+     */
+    public SseEmitter subscribe(Long meetingId, Long lastEventId) {
+        if (!meetingRepository.existsById(meetingId)) {
+            throw new EntityNotFoundException("약속을 찾을 수 없습니다: " + meetingId);
+        }
+        return subscribe(meetingId, lastEventId, new SseEmitter(timeoutMs));
+    }
+
+    SseEmitter subscribe(Long meetingId, Long lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(meetingId, emitter, new ArrayBlockingQueue<>(subscriberBuffer));
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(e -> unregister(subscriber));
+
+        // 재생 조회보다 먼저 등록: 조회 도중 커밋된 변경은 대기열에 쌓였다가 재생 이후에 전송됨
+        subscribersByMeeting.computeIfAbsent(meetingId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        if (lastEventId != null && !replay(subscriber, lastEventId)) {
+            return emitter;
+        }
+        subscriber.ready = true;
+        schedule(subscriber);
+
+        log.debug("변경 피드 구독 - 약속 ID: {}, 재개 토큰: {}", meetingId, lastEventId);
+        return emitter;
+    }
+
+    /**
+     * 커밋된 히스토리를 구독자 대기열에 전달
+     *
+     * @param event 히스토리 저장 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onHistoryWritten(MeetingHistoryWrittenEvent event) {
+        for (MeetingChangeFeedItem item : event.items()) {
+            Set<Subscriber> subscribers = subscribersByMeeting.get(item.meetingId());
+            if (subscribers == null) {
+                continue;
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.pending.offer(item)) {
+                    requestResync(subscriber);
+                }
+                schedule(subscriber);
+            }
+        }
+    }
+
+    /**
+     * 삭제되거나 보관된 약속의 구독 종료
+     * 이유: 더 이상 변경이 생기지 않는 약속의 연결을 removed 이벤트로 알리고 닫기 위해
+     *
+     * @param event 약속 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        if (!event.changeType().isRemoval()) {
+            return;
+        }
+        Set<Subscriber> subscribers = subscribersByMeeting.get(event.meetingId());
+        if (subscribers != null) {
+            subscribers.forEach(subscriber -> {
+                subscriber.removed = true;
+                schedule(subscriber);
+            });
+        }
+    }
+
+    /**
+     * 연결 유지용 주석 전송
+     * 이유: 변경이 없는 동안 프록시나 로드밸런서가 유휴 연결을 끊지 않도록 하기 위해
+     */
+    @Scheduled(fixedDelayString = "${app.change-feed.heartbeat-ms:15000}")
+    public void sendHeartbeats() {
+        subscribersByMeeting.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+            if (!subscriber.ready) {
+                return;
+            }
+            try {
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                unregister(subscriber);
+            }
+        }));
+    }
+
+    /**
+     * 현재 구독자 수 조회
+     */
+    public int getSubscriberCount() {
+        return subscribersByMeeting.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * 느린 구독자나 긴 재생 구간 때문에 resync로 끊은 횟수 조회
+     */
+    public long getResyncCount() {
+        return resyncCount.get();
+    }
+
+    /**
+     * 재개 토큰 이후의 변경을 DB에서 읽어 전송
+     *
+     * @return 실시간 전송을 이어갈 수 있으면 true, resync로 연결을 끊었으면 false
+     */
+    private boolean replay(Subscriber subscriber, Long lastEventId) {
+        List<MeetingChangeFeedItem> missed = historyRepository
+                .findByMeetingIdAndIdAfter(subscriber.meetingId, lastEventId, PageRequest.of(0, replayLimit + 1))
+                .stream()
+                .map(history -> MeetingChangeFeedItem.from(subscriber.meetingId, history))
+                .toList();
+        try {
+            if (missed.size() > replayLimit) {
+                resync(subscriber);
+                return false;
+            }
+            long replayedUpTo = lastEventId;
+            for (MeetingChangeFeedItem item : missed) {
+                send(subscriber, item);
+                replayedUpTo = Math.max(replayedUpTo, item.id());
+            }
+            subscriber.replayedUpTo = replayedUpTo;
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            unregister(subscriber);
+            return false;
+        }
+    }
+
+    /**
+     * 대기열이 가득 찬 구독자를 resync 대상으로 표시
+     */
+    private void requestResync(Subscriber subscriber) {
+        subscriber.resyncRequired = true;
+        subscriber.pending.clear();
+    }
+
+    /**
+     * 구독자 대기열 비우기 예약 (구독자당 한 번에 하나의 전송 작업만 실행)
+     */
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.ready && !sender.isShutdown() && subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            MeetingChangeFeedItem item;
+            while (!subscriber.resyncRequired && (item = subscriber.pending.poll()) != null) {
+                // 재생으로 이미 보낸 변경은 건너뜀
+                if (item.id() > subscriber.replayedUpTo) {
+                    send(subscriber, item);
+                }
+            }
+            if (subscriber.resyncRequired) {
+                resync(subscriber);
+                return;
+            }
+            if (subscriber.removed) {
+                subscriber.emitter.send(SseEmitter.event().name(REMOVED_EVENT).data(subscriber.meetingId));
+                close(subscriber);
+                return;
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("변경 피드 전송 실패 - 약속 ID: {}, 에러: {}", subscriber.meetingId, e.getMessage());
+            unregister(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        if (!subscriber.pending.isEmpty() || subscriber.resyncRequired || subscriber.removed) {
+            schedule(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, MeetingChangeFeedItem item) throws IOException {
+        subscriber.emitter.send(SseEmitter.event()
+                .id(String.valueOf(item.id()))
+                .name(CHANGE_EVENT)
+                .data(item));
+    }
+
+    private void resync(Subscriber subscriber) throws IOException {
+        resyncCount.incrementAndGet();
+        log.info("변경 피드 resync - 약속 ID: {}", subscriber.meetingId);
+        subscriber.emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(subscriber.meetingId));
+        close(subscriber);
+    }
+
+    private void close(Subscriber subscriber) {
+        unregister(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscribersByMeeting.computeIfPresent(subscriber.meetingId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * 구독자 연결과 전송 대기열
+     */
+    private static final class Subscriber {
+        private final Long meetingId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<MeetingChangeFeedItem> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // 재생을 마치기 전에는 대기열만 채우고 전송하지 않음
+        private volatile boolean ready;
+        private volatile boolean resyncRequired;
+        private volatile boolean removed;
+        private volatile long replayedUpTo;
+
+        private Subscriber(Long meetingId, SseEmitter emitter, BlockingQueue<MeetingChangeFeedItem> pending) {
+            this.meetingId = meetingId;
+            this.emitter = emitter;
+            this.pending = pending;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.promiseservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.promiseservice.dto.MeetingExportRow;
+import com.promiseservice.dto.MeetingSearchRequest;
+import com.promiseservice.model.entity.Meeting;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 약속 검색 결과 내보내기 서비스 (NDJSON 스트리밍)
+ * 이유: 대량의 검색 결과를 페이지 API를 수천 번 호출해 가져가지 않도록,
+ * 검색 조건에 일치하는 약속을 한 번의 정방향 커서 조회로 읽으면서 한 줄씩 바로 응답에 기록하기 위해
+ *
+ * 내보내기는 전용 스레드에서 실행되어 ResponseBodyEmitter로 기록되며, 연결 유지 시간은 emitter마다 지정하므로
+ * 다른 비동기 엔드포인트의 요청 타임아웃에는 영향을 주지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MeetingExportService {
+
+    // 줄바꿈 구분자 (NDJSON은 한 줄에 JSON 객체 하나)
+    private static final byte NEWLINE = '\n';
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final MeetingSearchService meetingSearchService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    // JDBC에서 한 번에 가져올 행 수
+    // 이유: 결과 전체를 메모리에 올리지 않고 이 크기만큼씩 나누어 읽기 위해
+    // (MySQL은 연결 URL에 useCursorFetch=true가 있어야 서버 커서로 나누어 읽음)
+    @Value("${app.search.export.fetch-size:500}")
+    private int fetchSize = 500;
+
+    // 출력 버퍼를 비우는 주기 (행 수)
+    // 이유: 클라이언트가 내보내기 도중에도 데이터를 받기 시작할 수 있도록 하기 위해
+    @Value("${app.search.export.flush-interval:1000}")
+    private int flushInterval = 1000;
+
+    // 내보내기 연결 유지 시간
+    // 이유: 대량 내보내기가 기본 비동기 요청 타임아웃(30초)에 끊기지 않도록 이 응답에만 긴 시간을 지정하기 위해 (10분)
+    @Value("${app.search.export.timeout-ms:600000}")
+    private long timeoutMs = 600000;
+
+    // 동시에 실행할 내보내기 수 (넘는 요청은 대기)
+    // 이유: 내보내기마다 커넥션 하나를 오래 점유하므로 커넥션 풀이 내보내기로 고갈되지 않도록 제한하기 위해
+    @Value("${app.search.export.threads:2}")
+    private int exportThreads = 2;
+
+    private ExecutorService exporter;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    /**
+     * 내보내기 스레드 풀과 읽기 전용 트랜잭션 템플릿 생성
+     * 이유: 스레드 수를 설정값으로 제한하기 위해 설정 주입 이후에 생성
+     */
+    @PostConstruct
+    public void initExporter() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        exporter = Executors.newFixedThreadPool(exportThreads, runnable -> {
+            Thread thread = new Thread(runnable, "meeting-export-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 내보내기 스레드 풀 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        exporter.shutdownNow();
+    }
+
+    /**
+     * 검색 조건에 일치하는 약속 내보내기 시작
+     * 이유: 요청 스레드를 붙잡지 않고 내보내기 스레드에서 기록하며, 연결 유지 시간을 이 응답의 emitter에만 지정하기 위해
+     *
+     * @param request 검색 요청 조건
+     * @return NDJSON 청크를 전송하는 emitter (내보내기가 끝나면 완료)
+     */
+    public ResponseBodyEmitter startExport(MeetingSearchRequest request) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMs);
+        emitter.onTimeout(() -> log.warn("약속 내보내기 시간 초과 - 제한: {}ms, 검색 조건: {}", timeoutMs, request));
+        exporter.execute(() -> runExport(request, emitter));
+        return emitter;
+    }
+
+    /**
+     * 읽기 전용 트랜잭션 안에서 내보내기를 실행하고 emitter를 완료
+     * 이유: 클라이언트 연결이 끊기거나 시간이 초과되면 다음 전송에서 예외가 나므로, 그때 조회를 멈추고 커넥션을 돌려주기 위해
+     */
+    private void runExport(MeetingSearchRequest request, ResponseBodyEmitter emitter) {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try {
+                    exportMeetings(request, new EmitterOutputStream(emitter));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            emitter.complete();
+        } catch (RuntimeException e) {
+            log.warn("약속 내보내기 중단 - 에러: {}", e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * 검색 조건에 일치하는 약속을 NDJSON으로 기록
+     * 이유: 엔티티 대신 컬럼 프로젝션을 읽어 영속성 컨텍스트에 행이 쌓이지 않도록 하기 위해
+     *
+     * 스트림을 여는 동안 커넥션이 유지되어야 하므로 읽기 전용 트랜잭션 안에서 호출해야 한다.
+     * 페이지/정렬 조건은 무시하고 약속 ID 오름차순으로 전부 내보내며, flushInterval 행마다 출력 스트림을 비운다.
+     *
+     * @param request 검색 요청 조건
+     * @param outputStream 응답 출력 스트림
+     * @return 기록한 약속 수
+     */
+    long exportMeetings(MeetingSearchRequest request, OutputStream outputStream) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        long written = 0;
+
+        OutputStream out = new BufferedOutputStream(outputStream);
+        try (Stream<MeetingExportRow> rows = streamRows(meetingSearchService.toSpecification(request))) {
+            Iterator<MeetingExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                out.write(objectMapper.writeValueAsBytes(iterator.next()));
+                out.write(NEWLINE);
+                if (++written % flushInterval == 0) {
+                    out.flush();
+                }
+            }
+        }
+        out.flush();
+
+        log.info("약속 내보내기 완료 - 약속 수: {}, 소요 시간: {}ms", written, System.currentTimeMillis() - startedAt);
+        return written;
+    }
+
+    /**
+     * 검색 조건에 일치하는 약속 컬럼을 정방향 스트림으로 조회
+     * 이유: getResultStream은 정방향(FORWARD_ONLY) 커서로 행을 읽으므로, fetch size 힌트와 함께 사용하면
+     * 결과 건수와 관계없이 fetch size 만큼의 행만 메모리에 유지되기 때문
+     */
+    private Stream<MeetingExportRow> streamRows(Specification<Meeting> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<MeetingExportRow> query = cb.createQuery(MeetingExportRow.class);
+        Root<Meeting> root = query.from(Meeting.class);
+
+        query.select(cb.construct(MeetingExportRow.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("meetingTime"),
+                root.get("maxParticipants"),
+                root.get("status"),
+                root.get("locationName"),
+                root.get("locationAddress"),
+                root.get("latitude"),
+                root.get("longitude"),
+                root.get("hostId"),
+                root.get("createdAt"),
+                root.get("updatedAt")));
+
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    /**
+     * flush 때마다 모은 바이트를 emitter 청크 하나로 전송하는 출력 스트림
+     * 이유: 행마다 전송(및 소켓 flush)하지 않고 내보내기의 flushInterval 단위로 묶어 보내기 위해
+     */
+    private static class EmitterOutputStream extends ByteArrayOutputStream {
+
+        private final ResponseBodyEmitter emitter;
+
+        private EmitterOutputStream(ResponseBodyEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (size() > 0) {
+                emitter.send(toByteArray(), NDJSON);
+                reset();
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.MeetingSearchResponse;
+import com.promiseservice.model.entity.Meeting;
+import com.promiseservice.model.entity.Meeting.MeetingStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.query.criteria.JpaExpression;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 검색 결과 분류별 건수(패싯) 계산기
+ * 이유: (상태, 날짜, 장소)를 한꺼번에 GROUP BY 하면 넓은 검색에서 그룹 수가 약속 수에 가까워지므로,
+ * 검색 조건을 그대로 적용한 분류별 GROUP BY 쿼리로 나눠 각 쿼리의 결과를 해당 분류의 값 개수만큼으로 제한하고
+ * 장소는 건수 상위 항목만 데이터베이스에서 잘라 가져오기 위해
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingFacetCounter {
+
+    private final EntityManager entityManager;
+
+    // 장소 패싯에 포함할 최대 장소 수 (건수 상위)
+    @Value("${app.search.facets.location-limit:10}")
+    private int locationLimit = 10;
+
+    /**
+     * 검색 조건에 일치하는 약속의 분류별 건수 계산
+     *
+     * @param specification 검색 조건 (페이지와 무관하게 전체 결과 기준)
+     * @return 상태/날짜/장소별 건수
+     */
+    public MeetingSearchResponse.Facets count(Specification<Meeting> specification) {
+        // 상태는 건수가 0인 상태도 칩으로 표시할 수 있도록 모든 값을 0으로 시작
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (MeetingStatus value : MeetingStatus.values()) {
+            byStatus.put(value.name(), 0L);
+        }
+        countBy(specification, root -> root.<MeetingStatus>get("status"), false, null)
+                .forEach((status, count) -> byStatus.put(status.name(), count));
+
+        Map<String, Long> byDay = new LinkedHashMap<>();
+        countBy(specification,
+                root -> ((JpaExpression<LocalDateTime>) root.<LocalDateTime>get("meetingTime")).cast(LocalDate.class),
+                false, null)
+                .forEach((day, count) -> byDay.put(day.toString(), count));
+
+        Map<String, Long> byLocation = countBy(specification, root -> root.<String>get("locationName"), true, locationLimit);
+
+        MeetingSearchResponse.Facets facets = new MeetingSearchResponse.Facets();
+        facets.setStatus(byStatus);
+        facets.setDay(byDay);
+        facets.setLocation(byLocation);
+
+        log.debug("검색 패싯 집계 완료 - 날짜: {}개, 장소: {}개", byDay.size(), byLocation.size());
+        return facets;
+    }
+
+    /**
+     * 검색 조건을 적용한 단일 분류 GROUP BY 집계
+     *
+     * @param specification 검색 조건
+     * @param key 분류 기준 식
+     * @param topByCount true면 건수 내림차순(같으면 값 오름차순), false면 값 오름차순
+     * @param limit 가져올 최대 그룹 수 (null이면 전체)
+     * @return 분류 값별 건수 (null 값 제외, 정렬 순서 유지)
+     */
+    private <K> Map<K, Long> countBy(Specification<Meeting> specification,
+                                     Function<Root<Meeting>, Expression<K>> key,
+                                     boolean topByCount, Integer limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Meeting> root = query.from(Meeting.class);
+
+        Expression<K> value = key.apply(root);
+        Expression<Long> count = cb.count(root);
+        query.multiselect(value, count);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isNotNull(value));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        query.groupBy(value);
+        query.orderBy(topByCount
+                ? List.of(cb.desc(count), cb.asc(value))
+                : List.of(cb.asc(value)));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (limit != null) {
+            typedQuery.setMaxResults(limit);
+        }
+
+        Map<K, Long> counts = new LinkedHashMap<>();
+        for (Tuple group : typedQuery.getResultList()) {
+            counts.put(group.get(value), group.get(count));
+        }
+        return counts;
+    }
+}
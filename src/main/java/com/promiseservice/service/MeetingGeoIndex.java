@@ -0,0 +1,395 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.MeetingGeoPoint;
+import com.promiseservice.event.MeetingChangedEvent;
+import com.promiseservice.event.MeetingChangedEvent.ChangeType;
+import com.promiseservice.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 약속 장소 좌표에 대한 인메모리 균등 격자 색인
+ * 이유: 근처 약속을 찾기 위해 모든 약속의 좌표를 읽고 거리를 계산하지 않고,
+ * 검색 범위와 겹치는 격자 칸에 속한 약속만 후보로 꺼내 거리를 계산하기 위해
+ *
+ * 위도/경도를 cellSizeDegrees 간격으로 나눈 칸 번호를 키로 사용한다. (서비스 지역 특성상 날짜 변경선은 고려하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingGeoIndex {
+
+    // 지구 평균 반지름 (km)
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    // 위도 1도에 해당하는 거리 (km)
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private final MeetingRepository meetingRepository;
+
+    // 격자 한 칸의 크기 (도 단위, 0.01도 ≈ 위도 방향 1.1km)
+    // 이유: 일반적인 근처 검색 반경(수 km)에서 몇십 개 칸만 확인하도록 하기 위해
+    @Value("${app.search.geo-index.cell-size-degrees:0.01}")
+    private double cellSizeDegrees = 0.01;
+
+    // 시작 시 색인 구축에 사용할 슬라이스 크기
+    @Value("${app.search.geo-index.rebuild-batch-size:1000}")
+    private int rebuildBatchSize = 1000;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 격자 칸 키 → 해당 칸에 있는 약속 ID 집합
+    private Map<Long, Set<Long>> cells = new HashMap<>();
+
+    // 약속 ID → 좌표 (거리 계산과 이전 칸 정리에 사용)
+    private Map<Long, Point> points = new HashMap<>();
+
+    private final AtomicBoolean ready = new AtomicBoolean(false);
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    // 재구축 도중 변경된 약속 ID
+    // 이유: 재구축 중 들어온 변경은 교체될 기존 색인에만 반영되므로, 교체 후 다시 반영하기 위해
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 애플리케이션 시작 시 위치 색인 구축
+     * 이유: 메모리 색인은 재시작 시 사라지므로 위도/경도 컬럼을 기준으로 다시 만들기 위해
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 약속 변경 이벤트 처리
+     * 이유: 좌표가 바뀔 수 있는 변경(생성, 수정)과 삭제가 커밋된 뒤 해당 약속의 격자 칸만 갱신하기 위해
+     *
+     * @param event 약속 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        try {
+            ChangeType changeType = event.changeType();
+            if (changeType.isRemoval()) {
+                remove(event.meetingId());
+            } else if (changeType == ChangeType.CREATED || changeType == ChangeType.UPDATED) {
+                refresh(event.meetingId());
+            } else {
+                return;
+            }
+            if (rebuilding.get()) {
+                changedDuringRebuild.add(event.meetingId());
+            }
+        } catch (Exception e) {
+            log.error("위치 색인 갱신 실패 - 약속 ID: {}, 에러: {}", event.meetingId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 데이터베이스의 위도/경도로 색인 전체를 다시 구축
+     * 이유: 새 색인을 별도로 만든 뒤 한 번에 교체하여 구축 중에도 기존 색인으로 검색을 계속 처리하기 위해
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("위치 색인 재구축이 이미 진행 중입니다");
+            return;
+        }
+
+        try {
+            Map<Long, Set<Long>> newCells = new HashMap<>();
+            Map<Long, Point> newPoints = new HashMap<>();
+
+            Pageable pageable = PageRequest.of(0, rebuildBatchSize, Sort.by("id"));
+            Slice<MeetingGeoPoint> slice;
+            do {
+                slice = meetingRepository.findGeoPointByLatitudeIsNotNullAndLongitudeIsNotNull(pageable);
+                for (MeetingGeoPoint geoPoint : slice) {
+                    Point point = new Point(geoPoint.getLatitude(), geoPoint.getLongitude());
+                    newPoints.put(geoPoint.getId(), point);
+                    newCells.computeIfAbsent(cellKey(point.latitude(), point.longitude()), key -> new HashSet<>())
+                            .add(geoPoint.getId());
+                }
+                pageable = slice.nextPageable();
+            } while (slice.hasNext());
+
+            lock.writeLock().lock();
+            try {
+                cells = newCells;
+                points = newPoints;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready.set(true);
+
+            log.info("위치 색인 구축 완료 - 약속 수: {}, 격자 칸 수: {}", newPoints.size(), newCells.size());
+        } finally {
+            rebuilding.set(false);
+        }
+
+        // 재구축 중 변경된 약속을 새 색인에 다시 반영 (삭제된 약속은 조회되지 않으므로 제거됨)
+        Set<Long> changedIds = new HashSet<>(changedDuringRebuild);
+        changedDuringRebuild.removeAll(changedIds);
+        changedIds.forEach(this::refresh);
+    }
+
+    /**
+     * 특정 약속의 좌표를 데이터베이스에서 다시 읽어 색인 갱신
+     *
+     * @param meetingId 약속 ID
+     */
+    public void refresh(Long meetingId) {
+        meetingRepository.findGeoPointById(meetingId)
+                .filter(geoPoint -> geoPoint.getLatitude() != null && geoPoint.getLongitude() != null)
+                .ifPresentOrElse(
+                        geoPoint -> put(meetingId, geoPoint.getLatitude(), geoPoint.getLongitude()),
+                        () -> remove(meetingId));
+    }
+
+    /**
+     * 약속 좌표 색인 (이미 있으면 이전 칸에서 옮김)
+     *
+     * @param meetingId 약속 ID
+     * @param latitude 위도
+     * @param longitude 경도
+     */
+    public void put(Long meetingId, double latitude, double longitude) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(meetingId);
+            points.put(meetingId, new Point(latitude, longitude));
+            cells.computeIfAbsent(cellKey(latitude, longitude), key -> new HashSet<>()).add(meetingId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 약속을 색인에서 제거
+     *
+     * @param meetingId 약속 ID
+     */
+    public void remove(Long meetingId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(meetingId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 반경 안의 약속 검색
+     * 이유: 반경을 감싸는 경계 상자의 칸만 후보로 꺼낸 뒤 실제 거리로 걸러 가까운 순으로 돌려주기 위해
+     *
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm 검색 반경 (km)
+     * @param limit 최대 개수
+     * @return 거리 오름차순 검색 결과 (같으면 ID 내림차순)
+     */
+    public List<GeoHit> withinRadius(double latitude, double longitude, double radiusKm, int limit) {
+        BoundingBox box = BoundingBox.around(latitude, longitude, radiusKm);
+
+        lock.readLock().lock();
+        try {
+            List<GeoHit> hits = new ArrayList<>();
+            for (Long meetingId : candidatesIn(box)) {
+                Point point = points.get(meetingId);
+                double distance = distanceKm(latitude, longitude, point.latitude(), point.longitude());
+                if (distance <= radiusKm) {
+                    hits.add(new GeoHit(meetingId, distance));
+                }
+            }
+            return hits.stream()
+                    .sorted(Comparator.comparingDouble(GeoHit::distanceKm)
+                            .thenComparing(Comparator.comparingLong(GeoHit::meetingId).reversed()))
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 경계 상자 안의 약속 검색
+     * 이유: 지도 화면에 보이는 영역의 약속을 겹치는 칸만 확인하여 찾기 위해
+     *
+     * @param box 검색 영역
+     * @param limit 최대 개수
+     * @return 최신 약속(ID 큰 순) 우선 약속 ID 목록
+     */
+    public List<Long> withinBox(BoundingBox box, int limit) {
+        lock.readLock().lock();
+        try {
+            return candidatesIn(box).stream()
+                    .filter(meetingId -> {
+                        Point point = points.get(meetingId);
+                        return box.contains(point.latitude(), point.longitude());
+                    })
+                    .sorted(Comparator.reverseOrder())
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 준비 여부
+     */
+    public boolean isReady() {
+        return ready.get();
+    }
+
+    /**
+     * 색인된 약속 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return points.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 두 좌표 사이의 거리 계산 (하버사인 공식)
+     *
+     * @return 거리 (km)
+     */
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double deltaLatitude = Math.toRadians(latitude2 - latitude1);
+        double deltaLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(deltaLatitude / 2) * Math.sin(deltaLatitude / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(deltaLongitude / 2) * Math.sin(deltaLongitude / 2);
+        return EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    /**
+     * 경계 상자와 겹치는 칸의 약속 ID 수집 (읽기 잠금 보유 상태에서 호출)
+     * 이유: 확인할 칸 수가 색인된 약속 수보다 많으면(아주 넓은 영역) 칸을 순회하는 대신 전체 약속을 훑는 편이 싸기 때문
+     */
+    private Collection<Long> candidatesIn(BoundingBox box) {
+        long minRow = row(box.minLatitude());
+        long maxRow = row(box.maxLatitude());
+        long minColumn = column(box.minLongitude());
+        long maxColumn = column(box.maxLongitude());
+
+        long cellCount = (maxRow - minRow + 1) * (maxColumn - minColumn + 1);
+        if (cellCount > points.size()) {
+            return points.keySet();
+        }
+
+        List<Long> candidates = new ArrayList<>();
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long column = minColumn; column <= maxColumn; column++) {
+                Set<Long> cell = cells.get(cellKey(row, column));
+                if (cell != null) {
+                    candidates.addAll(cell);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * 약속을 기존 칸에서 제거 (쓰기 잠금 보유 상태에서 호출)
+     */
+    private void removeLocked(Long meetingId) {
+        Point previous = points.remove(meetingId);
+        if (previous == null) {
+            return;
+        }
+
+        long key = cellKey(previous.latitude(), previous.longitude());
+        Set<Long> cell = cells.get(key);
+        if (cell != null) {
+            cell.remove(meetingId);
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return cellKey(row(latitude), column(longitude));
+    }
+
+    private long cellKey(long row, long column) {
+        return (row << 32) | column;
+    }
+
+    private long row(double latitude) {
+        return (long) Math.floor((latitude + 90) / cellSizeDegrees);
+    }
+
+    private long column(double longitude) {
+        return (long) Math.floor((longitude + 180) / cellSizeDegrees);
+    }
+
+    /**
+     * 위도/경도 경계 상자
+     */
+    public record BoundingBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+
+        /**
+         * 중심 좌표와 반경을 감싸는 경계 상자 생성
+         * 이유: 경도 1도의 거리는 위도가 높을수록 짧아지므로 위도에 맞춰 경도 폭을 넓히기 위해
+         */
+        public static BoundingBox around(double latitude, double longitude, double radiusKm) {
+            double latitudeDelta = radiusKm / KM_PER_DEGREE;
+            double cosine = Math.cos(Math.toRadians(latitude));
+            double longitudeDelta = cosine < 1e-6 ? 180 : radiusKm / (KM_PER_DEGREE * cosine);
+
+            return new BoundingBox(
+                    Math.max(-90, latitude - latitudeDelta),
+                    Math.min(90, latitude + latitudeDelta),
+                    Math.max(-180, longitude - longitudeDelta),
+                    Math.min(180, longitude + longitudeDelta));
+        }
+
+        public boolean contains(double latitude, double longitude) {
+            return latitude >= minLatitude && latitude <= maxLatitude
+                    && longitude >= minLongitude && longitude <= maxLongitude;
+        }
+    }
+
+    /**
+     * 반경 검색 결과 항목
+     */
+    public record GeoHit(long meetingId, double distanceKm) {
+    }
+
+    /**
+     * 색인된 좌표
+     */
+    private record Point(double latitude, double longitude) {
+    }
+}
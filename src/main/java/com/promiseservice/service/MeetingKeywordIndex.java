@@ -0,0 +1,390 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.MeetingKeywordText;
+import com.promiseservice.event.MeetingChangedEvent;
+import com.promiseservice.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 약속 제목/설명/장소명에 대한 인메모리 n-gram 역색인
+ * 이유: LIKE '%키워드%' 검색은 인덱스를 쓰지 못해 매 검색마다 meeting 테이블 전체를 스캔하므로,
+ * 유니그램/바이그램 포스팅 목록의 교집합으로 후보를 좁힌 뒤 순위가 매겨진 약속 ID를 돌려주기 위해
+ *
+ * 한글은 형태소 분석 없이도 음절 단위 바이그램이 부분 일치 검색에 잘 맞으므로 NFC 정규화 후 음절(코드포인트) 단위로 자른다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingKeywordIndex {
+
+    // 필드별 가중치 (제목 > 장소명 > 설명)
+    // 이유: 제목에서 일치한 약속이 사용자가 찾는 약속일 가능성이 가장 높기 때문
+    private static final int TITLE_WEIGHT = 3;
+    private static final int LOCATION_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final MeetingRepository meetingRepository;
+
+    // 시작 시 색인 구축에 사용할 슬라이스 크기
+    @Value("${app.search.keyword-index.rebuild-batch-size:500}")
+    private int rebuildBatchSize = 500;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // n-gram → 해당 n-gram을 포함한 약속 ID 집합
+    private Map<String, Set<Long>> postings = new HashMap<>();
+
+    // 약속 ID → 색인된 문서 (정규화된 필드와 n-gram 목록, 삭제/갱신 시 포스팅 정리에 사용)
+    private Map<Long, IndexedMeeting> documents = new HashMap<>();
+
+    private final AtomicBoolean ready = new AtomicBoolean(false);
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    // 재구축 도중 변경된 약속 ID
+    // 이유: 재구축 중 들어온 변경은 교체될 기존 색인에만 반영되므로, 교체 후 다시 반영하기 위해
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 애플리케이션 시작 시 전체 색인 구축
+     * 이유: 메모리 색인은 재시작 시 사라지므로 데이터베이스 내용을 기준으로 다시 만들기 위해
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 약속 변경 이벤트 처리
+     * 이유: 커밋된 변경만 색인에 반영하여 롤백된 변경이 검색 결과에 섞이지 않도록 하기 위해
+     *
+     * @param event 약속 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        try {
+            if (event.changeType().isRemoval()) {
+                remove(event.meetingId());
+            } else {
+                refresh(event.meetingId());
+            }
+            if (rebuilding.get()) {
+                changedDuringRebuild.add(event.meetingId());
+            }
+        } catch (Exception e) {
+            log.error("키워드 색인 갱신 실패 - 약속 ID: {}, 에러: {}", event.meetingId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 데이터베이스 내용으로 색인 전체를 다시 구축
+     * 이유: 새 색인을 별도로 만든 뒤 한 번에 교체하여 구축 중에도 기존 색인으로 검색을 계속 처리하기 위해
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("키워드 색인 재구축이 이미 진행 중입니다");
+            return;
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            Map<String, Set<Long>> newPostings = new HashMap<>();
+            Map<Long, IndexedMeeting> newDocuments = new HashMap<>();
+
+            Pageable pageable = PageRequest.of(0, rebuildBatchSize, Sort.by("id"));
+            Slice<MeetingKeywordText> slice;
+            do {
+                slice = meetingRepository.findKeywordTextBy(pageable);
+                for (MeetingKeywordText text : slice) {
+                    IndexedMeeting document = IndexedMeeting.of(text);
+                    newDocuments.put(text.getId(), document);
+                    addPostings(newPostings, text.getId(), document);
+                }
+                pageable = slice.nextPageable();
+            } while (slice.hasNext());
+
+            lock.writeLock().lock();
+            try {
+                postings = newPostings;
+                documents = newDocuments;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready.set(true);
+
+            log.info("키워드 색인 구축 완료 - 약속 수: {}, n-gram 수: {}, 소요: {}ms",
+                    newDocuments.size(), newPostings.size(), System.currentTimeMillis() - startedAt);
+        } finally {
+            rebuilding.set(false);
+        }
+
+        // 재구축 중 변경된 약속을 새 색인에 다시 반영
+        Set<Long> changedIds = new HashSet<>(changedDuringRebuild);
+        changedDuringRebuild.removeAll(changedIds);
+        changedIds.forEach(this::refresh);
+    }
+
+    /**
+     * 특정 약속의 색인 항목을 데이터베이스 기준으로 갱신
+     * 이유: 이벤트에 변경 내용을 싣지 않고 커밋된 최신 상태를 다시 읽어 색인과 데이터베이스의 불일치를 막기 위해
+     *
+     * @param meetingId 약속 ID
+     */
+    public void refresh(Long meetingId) {
+        Optional<MeetingKeywordText> text = meetingRepository.findKeywordTextById(meetingId);
+        if (text.isPresent()) {
+            index(meetingId, text.get().getTitle(), text.get().getDescription(), text.get().getLocationName());
+        } else {
+            remove(meetingId);
+        }
+    }
+
+    /**
+     * 약속 하나를 색인에 추가하거나 교체
+     *
+     * @param meetingId 약속 ID
+     * @param title 제목
+     * @param description 설명
+     * @param locationName 장소명
+     */
+    public void index(Long meetingId, String title, String description, String locationName) {
+        IndexedMeeting document = new IndexedMeeting(normalize(title), normalize(description), normalize(locationName));
+
+        lock.writeLock().lock();
+        try {
+            removePostings(meetingId);
+            documents.put(meetingId, document);
+            addPostings(postings, meetingId, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 약속을 색인에서 제거
+     *
+     * @param meetingId 약속 ID
+     */
+    public void remove(Long meetingId) {
+        lock.writeLock().lock();
+        try {
+            removePostings(meetingId);
+            documents.remove(meetingId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드와 일치하는 약속 ID를 관련도 순으로 조회
+     * 이유: n-gram 포스팅의 교집합으로 후보를 좁히고, 후보에 대해서만 실제 부분 문자열 일치를 확인하여
+     * LIKE 검색과 같은 결과를 전체 스캔 없이 얻기 위해
+     *
+     * @param keyword 검색 키워드
+     * @return 관련도(필드 가중치 합) 내림차순, 동점이면 최신 약속 우선으로 정렬된 ID 목록.
+     *         색인이 준비되지 않았거나 키워드에서 n-gram을 만들 수 없으면 빈 Optional
+     */
+    public Optional<List<Long>> search(String keyword) {
+        if (!ready.get()) {
+            return Optional.empty();
+        }
+
+        String query = normalize(keyword);
+        Set<String> queryGrams = extractGrams(query);
+        if (queryGrams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            // 포스팅이 짧은 n-gram부터 교집합
+            // 이유: 교집합 크기는 가장 짧은 목록을 넘지 않으므로 비교 횟수를 최소화하기 위해
+            List<Set<Long>> lists = new ArrayList<>();
+            for (String gram : queryGrams) {
+                Set<Long> list = postings.get(gram);
+                if (list == null) {
+                    return Optional.of(List.of());
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            Set<Long> candidates = new HashSet<>(lists.get(0));
+            for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+                candidates.retainAll(lists.get(i));
+            }
+
+            // 후보 검증 및 점수 계산
+            // 이유: n-gram이 모두 있어도 연속된 문자열이 아닐 수 있으므로 실제 포함 여부를 확인하기 위해
+            Map<Long, Integer> scores = new HashMap<>();
+            for (Long meetingId : candidates) {
+                int score = documents.get(meetingId).score(query);
+                if (score > 0) {
+                    scores.put(meetingId, score);
+                }
+            }
+
+            List<Long> ranked = new ArrayList<>(scores.keySet());
+            ranked.sort(Comparator.<Long>comparingInt(scores::get).reversed()
+                    .thenComparing(Comparator.reverseOrder()));
+            return Optional.of(ranked);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 준비 여부
+     */
+    public boolean isReady() {
+        return ready.get();
+    }
+
+    /**
+     * 색인된 약속 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removePostings(Long meetingId) {
+        IndexedMeeting previous = documents.get(meetingId);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : previous.grams()) {
+            Set<Long> list = postings.get(gram);
+            if (list != null) {
+                list.remove(meetingId);
+                if (list.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static void addPostings(Map<String, Set<Long>> target, Long meetingId, IndexedMeeting document) {
+        for (String gram : document.grams()) {
+            target.computeIfAbsent(gram, key -> new HashSet<>()).add(meetingId);
+        }
+    }
+
+    /**
+     * 텍스트 정규화 (NFC, 소문자, 공백 정리)
+     * 이유: 자모가 분리된 한글(NFD)과 조합형 한글이 같은 글자로 취급되고, 대소문자/공백 차이를 무시하기 위해
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    /**
+     * 정규화된 텍스트의 n-gram 추출
+     * 이유: 글자/숫자로 이루어진 단어마다 바이그램을 만들고, 한 글자 단어는 유니그램으로 색인하여
+     * 두 글자 이상의 검색어는 바이그램으로, 한 글자 검색어는 유니그램으로 찾을 수 있게 하기 위해
+     */
+    static Set<String> extractGrams(String normalized) {
+        Set<String> result = new LinkedHashSet<>();
+        int[] codePoints = normalized.codePoints().toArray();
+        int start = 0;
+        while (start < codePoints.length) {
+            while (start < codePoints.length && !Character.isLetterOrDigit(codePoints[start])) {
+                start++;
+            }
+            int end = start;
+            while (end < codePoints.length && Character.isLetterOrDigit(codePoints[end])) {
+                end++;
+            }
+            if (end - start == 1) {
+                result.add(new String(codePoints, start, 1));
+            } else {
+                for (int i = start; i + 1 < end; i++) {
+                    result.add(new String(codePoints, i, 2));
+                }
+            }
+            start = end;
+        }
+        return result;
+    }
+
+    /**
+     * 색인에 저장되는 약속 문서
+     * 이유: 후보 검증과 점수 계산에 필요한 정규화 텍스트, 그리고 포스팅 정리에 필요한 n-gram 목록을 함께 보관하기 위해
+     */
+    private record IndexedMeeting(String title, String description, String locationName, Set<String> grams) {
+
+        IndexedMeeting(String title, String description, String locationName) {
+            this(title, description, locationName, allGrams(title, description, locationName));
+        }
+
+        static IndexedMeeting of(MeetingKeywordText text) {
+            return new IndexedMeeting(
+                    normalize(text.getTitle()), normalize(text.getDescription()), normalize(text.getLocationName()));
+        }
+
+        int score(String query) {
+            int score = 0;
+            if (title.contains(query)) {
+                score += TITLE_WEIGHT;
+            }
+            if (locationName.contains(query)) {
+                score += LOCATION_WEIGHT;
+            }
+            if (description.contains(query)) {
+                score += DESCRIPTION_WEIGHT;
+            }
+            return score;
+        }
+
+        /**
+         * 모든 필드의 n-gram 합집합
+         * 이유: 한 글자 검색어도 찾을 수 있도록 단어 내부 글자의 유니그램을 바이그램과 함께 색인하기 위해
+         */
+        private static Set<String> allGrams(String... fields) {
+            Set<String> result = new HashSet<>();
+            for (String field : fields) {
+                result.addAll(extractGrams(field));
+                field.codePoints()
+                        .filter(Character::isLetterOrDigit)
+                        .forEach(codePoint -> result.add(new String(Character.toChars(codePoint))));
+            }
+            return result;
+        }
+    }
+}
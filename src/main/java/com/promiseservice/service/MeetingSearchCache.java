@@ -0,0 +1,340 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.MeetingSearchRequest;
+import com.promiseservice.dto.MeetingSearchResponse;
+import com.promiseservice.dto.MeetingSummaryResponse;
+import com.promiseservice.dto.SearchCacheStatsResponse;
+import com.promiseservice.event.MeetingChangedEvent;
+import com.promiseservice.model.entity.Meeting;
+import com.promiseservice.model.entity.MeetingParticipant;
+import com.promiseservice.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.text.Normalizer;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 약속 검색 결과 캐시 (TTL + LRU)
+ * 이유: 검색 트래픽 대부분이 소수의 같은 조건 반복이므로, 정규화한 검색 조건을 키로 결과를 잠시 보관하여
+ * 같은 검색마다 데이터베이스 쿼리(목록 + count + 참여자 집계)를 다시 실행하지 않기 위해
+ *
+ * 결과는 사용자와 무관한 형태로 보관하고 방장 여부(isHost)는 조회 시 요청 사용자 기준으로 적용한다.
+ * 약속 변경 시에는 변경된 약속이 결과에 포함되어 있거나 조건에 일치하는 검색만 무효화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MeetingSearchCache {
+
+    private final MeetingRepository meetingRepository;
+
+    // 캐시 항목 유효 시간 (초)
+    // 이유: 선택적 무효화가 잡지 못하는 변화(조건 일치가 풀린 약속 등)로 인한 오래된 결과를 이 시간 안으로 제한하기 위해
+    @Value("${app.search.cache.ttl-seconds:30}")
+    private long ttlSeconds = 30;
+
+    // 캐시에 보관할 최대 검색 결과 수 (초과 시 가장 오래 사용하지 않은 항목 제거)
+    @Value("${app.search.cache.max-entries:500}")
+    private int maxEntries = 500;
+
+    private final Lock lock = new ReentrantLock();
+
+    // 접근 순서로 정렬된 캐시 항목 (LRU)
+    private final LinkedHashMap<String, CachedSearch> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 무효화 세대 번호
+    // 이유: 검색 도중 약속이 변경되어 무효화된 경우, 변경 전 데이터로 만든 결과가 뒤늦게 저장되지 않도록 하기 위해
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * 캐시된 검색 결과 조회
+     *
+     * @param request 검색 요청 조건
+     * @param currentUserId 현재 로그인한 사용자 ID (방장 여부 적용용)
+     * @return 요청 사용자 기준으로 복사된 검색 결과 (없거나 만료되었으면 empty)
+     */
+    public Optional<MeetingSearchResponse> get(MeetingSearchRequest request, Long currentUserId) {
+        String key = keyOf(request);
+        CachedSearch cached;
+
+        lock.lock();
+        try {
+            cached = entries.get(key);
+            if (cached != null && cached.isExpired(System.nanoTime())) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+                cached = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (cached == null) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+
+        hits.incrementAndGet();
+        MeetingSearchResponse response = cached.response();
+        List<MeetingSummaryResponse> meetings = response.getMeetings().stream()
+                .map(summary -> summary.copyFor(currentUserId))
+                .collect(Collectors.toList());
+        return Optional.of(new MeetingSearchResponse(meetings, response.getPageInfo(), response.getSearchSummary()));
+    }
+
+    /**
+     * 현재 무효화 세대 번호 (검색 시작 전에 읽어 put에 전달)
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 검색 결과 저장
+     *
+     * @param request 검색 요청 조건
+     * @param response 검색 결과
+     * @param startedGeneration 검색 시작 시점의 세대 번호 (그 사이 무효화가 있었으면 저장하지 않음)
+     */
+    public void put(MeetingSearchRequest request, MeetingSearchResponse response, long startedGeneration) {
+        Set<Long> meetingIds = response.getMeetings().stream()
+                .map(MeetingSummaryResponse::getId)
+                .collect(Collectors.toSet());
+        CachedSearch cached = new CachedSearch(filterKeyOf(request), request, response, meetingIds,
+                System.nanoTime() + ttlSeconds * 1_000_000_000L);
+
+        lock.lock();
+        try {
+            if (generation.get() != startedGeneration) {
+                return;
+            }
+            entries.put(keyOf(request), cached);
+            while (entries.size() > maxEntries) {
+                Iterator<String> eldest = entries.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 약속 변경 이벤트 처리
+     * 이유: 변경이 커밋된 뒤 영향을 받을 수 있는 검색 조건의 결과만 골라 무효화하기 위해
+     *
+     * 같은 조건의 다른 페이지도 순서가 밀리거나 전체 건수가 바뀌므로 조건 단위로 모든 페이지를 함께 무효화한다.
+     * 삭제된 약속은 변경 전 내용을 알 수 없으므로 전체를 무효화한다. (삭제는 드물어 영향이 작음)
+     *
+     * @param event 약속 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        try {
+            Optional<Meeting> meeting = event.changeType().isRemoval()
+                    ? Optional.empty()
+                    : meetingRepository.findWithParticipantsById(event.meetingId());
+            if (meeting.isEmpty()) {
+                invalidateAll();
+                return;
+            }
+            invalidate(event.meetingId(), meeting.get());
+        } catch (Exception e) {
+            log.error("검색 캐시 무효화 실패 - 약속 ID: {}, 에러: {}", event.meetingId(), e.getMessage());
+            invalidateAll();
+        }
+    }
+
+    /**
+     * 변경된 약속과 관련된 검색 조건 무효화
+     *
+     * @param meetingId 변경된 약속 ID
+     * @param meeting 변경 후 약속
+     */
+    public void invalidate(Long meetingId, Meeting meeting) {
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+
+            Map<String, Boolean> affectedByFilter = new LinkedHashMap<>();
+            for (CachedSearch cached : entries.values()) {
+                boolean affected = cached.meetingIds().contains(meetingId)
+                        || affectedByFilter.computeIfAbsent(cached.filterKey(), key -> matches(cached.request(), meeting));
+                if (affected) {
+                    affectedByFilter.put(cached.filterKey(), true);
+                }
+            }
+
+            int before = entries.size();
+            entries.values().removeIf(cached -> Boolean.TRUE.equals(affectedByFilter.get(cached.filterKey())));
+            invalidations.addAndGet(before - entries.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 전체 캐시 무효화
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            invalidations.addAndGet(entries.size());
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시 통계 조회
+     */
+    public SearchCacheStatsResponse stats() {
+        int size;
+        lock.lock();
+        try {
+            size = entries.size();
+        } finally {
+            lock.unlock();
+        }
+        return new SearchCacheStatsResponse(hits.get(), misses.get(), evictions.get(), invalidations.get(), size);
+    }
+
+    /**
+     * 검색 요청의 정규화된 캐시 키 (조건 + 정렬 + 페이지)
+     * 이유: 대소문자, 앞뒤 공백, 참여자 ID 순서만 다른 같은 검색이 하나의 캐시 항목을 공유하도록 하기 위해
+     */
+    static String keyOf(MeetingSearchRequest request) {
+        return filterKeyOf(request)
+                + "|page=" + request.getPage()
+                + "|size=" + request.getSize()
+                + "|mode=" + upper(request.getPagingMode())
+                + "|cursor=" + (StringUtils.hasText(request.getCursor()) ? request.getCursor().trim() : "")
+                + "|facets=" + request.isIncludeFacets();
+    }
+
+    /**
+     * 검색 요청의 조건 부분 키 (페이지 정보 제외)
+     * 이유: 같은 조건의 여러 페이지를 한 단위로 무효화하기 위해
+     */
+    static String filterKeyOf(MeetingSearchRequest request) {
+        List<Long> participantUserIds = request.getParticipantUserIds();
+        String participants = participantUserIds == null ? "" : new TreeSet<>(participantUserIds).toString();
+
+        return "keyword=" + normalize(request.getKeyword())
+                + "|status=" + upper(request.getStatus())
+                + "|start=" + request.getStartTime()
+                + "|end=" + request.getEndTime()
+                + "|location=" + normalize(request.getLocationName())
+                + "|participants=" + participants
+                + "|participantMatch=" + upper(request.getParticipantMatch())
+                + "|min=" + request.getMinParticipants()
+                + "|max=" + request.getMaxParticipants()
+                + "|sort=" + (request.getSortBy() == null ? "" : request.getSortBy().toLowerCase(Locale.ROOT))
+                + "|order=" + upper(request.getSortOrder());
+    }
+
+    /**
+     * 변경 후 약속이 검색 조건에 일치하는지 확인
+     * 이유: 새로 조건에 들어온 약속이 있는 검색만 무효화하기 위해 (판단이 애매하면 일치로 보아 무효화 쪽으로 처리)
+     */
+    static boolean matches(MeetingSearchRequest request, Meeting meeting) {
+        if (StringUtils.hasText(request.getKeyword())) {
+            String keyword = normalize(request.getKeyword());
+            if (!containsNormalized(meeting.getTitle(), keyword)
+                    && !containsNormalized(meeting.getDescription(), keyword)
+                    && !containsNormalized(meeting.getLocationName(), keyword)) {
+                return false;
+            }
+        }
+
+        if (StringUtils.hasText(request.getStatus())
+                && !meeting.getStatus().name().equalsIgnoreCase(request.getStatus().trim())) {
+            return false;
+        }
+
+        // 한쪽만 지정된 시간 범위는 검색 시각에 따라 기본값이 달라지므로 지정된 경계만 비교
+        if (request.getStartTime() != null && meeting.getMeetingTime().isBefore(request.getStartTime())) {
+            return false;
+        }
+        if (request.getEndTime() != null && meeting.getMeetingTime().isAfter(request.getEndTime())) {
+            return false;
+        }
+
+        if (StringUtils.hasText(request.getLocationName())
+                && !containsNormalized(meeting.getLocationName(), normalize(request.getLocationName()))) {
+            return false;
+        }
+
+        List<MeetingParticipant> participants = meeting.getParticipants();
+        if (request.getParticipantUserIds() != null && !request.getParticipantUserIds().isEmpty()) {
+            Set<Long> userIds = new HashSet<>(request.getParticipantUserIds());
+            Set<Long> participantUserIds = participants.stream()
+                    .map(MeetingParticipant::getUserId)
+                    .collect(Collectors.toSet());
+            boolean matched = "ALL".equalsIgnoreCase(request.getParticipantMatch())
+                    ? participantUserIds.containsAll(userIds)
+                    : userIds.stream().anyMatch(participantUserIds::contains);
+            if (!matched) {
+                return false;
+            }
+        }
+
+        int participantCount = participants.size();
+        if (request.getMinParticipants() != null && participantCount < request.getMinParticipants()) {
+            return false;
+        }
+        return request.getMaxParticipants() == null || participantCount <= request.getMaxParticipants();
+    }
+
+    private static boolean containsNormalized(String text, String keyword) {
+        return text != null && normalize(text).contains(keyword);
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text.trim(), Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private static String upper(String text) {
+        return text == null ? "" : text.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 캐시 항목
+     */
+    private record CachedSearch(String filterKey, MeetingSearchRequest request, MeetingSearchResponse response,
+                                Set<Long> meetingIds, long expiresAtNanos) {
+
+        boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+}
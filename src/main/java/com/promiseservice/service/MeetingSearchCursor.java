@@ -0,0 +1,118 @@
+package com.promiseservice.service;
+
+import com.promiseservice.model.entity.Meeting;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 약속 검색 커서(키셋 페이지네이션 위치)를 인코딩/디코딩하는 클래스
+ * 이유: 마지막으로 받은 행의 (정렬 값, id) 조합을 클라이언트에게 불투명한 문자열로 전달하고,
+ * 다음 요청에서 그 위치 바로 뒤부터 조회하여 OFFSET 스캔 없이 다음 페이지를 가져오기 위해
+ *
+ * 형식: Base64URL("v1|정렬필드|정렬방향|id|정렬값")
+ */
+final class MeetingSearchCursor {
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    private final String sortProperty;
+    private final Sort.Direction direction;
+    private final Long id;
+    private final Object sortValue;
+
+    private MeetingSearchCursor(String sortProperty, Sort.Direction direction, Long id, Object sortValue) {
+        this.sortProperty = sortProperty;
+        this.direction = direction;
+        this.id = id;
+        this.sortValue = sortValue;
+    }
+
+    /**
+     * 페이지의 마지막 약속으로부터 다음 페이지 커서 생성
+     * 이유: 다음 요청이 이 약속 바로 뒤부터 이어서 조회할 수 있도록 정렬 키를 기록하기 위해
+     *
+     * @param sortProperty 정렬 필드 (meetingTime, createdAt, title)
+     * @param direction 정렬 방향
+     * @param lastMeeting 현재 페이지의 마지막 약속
+     * @return 인코딩된 커서 문자열
+     */
+    static String encode(String sortProperty, Sort.Direction direction, Meeting lastMeeting) {
+        Object value = sortValueOf(sortProperty, lastMeeting);
+        String raw = String.join(DELIMITER,
+                VERSION, sortProperty, direction.name(), String.valueOf(lastMeeting.getId()), String.valueOf(value));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석하고 현재 요청의 정렬 조건과 일치하는지 검증
+     * 이유: 정렬 조건이 바뀐 상태에서 이전 커서를 사용하면 결과가 누락/중복되므로 명확히 거부하기 위해
+     *
+     * @param cursor 클라이언트가 전달한 커서
+     * @param sortProperty 현재 요청의 정렬 필드
+     * @param direction 현재 요청의 정렬 방향
+     * @return 해석된 커서
+     * @throws IllegalArgumentException 형식이 잘못되었거나 정렬 조건이 다른 경우
+     */
+    static MeetingSearchCursor decode(String cursor, String sortProperty, Sort.Direction direction) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 검색 커서입니다");
+        }
+
+        // 정렬 값(제목)에 구분자가 포함될 수 있으므로 마지막 필드는 나누지 않음
+        String[] parts = raw.split("\\|", 5);
+        if (parts.length != 5 || !VERSION.equals(parts[0])) {
+            throw new IllegalArgumentException("잘못된 검색 커서입니다");
+        }
+        if (!parts[1].equals(sortProperty) || !parts[2].equals(direction.name())) {
+            throw new IllegalArgumentException("검색 커서의 정렬 조건이 요청과 일치하지 않습니다");
+        }
+
+        try {
+            Long id = Long.valueOf(parts[3]);
+            return new MeetingSearchCursor(sortProperty, direction, id, parseSortValue(sortProperty, parts[4]));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 검색 커서입니다");
+        }
+    }
+
+    /**
+     * 커서를 Spring Data 키셋 스크롤 위치로 변환
+     * 이유: 정렬 필드와 id 값을 기준으로 "이 행 다음" 조건을 데이터베이스 쿼리에 전달하기 위해
+     */
+    ScrollPosition toScrollPosition() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(sortProperty, sortValue);
+        keys.put("id", id);
+        return ScrollPosition.forward(keys);
+    }
+
+    private static Object sortValueOf(String sortProperty, Meeting meeting) {
+        switch (sortProperty) {
+            case "title":
+                return meeting.getTitle();
+            case "createdAt":
+                return meeting.getCreatedAt();
+            case "meetingTime":
+            default:
+                return meeting.getMeetingTime();
+        }
+    }
+
+    private static Object parseSortValue(String sortProperty, String value) {
+        if ("title".equals(sortProperty)) {
+            return value;
+        }
+        return LocalDateTime.parse(value);
+    }
+}
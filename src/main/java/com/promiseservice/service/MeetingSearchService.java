@@ -1,23 +1,44 @@
 package com.promiseservice.service;
 
+import com.promiseservice.config.ReadYourWritesTracker;
 import com.promiseservice.model.entity.Meeting;
 import com.promiseservice.model.entity.Meeting.MeetingStatus;
 import com.promiseservice.repository.MeetingRepository;
 import com.promiseservice.repository.MeetingParticipantRepository;
+import com.promiseservice.repository.MeetingSpecifications;
+import com.promiseservice.dto.MeetingGeoPoint;
+import com.promiseservice.dto.MeetingParticipantCounts;
 import com.promiseservice.dto.MeetingSearchRequest;
 import com.promiseservice.dto.MeetingSearchResponse;
 import com.promiseservice.dto.MeetingSummaryResponse;
+import com.promiseservice.dto.SearchCacheStatsResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -33,6 +54,34 @@ public class MeetingSearchService {
 
     private final MeetingRepository meetingRepository;
     private final MeetingParticipantRepository participantRepository;
+    private final MeetingKeywordIndex keywordIndex;
+    private final PopularMeetingLeaderboard popularLeaderboard;
+    private final RecentMeetingRing recentMeetingRing;
+    private final MeetingGeoIndex geoIndex;
+    private final MeetingSearchCache searchCache;
+    private final ParticipantPostingIndex participantIndex;
+    private final MeetingFacetCounter facetCounter;
+    // 복제본 설정이 없으면 빈이 없으므로 선택적으로 주입
+    private final ObjectProvider<ReadYourWritesTracker> readYourWritesTracker;
+
+    // 키워드 색인 후보를 IN 조건으로 넘길 최대 개수
+    // 이유: 후보가 너무 많으면 IN 목록이 커져 오히려 느려지므로 이 경우 LIKE 검색으로 대체하기 위해
+    @Value("${app.search.keyword-index.max-candidates:1000}")
+    private int maxKeywordCandidates = 1000;
+
+    // 참여자 색인 후보를 IN 조건으로 넘길 최대 개수
+    // 이유: 후보가 너무 많으면 IN 목록이 커져 오히려 느려지므로 이 경우 참여자 서브쿼리로 대체하기 위해
+    @Value("${app.search.participant-index.max-candidates:1000}")
+    private int maxParticipantCandidates = 1000;
+
+    // 근처 약속 검색 최대 반경 (km)
+    // 이유: 반경이 지나치게 크면 후보 칸이 많아져 색인 검색의 이점이 사라지기 때문
+    @Value("${app.search.geo.max-radius-km:50}")
+    private double maxRadiusKm = 50;
+
+    // 위치 색인 준비 전 반경 검색에서 한 번에 읽을 좌표 수
+    @Value("${app.search.geo.fallback-batch-size:500}")
+    private int geoFallbackBatchSize = 500;
 
     /**
      * 고급 약속 검색을 수행하는 메서드
@@ -46,27 +95,97 @@ public class MeetingSearchService {
     public MeetingSearchResponse searchMeetings(MeetingSearchRequest request, Long currentUserId) {
         log.info("약속 검색 시작 - 검색 조건: {}", request);
 
+        // 방금 쓴 사용자의 검색은 캐시를 거치지 않음
+        // 이유: 캐시에는 복제본에서 읽은 결과가 들어 있을 수 있어, 기본 DB로 고정된 요청이 캐시를 읽으면
+        // 방금 쓴 내용이 안 보이고, 반대로 기본 DB에서 읽은 결과를 넣으면 다른 사용자에게 복제본보다 앞선 결과가 섞이기 때문
+        boolean pinnedToPrimary = isPinnedToPrimary();
+
+        // 검색 결과 캐시 조회
+        // 이유: 반복되는 같은 검색은 데이터베이스 조회 없이 캐시된 결과에 요청 사용자 기준 방장 여부만 적용하여 응답하기 위해
+        if (!pinnedToPrimary) {
+            Optional<MeetingSearchResponse> cached = searchCache.get(request, currentUserId);
+            if (cached.isPresent()) {
+                log.debug("약속 검색 캐시 적중 - 검색 조건: {}", request);
+                return cached.get();
+            }
+        }
+
+        long cacheGeneration = searchCache.currentGeneration();
+
+        // 키워드 색인 조회 (색인을 사용할 수 없으면 null)와 검색 조건 조합
+        // 이유: 키워드 조건을 LIKE 전체 스캔 대신 색인에서 찾은 약속 ID 조건으로 바꾸고,
+        // 색인 조회 결과를 담은 조건 하나를 검색과 패싯 집계가 함께 사용해 색인을 두 번 조회하지 않기 위해
+        List<Long> keywordMatchIds = findKeywordMatches(request);
+        Specification<Meeting> specification = buildSpecification(request, keywordMatchIds);
+        MeetingSearchResponse response = executeSearch(request, keywordMatchIds, specification, currentUserId);
+
+        // 분류별 건수 집계 (요청 시에만)
+        // 이유: 필터 칩에 필요한 상태/날짜/장소별 건수를 별도 요청 없이 분류별 GROUP BY 쿼리로 함께 응답하기 위해
+        if (request.isIncludeFacets()) {
+            response.getSearchSummary().setFacets(facetCounter.count(specification));
+        }
+        if (!pinnedToPrimary) {
+            searchCache.put(request, response, cacheGeneration);
+        }
+        return response;
+    }
+
+    /**
+     * 현재 요청의 읽기가 기본 DB로 고정되었는지 여부 (ReadWriteRoutingDataSource와 같은 판단)
+     */
+    private boolean isPinnedToPrimary() {
+        ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+        return tracker != null && tracker.isPinnedToPrimary();
+    }
+
+    /**
+     * 검색 결과 캐시 통계 조회
+     */
+    public SearchCacheStatsResponse getSearchCacheStats() {
+        return searchCache.stats();
+    }
+
+    /**
+     * 데이터베이스(및 키워드 색인)에서 검색을 실행하는 메서드
+     *
+     * @param request 검색 요청 조건
+     * @param keywordMatchIds 키워드 색인에서 찾은 약속 ID (색인을 사용하지 않으면 null)
+     * @param specification 요청된 조건이 모두 반영된 Specification
+     * @param currentUserId 현재 로그인한 사용자 ID
+     * @return 검색 결과와 페이지네이션 정보를 포함한 응답
+     */
+    private MeetingSearchResponse executeSearch(MeetingSearchRequest request, List<Long> keywordMatchIds,
+                                                Specification<Meeting> specification, Long currentUserId) {
+
         // 정렬 설정 생성
         // 이유: 사용자가 요청한 정렬 기준과 순서에 따라 검색 결과를 정렬하기 위해
         Sort sort = createSort(request.getSortBy(), request.getSortOrder());
+
+        // 커서 모드 분기
+        // 이유: 커서 모드는 OFFSET과 count 쿼리 없이 마지막 행 다음부터 조회하므로 별도 경로로 처리하기 위해
+        if (isCursorPaging(request)) {
+            return searchWithCursor(request, specification, currentUserId);
+        }
         
         // 페이지네이션 설정 생성
         // 이유: 대량의 검색 결과를 페이지 단위로 나누어 효율적인 데이터 로딩을 제공하기 위해
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
 
-        // 검색 조건에 따른 쿼리 실행
-        // 이유: 다양한 검색 조건을 분석하여 적절한 검색 전략을 선택하고 실행하기 위해
-        Page<Meeting> meetingPage = executeSearch(request, pageable);
+        // 슬라이스 모드 분기
+        // 이유: 전체 건수를 표시하지 않는 무한 스크롤 클라이언트는 count 쿼리 없이 다음 페이지 존재 여부만 필요하기 때문
+        if (isSlicePaging(request)) {
+            return searchWithSlice(request, pageable, keywordMatchIds, specification, currentUserId);
+        }
+
+        // 검색 조건을 조합한 단일 쿼리 실행
+        // 이유: 모든 필터를 한 번에 적용하여 클라이언트가 넓은 결과를 받아 직접 거르지 않도록 하기 위해
+        Page<Meeting> meetingPage = isRelevanceOnly(request, keywordMatchIds)
+            ? pageByRelevance(keywordMatchIds, pageable)
+            : meetingRepository.findAll(specification, pageable);
 
         // 응답 데이터 변환
         // 이유: 엔티티 데이터를 DTO로 변환하여 API 응답에 적합한 형태로 가공하기 위해
-        List<MeetingSummaryResponse> meetingSummaries = meetingPage.getContent().stream()
-            .map(meeting -> {
-                int participantCount = (int) participantRepository.countByMeetingId(meeting.getId());
-                boolean isHost = meeting.getHostId().equals(currentUserId);
-                return MeetingSummaryResponse.from(meeting, participantCount, isHost);
-            })
-            .collect(Collectors.toList());
+        List<MeetingSummaryResponse> meetingSummaries = toSummaries(meetingPage.getContent(), currentUserId);
 
         // 페이지 정보 생성
         // 이유: 프론트엔드에서 페이지네이션 UI를 구현할 수 있도록 페이지 관련 정보를 제공하기 위해
@@ -83,136 +202,282 @@ public class MeetingSearchService {
     }
 
     /**
-     * 검색 조건에 따른 적절한 검색 쿼리를 실행하는 메서드
-     * 이유: 다양한 검색 조건을 분석하여 최적의 검색 전략을 선택하고 실행하여 검색 성능을 최적화하기 위해
-     * 
-     * @param request 검색 요청 조건
-     * @param pageable 페이지네이션 정보
-     * @return 검색 결과 페이지
+     * 커서(키셋) 방식으로 약속을 검색하는 메서드
+     * 이유: 깊은 페이지에서도 앞선 행을 스캔해 버리지 않고 (정렬 값, id) 위치 바로 뒤부터 조회하여
+     * 모든 페이지의 조회 비용을 일정하게 유지하고, hasNext 판단에 count 쿼리를 사용하지 않기 위해
+     *
+     * @param request 검색 요청 조건 (cursor가 비어 있으면 첫 페이지)
+     * @param specification 요청된 조건이 모두 반영된 Specification
+     * @param currentUserId 현재 로그인한 사용자 ID
+     * @return 검색 결과와 다음 페이지 커서를 포함한 응답
      */
-    private Page<Meeting> executeSearch(MeetingSearchRequest request, Pageable pageable) {
-        // 기본 검색 조건 확인 (키워드, 상태, 시간 범위)
-        // 이유: 가장 일반적인 검색 조건을 우선적으로 처리하여 검색 효율성 향상
-        if (request.getKeyword() != null || request.getStatus() != null || 
-            request.getStartTime() != null || request.getEndTime() != null) {
-            return searchWithBasicFilters(request, pageable);
+    private MeetingSearchResponse searchWithCursor(MeetingSearchRequest request, Specification<Meeting> specification,
+                                                   Long currentUserId) {
+        String sortProperty = resolveSortProperty(request.getSortBy());
+        Sort.Direction direction = resolveDirection(request.getSortOrder());
+        Sort sort = createSort(request.getSortBy(), request.getSortOrder());
+
+        boolean hasCursor = request.getCursor() != null && !request.getCursor().isBlank();
+        ScrollPosition position = hasCursor
+            ? MeetingSearchCursor.decode(request.getCursor(), sortProperty, direction).toScrollPosition()
+            : ScrollPosition.keyset();
+
+        // 키셋 조건(WHERE 정렬값 > 마지막값)과 LIMIT size+1로 조회
+        // 이유: 한 건을 더 읽어 다음 페이지 존재 여부만 판단하고 count(*)는 실행하지 않기 위해
+        Window<Meeting> window = meetingRepository.findBy(specification,
+            query -> query.sortBy(sort).limit(request.getSize()).scroll(position));
+        List<Meeting> meetings = window.getContent();
+
+        MeetingSearchResponse.PageInfo pageInfo = new MeetingSearchResponse.PageInfo();
+        pageInfo.setPageSize(request.getSize());
+        pageInfo.setHasNext(window.hasNext());
+        pageInfo.setHasPrevious(hasCursor);
+        if (window.hasNext() && !meetings.isEmpty()) {
+            pageInfo.setNextCursor(
+                MeetingSearchCursor.encode(sortProperty, direction, meetings.get(meetings.size() - 1)));
         }
-        
-        // 장소 기반 검색 조건 확인
-        // 이유: 위치 기반 검색은 사용자가 자주 사용하는 검색 방식이므로 우선 처리
-        if (request.getLocationName() != null) {
-            return searchByLocation(request, pageable);
+
+        log.info("약속 커서 검색 완료 - 결과 수: {}, 다음 페이지: {}", meetings.size(), window.hasNext());
+
+        return new MeetingSearchResponse(
+            toSummaries(meetings, currentUserId), pageInfo, createSearchSummary(request));
+    }
+
+    /**
+     * 슬라이스 방식으로 약속을 검색하는 메서드
+     * 이유: 페이지 크기보다 한 건 더(LIMIT size+1) 읽어 다음 페이지 존재 여부만 판단하고,
+     * 페이지 조회만큼 비용이 드는 count(*) 쿼리를 실행하지 않기 위해
+     *
+     * @param request 검색 요청 조건
+     * @param pageable 페이지네이션 정보 (정렬 포함)
+     * @param keywordMatchIds 키워드 색인에서 찾은 약속 ID (색인을 사용하지 않으면 null)
+     * @param specification 요청된 조건이 모두 반영된 Specification
+     * @param currentUserId 현재 로그인한 사용자 ID
+     * @return 전체 건수/페이지 수 없이 hasNext만 포함한 응답
+     */
+    private MeetingSearchResponse searchWithSlice(MeetingSearchRequest request, Pageable pageable,
+                                                  List<Long> keywordMatchIds, Specification<Meeting> specification,
+                                                  Long currentUserId) {
+        Slice<Meeting> meetingSlice = isRelevanceOnly(request, keywordMatchIds)
+            ? pageByRelevance(keywordMatchIds, pageable)
+            : meetingRepository.findBy(specification, query -> query.slice(pageable));
+
+        MeetingSearchResponse.PageInfo pageInfo = new MeetingSearchResponse.PageInfo();
+        pageInfo.setCurrentPage(meetingSlice.getNumber());
+        pageInfo.setPageSize(meetingSlice.getSize());
+        pageInfo.setHasNext(meetingSlice.hasNext());
+        pageInfo.setHasPrevious(meetingSlice.hasPrevious());
+
+        log.info("약속 슬라이스 검색 완료 - 결과 수: {}, 다음 페이지: {}",
+                meetingSlice.getNumberOfElements(), meetingSlice.hasNext());
+
+        return new MeetingSearchResponse(
+            toSummaries(meetingSlice.getContent(), currentUserId), pageInfo, createSearchSummary(request));
+    }
+
+    /**
+     * 키워드 색인에서 일치하는 약속 ID를 관련도 순으로 조회
+     * 이유: 색인이 준비되지 않았거나 후보가 너무 많은 경우에는 null을 돌려 LIKE 검색으로 대체하기 위해
+     *
+     * @param request 검색 요청 조건
+     * @return 관련도 순 약속 ID 목록, 색인을 사용할 수 없으면 null
+     */
+    private List<Long> findKeywordMatches(MeetingSearchRequest request) {
+        if (!StringUtils.hasText(request.getKeyword())) {
+            return null;
         }
-        
-        // 참여자 기반 검색 조건 확인
-        // 이유: 특정 사용자와의 관계를 통한 검색을 지원하여 소셜 기능 강화
-        if (request.getParticipantUserIds() != null && !request.getParticipantUserIds().isEmpty()) {
-            return searchByParticipants(request, pageable);
+
+        List<Long> matches = keywordIndex.search(request.getKeyword()).orElse(null);
+        if (matches == null || matches.size() > maxKeywordCandidates) {
+            log.debug("키워드 색인 미사용 - 키워드: {}, 후보 수: {}",
+                    request.getKeyword(), matches != null ? matches.size() : "색인 없음");
+            return null;
         }
-        
-        // 방장 기반 검색은 제거됨 (hostId 필드 삭제)
-        
-        // 기본 검색 (모든 약속)
-        // 이유: 검색 조건이 없는 경우 전체 약속 목록을 제공하여 기본적인 조회 기능 보장
-        return meetingRepository.findAll(pageable);
+        return matches;
     }
 
     /**
-     * 기본 필터를 사용한 검색
+     * 참여자 포스팅 색인에서 참여자 조건에 일치하는 약속 ID 조회
+     * 이유: 사용자별 쿼리 없이 메모리 합집합/교집합 한 번으로 후보를 만들고,
+     * 색인이 준비되지 않았거나 후보가 너무 많으면 null을 돌려 서브쿼리 조건으로 대체하기 위해
+     *
+     * @param request 검색 요청 조건 (participantUserIds가 비어 있지 않음)
+     * @return 오름차순 약속 ID 목록, 색인을 사용할 수 없으면 null
      */
-    private Page<Meeting> searchWithBasicFilters(MeetingSearchRequest request, Pageable pageable) {
-        // 실제 구현에서는 Specification이나 QueryDSL을 사용하여 동적 쿼리 생성
-        // 여기서는 간단한 예시로 구현
-        
-        if (request.getStatus() != null) {
-            MeetingStatus status = MeetingStatus.valueOf(request.getStatus().toUpperCase());
-            return meetingRepository.findByStatusOrderByMeetingTimeAsc(status, pageable);
+    private List<Long> findParticipantMatches(MeetingSearchRequest request) {
+        if (!participantIndex.isReady()) {
+            return null;
         }
-        
-        if (request.getKeyword() != null) {
-            return meetingRepository.findByTitleContainingIgnoreCaseOrderByCreatedAtDesc(
-                request.getKeyword(), pageable);
+
+        long[] matches = isAllParticipantsMatch(request)
+            ? participantIndex.allOf(request.getParticipantUserIds())
+            : participantIndex.anyOf(request.getParticipantUserIds());
+        if (matches.length > maxParticipantCandidates) {
+            log.debug("참여자 색인 미사용 - 참여자 수: {}, 후보 수: {}", request.getParticipantUserIds().size(), matches.length);
+            return null;
         }
-        
-        // 시간 범위 검색은 별도 메서드로 구현
-        return searchByTimeRange(request, pageable);
+        return Arrays.stream(matches).boxed().collect(Collectors.toList());
     }
 
     /**
-     * 시간 범위로 검색
+     * 모든 참여자가 포함된 약속만 찾는 요청인지 확인
      */
-    private Page<Meeting> searchByTimeRange(MeetingSearchRequest request, Pageable pageable) {
-        LocalDateTime startTime = request.getStartTime() != null ? request.getStartTime() : LocalDateTime.now();
-        LocalDateTime endTime = request.getEndTime() != null ? request.getEndTime() : 
-                               startTime.plusMonths(1); // 기본값: 1개월
-        
-        List<Meeting> meetings = meetingRepository.findMeetingsByTimeRange(startTime, endTime);
-        
-        // Page 객체로 변환 (실제로는 Repository에서 Page를 반환하도록 수정 필요)
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), meetings.size());
-        
-        List<Meeting> pageContent = meetings.subList(start, end);
-        
-        // 임시 Page 객체 생성 (실제 구현에서는 Repository 수정 필요)
-        return new org.springframework.data.domain.PageImpl<>(
-            pageContent, pageable, meetings.size());
+    private boolean isAllParticipantsMatch(MeetingSearchRequest request) {
+        return "ALL".equalsIgnoreCase(request.getParticipantMatch());
     }
 
     /**
-     * 장소로 검색
+     * 관련도 정렬만으로 처리할 수 있는 요청인지 확인
+     * 이유: 키워드 외 조건이 없으면 색인의 순위 목록을 그대로 잘라 쓰면 되므로 데이터베이스 정렬/카운트가 필요 없기 때문
      */
-    private Page<Meeting> searchByLocation(MeetingSearchRequest request, Pageable pageable) {
-        // 장소명으로 검색 (실제로는 Repository에 메서드 추가 필요)
-        List<Meeting> meetings = meetingRepository.findByLocationNameContainingIgnoreCase(
-            request.getLocationName());
-        
-        return createPageFromList(meetings, pageable);
+    private boolean isRelevanceOnly(MeetingSearchRequest request, List<Long> keywordMatchIds) {
+        return keywordMatchIds != null
+            && "relevance".equalsIgnoreCase(request.getSortBy())
+            && !StringUtils.hasText(request.getStatus())
+            && request.getStartTime() == null
+            && request.getEndTime() == null
+            && !StringUtils.hasText(request.getLocationName())
+            && (request.getParticipantUserIds() == null || request.getParticipantUserIds().isEmpty())
+            && request.getMinParticipants() == null
+            && request.getMaxParticipants() == null;
     }
 
     /**
-     * 참여자로 검색
+     * 색인 순위 목록에서 한 페이지를 잘라 약속을 조회
+     * 이유: 페이지에 해당하는 ID만 기본키로 조회하고 색인 순위대로 다시 정렬하기 위해
+     *
+     * @param rankedIds 관련도 순 약속 ID 목록
+     * @param pageable 페이지네이션 정보
+     * @return 관련도 순 검색 결과 페이지
      */
-    private Page<Meeting> searchByParticipants(MeetingSearchRequest request, Pageable pageable) {
-        // 참여자 ID로 검색
-        List<Meeting> meetings = request.getParticipantUserIds().stream()
-            .flatMap(userId -> meetingRepository.findMeetingsByParticipantUserId(userId).stream())
-            .distinct()
-            .collect(Collectors.toList());
-        
-        return createPageFromList(meetings, pageable);
+    private Page<Meeting> pageByRelevance(List<Long> rankedIds, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+        List<Meeting> content = findAllByIdInOrder(rankedIds.subList(from, to));
+
+        return new PageImpl<>(content, pageable, rankedIds.size());
     }
 
+    /**
+     * 커서 페이지네이션 요청인지 확인
+     */
+    private boolean isCursorPaging(MeetingSearchRequest request) {
+        return "CURSOR".equalsIgnoreCase(request.getPagingMode());
+    }
 
+    /**
+     * 슬라이스(count 없는) 페이지네이션 요청인지 확인
+     */
+    private boolean isSlicePaging(MeetingSearchRequest request) {
+        return "SLICE".equalsIgnoreCase(request.getPagingMode());
+    }
 
     /**
-     * List를 Page로 변환
+     * 검색 요청 조건을 Specification으로 변환 (키워드/참여자 색인 적용 포함)
+     * 이유: 내보내기 등 다른 조회 경로에서도 검색 API와 정확히 같은 필터를 사용하기 위해
+     *
+     * @param request 검색 요청 조건
+     * @return 요청된 조건이 모두 반영된 Specification
      */
-    private Page<Meeting> createPageFromList(List<Meeting> meetings, Pageable pageable) {
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), meetings.size());
-        
-        List<Meeting> pageContent = meetings.subList(start, end);
-        
-        return new org.springframework.data.domain.PageImpl<>(
-            pageContent, pageable, meetings.size());
+    Specification<Meeting> toSpecification(MeetingSearchRequest request) {
+        return buildSpecification(request, findKeywordMatches(request));
+    }
+
+    /**
+     * 검색 요청의 모든 조건을 하나의 Specification으로 조합하는 메서드
+     * 이유: 조건 하나만 골라 적용하던 분기 방식 대신 키워드, 상태, 시간 범위, 장소, 참여자, 인원 조건을
+     * 모두 AND로 묶어 단일 SQL로 실행하고, 정렬과 페이지네이션까지 데이터베이스에서 처리하기 위해
+     *
+     * @param request 검색 요청 조건
+     * @param keywordMatchIds 키워드 색인에서 찾은 약속 ID (색인을 사용하지 않으면 null)
+     * @return 요청된 조건이 모두 반영된 Specification (조건이 없으면 전체 약속)
+     */
+    private Specification<Meeting> buildSpecification(MeetingSearchRequest request, List<Long> keywordMatchIds) {
+        List<Specification<Meeting>> filters = new ArrayList<>();
+
+        // 키워드 조건
+        // 이유: 색인 결과가 있으면 기본키 IN 조건으로, 없으면 LIKE 조건(제목, 설명, 장소명)으로 처리
+        if (keywordMatchIds != null) {
+            filters.add(MeetingSpecifications.idIn(keywordMatchIds));
+        } else if (StringUtils.hasText(request.getKeyword())) {
+            filters.add(MeetingSpecifications.keywordContains(request.getKeyword()));
+        }
+
+        // 상태 조건
+        // 이유: idx_status 인덱스를 활용할 수 있는 등치 조건
+        if (StringUtils.hasText(request.getStatus())) {
+            filters.add(MeetingSpecifications.hasStatus(MeetingStatus.valueOf(request.getStatus().toUpperCase())));
+        }
+
+        // 시간 범위 조건 (한쪽만 지정된 경우 기존 기본값 적용)
+        // 이유: idx_meeting_time 인덱스를 활용하는 범위 조건으로 후보 행을 줄이기 위해
+        if (request.getStartTime() != null || request.getEndTime() != null) {
+            LocalDateTime startTime = request.getStartTime() != null ? request.getStartTime() : LocalDateTime.now();
+            LocalDateTime endTime = request.getEndTime() != null ? request.getEndTime() : 
+                                   startTime.plusMonths(1); // 기본값: 1개월
+            filters.add(MeetingSpecifications.meetingTimeBetween(startTime, endTime));
+        }
+
+        // 장소명 조건
+        if (StringUtils.hasText(request.getLocationName())) {
+            filters.add(MeetingSpecifications.locationNameContains(request.getLocationName()));
+        }
+
+        // 참여자 조건 (ANY: 한 명이라도 참여, ALL: 모두 참여)
+        // 이유: 포스팅 색인의 합집합/교집합 결과가 있으면 기본키 IN 조건으로, 없으면 참여자 서브쿼리로 처리
+        if (request.getParticipantUserIds() != null && !request.getParticipantUserIds().isEmpty()) {
+            List<Long> participantMatchIds = findParticipantMatches(request);
+            if (participantMatchIds != null) {
+                filters.add(MeetingSpecifications.idIn(participantMatchIds));
+            } else if (isAllParticipantsMatch(request)) {
+                filters.add(MeetingSpecifications.hasAllParticipants(request.getParticipantUserIds()));
+            } else {
+                filters.add(MeetingSpecifications.hasAnyParticipant(request.getParticipantUserIds()));
+            }
+        }
+
+        // 참여자 수 조건
+        if (request.getMinParticipants() != null || request.getMaxParticipants() != null) {
+            filters.add(MeetingSpecifications.participantCountBetween(
+                request.getMinParticipants(), request.getMaxParticipants()));
+        }
+
+        return filters.stream()
+            .reduce(Specification::and)
+            .orElseGet(MeetingSpecifications::all);
     }
 
     /**
      * 정렬 설정 생성
+     * 이유: 정렬 값이 같은 약속이 여러 개여도 순서가 유일하게 결정되도록 id를 보조 정렬 키로 추가하여,
+     * 페이지 경계에서 결과가 중복/누락되지 않고 커서 위치도 정확하게 하기 위해
      */
     private Sort createSort(String sortBy, String sortOrder) {
-        Sort.Direction direction = "DESC".equalsIgnoreCase(sortOrder) ? 
+        Sort.Direction direction = resolveDirection(sortOrder);
+        return Sort.by(direction, resolveSortProperty(sortBy)).and(Sort.by(direction, "id"));
+    }
+
+    /**
+     * 정렬 방향 해석
+     */
+    private Sort.Direction resolveDirection(String sortOrder) {
+        return "DESC".equalsIgnoreCase(sortOrder) ? 
             Sort.Direction.DESC : Sort.Direction.ASC;
-        
+    }
+
+    /**
+     * 정렬 기준을 엔티티 필드명으로 해석
+     * 이유: 허용된 정렬 필드만 쿼리에 사용하고, 커서에 기록할 정렬 키를 일관되게 결정하기 위해
+     */
+    private String resolveSortProperty(String sortBy) {
         switch (sortBy.toLowerCase()) {
             case "title":
-                return Sort.by(direction, "title");
+                return "title";
             case "createdat":
-                return Sort.by(direction, "createdAt");
+                return "createdAt";
             case "meetingtime":
             default:
-                return Sort.by(direction, "meetingTime");
+                return "meetingTime";
         }
     }
 
@@ -249,6 +514,8 @@ public class MeetingSearchService {
         if (request.getEndTime() != null) appliedFilters++;
         if (request.getLocationName() != null) appliedFilters++;
         if (request.getParticipantUserIds() != null && !request.getParticipantUserIds().isEmpty()) appliedFilters++;
+        if (request.getMinParticipants() != null) appliedFilters++;
+        if (request.getMaxParticipants() != null) appliedFilters++;
         
         summary.setAppliedFilters(appliedFilters);
         return summary;
@@ -256,46 +523,199 @@ public class MeetingSearchService {
 
     /**
      * 인기 약속 조회 (참여자 수 기준)
+     * 이유: 순위는 메모리 순위표에서 상위 limit개만 꺼내고, 해당 약속만 기본키로 조회하여
+     * 전체 약속 정렬과 비교마다의 COUNT 쿼리를 없애기 위해
      */
     public List<MeetingSummaryResponse> getPopularMeetings(int limit, Long currentUserId) {
         log.info("인기 약속 조회 - 제한: {}", limit);
         
-        // 참여자 수가 많은 순으로 정렬 (실제로는 Repository에 메서드 추가 필요)
-        List<Meeting> popularMeetings = meetingRepository.findAll().stream()
-            .sorted((m1, m2) -> {
-                long count1 = participantRepository.countByMeetingId(m1.getId());
-                long count2 = participantRepository.countByMeetingId(m2.getId());
-                return Long.compare(count2, count1); // 내림차순
-            })
-            .limit(limit)
-            .collect(Collectors.toList());
+        // 순위표가 준비되기 전에는 GROUP BY + ORDER BY + LIMIT 쿼리로 대체
+        List<Long> popularMeetingIds = popularLeaderboard.isReady()
+            ? popularLeaderboard.top(limit)
+            : participantRepository.findMeetingIdsOrderByParticipantCountDesc(PageRequest.of(0, limit));
         
-        return popularMeetings.stream()
-            .map(meeting -> {
-                int participantCount = (int) participantRepository.countByMeetingId(meeting.getId());
-                boolean isHost = meeting.getHostId().equals(currentUserId);
-                return MeetingSummaryResponse.from(meeting, participantCount, isHost);
-            })
-            .collect(Collectors.toList());
+        return toSummaries(findAllByIdInOrder(popularMeetingIds), currentUserId);
     }
 
     /**
      * 최근 약속 조회
+     * 이유: 최근 생성 약속 링에서 바로 응답하고, 링 크기를 넘는 요청만
+     * created_at 인덱스를 사용하는 LIMIT 쿼리로 처리하여 전체 약속 정렬을 없애기 위해
      */
     public List<MeetingSummaryResponse> getRecentMeetings(int limit, Long currentUserId) {
         log.info("최근 약속 조회 - 제한: {}", limit);
         
-        List<Meeting> recentMeetings = meetingRepository.findAll().stream()
-            .sorted((m1, m2) -> m2.getCreatedAt().compareTo(m1.getCreatedAt()))
-            .limit(limit)
+        if (recentMeetingRing.canServe(limit)) {
+            return recentMeetingRing.latest(limit, currentUserId);
+        }
+        
+        List<Meeting> recentMeetings = meetingRepository.findByOrderByCreatedAtDescIdDesc(PageRequest.of(0, limit));
+        
+        return toSummaries(recentMeetings, currentUserId);
+    }
+
+    /**
+     * 근처 약속 조회 (반경 검색)
+     * 이유: 위치 격자 색인에서 반경과 겹치는 칸의 약속만 후보로 거리를 계산하고,
+     * 색인이 준비되기 전에는 위도/경도 인덱스 범위 조회로 후보를 좁혀 같은 결과를 돌려주기 위해
+     *
+     * @param latitude 중심 위도
+     * @param longitude 중심 경도
+     * @param radiusKm 검색 반경 (km)
+     * @param limit 최대 개수
+     * @param currentUserId 현재 로그인한 사용자 ID
+     * @return 가까운 순 약속 요약 목록 (distanceKm 포함)
+     */
+    public List<MeetingSummaryResponse> searchNearby(double latitude, double longitude, double radiusKm,
+                                                     int limit, Long currentUserId) {
+        log.info("근처 약속 조회 - 위도: {}, 경도: {}, 반경: {}km, 제한: {}", latitude, longitude, radiusKm, limit);
+        
+        validateCoordinates(latitude, longitude);
+        if (radiusKm <= 0 || radiusKm > maxRadiusKm) {
+            throw new IllegalArgumentException("검색 반경은 0보다 크고 " + maxRadiusKm + "km 이하여야 합니다");
+        }
+        
+        List<MeetingGeoIndex.GeoHit> hits = geoIndex.isReady()
+            ? geoIndex.withinRadius(latitude, longitude, radiusKm, limit)
+            : findNearbyWithoutIndex(latitude, longitude, radiusKm, limit);
+        
+        Map<Long, Double> distanceById = hits.stream()
+            .collect(Collectors.toMap(MeetingGeoIndex.GeoHit::meetingId, MeetingGeoIndex.GeoHit::distanceKm));
+        List<Long> meetingIds = hits.stream()
+            .map(MeetingGeoIndex.GeoHit::meetingId)
             .collect(Collectors.toList());
         
-        return recentMeetings.stream()
-            .map(meeting -> {
-                int participantCount = (int) participantRepository.countByMeetingId(meeting.getId());
-                boolean isHost = meeting.getHostId().equals(currentUserId);
-                return MeetingSummaryResponse.from(meeting, participantCount, isHost);
-            })
+        List<MeetingSummaryResponse> summaries = toSummaries(findAllByIdInOrder(meetingIds), currentUserId);
+        // 미터 단위까지만 응답
+        summaries.forEach(summary ->
+            summary.setDistanceKm(Math.round(distanceById.get(summary.getId()) * 1000) / 1000.0));
+        return summaries;
+    }
+
+    /**
+     * 위치 색인 없이 근처 약속 찾기
+     * 이유: 색인이 준비되기 전에도 상자 안 좌표를 슬라이스 단위로 읽으며 가까운 limit개만 남겨,
+     * 약속이 밀집한 지역에서도 메모리 사용량을 결과 크기로 제한하면서 색인과 같은 순서의 결과를 돌려주기 위해
+     *
+     * @return 가까운 순(거리가 같으면 최신 약속 우선) 최대 limit개
+     */
+    private List<MeetingGeoIndex.GeoHit> findNearbyWithoutIndex(double latitude, double longitude,
+                                                                double radiusKm, int limit) {
+        Comparator<MeetingGeoIndex.GeoHit> nearestFirst = Comparator.comparingDouble(MeetingGeoIndex.GeoHit::distanceKm)
+            .thenComparing(Comparator.comparingLong(MeetingGeoIndex.GeoHit::meetingId).reversed());
+        // 가장 먼 후보가 맨 앞에 오도록 하여 limit개를 넘으면 바로 버림
+        PriorityQueue<MeetingGeoIndex.GeoHit> nearest = new PriorityQueue<>(nearestFirst.reversed());
+
+        MeetingGeoIndex.BoundingBox box = MeetingGeoIndex.BoundingBox.around(latitude, longitude, radiusKm);
+        Pageable pageable = PageRequest.of(0, geoFallbackBatchSize, Sort.by("id"));
+        Slice<MeetingGeoPoint> slice;
+        do {
+            slice = meetingRepository.findGeoPointByLatitudeBetweenAndLongitudeBetween(
+                box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude(), pageable);
+            for (MeetingGeoPoint point : slice) {
+                double distanceKm = MeetingGeoIndex.distanceKm(latitude, longitude, point.getLatitude(), point.getLongitude());
+                if (distanceKm > radiusKm) {
+                    continue;
+                }
+                nearest.offer(new MeetingGeoIndex.GeoHit(point.getId(), distanceKm));
+                if (nearest.size() > limit) {
+                    nearest.poll();
+                }
+            }
+            pageable = slice.nextPageable();
+        } while (slice.hasNext());
+
+        return nearest.stream()
+            .sorted(nearestFirst)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 영역 안의 약속 조회 (경계 상자 검색)
+     * 이유: 지도 화면에 보이는 영역의 약속을 겹치는 격자 칸만 확인하여 찾기 위해
+     *
+     * @param minLatitude 남쪽 위도
+     * @param minLongitude 서쪽 경도
+     * @param maxLatitude 북쪽 위도
+     * @param maxLongitude 동쪽 경도
+     * @param limit 최대 개수
+     * @param currentUserId 현재 로그인한 사용자 ID
+     * @return 최신 약속 우선 약속 요약 목록
+     */
+    public List<MeetingSummaryResponse> searchInArea(double minLatitude, double minLongitude,
+                                                     double maxLatitude, double maxLongitude,
+                                                     int limit, Long currentUserId) {
+        log.info("영역 약속 조회 - 위도: {}~{}, 경도: {}~{}, 제한: {}",
+            minLatitude, maxLatitude, minLongitude, maxLongitude, limit);
+        
+        validateCoordinates(minLatitude, minLongitude);
+        validateCoordinates(maxLatitude, maxLongitude);
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new IllegalArgumentException("영역의 최소 좌표는 최대 좌표보다 클 수 없습니다");
+        }
+        
+        MeetingGeoIndex.BoundingBox box = new MeetingGeoIndex.BoundingBox(
+            minLatitude, maxLatitude, minLongitude, maxLongitude);
+        if (geoIndex.isReady()) {
+            return toSummaries(findAllByIdInOrder(geoIndex.withinBox(box, limit)), currentUserId);
+        }
+        
+        List<Meeting> meetings = meetingRepository.findBy(locationWithin(box), query -> query
+            .sortBy(Sort.by(Sort.Direction.DESC, "id"))
+            .limit(limit)
+            .all());
+        return toSummaries(meetings, currentUserId);
+    }
+
+    /**
+     * 위도/경도 범위 검증
+     */
+    private void validateCoordinates(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("위도는 -90~90, 경도는 -180~180 범위여야 합니다");
+        }
+    }
+
+    private Specification<Meeting> locationWithin(MeetingGeoIndex.BoundingBox box) {
+        return MeetingSpecifications.locationWithin(
+            box.minLatitude(), box.maxLatitude(), box.minLongitude(), box.maxLongitude());
+    }
+
+    /**
+     * 주어진 ID 순서대로 약속 조회
+     * 이유: IN 조회 결과는 순서가 보장되지 않으므로 순위/관련도 순서를 유지하여 돌려주기 위해
+     *
+     * @param meetingIds 순서가 있는 약속 ID 목록
+     * @return 같은 순서의 약속 목록 (존재하지 않는 ID는 제외)
+     */
+    private List<Meeting> findAllByIdInOrder(List<Long> meetingIds) {
+        if (meetingIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Meeting> meetingsById = meetingRepository.findAllById(meetingIds).stream()
+            .collect(Collectors.toMap(Meeting::getId, Function.identity()));
+        return meetingIds.stream()
+            .map(meetingsById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 약속 목록을 요약 응답으로 변환하는 메서드
+     * 이유: 약속마다 countByMeetingId를 호출하면 페이지 크기만큼 쿼리가 늘어나므로,
+     * 이미 읽은 약속 행의 참여자 카운터 컬럼으로 추가 쿼리 없이 조립하기 위해
+     *
+     * @param meetings 변환할 약속 목록
+     * @param currentUserId 현재 로그인한 사용자 ID
+     * @return 참여자 수가 채워진 약속 요약 목록 (입력 순서 유지)
+     */
+    private List<MeetingSummaryResponse> toSummaries(List<Meeting> meetings, Long currentUserId) {
+        return meetings.stream()
+            .map(meeting -> MeetingSummaryResponse.from(
+                meeting,
+                MeetingParticipantCounts.of(meeting),
+                meeting.isHost(currentUserId)))
             .collect(Collectors.toList());
     }
 }
@@ -6,13 +6,19 @@ import com.promiseservice.model.entity.MeetingHistory;
 import com.promiseservice.repository.MeetingRepository;
 import com.promiseservice.repository.MeetingParticipantRepository;
 import com.promiseservice.repository.MeetingHistoryRepository;
+import com.promiseservice.repository.MeetingArchiveRepository;
 import com.promiseservice.dto.MeetingCreateRequest;
+import com.promiseservice.dto.MeetingHistoryEntry;
 import com.promiseservice.dto.MeetingResponse;
+import com.promiseservice.dto.UserExistenceResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.context.ApplicationEventPublisher;
+import com.promiseservice.event.MeetingChangedEvent;
+import com.promiseservice.event.MeetingChangedEvent.ChangeType;
 import com.promiseservice.event.MeetingCreatedEvent;
 
 import java.time.LocalDateTime;
@@ -36,6 +42,9 @@ public class MeetingService {
     private final UserService userService;
     private final NotificationService notificationService;
     private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticRetryExecutor retryExecutor;
+    private final MeetingArchiveRepository archiveRepository;
+    private final WriteBehindBuffer<MeetingHistoryEntry> historyBuffer;
 
     /**
      * 약속방 생성
@@ -49,62 +58,58 @@ public class MeetingService {
     public MeetingResponse createMeeting(MeetingCreateRequest request, Long hostId) {
         log.info("약속방 생성 시작 - 방장: {}, 제목: {}", hostId, request.getTitle());
 
-        // 방장 사용자 존재 여부 확인
-        if (!userService.existsUser(hostId)) {
-            throw new RuntimeException("존재하지 않는 사용자입니다: " + hostId);
-        }
-
         // 총 초대 인원 수 검증
         if (!request.isValidParticipantCount(true)) {
             throw new RuntimeException("최대 참여자 수를 초과할 수 없습니다");
         }
 
+        // 방장과 초대 대상 사용자 존재 여부를 한 번에 확인
+        // 이유: 사용자마다 원격 호출을 순차로 실행하지 않고, 저장을 시작하기 전에 누락된 사용자를 모두 찾아 알려주기 위해
+        List<Long> userIdsToCheck = new ArrayList<>();
+        userIdsToCheck.add(hostId);
+        if (request.getParticipantUserIds() != null) {
+            userIdsToCheck.addAll(request.getParticipantUserIds());
+        }
+        UserExistenceResult existence = userService.existsUsers(userIdsToCheck);
+        if (!existence.exists(hostId)) {
+            throw new RuntimeException("존재하지 않는 사용자입니다: " + hostId);
+        }
+        if (!existence.allExist()) {
+            throw new RuntimeException("존재하지 않는 사용자입니다: " + existence.missingUserIds());
+        }
+
         // 약속 생성
-        Meeting meeting = new Meeting();
-        meeting.setTitle(request.getTitle());
-        meeting.setDescription(request.getDescription());
-        meeting.setMeetingTime(request.getMeetingTime());
-        meeting.setMaxParticipants(request.getMaxParticipants());
-        meeting.setLocationName(request.getLocationName());
-        meeting.setLocationAddress(request.getLocationAddress());
-        meeting.setLocationCoordinates(request.getLocationCoordinates());
+        // 이유: 방장 판별과 방장별 목록 조회를 참여자 테이블이 아닌 약속 행의 host_id 인덱스로 처리하기 위해
+        Meeting meeting = Meeting.create(request.getTitle(), request.getDescription(), request.getMeetingTime(),
+                request.getMaxParticipants(), hostId, request.getLocationName(),
+                request.getLocationAddress(), request.getLocationCoordinates());
 
         Meeting savedMeeting = meetingRepository.save(meeting);
 
         // 방장을 첫 번째 참여자로 추가 (수락 상태)
         // 이유: 방장은 자동으로 약속에 참여하므로 ACCEPTED 상태로 설정
-        MeetingParticipant hostParticipant = new MeetingParticipant();
-        hostParticipant.setMeetingId(savedMeeting.getId());
-        hostParticipant.setUserId(hostId);
-        hostParticipant.setMeeting(savedMeeting);
-        hostParticipant.setResponse(MeetingParticipant.ResponseStatus.ACCEPTED);
+        MeetingParticipant hostParticipant = MeetingParticipant.create(
+                savedMeeting.getId(), hostId, savedMeeting, MeetingParticipant.ResponseStatus.ACCEPTED);
         hostParticipant.setJoinedAt(LocalDateTime.now());
         participantRepository.save(hostParticipant);
 
         // 초대할 친구들을 참여자로 추가
+        int invitedCount = 0;
         if (request.getParticipantUserIds() != null && !request.getParticipantUserIds().isEmpty()) {
             List<MeetingParticipant> participants = new ArrayList<>();
             
             for (Long userId : request.getParticipantUserIds()) {
                 // 방장이 아닌 경우에만 초대
                 if (!userId.equals(hostId)) {
-                    // 사용자 존재 여부 확인
-                    if (!userService.existsUser(userId)) {
-                        throw new RuntimeException("존재하지 않는 사용자입니다: " + userId);
-                    }
-                    
-                    MeetingParticipant participant = new MeetingParticipant();
-                    participant.setMeetingId(savedMeeting.getId());
-                    participant.setUserId(userId);
-                    participant.setMeeting(savedMeeting);
-                    participant.setResponse(MeetingParticipant.ResponseStatus.INVITED);
-                    participants.add(participant);
+                    participants.add(MeetingParticipant.create(
+                            savedMeeting.getId(), userId, savedMeeting, MeetingParticipant.ResponseStatus.INVITED));
                 }
             }
             
             // 배치로 한 번에 저장
             if (!participants.isEmpty()) {
                 participantRepository.saveAll(participants);
+                invitedCount = participants.size();
                 log.info("참가자 {}명 저장 완료", participants.size());
                 
                 // Meeting 엔티티에 participants 추가
@@ -115,9 +120,12 @@ public class MeetingService {
             }
         }
 
+        // 참여자 카운터 반영 (방장 1명 수락, 나머지 초대 대기)
+        meetingRepository.adjustParticipantCounts(savedMeeting.getId(), 1, invitedCount, 0);
+
         // 히스토리 기록
         MeetingHistory history = MeetingHistory.createHistory(savedMeeting, hostId);
-        historyRepository.save(history);
+        historyBuffer.append(MeetingHistoryEntry.from(history));
 
         // 약속 생성 알림 전송
         // 이유: 새로운 약속이 생성되었을 때 초대된 사용자들에게 약속 참여 요청 알림을 전송하여 참여율 향상
@@ -151,11 +159,12 @@ public class MeetingService {
         log.info("약속방 생성 완료 - ID: {}", savedMeeting.getId());
         
         // 저장된 약속을 다시 조회하여 최신 상태로 응답 생성
-        Meeting finalMeeting = meetingRepository.findById(savedMeeting.getId())
+        Meeting finalMeeting = meetingRepository.findWithParticipantsById(savedMeeting.getId())
             .orElseThrow(() -> new RuntimeException("생성된 약속을 찾을 수 없습니다: " + savedMeeting.getId()));
         
         // 트랜잭션 커밋 후 알림 발송 (이벤트로 분리)
         eventPublisher.publishEvent(new MeetingCreatedEvent(finalMeeting.getId()));
+        eventPublisher.publishEvent(new MeetingChangedEvent(finalMeeting.getId(), ChangeType.CREATED));
         log.info("약속 생성 완료 이벤트 발행 - 약속 ID: {}", finalMeeting.getId());
         
         return MeetingResponse.from(finalMeeting);
@@ -169,10 +178,13 @@ public class MeetingService {
      * @return 약속 정보
      */
     public MeetingResponse getMeeting(Long meetingId) {
-        Meeting meeting = meetingRepository.findById(meetingId)
+        // 운영 테이블에 없으면 보관 테이블에서 조회
+        // 이유: 오래된 완료/취소 약속은 MeetingArchiver가 보관 테이블로 옮기므로, ID로 조회하는 쪽에서는 차이 없이 보이도록 하기 위해
+        return meetingRepository.findWithParticipantsById(meetingId)
+            .map(MeetingResponse::from)
+            .or(() -> archiveRepository.findById(meetingId)
+                .map(archived -> MeetingResponse.from(archived, archiveRepository.findParticipantsByMeetingId(meetingId))))
             .orElseThrow(() -> new RuntimeException("약속을 찾을 수 없습니다: " + meetingId));
-        
-        return MeetingResponse.from(meeting);
     }
 
     /**
@@ -183,7 +195,7 @@ public class MeetingService {
      * @return 약속 목록
      */
     public List<MeetingResponse> getMeetingsByHost(Long hostId) {
-        List<Meeting> meetings = meetingRepository.findMeetingsByHostId(hostId);
+        List<Meeting> meetings = meetingRepository.findByHostIdOrderByCreatedAtDesc(hostId);
         return meetings.stream()
             .map(MeetingResponse::from)
             .collect(Collectors.toList());
@@ -212,9 +224,13 @@ public class MeetingService {
      * @param userId 요청 사용자 ID
      * @return 업데이트된 약속 정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MeetingResponse updateMeetingStatus(Long meetingId, Meeting.MeetingStatus status, Long userId) {
-        Meeting meeting = meetingRepository.findById(meetingId)
+        return retryExecutor.execute("약속 상태 변경", () -> applyMeetingStatus(meetingId, status, userId));
+    }
+
+    private MeetingResponse applyMeetingStatus(Long meetingId, Meeting.MeetingStatus status, Long userId) {
+        Meeting meeting = meetingRepository.findWithParticipantsById(meetingId)
             .orElseThrow(() -> new RuntimeException("약속을 찾을 수 없습니다: " + meetingId));
 
         // 권한 확인 (방장만 상태 변경 가능)
@@ -227,11 +243,13 @@ public class MeetingService {
 
         // 히스토리 기록
         MeetingHistory history = MeetingHistory.updateHistory(meeting, userId);
-        historyRepository.save(history);
+        historyBuffer.append(MeetingHistoryEntry.from(history));
 
         // 상태 변경 알림 (NotificationService에 구현 필요)
         // notificationService.sendMeetingStatusChangedNotification(meeting, previousStatus, status);
 
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId, ChangeType.STATUS_CHANGED));
+
         log.info("약속 상태 변경 완료 - ID: {}, {} -> {}", meetingId, previousStatus, status);
         return MeetingResponse.from(meeting);
     }
@@ -243,8 +261,12 @@ public class MeetingService {
      * @param meetingId 약속 ID
      * @param userId 요청 사용자 ID
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deleteMeeting(Long meetingId, Long userId) {
+        retryExecutor.run("약속 삭제", () -> applyMeetingDeletion(meetingId, userId));
+    }
+
+    private void applyMeetingDeletion(Long meetingId, Long userId) {
         Meeting meeting = meetingRepository.findById(meetingId)
             .orElseThrow(() -> new RuntimeException("약속을 찾을 수 없습니다: " + meetingId));
 
@@ -255,12 +277,14 @@ public class MeetingService {
 
         // 히스토리 기록
         MeetingHistory history = MeetingHistory.cancelHistory(meeting, userId);
+        // 약속 행과 함께 바로 삭제되므로(ON DELETE CASCADE) 버퍼를 거치지 않고 같은 트랜잭션에서 기록
         historyRepository.save(history);
 
         // 삭제 알림 전송 (NotificationService에 구현 필요)
         // notificationService.sendMeetingCancelledNotification(meeting);
 
         meetingRepository.delete(meeting);
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId, ChangeType.DELETED));
         log.info("약속 삭제 완료 - ID: {}", meetingId);
     }
 
@@ -273,9 +297,13 @@ public class MeetingService {
      * @param userId 요청 사용자 ID
      * @return 수정된 약속 정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MeetingResponse updateMeeting(Long meetingId, MeetingCreateRequest request, Long userId) {
-        Meeting meeting = meetingRepository.findById(meetingId)
+        return retryExecutor.execute("약속 수정", () -> applyMeetingUpdate(meetingId, request, userId));
+    }
+
+    private MeetingResponse applyMeetingUpdate(Long meetingId, MeetingCreateRequest request, Long userId) {
+        Meeting meeting = meetingRepository.findWithParticipantsById(meetingId)
             .orElseThrow(() -> new RuntimeException("약속을 찾을 수 없습니다: " + meetingId));
 
         // 권한 확인 (방장만 수정 가능)
@@ -283,8 +311,10 @@ public class MeetingService {
             throw new RuntimeException("약속 수정 권한이 없습니다");
         }
 
-        // 현재 참여자 수 확인
-        if (request.getMaxParticipants() < meeting.getCurrentParticipantCount()) {
+        // 현재 참여자 수 확인 (초대 좌석 예약과 같은 기준인 전체 참여자 수)
+        // 이유: 이 확인 뒤에 초대/수락 좌석 예약이 끼어들면 약속 버전이 바뀌어 저장 시 낙관적 잠금에 걸리고,
+        // 재시도에서 늘어난 참여자 수로 다시 확인된다
+        if (request.getMaxParticipants() < meeting.getTotalParticipantCount()) {
             throw new RuntimeException("현재 참여자 수보다 적은 최대 인원으로 변경할 수 없습니다");
         }
 
@@ -299,11 +329,13 @@ public class MeetingService {
 
         // 히스토리 기록
         MeetingHistory history = MeetingHistory.updateHistory(meeting, userId);
-        historyRepository.save(history);
+        historyBuffer.append(MeetingHistoryEntry.from(history));
 
         // 수정 알림 전송 (NotificationService에 구현 필요)
         // notificationService.sendMeetingUpdatedNotification(meeting);
 
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId, ChangeType.UPDATED));
+
         log.info("약속 정보 수정 완료 - ID: {}", meetingId);
         return MeetingResponse.from(meeting);
     }
@@ -316,9 +348,13 @@ public class MeetingService {
      * @param userId 요청 사용자 ID
      * @return 완료 처리된 약속 정보
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MeetingResponse completeMeeting(Long meetingId, Long userId) {
-        Meeting meeting = meetingRepository.findById(meetingId)
+        return retryExecutor.execute("약속 완료 처리", () -> applyMeetingCompletion(meetingId, userId));
+    }
+
+    private MeetingResponse applyMeetingCompletion(Long meetingId, Long userId) {
+        Meeting meeting = meetingRepository.findWithParticipantsById(meetingId)
             .orElseThrow(() -> new RuntimeException("약속을 찾을 수 없습니다: " + meetingId));
 
         // 권한 확인 (방장만 완료 처리 가능)
@@ -331,11 +367,13 @@ public class MeetingService {
 
         // 히스토리 기록
         MeetingHistory history = MeetingHistory.completeHistory(meeting, userId);
-        historyRepository.save(history);
+        historyBuffer.append(MeetingHistoryEntry.from(history));
 
         // 완료 알림 전송 (NotificationService에 구현 필요)
         // notificationService.sendMeetingCompletedNotification(meeting);
 
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId, ChangeType.STATUS_CHANGED));
+
         log.info("약속 완료 처리 완료 - ID: {}", meetingId);
         return MeetingResponse.from(meeting);
     }
@@ -6,16 +6,23 @@ import com.promiseservice.model.entity.MeetingParticipant;
 import com.promiseservice.repository.MeetingRepository;
 import com.promiseservice.repository.MeetingParticipantRepository;
 import com.promiseservice.repository.MeetingHistoryRepository;
+import com.promiseservice.dto.MeetingHistoryEntry;
 import com.promiseservice.dto.MeetingStatusUpdateRequest;
+import com.promiseservice.dto.MeetingStatusCount;
 import com.promiseservice.dto.MeetingStatusResponse;
 import com.promiseservice.dto.StatusHistoryResponse;
+import com.promiseservice.event.MeetingChangedEvent;
+import com.promiseservice.event.MeetingChangedEvent.ChangeType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -28,12 +35,20 @@ public class MeetingStatusService {
     private final MeetingParticipantRepository participantRepository;
     private final MeetingHistoryRepository historyRepository;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WriteBehindBuffer<MeetingHistoryEntry> historyBuffer;
+    private final OptimisticRetryExecutor retryExecutor;
 
     /**
      * 약속 상태 변경
+     * 이유: 동시 수락으로 약속 버전이 바뀌면 낙관적 잠금에 걸리므로, 새 트랜잭션에서 다시 읽어 재시도하기 위해
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MeetingStatusResponse updateMeetingStatus(Long meetingId, MeetingStatusUpdateRequest request, Long userId) {
+        return retryExecutor.execute("약속 상태 변경", () -> applyMeetingStatus(meetingId, request, userId));
+    }
+
+    private MeetingStatusResponse applyMeetingStatus(Long meetingId, MeetingStatusUpdateRequest request, Long userId) {
         log.info("약속 상태 변경 시작 - 약속 ID: {}, 사용자: {}, 새 상태: {}", 
                 meetingId, userId, request.getStatus());
 
@@ -60,11 +75,13 @@ public class MeetingStatusService {
 
         // 히스토리 기록
         MeetingHistory history = MeetingHistory.updateHistory(meeting, userId);
-        historyRepository.save(history);
+        historyBuffer.append(MeetingHistoryEntry.from(history));
 
         // 특정 상태 변경 시 추가 처리
         handleStatusSpecificActions(meeting, newStatus, userId);
 
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId, ChangeType.STATUS_CHANGED));
+
         // 상태 변경 알림 전송
         // 이유: 약속 상태가 변경되었을 때 모든 참여자들에게 실시간 알림을 전송하여 정보 공유 보장
         notificationService.sendMeetingStatusChangeNotification(
@@ -252,12 +269,16 @@ public class MeetingStatusService {
 
     /**
      * 약속 상태별 통계 조회
+     * 이유: 상태마다 COUNT 쿼리를 실행하지 않고 GROUP BY 쿼리 한 번으로 모든 상태의 건수를 구하기 위해
      */
     public Object getStatusStatistics() {
-        long waitingCount = meetingRepository.countByStatus(Meeting.MeetingStatus.WAITING);
-        long confirmedCount = meetingRepository.countByStatus(Meeting.MeetingStatus.CONFIRMED);
-        long completedCount = meetingRepository.countByStatus(Meeting.MeetingStatus.COMPLETED);
-        long cancelledCount = meetingRepository.countByStatus(Meeting.MeetingStatus.CANCELLED);
+        Map<Meeting.MeetingStatus, Long> counts = meetingRepository.countGroupedByStatus().stream()
+            .collect(Collectors.toMap(MeetingStatusCount::getStatus, MeetingStatusCount::getCount));
+
+        long waitingCount = counts.getOrDefault(Meeting.MeetingStatus.WAITING, 0L);
+        long confirmedCount = counts.getOrDefault(Meeting.MeetingStatus.CONFIRMED, 0L);
+        long completedCount = counts.getOrDefault(Meeting.MeetingStatus.COMPLETED, 0L);
+        long cancelledCount = counts.getOrDefault(Meeting.MeetingStatus.CANCELLED, 0L);
 
         return new Object() {
             public final long waiting = waitingCount;
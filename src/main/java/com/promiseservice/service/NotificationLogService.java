@@ -2,7 +2,7 @@ package com.promiseservice.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.promiseservice.dto.KakaoSendResult;
-import com.promiseservice.entity.NotificationLog;
+import com.promiseservice.model.entity.NotificationLog;
 import com.promiseservice.repository.NotificationLogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +24,7 @@ public class NotificationLogService {
 
     private final NotificationLogRepository notificationLogRepository;
     private final ObjectMapper objectMapper;
+    private final WriteBehindBuffer<NotificationLog> notificationLogBuffer;
 
     /**
      * 카카오톡 전송 결과 로깅
@@ -34,7 +35,7 @@ public class NotificationLogService {
      * @param payloadJson 전송한 메시지 JSON
      * @param result 카카오 API 호출 결과
      * @param traceId 추적 ID
-     * @return 저장된 로그 엔티티
+     * @return 기록한 로그 엔티티 (쓰기 지연 버퍼로 저장되므로 ID는 아직 없음)
      */
     @Transactional
     public NotificationLog logKakaoSend(Long meetingId, Long userId, String payloadJson, 
@@ -64,12 +65,14 @@ public class NotificationLogService {
             .traceId(traceId)
             .build();
 
-        NotificationLog saved = notificationLogRepository.save(logEntry);
+        // 쓰기 지연 버퍼로 전달 (다른 전송 로그와 함께 배치 INSERT)
+        // 이유: 전송마다 INSERT를 보내지 않기 위해 - 같은 trace ID의 중복은 유니크 제약으로 버퍼에서 걸러짐
+        notificationLogBuffer.append(logEntry);
         
-        log.info("카카오톡 전송 로그 저장 완료 - meetingId: {}, userId: {}, status: {}, traceId: {}", 
+        log.info("카카오톡 전송 로그 기록 요청 - meetingId: {}, userId: {}, status: {}, traceId: {}", 
                 meetingId, userId, result.httpStatus(), traceId);
         
-        return saved;
+        return logEntry;
     }
 
     /**
@@ -80,7 +83,7 @@ public class NotificationLogService {
      * @param userId 사용자 ID
      * @param traceId 추적 ID
      * @param errorMessage 실패 사유
-     * @return 저장된 로그 엔티티
+     * @return 기록한 로그 엔티티 (쓰기 지연 버퍼로 저장되므로 ID는 아직 없음)
      */
     @Transactional
     public NotificationLog logFailedSend(Long meetingId, Long userId, String traceId, String errorMessage) {
@@ -95,12 +98,12 @@ public class NotificationLogService {
             .traceId(traceId)
             .build();
 
-        NotificationLog saved = notificationLogRepository.save(logEntry);
+        notificationLogBuffer.append(logEntry);
         
-        log.warn("전송 실패 로그 저장 - meetingId: {}, userId: {}, error: {}, traceId: {}", 
+        log.warn("전송 실패 로그 기록 요청 - meetingId: {}, userId: {}, error: {}, traceId: {}", 
                 meetingId, userId, errorMessage, traceId);
         
-        return saved;
+        return logEntry;
     }
 
     /**
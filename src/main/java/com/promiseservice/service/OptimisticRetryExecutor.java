@@ -0,0 +1,84 @@
+package com.promiseservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 동시성 충돌 시 새 트랜잭션으로 재시도하는 실행기
+ * 이유: 좌석 예약과 응답 변경은 조건부 UPDATE로 처리하여 비관적 잠금 없이 정합성을 지키고,
+ * 조건이 어긋나거나 낙관적 잠금 버전이 바뀐 드문 경우에만 처음부터 다시 읽어 처리하기 위해
+ *
+ * 각 시도는 독립된 트랜잭션(REQUIRES_NEW)으로 실행되므로 실패한 시도의 변경은 모두 롤백된다.
+ */
+@Slf4j
+@Component
+public class OptimisticRetryExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+
+    // 최대 시도 횟수 (첫 시도 포함)
+    @Value("${app.concurrency.retry.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    // 재시도 전 대기 시간 상한 (밀리초)
+    // 이유: 충돌한 요청들이 같은 순간에 다시 부딪히지 않도록 0 ~ 상한 사이에서 무작위로 대기하기 위해
+    @Value("${app.concurrency.retry.max-backoff-ms:50}")
+    private long maxBackoffMs = 50;
+
+    public OptimisticRetryExecutor(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 작업을 트랜잭션 안에서 실행하고, 동시성 충돌이면 정해진 횟수까지 재시도
+     *
+     * @param action 로그에 남길 작업 이름
+     * @param work 실행할 작업 (재시도 시 처음부터 다시 실행되므로 조회부터 포함해야 함)
+     * @return 작업 결과
+     */
+    public <T> T execute(String action, Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("동시성 충돌 재시도 한도 초과 - 작업: {}, 시도: {}회, 에러: {}", action, attempt, e.getMessage());
+                    throw new RuntimeException("동시 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요", e);
+                }
+                log.debug("동시성 충돌로 재시도 - 작업: {}, 시도: {}회, 에러: {}", action, attempt, e.getMessage());
+                backoff();
+            }
+        }
+    }
+
+    /**
+     * 반환값이 없는 작업 실행
+     */
+    public void run(String action, Runnable work) {
+        execute(action, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private void backoff() {
+        if (maxBackoffMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxBackoffMs + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("재시도 대기 중 인터럽트가 발생했습니다", e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.MeetingParticipantCounter;
+import com.promiseservice.dto.MeetingParticipantCounts;
+import com.promiseservice.repository.MeetingParticipantRepository;
+import com.promiseservice.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 약속 참여자 카운터 보정 작업
+ * 이유: 카운터는 참여자 변경과 같은 트랜잭션의 원자적 UPDATE로 유지되지만,
+ * 초기 데이터 적재나 직접 SQL 수정처럼 서비스를 거치지 않은 변경으로 생긴 오차를 주기적으로 찾아 바로잡기 위해
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipantCountReconciler {
+
+    private final MeetingRepository meetingRepository;
+    private final MeetingParticipantRepository participantRepository;
+
+    // 한 번에 비교할 약속 수
+    @Value("${app.participant-counts.reconcile-batch-size:500}")
+    private int batchSize = 500;
+
+    /**
+     * 주기적으로 전체 약속의 카운터 검사
+     * 이유: 오차가 생겨도 다음 주기 안에 인원 제한과 목록 표시가 실제 참여자 수로 돌아오도록 하기 위해
+     */
+    @Scheduled(initialDelayString = "${app.participant-counts.reconcile-initial-delay-ms:60000}",
+               fixedDelayString = "${app.participant-counts.reconcile-interval-ms:3600000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("참여자 카운터 보정 실패 - 에러: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 카운터가 실제 참여자 수와 다른 약속을 찾아 재계산
+     * 이유: 약속 ID 순서로 일정 크기씩 카운터와 참여자 집계를 비교하고, 어긋난 약속만 UPDATE하여 쓰기를 최소화하기 위해
+     *
+     * @return 보정한 약속 수
+     */
+    public int reconcile() {
+        long startedAt = System.currentTimeMillis();
+        int checked = 0;
+        int repaired = 0;
+
+        Pageable pageable = PageRequest.of(0, batchSize, Sort.by("id"));
+        Slice<MeetingParticipantCounter> slice;
+        do {
+            slice = meetingRepository.findParticipantCounterBy(pageable);
+            List<Long> drifted = findDrifted(slice.getContent());
+            if (!drifted.isEmpty()) {
+                log.warn("참여자 카운터 오차 발견 - 약속 ID: {}", drifted);
+                repaired += meetingRepository.recountParticipantCounts(drifted);
+            }
+            checked += slice.getNumberOfElements();
+            pageable = slice.nextPageable();
+        } while (slice.hasNext());
+
+        log.info("참여자 카운터 보정 완료 - 검사: {}건, 보정: {}건, 소요 시간: {}ms",
+                checked, repaired, System.currentTimeMillis() - startedAt);
+        return repaired;
+    }
+
+    /**
+     * 카운터와 참여자 테이블 집계가 다른 약속 ID 목록
+     */
+    private List<Long> findDrifted(List<MeetingParticipantCounter> counters) {
+        if (counters.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> meetingIds = counters.stream().map(MeetingParticipantCounter::getId).collect(Collectors.toList());
+        Map<Long, MeetingParticipantCounts> actualById = participantRepository.countParticipantsByMeetingIds(meetingIds).stream()
+                .collect(Collectors.toMap(MeetingParticipantCounts::getMeetingId, Function.identity()));
+
+        List<Long> drifted = new ArrayList<>();
+        for (MeetingParticipantCounter counter : counters) {
+            MeetingParticipantCounts actual = actualById.getOrDefault(counter.getId(), MeetingParticipantCounts.empty(counter.getId()));
+            long actualRejected = actual.getTotalCount() - actual.getAcceptedCount() - actual.getInvitedCount();
+            if (counter.getAcceptedCount() != actual.getAcceptedCount()
+                    || counter.getInvitedCount() != actual.getInvitedCount()
+                    || counter.getRejectedCount() != actualRejected) {
+                drifted.add(counter.getId());
+            }
+        }
+        return drifted;
+    }
+}
@@ -0,0 +1,361 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.ParticipantMembership;
+import com.promiseservice.event.MeetingChangedEvent;
+import com.promiseservice.event.MeetingChangedEvent.ChangeType;
+import com.promiseservice.repository.MeetingParticipantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 참여 약속 ID 포스팅 목록 색인
+ * 이유: 여러 사용자가 참여한 약속 검색을 사용자 수만큼의 쿼리나 서브쿼리 대신,
+ * 정렬된 long[] 포스팅 목록의 합집합/교집합 한 번으로 계산하여 약속 ID 후보를 만들기 위해
+ *
+ * 포스팅 배열은 변경 시 새 배열로 교체(copy-on-write)하며 항상 오름차순, 중복 없음을 유지한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipantPostingIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final MeetingParticipantRepository participantRepository;
+
+    // 시작 시 색인 구축에 사용할 슬라이스 크기
+    @Value("${app.search.participant-index.rebuild-batch-size:1000}")
+    private int rebuildBatchSize = 1000;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 사용자 ID → 참여 약속 ID (오름차순)
+    private Map<Long, long[]> postings = new HashMap<>();
+
+    // 약속 ID → 참여자 사용자 ID (오름차순, 참여자 변경 시 이전 상태와 비교하기 위해 사용)
+    private Map<Long, long[]> members = new HashMap<>();
+
+    private final AtomicBoolean ready = new AtomicBoolean(false);
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    // 재구축 도중 참여자가 변경된 약속 ID
+    // 이유: 재구축 중 들어온 변경은 교체될 기존 색인에만 반영되므로, 교체 후 다시 반영하기 위해
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 애플리케이션 시작 시 포스팅 색인 구축
+     * 이유: 메모리 색인은 재시작 시 사라지므로 meeting_participant 내용을 기준으로 다시 만들기 위해
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 약속 변경 이벤트 처리
+     * 이유: 참여자가 바뀌는 변경(생성 시 방장 참여, 초대/응답/제거, 삭제)이 커밋된 뒤 해당 약속의 포스팅만 갱신하기 위해
+     *
+     * @param event 약속 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        try {
+            ChangeType changeType = event.changeType();
+            if (changeType.isRemoval()) {
+                update(event.meetingId(), List.of());
+            } else if (changeType == ChangeType.CREATED || changeType == ChangeType.PARTICIPANTS_CHANGED) {
+                refresh(event.meetingId());
+            } else {
+                return;
+            }
+            if (rebuilding.get()) {
+                changedDuringRebuild.add(event.meetingId());
+            }
+        } catch (Exception e) {
+            log.error("참여자 포스팅 색인 갱신 실패 - 약속 ID: {}, 에러: {}", event.meetingId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 데이터베이스 참여 관계로 색인 전체를 다시 구축
+     * 이유: 새 색인을 별도로 만든 뒤 한 번에 교체하여 구축 중에도 기존 색인으로 검색을 계속 처리하기 위해
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("참여자 포스팅 색인 재구축이 이미 진행 중입니다");
+            return;
+        }
+
+        try {
+            Map<Long, List<Long>> meetingsByUser = new HashMap<>();
+            Map<Long, List<Long>> usersByMeeting = new HashMap<>();
+
+            Pageable pageable = PageRequest.of(0, rebuildBatchSize, Sort.by("id"));
+            Slice<ParticipantMembership> slice;
+            do {
+                slice = participantRepository.findMembershipBy(pageable);
+                for (ParticipantMembership membership : slice) {
+                    meetingsByUser.computeIfAbsent(membership.getUserId(), key -> new ArrayList<>()).add(membership.getMeetingId());
+                    usersByMeeting.computeIfAbsent(membership.getMeetingId(), key -> new ArrayList<>()).add(membership.getUserId());
+                }
+                pageable = slice.nextPageable();
+            } while (slice.hasNext());
+
+            Map<Long, long[]> newPostings = new HashMap<>();
+            meetingsByUser.forEach((userId, meetingIds) -> newPostings.put(userId, toSortedArray(meetingIds)));
+            Map<Long, long[]> newMembers = new HashMap<>();
+            usersByMeeting.forEach((meetingId, userIds) -> newMembers.put(meetingId, toSortedArray(userIds)));
+
+            lock.writeLock().lock();
+            try {
+                postings = newPostings;
+                members = newMembers;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready.set(true);
+
+            log.info("참여자 포스팅 색인 구축 완료 - 사용자 수: {}, 약속 수: {}", newPostings.size(), newMembers.size());
+        } finally {
+            rebuilding.set(false);
+        }
+
+        // 재구축 중 참여자가 변경된 약속을 새 색인에 다시 반영
+        Set<Long> changedIds = new HashSet<>(changedDuringRebuild);
+        changedDuringRebuild.removeAll(changedIds);
+        changedIds.forEach(this::refresh);
+    }
+
+    /**
+     * 특정 약속의 포스팅을 데이터베이스 참여 관계 기준으로 갱신
+     * 이유: 이벤트에 참여자 목록을 싣지 않고 커밋된 최신 참여자를 다시 읽어 색인과 데이터베이스의 불일치를 막기 위해
+     * (삭제된 약속은 참여자가 없으므로 색인에서 제거됨)
+     *
+     * @param meetingId 약속 ID
+     */
+    public void refresh(Long meetingId) {
+        List<Long> userIds = participantRepository.findMembershipByMeetingId(meetingId).stream()
+                .map(ParticipantMembership::getUserId)
+                .collect(Collectors.toList());
+        update(meetingId, userIds);
+    }
+
+    /**
+     * 약속의 참여자 목록 갱신
+     * 이유: 이전 참여자와 비교하여 빠진 사용자의 포스팅에서는 약속을 제거하고, 새 사용자의 포스팅에만 추가하기 위해
+     *
+     * @param meetingId 약속 ID
+     * @param userIds 현재 참여자 사용자 ID (비어 있으면 약속을 색인에서 제거)
+     */
+    public void update(Long meetingId, Collection<Long> userIds) {
+        long[] current = toSortedArray(userIds);
+
+        lock.writeLock().lock();
+        try {
+            long[] previous = members.getOrDefault(meetingId, EMPTY);
+            for (long userId : previous) {
+                if (Arrays.binarySearch(current, userId) < 0) {
+                    long[] remaining = without(postings.getOrDefault(userId, EMPTY), meetingId);
+                    if (remaining.length == 0) {
+                        postings.remove(userId);
+                    } else {
+                        postings.put(userId, remaining);
+                    }
+                }
+            }
+            for (long userId : current) {
+                if (Arrays.binarySearch(previous, userId) < 0) {
+                    postings.put(userId, with(postings.getOrDefault(userId, EMPTY), meetingId));
+                }
+            }
+
+            if (current.length == 0) {
+                members.remove(meetingId);
+            } else {
+                members.put(meetingId, current);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 사용자 중 한 명이라도 참여한 약속 ID (합집합)
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 오름차순 약속 ID
+     */
+    public long[] anyOf(Collection<Long> userIds) {
+        lock.readLock().lock();
+        try {
+            long[] result = EMPTY;
+            for (long[] posting : postingsOf(userIds)) {
+                result = union(result, posting);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 사용자가 모두 참여한 약속 ID (교집합)
+     * 이유: 가장 짧은 포스팅부터 시작해 나머지 목록에서 이진 탐색으로 걸러 후보를 빠르게 줄이기 위해
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 오름차순 약속 ID (포스팅이 없는 사용자가 있으면 빈 배열)
+     */
+    public long[] allOf(Collection<Long> userIds) {
+        lock.readLock().lock();
+        try {
+            List<long[]> lists = postingsOf(userIds);
+            if (lists.isEmpty() || lists.size() < userIds.stream().distinct().count()) {
+                return EMPTY;
+            }
+            lists.sort(Comparator.comparingInt(posting -> posting.length));
+
+            long[] result = lists.get(0);
+            for (int i = 1; i < lists.size() && result.length > 0; i++) {
+                result = intersect(result, lists.get(i));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 준비 여부
+     */
+    public boolean isReady() {
+        return ready.get();
+    }
+
+    /**
+     * 사용자별 포스팅 목록 수집 (읽기 잠금 보유 상태에서 호출, 포스팅이 없는 사용자는 제외)
+     */
+    private List<long[]> postingsOf(Collection<Long> userIds) {
+        return userIds.stream()
+                .distinct()
+                .map(postings::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 정렬된 두 배열의 합집합 (병합)
+     */
+    static long[] union(long[] left, long[] right) {
+        if (left.length == 0) {
+            return right;
+        }
+        if (right.length == 0) {
+            return left;
+        }
+
+        long[] merged = new long[left.length + right.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                merged[size++] = left[i++];
+            } else if (left[i] > right[j]) {
+                merged[size++] = right[j++];
+            } else {
+                merged[size++] = left[i++];
+                j++;
+            }
+        }
+        while (i < left.length) {
+            merged[size++] = left[i++];
+        }
+        while (j < right.length) {
+            merged[size++] = right[j++];
+        }
+        return size == merged.length ? merged : Arrays.copyOf(merged, size);
+    }
+
+    /**
+     * 정렬된 두 배열의 교집합 (짧은 배열의 값을 긴 배열에서 이진 탐색)
+     */
+    static long[] intersect(long[] shorter, long[] longer) {
+        long[] common = new long[shorter.length];
+        int size = 0;
+        int from = 0;
+        for (long value : shorter) {
+            int index = Arrays.binarySearch(longer, from, longer.length, value);
+            if (index >= 0) {
+                common[size++] = value;
+                from = index + 1;
+            } else {
+                from = -index - 1;
+            }
+            if (from >= longer.length) {
+                break;
+            }
+        }
+        return Arrays.copyOf(common, size);
+    }
+
+    private static long[] with(long[] sorted, long value) {
+        int index = Arrays.binarySearch(sorted, value);
+        if (index >= 0) {
+            return sorted;
+        }
+
+        int insertAt = -index - 1;
+        long[] result = new long[sorted.length + 1];
+        System.arraycopy(sorted, 0, result, 0, insertAt);
+        result[insertAt] = value;
+        System.arraycopy(sorted, insertAt, result, insertAt + 1, sorted.length - insertAt);
+        return result;
+    }
+
+    private static long[] without(long[] sorted, long value) {
+        int index = Arrays.binarySearch(sorted, value);
+        if (index < 0) {
+            return sorted;
+        }
+
+        long[] result = new long[sorted.length - 1];
+        System.arraycopy(sorted, 0, result, 0, index);
+        System.arraycopy(sorted, index + 1, result, index, sorted.length - index - 1);
+        return result;
+    }
+
+    private static long[] toSortedArray(Collection<Long> values) {
+        return values.stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+}
@@ -6,18 +6,27 @@ import com.promiseservice.model.entity.MeetingHistory;
 
 import com.promiseservice.repository.MeetingRepository;
 import com.promiseservice.repository.MeetingParticipantRepository;
-import com.promiseservice.repository.MeetingHistoryRepository;
 import com.promiseservice.dto.InviteParticipantsRequest;
 import com.promiseservice.dto.InviteResponse;
+import com.promiseservice.dto.MeetingHistoryEntry;
+import com.promiseservice.dto.ParticipantMembership;
+import com.promiseservice.dto.UserExistenceResult;
+import com.promiseservice.event.MeetingChangedEvent;
+import com.promiseservice.event.MeetingChangedEvent.ChangeType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Meeting 참여자 관리를 위한 서비스
@@ -31,9 +40,11 @@ public class ParticipantService {
 
     private final MeetingRepository meetingRepository;
     private final MeetingParticipantRepository participantRepository;
-    private final MeetingHistoryRepository historyRepository;
     private final UserService userService;
     private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticRetryExecutor retryExecutor;
+    private final WriteBehindBuffer<MeetingHistoryEntry> historyBuffer;
 
     /**
      * 추가 참여자 초대
@@ -57,29 +68,35 @@ public class ParticipantService {
             throw new RuntimeException("참여자 초대 권한이 없습니다");
         }
 
-        // 최대 참여자 수 확인
-        long currentParticipantCount = participantRepository.countByMeetingId(meetingId);
-        if (currentParticipantCount + request.getParticipantUserIds().size() > meeting.getMaxParticipants()) {
-            throw new RuntimeException("최대 참여자 수를 초과할 수 없습니다");
-        }
-
         List<Long> successfullyInvited = new ArrayList<>();
         List<Long> alreadyInvited = new ArrayList<>();
         List<Long> failedToInvite = new ArrayList<>();
 
+        // 이미 초대된 사용자를 한 번에 조회
+        // 이유: 사용자마다 참여자 조회 쿼리를 실행하면 그때마다 자동 flush가 일어나 INSERT 배치가 끊기므로
+        Set<Long> existingUserIds = participantRepository.findMembershipByMeetingId(meetingId).stream()
+                .map(ParticipantMembership::getUserId)
+                .collect(Collectors.toSet());
+
+        // 초대 대상 사용자 존재 여부를 한 번에 확인 (이미 초대된 사용자는 제외)
+        // 이유: 사용자마다 원격 호출을 순차로 실행하지 않고 일괄/병렬 조회 한 번으로 처리하기 위해
+        UserExistenceResult existence = userService.existsUsers(request.getParticipantUserIds().stream()
+                .filter(userId -> !existingUserIds.contains(userId))
+                .collect(Collectors.toList()));
+
+        List<MeetingParticipant> newParticipants = new ArrayList<>();
+        List<MeetingHistory> histories = new ArrayList<>();
+
         for (Long userId : request.getParticipantUserIds()) {
             try {
                 // 이미 초대된 사용자인지 확인
-                Optional<MeetingParticipant> existingParticipant = 
-                    participantRepository.findByMeetingIdAndUserId(meetingId, userId);
-                
-                if (existingParticipant.isPresent()) {
+                if (existingUserIds.contains(userId)) {
                     alreadyInvited.add(userId);
                     continue;
                 }
 
-                // 사용자 존재 여부 확인 (UserService 연동)
-                if (!userService.existsUser(userId)) {
+                // 사용자 존재 여부 확인 (일괄 확인 결과 사용)
+                if (!existence.exists(userId)) {
                     failedToInvite.add(userId);
                     continue;
                 }
@@ -90,13 +107,13 @@ public class ParticipantService {
                 participant.setUserId(userId);
                 participant.setMeeting(meeting);
                 participant.setResponse(MeetingParticipant.ResponseStatus.INVITED);
-                participantRepository.save(participant);
+                newParticipants.add(participant);
+                existingUserIds.add(userId);
 
                 successfullyInvited.add(userId);
 
                 // 히스토리 기록
-                MeetingHistory history = MeetingHistory.updateHistory(meeting, hostId);
-                historyRepository.save(history);
+                histories.add(MeetingHistory.updateHistory(meeting, hostId));
 
                 // 초대 알림 전송 (NotificationService에 구현 필요)
                 // notificationService.sendParticipantInvitedNotification(meeting, userId);
@@ -107,6 +124,22 @@ public class ParticipantService {
             }
         }
 
+        // 최대 참여자 수 확인과 카운터 증가를 조건부 UPDATE 한 번으로 처리
+        // 이유: 인원을 읽어 확인한 뒤 저장하면 동시 초대가 같은 빈자리를 보고 최대 인원을 넘기므로
+        if (!newParticipants.isEmpty()
+                && meetingRepository.reserveInvitedSeats(meetingId, newParticipants.size()) == 0) {
+            throw new RuntimeException("최대 참여자 수를 초과할 수 없습니다");
+        }
+
+        // 참여자를 모아서 저장하고 히스토리는 쓰기 지연 버퍼로 전달
+        // 이유: 시퀀스 ID와 JDBC 배치 설정으로 flush 시 INSERT 한 번으로 처리하고, 히스토리는 다른 요청의 행과 함께 배치로 쓰기 위해
+        participantRepository.saveAll(newParticipants);
+        histories.forEach(history -> historyBuffer.append(MeetingHistoryEntry.from(history)));
+
+        if (!successfullyInvited.isEmpty()) {
+            eventPublisher.publishEvent(new MeetingChangedEvent(meetingId, ChangeType.PARTICIPANTS_CHANGED));
+        }
+
         log.info("참여자 초대 완료 - 성공: {}, 이미 초대됨: {}, 실패: {}", 
                 successfullyInvited.size(), alreadyInvited.size(), failedToInvite.size());
 
@@ -120,15 +153,24 @@ public class ParticipantService {
     /**
      * 초대 응답 처리
      * 이유: 초대받은 사용자가 참여 의사를 표명할 수 있도록 하기 위해
+     *
+     * 응답 상태와 정원은 조건부 UPDATE로 변경하고, 동시에 같은 초대가 변경된 경우에만
+     * 새 트랜잭션에서 다시 읽어 처리한다 (약속 행을 비관적 잠금으로 붙잡지 않음)
      * 
      * @param meetingId 약속 ID
      * @param userId 응답하는 사용자 ID
      * @param response 응답 상태
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void respondToInvitation(Long meetingId, Long userId, MeetingParticipant.ResponseStatus response) {
         log.info("초대 응답 처리 - 약속 ID: {}, 사용자: {}, 응답: {}", meetingId, userId, response);
+        retryExecutor.run("초대 응답", () -> applyResponse(meetingId, userId, response));
+    }
 
+    /**
+     * 초대 응답 반영 (재시도 한 번의 트랜잭션 단위)
+     */
+    private void applyResponse(Long meetingId, Long userId, MeetingParticipant.ResponseStatus response) {
         MeetingParticipant participant = participantRepository.findByMeetingIdAndUserId(meetingId, userId)
             .orElseThrow(() -> new RuntimeException("참여자 정보를 찾을 수 없습니다"));
 
@@ -138,9 +180,23 @@ public class ParticipantService {
             return;
         }
 
-        // 응답 상태 업데이트 (Entity 메서드 사용)
-        participant.updateResponse(response);
-        participantRepository.save(participant);
+        // 읽은 응답 상태가 그대로일 때만 변경 (동시 응답이면 재시도하여 다시 읽음)
+        MeetingParticipant.ResponseStatus previousResponse = participant.getResponse();
+        if (!participantRepository.compareAndSetResponse(participant, response)) {
+            throw new OptimisticLockingFailureException(
+                    "참여자 응답이 동시에 변경되었습니다 - 약속 ID: " + meetingId + ", 사용자: " + userId);
+        }
+
+        // 수락은 정원이 남아 있을 때만 좌석 예약, 그 외에는 카운터만 이동
+        // 이유: 정원 확인과 수락 카운터 증가를 한 UPDATE로 묶어 동시 수락으로 정원을 넘지 않도록 하기 위해
+        // (예약에 실패하면 예외로 트랜잭션이 롤백되어 위의 응답 변경도 취소됨)
+        if (response == MeetingParticipant.ResponseStatus.ACCEPTED) {
+            if (!meetingRepository.tryReserveAcceptedSeat(meetingId, previousResponse)) {
+                throw new RuntimeException("약속 정원이 가득 찼습니다");
+            }
+        } else {
+            meetingRepository.moveParticipantCount(meetingId, previousResponse, response);
+        }
 
         // 히스토리 기록
         MeetingHistory.ActionType actionType = response == MeetingParticipant.ResponseStatus.ACCEPTED 
@@ -151,7 +207,7 @@ public class ParticipantService {
         history.setMeeting(participant.getMeeting());
         history.setUserId(userId);
         history.setAction(actionType);
-        historyRepository.save(history);
+        historyBuffer.append(MeetingHistoryEntry.from(history));
 
         // 응답 알림 전송 (NotificationService에 구현 필요)
         if (response == MeetingParticipant.ResponseStatus.ACCEPTED) {
@@ -160,6 +216,8 @@ public class ParticipantService {
             // notificationService.sendParticipantDeclinedNotification(participant.getMeeting(), userId);
         }
 
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId, ChangeType.PARTICIPANTS_CHANGED));
+
         log.info("초대 응답 처리 완료 - 약속 ID: {}, 사용자: {}, 응답: {}", meetingId, userId, response);
     }
 
@@ -194,12 +252,14 @@ public class ParticipantService {
 
         // 히스토리 기록
         MeetingHistory history = MeetingHistory.updateHistory(meeting, hostId);
-        historyRepository.save(history);
+        historyBuffer.append(MeetingHistoryEntry.from(history));
 
         // 제거 알림 전송 (NotificationService에 구현 필요)
         // notificationService.sendParticipantRemovedNotification(meeting, participantUserId);
 
         participantRepository.delete(participant);
+        meetingRepository.moveParticipantCount(meetingId, participant.getResponse(), null);
+        eventPublisher.publishEvent(new MeetingChangedEvent(meetingId, ChangeType.PARTICIPANTS_CHANGED));
         log.info("참여자 제거 완료 - 약속 ID: {}, 사용자: {}", meetingId, participantUserId);
     }
 
@@ -308,22 +368,21 @@ public class ParticipantService {
     /**
      * 참여자 통계 정보 조회
      * 이유: 약속의 참여 현황을 한 번에 확인하기 위해
+     * (존재하지 않는 약속은 모든 수가 0)
      * 
      * @param meetingId 약속 ID
      * @return 참여자 통계
      */
     public ParticipantStats getParticipantStats(Long meetingId) {
-        long totalCount = getParticipantCount(meetingId);
-        long acceptedCount = getAcceptedParticipantCount(meetingId);
-        long invitedCount = getInvitedParticipantCount(meetingId);
-        long rejectedCount = participantRepository.countRejectedParticipantsByMeetingId(meetingId);
-
-        return ParticipantStats.builder()
-                .totalCount(totalCount)
-                .acceptedCount(acceptedCount)
-                .invitedCount(invitedCount)
-                .rejectedCount(rejectedCount)
-                .build();
+        // 상태별 COUNT 쿼리 4번 대신 약속 행의 카운터 컬럼 한 번 조회
+        return meetingRepository.findParticipantCounterById(meetingId)
+                .map(counter -> ParticipantStats.builder()
+                        .totalCount(counter.getAcceptedCount() + counter.getInvitedCount() + counter.getRejectedCount())
+                        .acceptedCount(counter.getAcceptedCount())
+                        .invitedCount(counter.getInvitedCount())
+                        .rejectedCount(counter.getRejectedCount())
+                        .build())
+                .orElseGet(() -> ParticipantStats.builder().build());
     }
 
     /**
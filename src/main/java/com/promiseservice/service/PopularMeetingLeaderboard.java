@@ -0,0 +1,211 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.MeetingParticipantCounts;
+import com.promiseservice.event.MeetingChangedEvent;
+import com.promiseservice.event.MeetingChangedEvent.ChangeType;
+import com.promiseservice.repository.MeetingParticipantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 참여자 수 기준 인기 약속 순위표
+ * 이유: 인기 약속 조회마다 전체 약속을 읽고 비교할 때마다 COUNT 쿼리를 실행하던 방식 대신,
+ * 참여자 변경 시점에 해당 약속의 순위만 갱신하여 조회는 상위 K개를 메모리에서 O(K)로 꺼내기 위해
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularMeetingLeaderboard {
+
+    // 정렬 기준: 참여자 수 내림차순, 같으면 최신 약속(ID 큰 순) 우선
+    // 이유: 데이터베이스 대체 조회(findMeetingIdsOrderByParticipantCountDesc)와 같은 순서를 보장하기 위해
+    private static final Comparator<Entry> RANKING_ORDER = Comparator
+            .comparingLong(Entry::participantCount).reversed()
+            .thenComparing(Comparator.comparingLong(Entry::meetingId).reversed());
+
+    private final MeetingParticipantRepository participantRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 약속 ID → 현재 참여자 수 (순위표에서 이전 항목을 찾아 제거하기 위해 사용)
+    private final Map<Long, Long> counts = new HashMap<>();
+
+    // 참여자 수 순으로 정렬된 약속 목록
+    private final TreeSet<Entry> ranking = new TreeSet<>(RANKING_ORDER);
+
+    private final AtomicBoolean ready = new AtomicBoolean(false);
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    // 재구축 도중 갱신된 약속 ID → 참여자 수 (재구축 중이 아니면 null, 쓰기 잠금으로 보호)
+    // 이유: 집계 쿼리 이후 들어온 갱신이 교체되는 집계 결과에 덮어써지지 않도록, 교체와 같은 잠금 안에서 다시 적용하기 위해
+    private Map<Long, Long> updatedDuringRebuild;
+
+    /**
+     * 애플리케이션 시작 시 순위표 구축
+     * 이유: 메모리 순위표는 재시작 시 사라지므로 약속별 참여자 수 집계 쿼리 한 번으로 다시 만들기 위해
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 약속 변경 이벤트 처리
+     * 이유: 참여자 수가 바뀔 수 있는 변경(생성, 참여자 초대/응답/제거)이 커밋된 뒤 해당 약속의 순위만 갱신하기 위해
+     *
+     * @param event 약속 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        try {
+            ChangeType changeType = event.changeType();
+            if (changeType.isRemoval()) {
+                remove(event.meetingId());
+            } else if (changeType == ChangeType.CREATED || changeType == ChangeType.PARTICIPANTS_CHANGED) {
+                update(event.meetingId(), participantRepository.countByMeetingId(event.meetingId()));
+            }
+        } catch (Exception e) {
+            log.error("인기 약속 순위 갱신 실패 - 약속 ID: {}, 에러: {}", event.meetingId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 데이터베이스 집계로 순위표 전체를 다시 구축
+     * 이유: 집계 쿼리는 잠금 없이 실행해 조회와 갱신을 막지 않고, 그동안 들어온 갱신은 기록해 두었다가
+     * 집계 결과로 교체한 직후 같은 쓰기 잠금 안에서 다시 적용하여 잃어버리지 않기 위해
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("인기 약속 순위표 재구축이 이미 진행 중입니다");
+            return;
+        }
+
+        try {
+            lock.writeLock().lock();
+            try {
+                updatedDuringRebuild = new HashMap<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            List<MeetingParticipantCounts> allCounts = participantRepository.countParticipantsGroupedByMeeting();
+
+            int replayed;
+            lock.writeLock().lock();
+            try {
+                counts.clear();
+                ranking.clear();
+                for (MeetingParticipantCounts count : allCounts) {
+                    counts.put(count.getMeetingId(), count.getTotalCount());
+                    ranking.add(new Entry(count.getMeetingId(), count.getTotalCount()));
+                }
+                replayed = updatedDuringRebuild.size();
+                updatedDuringRebuild.forEach(this::applyLocked);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready.set(true);
+
+            log.info("인기 약속 순위표 구축 완료 - 약속 수: {}, 재구축 중 갱신 재적용: {}", allCounts.size(), replayed);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                updatedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 약속의 참여자 수 갱신
+     * 이유: 이전 순위 항목을 제거하고 새 참여자 수로 다시 넣어 O(log n)에 순위를 조정하기 위해
+     *
+     * @param meetingId 약속 ID
+     * @param participantCount 현재 참여자 수 (0이면 순위표에서 제외)
+     */
+    public void update(Long meetingId, long participantCount) {
+        lock.writeLock().lock();
+        try {
+            applyLocked(meetingId, participantCount);
+            if (updatedDuringRebuild != null) {
+                updatedDuringRebuild.put(meetingId, participantCount);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 약속을 순위표에서 제거
+     *
+     * @param meetingId 약속 ID
+     */
+    public void remove(Long meetingId) {
+        update(meetingId, 0);
+    }
+
+    /**
+     * 참여자 수 상위 약속 ID 조회
+     *
+     * @param limit 조회할 개수
+     * @return 참여자 수 내림차순 약속 ID 목록 (최대 limit개)
+     */
+    public List<Long> top(int limit) {
+        lock.readLock().lock();
+        try {
+            List<Long> result = new ArrayList<>(Math.min(limit, ranking.size()));
+            Iterator<Entry> iterator = ranking.iterator();
+            while (iterator.hasNext() && result.size() < limit) {
+                result.add(iterator.next().meetingId());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 순위표 준비 여부
+     */
+    public boolean isReady() {
+        return ready.get();
+    }
+
+    /**
+     * 순위 항목 교체 (쓰기 잠금 보유 상태에서 호출)
+     */
+    private void applyLocked(Long meetingId, long participantCount) {
+        Long previous = counts.remove(meetingId);
+        if (previous != null) {
+            ranking.remove(new Entry(meetingId, previous));
+        }
+        if (participantCount > 0) {
+            counts.put(meetingId, participantCount);
+            ranking.add(new Entry(meetingId, participantCount));
+        }
+    }
+
+    /**
+     * 순위표 항목
+     */
+    private record Entry(long meetingId, long participantCount) {
+    }
+}
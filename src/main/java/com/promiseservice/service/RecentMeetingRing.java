@@ -0,0 +1,234 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.MeetingParticipantCounts;
+import com.promiseservice.dto.MeetingSummaryResponse;
+import com.promiseservice.event.MeetingChangedEvent;
+import com.promiseservice.model.entity.Meeting;
+import com.promiseservice.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 최근 생성된 약속 요약을 보관하는 고정 크기 링
+ * 이유: 최근 약속 조회는 자주 호출되지만 결과는 새 약속이 생길 때만 바뀌므로,
+ * 최신 약속 요약 스냅샷을 메모리에 유지하여 조회 시 데이터베이스에 접근하지 않기 위해
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentMeetingRing {
+
+    // 정렬 기준: 생성 시간 내림차순, 같으면 ID 내림차순
+    // 이유: 데이터베이스 조회(findByOrderByCreatedAtDescIdDesc)와 같은 순서를 보장하기 위해
+    private static final Comparator<Key> RECENT_ORDER = Comparator
+            .comparing(Key::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Key::meetingId, Comparator.reverseOrder());
+
+    private final MeetingRepository meetingRepository;
+
+    // 링에 보관할 최대 약속 수 (이보다 많이 요청하면 데이터베이스에서 조회)
+    @Value("${app.search.recent-ring.capacity:100}")
+    private int capacity = 100;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 최신순으로 정렬된 약속 스냅샷
+    private final TreeMap<Key, MeetingSummaryResponse> snapshots = new TreeMap<>(RECENT_ORDER);
+
+    // 약속 ID → 정렬 키 (갱신/삭제 시 항목을 찾기 위해 사용)
+    private final Map<Long, Key> keysById = new HashMap<>();
+
+    private final AtomicBoolean ready = new AtomicBoolean(false);
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    // 재구축 도중 변경된 약속 ID
+    // 이유: 재구축 중 들어온 변경은 교체될 기존 링 기준으로 처리되므로(링에 없던 약속의 수정은 무시됨), 교체 후 다시 반영하기 위해
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 애플리케이션 시작 시 링 구축
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 약속 변경 이벤트 처리
+     * 이유: 새 약속은 링 앞에 넣고, 링에 있는 약속이 바뀌면 스냅샷을 갱신하며,
+     * 삭제로 빈 자리가 생기면 다음 순번 약속을 채우기 위해 링을 다시 구축하기 위해
+     *
+     * @param event 약속 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMeetingChanged(MeetingChangedEvent event) {
+        try {
+            if (rebuilding.get()) {
+                changedDuringRebuild.add(event.meetingId());
+            }
+            if (event.changeType().isRemoval()) {
+                if (contains(event.meetingId())) {
+                    rebuild();
+                }
+            } else if (event.changeType() == MeetingChangedEvent.ChangeType.CREATED || contains(event.meetingId())) {
+                meetingRepository.findById(event.meetingId())
+                        .ifPresent(meeting -> put(toSummaries(List.of(meeting)).get(0)));
+            }
+        } catch (Exception e) {
+            log.error("최근 약속 링 갱신 실패 - 약속 ID: {}, 에러: {}", event.meetingId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 데이터베이스의 최신 약속으로 링 전체를 다시 구축
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("최근 약속 링 재구축이 이미 진행 중입니다");
+            return;
+        }
+
+        try {
+            List<Meeting> meetings = meetingRepository.findByOrderByCreatedAtDescIdDesc(PageRequest.of(0, capacity));
+            List<MeetingSummaryResponse> loaded = toSummaries(meetings);
+
+            lock.writeLock().lock();
+            try {
+                snapshots.clear();
+                keysById.clear();
+                loaded.forEach(this::putLocked);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            ready.set(true);
+
+            log.info("최근 약속 링 구축 완료 - 약속 수: {}", loaded.size());
+        } finally {
+            rebuilding.set(false);
+        }
+
+        // 재구축 중 변경된 약속을 새 링에 다시 반영
+        // (링에 들어간 약속이 그사이 삭제되었으면 빈 자리를 채우도록 다시 구축)
+        Set<Long> changedIds = new HashSet<>(changedDuringRebuild);
+        changedDuringRebuild.removeAll(changedIds);
+        boolean removedFromRing = false;
+        for (Long meetingId : changedIds) {
+            Optional<Meeting> meeting = meetingRepository.findById(meetingId);
+            if (meeting.isPresent()) {
+                put(toSummaries(List.of(meeting.get())).get(0));
+            } else {
+                removedFromRing |= contains(meetingId);
+            }
+        }
+        if (removedFromRing) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 최근 생성된 약속 요약 조회
+     * 이유: 요청 사용자 기준 방장 여부만 적용한 복사본을 돌려주어 공유 스냅샷이 변경되지 않도록 하기 위해
+     *
+     * @param limit 조회할 개수 (capacity 이하)
+     * @param currentUserId 현재 로그인한 사용자 ID
+     * @return 최신순 약속 요약 목록
+     */
+    public List<MeetingSummaryResponse> latest(int limit, Long currentUserId) {
+        lock.readLock().lock();
+        try {
+            return snapshots.values().stream()
+                    .limit(limit)
+                    .map(summary -> summary.copyFor(currentUserId))
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 요청 개수를 링에서 처리할 수 있는지 확인
+     *
+     * @param limit 조회할 개수
+     * @return 링이 준비되었고 limit이 링 크기 이하이면 true
+     */
+    public boolean canServe(int limit) {
+        return ready.get() && limit <= capacity;
+    }
+
+    private boolean contains(Long meetingId) {
+        lock.readLock().lock();
+        try {
+            return keysById.containsKey(meetingId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(MeetingSummaryResponse summary) {
+        lock.writeLock().lock();
+        try {
+            putLocked(summary);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 추가 또는 교체 후 capacity를 넘는 가장 오래된 항목 제거 (쓰기 잠금 보유 상태에서 호출)
+     */
+    private void putLocked(MeetingSummaryResponse summary) {
+        Long meetingId = summary.getId();
+        Key previous = keysById.remove(meetingId);
+        if (previous != null) {
+            snapshots.remove(previous);
+        }
+
+        Key key = new Key(summary.getCreatedAt(), meetingId);
+        snapshots.put(key, summary);
+        keysById.put(meetingId, key);
+
+        while (snapshots.size() > capacity) {
+            Map.Entry<Key, MeetingSummaryResponse> oldest = snapshots.pollLastEntry();
+            keysById.remove(oldest.getKey().meetingId());
+        }
+    }
+
+    /**
+     * 약속 목록을 요약 스냅샷으로 변환 (방장 여부는 조회 시 요청 사용자 기준으로 적용)
+     * 이유: 참여자 수를 별도 집계 쿼리 없이 약속 행의 카운터 컬럼으로 채워 요약을 만들기 위해
+     */
+    private List<MeetingSummaryResponse> toSummaries(List<Meeting> meetings) {
+        return meetings.stream()
+                .map(meeting -> MeetingSummaryResponse.from(meeting, MeetingParticipantCounts.of(meeting), false))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 링 정렬 키
+     */
+    private record Key(LocalDateTime createdAt, Long meetingId) {
+    }
+}
@@ -1,14 +1,34 @@
 package com.promiseservice.service;
 
 import com.promiseservice.dto.UserDto;
+import com.promiseservice.dto.UserExistenceResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 사용자 정보 관리 서비스
@@ -31,6 +51,53 @@ public class        UserService {
     @Value("${userservice.api.profiles}")
     private String profilesApiPath;
 
+    // 테스트용 Mock 사용자(ID 1~8) 사용 여부
+    // 이유: UserService가 연결되지 않은 로컬 환경에서도 샘플 사용자로 약속을 만들 수 있도록 하기 위해
+    @Value("${userservice.mock.enabled:false}")
+    private boolean mockUsersEnabled = false;
+
+    // 일괄 존재 확인 API(POST {users}/exists) 사용 여부
+    @Value("${userservice.batch-exists.enabled:false}")
+    private boolean batchExistsEnabled = false;
+
+    // 존재 여부 캐시 유지 시간 (초)
+    // 이유: 같은 사용자를 연달아 초대하거나 재시도할 때 원격 호출을 반복하지 않기 위해
+    @Value("${userservice.exists-cache.ttl-seconds:60}")
+    private long existsCacheTtlSeconds = 60;
+
+    // 존재 여부 캐시에 보관할 최대 사용자 수 (초과 시 가장 오래 사용하지 않은 항목 제거)
+    // 이유: 확인한 적 있는 모든 사용자 ID가 캐시에 계속 쌓이지 않도록 메모리 사용량을 제한하기 위해
+    @Value("${userservice.exists-cache.max-entries:10000}")
+    private int existsCacheMaxEntries = 10000;
+
+    // 병렬 단건 존재 확인 시 최대 동시 호출 수
+    @Value("${userservice.exists.max-concurrency:8}")
+    private int existsMaxConcurrency = 8;
+
+    // 일괄 존재 확인 API 지원 여부 (404/405 응답을 받으면 false로 전환)
+    private final AtomicBoolean batchExistsSupported = new AtomicBoolean(true);
+
+    private final Lock existenceCacheLock = new ReentrantLock();
+
+    // 접근 순서로 정렬된 존재 여부 캐시 (LRU)
+    private final LinkedHashMap<Long, CachedExistence> existenceCache = new LinkedHashMap<>(16, 0.75f, true);
+
+    private ExecutorService existsExecutor;
+
+    /**
+     * 병렬 존재 확인용 스레드 풀 생성
+     * 이유: 동시 호출 수를 설정값으로 제한하기 위해 설정 주입 이후에 생성
+     */
+    @PostConstruct
+    public void initExistsExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        existsExecutor = Executors.newFixedThreadPool(existsMaxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "user-exists-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     /**
      * 사용자 정보 조회
      */
@@ -52,41 +119,199 @@ public class        UserService {
      * 사용자 존재 여부 확인 (UserService API 호출)
      * 이유: 약속 생성 및 참여자 초대 시 유효한 사용자인지 확인하기 위해
      * 포트 8081의 UserService API를 호출하여 실제 사용자 존재 여부를 확인
-     * 
-     * TODO: 테스트용으로 임시 Mock 구현, 추후 실제 UserService API 연결 필요
+     * (일괄 확인과 같은 캐시를 사용하도록 existsUsers에 위임)
      */
     public boolean existsUser(Long userId) {
-        // TODO: 테스트용 Mock 구현 - 실제 UserService API 연결 후 제거
-        // 이유: 현재 UserService가 연결되지 않아 테스트를 위한 임시 처리
-        if (userId >= 1 && userId <= 8) {
+        return existsUsers(List.of(userId)).exists(userId);
+    }
+
+    /**
+     * 여러 사용자 존재 여부 일괄 확인
+     * 이유: 초대 인원만큼 원격 호출을 순차로 실행하지 않도록,
+     * 캐시에 없는 사용자만 일괄 조회 API(지원 시) 한 번 또는 동시 호출 수가 제한된 병렬 조회로 확인하기 위해
+     *
+     * 확인에 실패한 사용자는 기존 단건 확인과 같이 존재하지 않는 것으로 처리하고 캐시하지 않는다.
+     *
+     * @param userIds 확인할 사용자 ID 목록
+     * @return 존재하는 사용자와 누락된 사용자 전체
+     */
+    public UserExistenceResult existsUsers(Collection<Long> userIds) {
+        Set<Long> existing = new HashSet<>();
+        Set<Long> missing = new HashSet<>();
+        List<Long> unresolved = new ArrayList<>();
+
+        long now = System.currentTimeMillis();
+        for (Long userId : new LinkedHashSet<>(userIds)) {
+            if (isMockUser(userId)) {
+                existing.add(userId);
+                continue;
+            }
+            CachedExistence cached = getCachedExistence(userId, now);
+            if (cached != null) {
+                (cached.exists() ? existing : missing).add(userId);
+            } else {
+                unresolved.add(userId);
+            }
+        }
+
+        if (!unresolved.isEmpty()) {
+            Map<Long, Boolean> fetched = fetchExistence(unresolved);
+            long expiresAt = System.currentTimeMillis() + existsCacheTtlSeconds * 1000L;
+            for (Long userId : unresolved) {
+                Boolean exists = fetched.get(userId);
+                if (exists == null) {
+                    // 확인 실패: 보안상 존재하지 않는 것으로 처리하되, 다음 요청에서 다시 확인하도록 캐시하지 않음
+                    missing.add(userId);
+                    continue;
+                }
+                putCachedExistence(userId, new CachedExistence(exists, expiresAt));
+                (exists ? existing : missing).add(userId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            log.warn("존재하지 않는 사용자 확인 - 요청: {}명, 누락: {}", existing.size() + missing.size(), missing);
+        }
+        return new UserExistenceResult(existing, missing);
+    }
+
+    /**
+     * 테스트용 Mock 사용자 여부 (userservice.mock.enabled가 켜진 경우 ID 1~8)
+     * TODO: 실제 UserService API 연결 후 제거
+     */
+    private boolean isMockUser(Long userId) {
+        if (mockUsersEnabled && userId >= 1 && userId <= 8) {
             log.info("테스트용 Mock 사용자 확인됨 - ID: {}", userId);
             return true;
         }
-        
+        return false;
+    }
+
+    /**
+     * 캐시된 존재 여부 조회 (만료된 항목은 제거)
+     *
+     * @return 유효한 캐시 항목 (없거나 만료되었으면 null)
+     */
+    private CachedExistence getCachedExistence(Long userId, long now) {
+        existenceCacheLock.lock();
+        try {
+            CachedExistence cached = existenceCache.get(userId);
+            if (cached != null && cached.expiresAt() <= now) {
+                existenceCache.remove(userId);
+                return null;
+            }
+            return cached;
+        } finally {
+            existenceCacheLock.unlock();
+        }
+    }
+
+    /**
+     * 존재 여부 캐시 저장 (최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 제거)
+     */
+    private void putCachedExistence(Long userId, CachedExistence cached) {
+        existenceCacheLock.lock();
+        try {
+            existenceCache.put(userId, cached);
+            while (existenceCache.size() > existsCacheMaxEntries) {
+                Iterator<Long> eldest = existenceCache.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+            }
+        } finally {
+            existenceCacheLock.unlock();
+        }
+    }
+
+    /**
+     * 캐시에 없는 사용자들의 존재 여부를 원격으로 조회
+     * 이유: 일괄 조회 API를 우선 사용하고, 지원하지 않거나 실패하면 병렬 단건 조회로 대체하기 위해
+     *
+     * @return 사용자 ID → 존재 여부 (확인 실패한 사용자는 포함하지 않음)
+     */
+    private Map<Long, Boolean> fetchExistence(List<Long> userIds) {
+        if (batchExistsEnabled && batchExistsSupported.get()) {
+            try {
+                return fetchExistenceInBatch(userIds);
+            } catch (HttpClientErrorException.NotFound | HttpClientErrorException.MethodNotAllowed e) {
+                // 이유: 일괄 조회 API가 없는 UserService에 매 요청마다 실패 호출을 보내지 않기 위해
+                batchExistsSupported.set(false);
+                log.warn("UserService 일괄 존재 확인 API 미지원 - 병렬 단건 조회로 전환: {}", e.getStatusCode());
+            } catch (Exception e) {
+                log.error("UserService 일괄 존재 확인 실패 - 병렬 단건 조회로 대체, 에러: {}", e.getMessage());
+            }
+        }
+        return fetchExistenceConcurrently(userIds);
+    }
+
+    /**
+     * 일괄 존재 확인 API 호출 (POST 사용자 ID 배열 → 존재하는 사용자 ID 배열)
+     */
+    private Map<Long, Boolean> fetchExistenceInBatch(List<Long> userIds) {
+        String url = userServiceBaseUrl + usersApiPath + "/exists";
+        Long[] found = restTemplate.postForObject(url, userIds, Long[].class);
+        Set<Long> existingIds = found != null ? Set.of(found) : Set.of();
+
+        Map<Long, Boolean> result = new HashMap<>();
+        for (Long userId : userIds) {
+            result.put(userId, existingIds.contains(userId));
+        }
+        log.info("UserService 일괄 존재 확인 완료 - 요청: {}명, 존재: {}명", userIds.size(), existingIds.size());
+        return result;
+    }
+
+    /**
+     * 단건 존재 확인 API를 동시 호출 수를 제한하여 병렬로 호출
+     * 이유: 전체 대기 시간을 호출 수의 합이 아닌 가장 느린 호출 수준으로 줄이면서 UserService에 과도한 동시 요청을 보내지 않기 위해
+     */
+    private Map<Long, Boolean> fetchExistenceConcurrently(List<Long> userIds) {
+        Map<Long, CompletableFuture<Boolean>> futures = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            futures.put(userId, CompletableFuture.supplyAsync(() -> fetchExistence(userId), existsExecutor));
+        }
+
+        Map<Long, Boolean> result = new HashMap<>();
+        futures.forEach((userId, future) -> {
+            Boolean exists = future.join();
+            if (exists != null) {
+                result.put(userId, exists);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 단건 존재 확인 API 호출
+     *
+     * @return 존재 여부 (호출 실패 시 null)
+     */
+    private Boolean fetchExistence(Long userId) {
         try {
             // UserService API 호출하여 사용자 존재 여부 확인
             // 이유: 사용자 데이터는 UserService에서만 관리하므로 해당 서비스를 통해 확인
             String url = userServiceBaseUrl + usersApiPath + "/" + userId + "/exists";
             Boolean exists = restTemplate.getForObject(url, Boolean.class);
-            
-            if (exists != null && exists) {
-                log.info("UserService에서 사용자 확인됨 - ID: {}", userId);
-                return true;
-            } else {
-                log.warn("UserService에서 사용자를 찾을 수 없음 - ID: {}", userId);
-                return false;
-            }
-            
+            return exists != null && exists;
         } catch (Exception e) {
             log.error("UserService API 호출 실패 - ID: {}, 에러: {}", userId, e.getMessage());
-            
-            // API 호출 실패 시 안전하게 false 반환
-            // 이유: 사용자 존재를 확인할 수 없으면 보안상 존재하지 않는 것으로 처리
-            log.warn("UserService 연결 실패로 인해 사용자 존재하지 않음으로 처리 - ID: {}", userId);
-            return false;
+            return null;
         }
     }
 
+    /**
+     * 병렬 존재 확인용 스레드 풀 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        existsExecutor.shutdown();
+    }
+
+    /**
+     * 사용자 존재 여부 캐시 항목
+     */
+    private record CachedExistence(boolean exists, long expiresAt) {
+    }
+
     /**
      * 친구 목록 조회 (UserService API 호출)
      * 이유: 친구 관련 기능은 UserService에서 관리하므로 외부 API를 통해 조회
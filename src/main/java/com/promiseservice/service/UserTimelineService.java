@@ -0,0 +1,102 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.MeetingChangeFeedItem;
+import com.promiseservice.dto.ParticipantMembership;
+import com.promiseservice.dto.UserTimelineResponse;
+import com.promiseservice.model.entity.MeetingHistory;
+import com.promiseservice.model.entity.UserTimelineEntry;
+import com.promiseservice.repository.MeetingParticipantRepository;
+import com.promiseservice.repository.UserTimelineRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 활동 타임라인 서비스
+ * 이유: 타임라인 조회가 쓰기보다 훨씬 잦으므로, 히스토리를 쓸 때 참여자별 타임라인에 미리 퍼뜨려(fan-out on write)
+ * 조회는 사용자 한 명의 인덱스 범위 스캔으로 끝내기 위해
+ *
+ * 퍼뜨리는 시점의 참여자(응답 상태와 무관)와 활동한 사용자 본인이 받는다.
+ * 나중에 초대된 사용자는 이전 활동을 받지 않고, 빠진 참여자는 이미 받은 활동을 유지한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserTimelineService {
+
+    private final UserTimelineRepository timelineRepository;
+    private final MeetingParticipantRepository participantRepository;
+
+    // 한 번에 조회할 수 있는 최대 항목 수
+    @Value("${app.timeline.max-page-size:100}")
+    private int maxPageSize = 100;
+
+    /**
+     * 저장된 히스토리를 참여자 타임라인에 기록
+     * 이유: 히스토리 배치와 같은 트랜잭션에서 쓰여, 히스토리는 저장됐는데 타임라인에는 빠지는 경우가 없도록 하기 위해
+     *
+     * @param meetingIds 히스토리별 약속 ID (histories와 같은 순서)
+     * @param histories ID가 할당된 히스토리
+     * @return 기록한 타임라인 항목 수
+     */
+    @Transactional
+    public int fanOut(List<Long> meetingIds, List<MeetingHistory> histories) {
+        if (histories.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<Long>> participantsByMeeting = new HashMap<>();
+        for (ParticipantMembership membership : participantRepository.findMembershipByMeetingIdIn(Set.copyOf(meetingIds))) {
+            participantsByMeeting.computeIfAbsent(membership.getMeetingId(), id -> new ArrayList<>()).add(membership.getUserId());
+        }
+
+        List<UserTimelineEntry> entries = new ArrayList<>();
+        for (int i = 0; i < histories.size(); i++) {
+            Long meetingId = meetingIds.get(i);
+            MeetingHistory history = histories.get(i);
+            Set<Long> recipients = new LinkedHashSet<>(participantsByMeeting.getOrDefault(meetingId, List.of()));
+            recipients.add(history.getUserId());
+            recipients.forEach(userId -> entries.add(UserTimelineEntry.of(userId, meetingId, history)));
+        }
+        timelineRepository.saveAll(entries);
+
+        log.debug("타임라인 기록 - 히스토리: {}건, 타임라인 항목: {}건", histories.size(), entries.size());
+        return entries.size();
+    }
+
+    /**
+     * 사용자 타임라인 조회 (최신 순)
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 조회할 항목 수
+     * @return 타임라인 페이지
+     */
+    @Transactional(readOnly = true)
+    public UserTimelineResponse getTimeline(Long userId, Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        // 다음 페이지 존재 여부를 count 쿼리 없이 알기 위해 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<UserTimelineEntry> rows = cursor == null
+                ? timelineRepository.findLatest(userId, limit)
+                : timelineRepository.findBefore(userId, cursor, limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<MeetingChangeFeedItem> items = rows.stream()
+                .limit(pageSize)
+                .map(MeetingChangeFeedItem::from)
+                .toList();
+        Long nextCursor = hasNext ? items.get(items.size() - 1).id() : null;
+        return new UserTimelineResponse(items, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,392 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.WriteBehindStatsResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 추가 전용(append-only) 행 쓰기 지연 버퍼
+ * 이유: 같은 요청에서 다시 읽지 않는 히스토리/알림 로그 INSERT를 요청마다 보내지 않고,
+ * 여러 요청의 행을 모아 크기나 시간 기준으로 한 번의 배치 INSERT로 쓰기 위해
+ *
+ * 트랜잭션 안에서 추가된 항목은 커밋된 뒤에만 버퍼에 들어가므로 롤백된 요청의 행은 쓰이지 않는다.
+ * 내구성 모드:
+ * - NONE: 메모리 버퍼만 사용 (프로세스가 죽으면 아직 쓰지 않은 항목은 유실)
+ * - JOURNAL: 버퍼에 넣을 때 로컬 저널에도 기록하고, 재시작 시 남은 항목을 다시 씀 (최소 한 번, 중복 가능)
+ * - BEFORE_COMMIT: 지연 없이 요청 트랜잭션 커밋 직전에 그 트랜잭션의 항목을 한 번에 씀 (유실 없음)
+ */
+@Slf4j
+public class WriteBehindBuffer<T> {
+
+    /**
+     * 내구성 모드
+     */
+    public enum Durability {
+        NONE,
+        JOURNAL,
+        BEFORE_COMMIT
+    }
+
+    /**
+     * 버퍼 설정
+     *
+     * @param durability 내구성 모드
+     * @param capacity 메모리 버퍼 최대 항목 수
+     * @param batchSize 한 번에 쓰는 최대 항목 수 (이만큼 쌓이면 주기를 기다리지 않고 비움)
+     * @param flushIntervalMs 비우기 주기 (밀리초)
+     */
+    public record Settings(Durability durability, int capacity, int batchSize, long flushIntervalMs) {
+    }
+
+    private final String name;
+    private final Consumer<List<T>> batchWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final Settings settings;
+    private final WriteBehindJournal<T> journal;
+    private final BlockingQueue<T> queue;
+    private final ScheduledExecutorService flusher;
+
+    // 버퍼 추가와 저널 기록/봉인을 같은 순서로 묶기 위한 잠금
+    private final Object appendLock = new Object();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong lastFlushNanos = new AtomicLong();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+
+    /**
+     * @param name 버퍼 이름 (로그, 통계, 저널 파일 이름에 사용)
+     * @param batchWriter 항목 목록을 저장하는 함수 (트랜잭션 안에서 호출됨)
+     * @param transactionManager 배치마다 트랜잭션을 열기 위한 트랜잭션 매니저
+     * @param settings 버퍼 설정
+     * @param journal JOURNAL 모드에서 사용할 저널 (그 외에는 null)
+     */
+    public WriteBehindBuffer(String name,
+                             Consumer<List<T>> batchWriter,
+                             PlatformTransactionManager transactionManager,
+                             Settings settings,
+                             WriteBehindJournal<T> journal) {
+        if (settings.durability() == Durability.JOURNAL && journal == null) {
+            throw new IllegalArgumentException("JOURNAL 모드에는 저널이 필요합니다: " + name);
+        }
+        this.name = name;
+        this.batchWriter = batchWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.settings = settings;
+        this.journal = settings.durability() == Durability.JOURNAL ? journal : null;
+        this.queue = new ArrayBlockingQueue<>(settings.capacity());
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "write-behind-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (settings.durability() != Durability.BEFORE_COMMIT) {
+            flusher.scheduleWithFixedDelay(this::flushQuietly,
+                    settings.flushIntervalMs(), settings.flushIntervalMs(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 항목 추가
+     * 트랜잭션 안이면 커밋 시점(BEFORE_COMMIT은 커밋 직전, 그 외에는 커밋 후)에 반영되고, 밖이면 바로 버퍼에 들어간다
+     */
+    public void append(T entry) {
+        appended.increment();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            currentTransactionEntries().entries.add(entry);
+        } else if (settings.durability() == Durability.BEFORE_COMMIT) {
+            writeInTransaction(List.of(entry));
+        } else {
+            enqueue(List.of(entry));
+        }
+    }
+
+    /**
+     * 버퍼를 모두 비움 (주기 작업, 크기 도달, 종료 시 호출)
+     *
+     * @return DB에 쓴 항목 수
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            long startedAt = System.nanoTime();
+            int count = journal != null ? flushJournal() : flushQueue();
+            if (count > 0) {
+                recordFlushLatency(System.nanoTime() - startedAt);
+            }
+            return count;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 버퍼 통계
+     */
+    public WriteBehindStatsResponse getStats() {
+        return new WriteBehindStatsResponse(
+                name,
+                settings.durability().name(),
+                queue.size(),
+                settings.capacity(),
+                journal != null ? journal.sealedSegments().size() : 0,
+                appended.sum(),
+                written.sum(),
+                dropped.sum(),
+                flushes.get(),
+                TimeUnit.NANOSECONDS.toMillis(lastFlushNanos.get()),
+                TimeUnit.NANOSECONDS.toMillis(maxFlushNanos.get()),
+                TimeUnit.NANOSECONDS.toMillis(totalFlushNanos.get()));
+    }
+
+    /**
+     * 종료 시 남은 항목을 쓰고 비우기 스레드 정리
+     */
+    public void close() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(settings.flushIntervalMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private void enqueue(List<T> entries) {
+        for (T entry : entries) {
+            try {
+                boolean accepted = offer(entry);
+                if (!accepted) {
+                    // 버퍼가 가득 찬 경우 요청 스레드가 직접 비워 메모리 사용량을 제한 (쓰기가 몰릴 때만 발생)
+                    log.warn("쓰기 지연 버퍼 가득 참 - 이름: {}, 용량: {}", name, settings.capacity());
+                    flush();
+                    accepted = offer(entry);
+                }
+                if (!accepted) {
+                    writeDirectly(entry);
+                }
+            } catch (IOException e) {
+                // 저널에 남지 않은 항목은 저널 기준으로 비우는 JOURNAL 모드에서 쓰이지 않으므로 버퍼에 넣지 않고 바로 씀
+                log.error("쓰기 지연 저널 기록 실패, 직접 씀 - 이름: {}, 에러: {}", name, e.getMessage());
+                writeDirectly(entry);
+            }
+        }
+        if (queue.size() >= settings.batchSize() && !flusher.isShutdown() && flushRequested.compareAndSet(false, true)) {
+            flusher.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * 메모리 버퍼에 항목 추가 (JOURNAL 모드는 저널에 먼저 기록)
+     * 이유: 저널 기록에 실패한 항목이 메모리 버퍼에만 남으면 저널 기준 비우기에서 소리 없이 사라지므로,
+     * 저널에 기록된 항목만 버퍼에 넣기 위해 (JOURNAL 모드의 버퍼 추가는 모두 appendLock 안에서 일어나므로 확인한 빈자리가 유지됨)
+     *
+     * @return 버퍼에 넣었으면 true, 가득 찼으면 false
+     * @throws IOException 저널 기록 실패 (버퍼에는 넣지 않음)
+     */
+    private boolean offer(T entry) throws IOException {
+        synchronized (appendLock) {
+            if (journal != null) {
+                if (queue.remainingCapacity() == 0) {
+                    return false;
+                }
+                journal.append(entry);
+            }
+            return queue.offer(entry);
+        }
+    }
+
+    /**
+     * 버퍼를 거치지 않고 요청 스레드에서 한 건을 바로 씀
+     * 이유: 커밋 후(afterCommit)에 호출되므로 여기서 예외가 나면 이미 커밋된 요청이 실패 응답을 받게 되어, 예외 대신 유실로 집계하기 위해
+     */
+    private void writeDirectly(T entry) {
+        try {
+            writeInTransaction(List.of(entry));
+        } catch (RuntimeException e) {
+            dropped.increment();
+            log.error("쓰기 지연 항목 직접 쓰기 실패로 유실 - 이름: {}, 항목: {}, 에러: {}", name, entry, e.getMessage());
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("쓰기 지연 버퍼 비우기 실패 - 이름: {}, 에러: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 메모리 버퍼를 배치 크기씩 나눠 씀 (NONE 모드)
+     */
+    private int flushQueue() {
+        int total = 0;
+        List<T> batch = new ArrayList<>(settings.batchSize());
+        while (queue.drainTo(batch, settings.batchSize()) > 0) {
+            if (!writeBatch(batch)) {
+                // DB 장애 등 일시적 오류 - 남은 용량만큼 되돌려 두고 다음 주기에 재시도
+                int requeued = 0;
+                for (T entry : batch) {
+                    if (queue.offer(entry)) {
+                        requeued++;
+                    }
+                }
+                if (requeued < batch.size()) {
+                    dropped.add(batch.size() - requeued);
+                    log.error("쓰기 지연 버퍼 재시도 공간 부족으로 항목 유실 - 이름: {}, 유실: {}건", name, batch.size() - requeued);
+                }
+                return total;
+            }
+            total += batch.size();
+            batch = new ArrayList<>(settings.batchSize());
+        }
+        return total;
+    }
+
+    /**
+     * 저널을 봉인하고 봉인 파일 단위로 씀 (JOURNAL 모드)
+     * 이유: 봉인 시점의 메모리 버퍼 항목은 봉인 파일과 같으므로, 파일을 기준으로 쓰고 지워야 재시작 시 유실이 없음
+     * 배치 커밋과 봉인 파일 갱신(retain/delete) 사이에 프로세스가 죽으면 재시작 후 그 배치를 다시 쓰므로
+     * 중복 행이 생길 수 있음 (항목에 멱등 키가 없으므로 최소 한 번 쓰기 보장)
+     */
+    private int flushJournal() {
+        synchronized (appendLock) {
+            journal.seal();
+            queue.clear();
+        }
+
+        int total = 0;
+        for (Path segment : journal.sealedSegments()) {
+            try {
+                List<T> entries = journal.read(segment);
+                for (int from = 0; from < entries.size(); from += settings.batchSize()) {
+                    List<T> batch = entries.subList(from, Math.min(from + settings.batchSize(), entries.size()));
+                    if (!writeBatch(batch)) {
+                        journal.retain(segment, entries.subList(from, entries.size()));
+                        return total;
+                    }
+                    total += batch.size();
+                }
+                journal.delete(segment);
+            } catch (IOException e) {
+                log.error("쓰기 지연 저널 처리 실패 - 이름: {}, 파일: {}, 에러: {}", name, segment, e.getMessage());
+                return total;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 배치를 한 트랜잭션으로 씀
+     * 제약 조건 위반이면 한 건씩 다시 써서 문제 행만 버리고, 그 외 오류는 실패로 돌려 재시도하게 한다
+     *
+     * @return 배치를 처리했으면 true, 일시적 오류로 쓰지 못했으면 false
+     */
+    private boolean writeBatch(List<T> batch) {
+        try {
+            writeInTransaction(batch);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("쓰기 지연 배치 제약 조건 위반 - 이름: {}, 한 건씩 재시도: {}건", name, batch.size());
+            for (T entry : batch) {
+                try {
+                    writeInTransaction(List.of(entry));
+                } catch (RuntimeException rowError) {
+                    dropped.increment();
+                    log.warn("쓰기 지연 항목 버림 - 이름: {}, 항목: {}, 에러: {}", name, entry, rowError.getMessage());
+                }
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("쓰기 지연 배치 실패, 다음 주기에 재시도 - 이름: {}, 항목: {}건, 에러: {}", name, batch.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void writeInTransaction(List<T> entries) {
+        transactionTemplate.executeWithoutResult(status -> batchWriter.accept(entries));
+        written.add(entries.size());
+    }
+
+    private void recordFlushLatency(long nanos) {
+        flushes.incrementAndGet();
+        lastFlushNanos.set(nanos);
+        totalFlushNanos.addAndGet(nanos);
+        maxFlushNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * 현재 트랜잭션에 모인 항목 (없으면 등록)
+     * 이유: 트랜잭션마다 항목을 모았다가 BEFORE_COMMIT은 커밋 직전에 한 번에 쓰고, 그 외에는 커밋된 뒤에만 버퍼에 넣기 위해
+     * (REQUIRES_NEW 등으로 중첩된 트랜잭션은 동기화 목록이 분리되므로 각자의 커밋에 맞춰 반영됨)
+     */
+    private TransactionEntries currentTransactionEntries() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof WriteBehindBuffer<?>.TransactionEntries entries && entries.owner() == this) {
+                @SuppressWarnings("unchecked")
+                TransactionEntries own = (TransactionEntries) entries;
+                return own;
+            }
+        }
+        TransactionEntries entries = new TransactionEntries();
+        TransactionSynchronizationManager.registerSynchronization(entries);
+        return entries;
+    }
+
+    /**
+     * 트랜잭션 단위로 모은 항목
+     */
+    private final class TransactionEntries implements TransactionSynchronization {
+
+        private final List<T> entries = new ArrayList<>();
+
+        private WriteBehindBuffer<T> owner() {
+            return WriteBehindBuffer.this;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (settings.durability() == Durability.BEFORE_COMMIT && !entries.isEmpty()) {
+                // 요청 트랜잭션에 참여하여 커밋과 함께 배치로 반영
+                batchWriter.accept(entries);
+                written.add(entries.size());
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            if (settings.durability() != Durability.BEFORE_COMMIT) {
+                enqueue(entries);
+            }
+        }
+    }
+}
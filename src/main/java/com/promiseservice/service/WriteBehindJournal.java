@@ -0,0 +1,158 @@
+package com.promiseservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 쓰기 지연 버퍼용 로컬 저널
+ * 이유: 버퍼에 담긴 뒤 DB에 쓰이기 전에 프로세스가 죽어도 항목을 잃지 않도록,
+ * 버퍼에 넣을 때마다 로컬 파일에 한 줄(JSON)씩 남기고 DB 반영이 끝난 구간만 지우기 위해
+ *
+ * 항목은 활성 파일에 추가되고, 비울 때마다 활성 파일을 봉인(sealed) 파일로 바꾼 뒤
+ * 봉인 파일 단위로 DB에 쓰고 삭제한다. 시작 시 남아 있는 활성 파일도 봉인하여 다음 비우기에서 다시 쓴다.
+ * 파일은 OS 버퍼까지만 밀어 넣으므로(fsync 없음) 프로세스 장애는 견디지만 전원 장애까지 보장하지는 않는다.
+ */
+@Slf4j
+public class WriteBehindJournal<T> {
+
+    private static final String ACTIVE_SUFFIX = ".active";
+    private static final String SEALED_SUFFIX = ".sealed";
+
+    private final Path directory;
+    private final String name;
+    private final Class<T> type;
+    private final ObjectMapper objectMapper;
+    private final Path activeFile;
+    private final AtomicLong sealSequence = new AtomicLong();
+
+    private BufferedWriter writer;
+
+    public WriteBehindJournal(Path directory, String name, Class<T> type, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.name = name;
+        this.type = type;
+        this.objectMapper = objectMapper;
+        this.activeFile = directory.resolve(name + ACTIVE_SUFFIX);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("쓰기 지연 저널 디렉터리를 만들 수 없습니다: " + directory, e);
+        }
+        // 이전 실행에서 DB에 쓰지 못하고 남은 항목을 다음 비우기에서 처리하도록 봉인
+        seal();
+        if (!sealedSegments().isEmpty()) {
+            log.info("쓰기 지연 저널 복구 대상 발견 - 이름: {}, 파일: {}개", name, sealedSegments().size());
+        }
+    }
+
+    /**
+     * 항목을 활성 파일에 한 줄 추가
+     */
+    public synchronized void append(T entry) throws IOException {
+        if (writer == null) {
+            writer = Files.newBufferedWriter(activeFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        writer.write(objectMapper.writeValueAsString(entry));
+        writer.newLine();
+        writer.flush();
+    }
+
+    /**
+     * 활성 파일을 봉인 파일로 전환
+     * 이유: 이후 추가되는 항목과 섞이지 않게 지금까지의 항목만 한 파일로 고정해 DB에 쓰고 지우기 위해
+     */
+    public synchronized void seal() {
+        try {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+            if (Files.exists(activeFile) && Files.size(activeFile) > 0) {
+                Path sealed = directory.resolve(String.format("%s-%013d-%06d%s",
+                        name, System.currentTimeMillis(), sealSequence.incrementAndGet() % 1_000_000, SEALED_SUFFIX));
+                Files.move(activeFile, sealed, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            log.error("쓰기 지연 저널 봉인 실패 - 이름: {}, 에러: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * DB에 쓸 봉인 파일 목록 (오래된 순)
+     */
+    public List<Path> sealedSegments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String fileName = file.getFileName().toString();
+                        return fileName.startsWith(name + "-") && fileName.endsWith(SEALED_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            log.error("쓰기 지연 저널 목록 조회 실패 - 이름: {}, 에러: {}", name, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 봉인 파일의 항목 읽기
+     */
+    public List<T> read(Path segment) throws IOException {
+        List<T> entries = new ArrayList<>();
+        for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                entries.add(objectMapper.readValue(line, type));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 봉인 파일을 아직 쓰지 못한 항목만 남기도록 교체
+     * 이유: 일부 배치만 쓰고 실패했을 때 다음 시도에서 이미 쓴 항목을 다시 넣지 않기 위해
+     */
+    public void retain(Path segment, List<T> remaining) throws IOException {
+        Path temp = segment.resolveSibling(segment.getFileName() + ".tmp");
+        List<String> lines = new ArrayList<>(remaining.size());
+        for (T entry : remaining) {
+            lines.add(objectMapper.writeValueAsString(entry));
+        }
+        Files.write(temp, lines, StandardCharsets.UTF_8);
+        Files.move(temp, segment, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * DB 반영이 끝난 봉인 파일 삭제
+     */
+    public void delete(Path segment) throws IOException {
+        Files.deleteIfExists(segment);
+    }
+
+    /**
+     * 활성 파일 닫기
+     */
+    public synchronized void close() {
+        try {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+        } catch (IOException e) {
+            log.warn("쓰기 지연 저널 닫기 실패 - 이름: {}, 에러: {}", name, e.getMessage());
+        }
+    }
+}
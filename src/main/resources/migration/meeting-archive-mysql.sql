@@ -0,0 +1,59 @@
+-- ==============================================
+-- 🟢 약속 보관(아카이브) 테이블 생성 (MySQL)
+-- 이유: 보관 작업(MeetingArchiver)은 오래된 완료/취소 약속과 참여자/히스토리를 이 테이블로 복사한 뒤
+-- 운영 테이블에서 지우므로, 테이블이 없는 기존 DB에서는 보관 작업이 매번 실패하기 때문
+--
+-- 실행 시점: 약속 보관 작업을 사용하는 버전을 배포하기 전에 운영 DB에 한 번 실행
+-- (schema-mysql.sql로 새로 만든 DB에는 이미 테이블이 있으므로 실행하지 않음)
+-- meeting_archive는 meeting의 참여자 수 카운터를 그대로 옮기므로 meeting-participant-counts-mysql.sql 다음에 실행
+-- 기존 데이터는 옮기지 않음 - 배포 후 보관 작업이 주기마다 대상 약속을 옮김
+-- ==============================================
+
+-- 1. 약속 보관
+CREATE TABLE meeting_archive (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    meeting_time DATETIME NOT NULL,
+    max_participants INT,
+    host_id BIGINT NOT NULL,
+    status ENUM('WAITING', 'CONFIRMED', 'COMPLETED', 'CANCELLED') NOT NULL,
+    location_name VARCHAR(500),
+    location_address VARCHAR(500),
+    location_coordinates TEXT,
+    latitude DOUBLE,
+    longitude DOUBLE,
+    accepted_count INT NOT NULL DEFAULT 0,
+    invited_count INT NOT NULL DEFAULT 0,
+    rejected_count INT NOT NULL DEFAULT 0,
+    created_at DATETIME,
+    updated_at DATETIME,
+    archived_at DATETIME NOT NULL,
+
+    INDEX idx_meeting_archive_host_id (host_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 2. 약속 참여자 보관
+CREATE TABLE meeting_participant_archive (
+    id BIGINT PRIMARY KEY,
+    meeting_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    response ENUM('INVITED', 'ACCEPTED', 'REJECTED') NOT NULL,
+    joined_at DATETIME NULL,
+    invited_at DATETIME,
+    archived_at DATETIME NOT NULL,
+
+    INDEX idx_participant_archive_meeting_id (meeting_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 3. 약속 히스토리 보관
+CREATE TABLE meeting_history_archive (
+    id BIGINT PRIMARY KEY,
+    meeting_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    action ENUM('CREATED', 'JOINED', 'DECLINED', 'COMPLETED', 'CANCELLED', 'UPDATED') NOT NULL,
+    timestamp DATETIME,
+    archived_at DATETIME NOT NULL,
+
+    INDEX idx_history_archive_meeting_id (meeting_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,43 @@
+-- ==============================================
+-- 🟢 약속 위도/경도 컬럼 추가 및 기존 약속 채우기 (MySQL)
+-- 이유: 위치 검색은 좌표 JSON이 아닌 latitude/longitude 컬럼과 그 인덱스로 후보를 찾으므로,
+-- 컬럼 도입 전에 만들어진 약속도 좌표 JSON에서 값을 채워야 근처/영역 검색 결과에 나타나기 때문
+--
+-- 실행 시점: 위치 검색을 사용하는 버전을 배포하기 전에 운영 DB에 한 번 실행
+-- (schema-mysql.sql로 새로 만든 DB에는 이미 컬럼과 인덱스가 있으므로 실행하지 않음)
+-- 채우는 규칙은 Meeting.setLocationCoordinates와 같음:
+-- lat/latitude, lng/lon/longitude 키의 숫자 값만 사용하고 범위(위도 -90~90, 경도 -180~180)를 벗어나면 비워 둠
+-- 위치 격자 색인은 애플리케이션 시작 시 이 컬럼으로 다시 만들어지므로 실행 후 재시작하면 색인에도 반영됨
+-- ==============================================
+
+-- 1. 컬럼 추가
+ALTER TABLE meeting
+    ADD COLUMN latitude DOUBLE NULL AFTER location_coordinates,
+    ADD COLUMN longitude DOUBLE NULL AFTER latitude;
+
+-- 2. 좌표 JSON에서 위도/경도 채우기 (먼저 나온 키 우선, 숫자가 아니거나 범위를 벗어나면 건너뜀)
+UPDATE meeting m
+JOIN (
+    SELECT id,
+           IF(JSON_CONTAINS_PATH(location_coordinates, 'one', '$.lat'),
+              JSON_EXTRACT(location_coordinates, '$.lat'),
+              JSON_EXTRACT(location_coordinates, '$.latitude')) AS lat_value,
+           IF(JSON_CONTAINS_PATH(location_coordinates, 'one', '$.lng'),
+              JSON_EXTRACT(location_coordinates, '$.lng'),
+              IF(JSON_CONTAINS_PATH(location_coordinates, 'one', '$.lon'),
+                 JSON_EXTRACT(location_coordinates, '$.lon'),
+                 JSON_EXTRACT(location_coordinates, '$.longitude'))) AS lng_value
+    FROM meeting
+    WHERE latitude IS NULL
+      AND location_coordinates IS NOT NULL
+      AND JSON_VALID(location_coordinates)
+) c ON c.id = m.id
+SET m.latitude = CAST(c.lat_value AS DOUBLE),
+    m.longitude = CAST(c.lng_value AS DOUBLE)
+WHERE JSON_TYPE(c.lat_value) IN ('INTEGER', 'UNSIGNED INTEGER', 'DOUBLE', 'DECIMAL')
+  AND JSON_TYPE(c.lng_value) IN ('INTEGER', 'UNSIGNED INTEGER', 'DOUBLE', 'DECIMAL')
+  AND CAST(c.lat_value AS DOUBLE) BETWEEN -90 AND 90
+  AND CAST(c.lng_value AS DOUBLE) BETWEEN -180 AND 180;
+
+-- 3. 위치 범위 조회 인덱스
+CREATE INDEX idx_latitude_longitude ON meeting (latitude, longitude);
@@ -0,0 +1,29 @@
+-- ==============================================
+-- 🟢 약속 방장(host_id) 컬럼 추가 및 기존 약속 채우기 (MySQL)
+-- 이유: host_id 도입 전에는 가장 먼저 초대된 참여자(MIN(invited_at))를 방장으로 판별했으므로,
+-- 기존 약속 행에도 같은 기준으로 host_id를 채워 배포 후에도 방장 판별(isHost)과 방장별 약속 목록이 유지되도록 하기 위해
+--
+-- 실행 시점: host_id를 사용하는 버전을 배포하기 전에 운영 DB에 한 번 실행
+-- (schema-mysql.sql로 새로 만든 DB에는 이미 컬럼과 인덱스가 있으므로 실행하지 않음)
+-- ==============================================
+
+-- 1. 컬럼 추가 (채우기 전이므로 NULL 허용)
+ALTER TABLE meeting ADD COLUMN host_id BIGINT NULL AFTER max_participants;
+
+-- 2. 가장 먼저 초대된 참여자로 채우기 (초대 시각이 같으면 먼저 저장된 참여자)
+UPDATE meeting m
+SET m.host_id = (
+    SELECT p.user_id
+    FROM meeting_participant p
+    WHERE p.meeting_id = m.id
+    ORDER BY p.invited_at ASC, p.id ASC
+    LIMIT 1
+)
+WHERE m.host_id IS NULL;
+
+-- 3. 채우지 못한 약속 확인 (참여자가 한 명도 없는 약속) - 결과가 0이어야 다음 단계 진행
+SELECT COUNT(*) AS meetings_without_host FROM meeting WHERE host_id IS NULL;
+
+-- 4. NOT NULL 제약과 방장별 최신순 목록 인덱스 적용
+ALTER TABLE meeting MODIFY COLUMN host_id BIGINT NOT NULL;
+CREATE INDEX idx_host_id_created_at ON meeting (host_id, created_at);
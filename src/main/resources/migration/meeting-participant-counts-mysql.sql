@@ -0,0 +1,30 @@
+-- ==============================================
+-- 🟢 약속 참여자 수 카운터 컬럼 추가 및 기존 약속 채우기 (MySQL)
+-- 이유: 인원 확인, 참여 가능 약속 조회, 참여자 수 검색 조건은 참여자 행을 세지 않고
+-- meeting의 accepted_count/invited_count/rejected_count를 읽으므로,
+-- 컬럼 도입 전에 만들어진 약속도 meeting_participant에서 다시 세어 채워야 인원 조건이 맞게 적용되기 때문
+--
+-- 실행 시점: 참여자 수 카운터를 사용하는 버전을 배포하기 전에 운영 DB에 한 번 실행
+-- (schema-mysql.sql로 새로 만든 DB에는 이미 컬럼이 있으므로 실행하지 않음)
+-- 배포 후 어긋난 값은 ParticipantCountReconciler가 주기적으로 바로잡음
+-- ==============================================
+
+-- 1. 컬럼 추가
+ALTER TABLE meeting
+    ADD COLUMN accepted_count INT NOT NULL DEFAULT 0 AFTER longitude,
+    ADD COLUMN invited_count INT NOT NULL DEFAULT 0 AFTER accepted_count,
+    ADD COLUMN rejected_count INT NOT NULL DEFAULT 0 AFTER invited_count;
+
+-- 2. 응답 상태별 참여자 수 다시 세기 (참여자가 없는 약속은 0으로 남음)
+UPDATE meeting m
+JOIN (
+    SELECT meeting_id,
+           SUM(response = 'ACCEPTED') AS accepted,
+           SUM(response = 'INVITED') AS invited,
+           SUM(response = 'REJECTED') AS rejected
+    FROM meeting_participant
+    GROUP BY meeting_id
+) c ON c.meeting_id = m.id
+SET m.accepted_count = c.accepted,
+    m.invited_count = c.invited,
+    m.rejected_count = c.rejected;
@@ -0,0 +1,13 @@
+-- ==============================================
+-- 🟢 약속 낙관적 잠금 버전 컬럼 추가 (MySQL)
+-- 이유: Meeting 엔티티의 @Version 필드와 수락 좌석 예약(reserveAcceptedSeat)이 meeting.version을 읽고 올리므로,
+-- 컬럼이 없는 기존 DB에서는 약속 조회/수정과 참여 수락이 모두 실패하기 때문
+--
+-- 실행 시점: 좌석 예약과 낙관적 잠금을 사용하는 버전을 배포하기 전에 운영 DB에 한 번 실행
+-- (schema-mysql.sql로 새로 만든 DB에는 이미 컬럼이 있으므로 실행하지 않음)
+-- 기존 약속은 버전 0에서 시작하며, 이미 읽어 둔 값이 없으므로 채울 데이터는 없음
+-- ==============================================
+
+-- 1. 컬럼 추가 (기존 행은 기본값 0)
+ALTER TABLE meeting
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0 AFTER rejected_count;
@@ -0,0 +1,36 @@
+-- ==============================================
+-- 🟢 참여자/히스토리/알림 로그 ID를 AUTO_INCREMENT에서 시퀀스 테이블로 전환 (MySQL)
+-- 이유: 엔티티가 IDENTITY 대신 시퀀스 테이블(next_val)에서 50개씩 ID를 할당받아 INSERT를 배치로 보내므로,
+-- 기존 DB도 AUTO_INCREMENT를 떼고 시퀀스 테이블을 만들어야 INSERT 시 id가 비지 않고 기존 ID와도 겹치지 않기 때문
+--
+-- 실행 시점: 시퀀스 ID를 사용하는 버전을 배포하기 전에 애플리케이션을 멈추고 운영 DB에 한 번 실행
+-- (schema-mysql.sql로 새로 만든 DB에는 이미 시퀀스 테이블이 있으므로 실행하지 않음)
+-- next_val은 기존 최대 ID + 50으로 채움:
+-- pooled 할당은 읽은 next_val을 블록의 마지막 ID로 보고 (next_val - 49) ~ next_val을 쓰므로,
+-- MAX(id) + 1로 채우면 첫 블록이 기존 ID와 겹치기 때문 (빈 테이블이면 1 ~ 50부터 할당)
+-- ==============================================
+
+-- 1. 약속 참여자
+ALTER TABLE meeting_participant MODIFY id BIGINT NOT NULL;
+
+CREATE TABLE meeting_participant_seq (
+    next_val BIGINT NOT NULL
+) ENGINE=InnoDB;
+INSERT INTO meeting_participant_seq SELECT COALESCE(MAX(id), 0) + 50 FROM meeting_participant;
+
+-- 2. 약속 히스토리
+ALTER TABLE meeting_history MODIFY id BIGINT NOT NULL;
+
+CREATE TABLE meeting_history_seq (
+    next_val BIGINT NOT NULL
+) ENGINE=InnoDB;
+INSERT INTO meeting_history_seq SELECT COALESCE(MAX(id), 0) + 50 FROM meeting_history;
+
+-- 3. 알림 전송 로그
+-- notification_log 테이블이 아직 없는 DB는 이 단계 대신 schema-mysql.sql의 notification_log 정의로 두 테이블을 만듦
+ALTER TABLE notification_log MODIFY id BIGINT NOT NULL;
+
+CREATE TABLE notification_log_seq (
+    next_val BIGINT NOT NULL
+) ENGINE=InnoDB;
+INSERT INTO notification_log_seq SELECT COALESCE(MAX(id), 0) + 50 FROM notification_log;
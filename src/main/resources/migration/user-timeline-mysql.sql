@@ -0,0 +1,47 @@
+-- ==============================================
+-- 🟢 사용자 활동 타임라인 테이블 생성 및 기존 히스토리 채우기 (MySQL)
+-- 이유: 타임라인 조회는 meeting_history가 아닌 user_timeline의 (user_id, history_id) 범위 스캔으로 처리되므로,
+-- 테이블 도입 전에 쌓인 히스토리도 참여자별로 퍼뜨려 두어야 기존 활동이 타임라인에 나타나기 때문
+--
+-- 실행 시점: 타임라인을 사용하는 버전을 배포하기 전에 애플리케이션을 멈추고 운영 DB에 한 번 실행
+-- (schema-mysql.sql로 새로 만든 DB에는 이미 테이블이 있으므로 실행하지 않음)
+-- 받는 사용자 규칙은 UserTimelineService.fanOut과 같음: 약속의 현재 참여자 + 행동 주체 (중복 제외)
+-- user_timeline_seq.next_val은 sequence-ids-mysql.sql과 같은 이유로 채운 최대 ID + 50으로 둠
+-- ==============================================
+
+-- 1. 시퀀스 테이블과 타임라인 테이블
+CREATE TABLE user_timeline_seq (
+    next_val BIGINT NOT NULL
+) ENGINE=InnoDB;
+
+CREATE TABLE user_timeline (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    history_id BIGINT NOT NULL,
+    meeting_id BIGINT NOT NULL,
+    actor_user_id BIGINT NOT NULL,
+    action ENUM('CREATED', 'JOINED', 'DECLINED', 'COMPLETED', 'CANCELLED', 'UPDATED') NOT NULL,
+    timestamp DATETIME NOT NULL,
+
+    FOREIGN KEY (meeting_id) REFERENCES meeting(id) ON DELETE CASCADE,
+    UNIQUE KEY uk_user_timeline_user_history (user_id, history_id),
+    INDEX idx_user_timeline_meeting_id (meeting_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 2. 기존 히스토리를 참여자와 행동 주체에게 퍼뜨리기 (ID는 1부터 차례로 부여)
+INSERT INTO user_timeline (id, user_id, history_id, meeting_id, actor_user_id, action, timestamp)
+SELECT ROW_NUMBER() OVER (ORDER BY r.history_id, r.user_id),
+       r.user_id, r.history_id, r.meeting_id, r.actor_user_id, r.action, r.timestamp
+FROM (
+    SELECT p.user_id, h.id AS history_id, h.meeting_id, h.user_id AS actor_user_id,
+           h.action, COALESCE(h.timestamp, NOW()) AS timestamp
+    FROM meeting_history h
+    JOIN meeting_participant p ON p.meeting_id = h.meeting_id
+    UNION
+    SELECT h.user_id, h.id, h.meeting_id, h.user_id,
+           h.action, COALESCE(h.timestamp, NOW())
+    FROM meeting_history h
+) r;
+
+-- 3. 시퀀스를 채운 ID 다음 블록부터 할당하도록 설정
+INSERT INTO user_timeline_seq SELECT COALESCE(MAX(id), 0) + 50 FROM user_timeline;
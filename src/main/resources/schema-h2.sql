@@ -12,19 +12,39 @@ CREATE TABLE meeting (
     description TEXT,
     meeting_time TIMESTAMP NOT NULL,
     max_participants INT DEFAULT 10 CHECK (max_participants <= 10),
+    host_id BIGINT NOT NULL,
     status VARCHAR(20) DEFAULT 'WAITING' CHECK (status IN ('WAITING', 'CONFIRMED', 'COMPLETED', 'CANCELLED')),
     location_name VARCHAR(500),
     location_address VARCHAR(500),
     location_coordinates TEXT,
+    latitude DOUBLE PRECISION,
+    longitude DOUBLE PRECISION,
+    accepted_count INT NOT NULL DEFAULT 0,
+    invited_count INT NOT NULL DEFAULT 0,
+    rejected_count INT NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- 이유: 상태/시간 범위를 조합한 검색 조건을 인덱스로 처리하기 위해
+CREATE INDEX idx_status_meeting_time ON meeting (status, meeting_time);
+-- 이유: 최근 생성 약속 조회(ORDER BY created_at DESC LIMIT n)를 인덱스로 처리하기 위해
+CREATE INDEX idx_created_at ON meeting (created_at);
+-- 이유: 보관 작업이 오래된 완료/취소 약속(상태 일치, updated_at 범위)을 전체 스캔 없이 찾기 위해
+CREATE INDEX idx_status_updated_at ON meeting (status, updated_at);
+-- 이유: 방장이 주최한 약속 목록(host_id 일치, created_at 역순)을 인덱스로 처리하기 위해
+CREATE INDEX idx_host_id_created_at ON meeting (host_id, created_at);
+-- 이유: 근처 약속 검색의 위도/경도 경계 상자 조회를 인덱스로 처리하기 위해
+CREATE INDEX idx_latitude_longitude ON meeting (latitude, longitude);
+
 -- ==============================================
 -- 🟢 약속 참여자 테이블
 -- ==============================================
+-- 이유: 엔티티가 시퀀스에서 50개씩 ID를 할당받아 INSERT를 배치로 보내기 위해 (allocationSize와 증가폭 일치)
+CREATE SEQUENCE meeting_participant_seq START WITH 1 INCREMENT BY 50;
 CREATE TABLE meeting_participant (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT DEFAULT NEXT VALUE FOR meeting_participant_seq PRIMARY KEY,
     meeting_id BIGINT NOT NULL,
     user_id BIGINT NOT NULL,
     response VARCHAR(10) DEFAULT 'INVITED' CHECK (response IN ('INVITED', 'ACCEPTED', 'REJECTED')),
@@ -35,11 +55,16 @@ CREATE TABLE meeting_participant (
     CONSTRAINT unique_meeting_user UNIQUE (meeting_id, user_id)
 );
 
+-- 이유: 참여자 조건 검색(user_id IN ...) 서브쿼리를 인덱스로 처리하기 위해
+CREATE INDEX idx_participant_user_id ON meeting_participant (user_id);
+
 -- ==============================================
 -- 🟢 약속 히스토리 테이블
 -- ==============================================
+-- 이유: 엔티티가 시퀀스에서 50개씩 ID를 할당받아 INSERT를 배치로 보내기 위해 (allocationSize와 증가폭 일치)
+CREATE SEQUENCE meeting_history_seq START WITH 1 INCREMENT BY 50;
 CREATE TABLE meeting_history (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT DEFAULT NEXT VALUE FOR meeting_history_seq PRIMARY KEY,
     meeting_id BIGINT NOT NULL,
     user_id BIGINT NOT NULL,
     action VARCHAR(20) NOT NULL CHECK (action IN ('CREATED', 'JOINED', 'DECLINED', 'COMPLETED', 'CANCELLED', 'UPDATED')),
@@ -48,6 +73,74 @@ CREATE TABLE meeting_history (
     CONSTRAINT fk_meeting_history_meeting FOREIGN KEY (meeting_id) REFERENCES meeting(id) ON DELETE CASCADE
 );
 
+-- ==============================================
+-- 🟢 사용자 활동 타임라인 테이블
+-- 이유: 히스토리를 저장할 때 참여자별로 미리 퍼뜨려 두어 타임라인 조회를
+-- (user_id, history_id) 범위 스캔 한 번으로 처리하기 위해
+-- ==============================================
+CREATE SEQUENCE user_timeline_seq START WITH 1 INCREMENT BY 50;
+CREATE TABLE user_timeline (
+    id BIGINT DEFAULT NEXT VALUE FOR user_timeline_seq PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    history_id BIGINT NOT NULL,
+    meeting_id BIGINT NOT NULL,
+    actor_user_id BIGINT NOT NULL,
+    action VARCHAR(20) NOT NULL,
+    timestamp TIMESTAMP NOT NULL,
+
+    CONSTRAINT uk_user_timeline_user_history UNIQUE (user_id, history_id),
+    CONSTRAINT fk_user_timeline_meeting FOREIGN KEY (meeting_id) REFERENCES meeting(id) ON DELETE CASCADE
+);
+CREATE INDEX idx_user_timeline_meeting_id ON user_timeline (meeting_id);
+
+-- ==============================================
+-- 🟢 약속 보관(아카이브) 테이블
+-- 이유: 완료/취소 후 오래 지난 약속과 참여자/히스토리를 운영 테이블에서 옮겨 두어
+-- 운영 테이블과 인덱스를 작게 유지하기 위해 (ID는 원래 값을 그대로 사용)
+-- ==============================================
+CREATE TABLE meeting_archive (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    meeting_time TIMESTAMP NOT NULL,
+    max_participants INT,
+    host_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    location_name VARCHAR(500),
+    location_address VARCHAR(500),
+    location_coordinates TEXT,
+    latitude DOUBLE PRECISION,
+    longitude DOUBLE PRECISION,
+    accepted_count INT NOT NULL DEFAULT 0,
+    invited_count INT NOT NULL DEFAULT 0,
+    rejected_count INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL
+);
+CREATE INDEX idx_meeting_archive_host_id ON meeting_archive (host_id);
+
+CREATE TABLE meeting_participant_archive (
+    id BIGINT PRIMARY KEY,
+    meeting_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    response VARCHAR(10) NOT NULL,
+    joined_at TIMESTAMP NULL,
+    invited_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL
+);
+CREATE INDEX idx_participant_archive_meeting_id ON meeting_participant_archive (meeting_id);
+
+CREATE TABLE meeting_history_archive (
+    id BIGINT PRIMARY KEY,
+    meeting_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    action VARCHAR(20) NOT NULL,
+    timestamp TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL
+);
+CREATE INDEX idx_history_archive_meeting_id ON meeting_history_archive (meeting_id);
+
 -- ==============================================
 -- 🟢 OAuth 사용자 신원 정보 테이블
 -- 이유: 카카오 등 OAuth 제공자의 사용자 ID와 내부 사용자 ID를 매핑하기 위해
@@ -192,11 +285,11 @@ VALUES
 (4, true, false, true, true);
 
 -- 테스트용 약속 데이터
-INSERT INTO meeting (title, description, meeting_time, location_name, status) 
+INSERT INTO meeting (title, description, meeting_time, location_name, status, host_id, accepted_count, invited_count) 
 VALUES 
-('개발팀 회의', '주간 스프린트 회의', '2024-12-20 14:00:00', '회의실 A', 'WAITING'),
-('카페 모임', '친구들과 커피 한 잔', '2024-12-21 15:30:00', '스타벅스 강남점', 'CONFIRMED'),
-('영화 관람', '신작 영화 보기', '2024-12-22 19:00:00', 'CGV 강남', 'WAITING');
+('개발팀 회의', '주간 스프린트 회의', '2024-12-20 14:00:00', '회의실 A', 'WAITING', 1, 1, 1),
+('카페 모임', '친구들과 커피 한 잔', '2024-12-21 15:30:00', '스타벅스 강남점', 'CONFIRMED', 1, 2, 0),
+('영화 관람', '신작 영화 보기', '2024-12-22 19:00:00', 'CGV 강남', 'WAITING', 2, 0, 2);
 
 -- 테스트용 참여자 데이터
 INSERT INTO meeting_participant (meeting_id, user_id, response) 
@@ -212,8 +305,10 @@ VALUES
 -- 🟢 알림 전송 로그 테이블 (운영용)
 -- 이유: 카카오톡/SMS 등 알림 전송 결과를 기록하여 전송 상태 추적 및 디버깅 지원
 -- ==============================================
+-- 이유: 엔티티가 시퀀스에서 50개씩 ID를 할당받아 INSERT를 배치로 보내기 위해 (allocationSize와 증가폭 일치)
+CREATE SEQUENCE notification_log_seq START WITH 1 INCREMENT BY 50;
 CREATE TABLE notification_log (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT DEFAULT NEXT VALUE FOR notification_log_seq PRIMARY KEY,
     meeting_id BIGINT NOT NULL,
     user_id BIGINT NOT NULL,
     channel VARCHAR(32) NOT NULL CHECK (channel IN ('KAKAO', 'SMS', 'EMAIL')),
@@ -12,19 +12,39 @@ CREATE TABLE meeting (
     description TEXT,
     meeting_time DATETIME NOT NULL,
     max_participants INT DEFAULT 10 CHECK (max_participants <= 10),
+    host_id BIGINT NOT NULL,
     status ENUM('WAITING', 'CONFIRMED', 'COMPLETED', 'CANCELLED') DEFAULT 'WAITING',
     location_name VARCHAR(500),
     location_address VARCHAR(500),
     location_coordinates TEXT,
+    latitude DOUBLE,
+    longitude DOUBLE,
+    accepted_count INT NOT NULL DEFAULT 0,
+    invited_count INT NOT NULL DEFAULT 0,
+    rejected_count INT NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
-    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+    updated_at DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    
+    INDEX idx_status_meeting_time (status, meeting_time),
+    INDEX idx_created_at (created_at),
+    INDEX idx_host_id_created_at (host_id, created_at),
+    INDEX idx_status_updated_at (status, updated_at),
+    INDEX idx_latitude_longitude (latitude, longitude)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- ==============================================
 -- 🟢 약속 참여자 테이블
 -- ==============================================
+-- 이유: MySQL은 시퀀스가 없으므로 Hibernate가 이 테이블(next_val)을 시퀀스처럼 사용해 50개씩 ID를 할당하고
+-- INSERT를 배치로 보내기 위해 (엔티티 allocationSize와 동일한 폭으로 증가)
+CREATE TABLE meeting_participant_seq (
+    next_val BIGINT NOT NULL
+) ENGINE=InnoDB;
+INSERT INTO meeting_participant_seq VALUES (1);
+
 CREATE TABLE meeting_participant (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     meeting_id BIGINT NOT NULL,
     user_id BIGINT NOT NULL,
     response ENUM('INVITED', 'ACCEPTED', 'REJECTED') DEFAULT 'INVITED',
@@ -32,14 +52,22 @@ CREATE TABLE meeting_participant (
     invited_at DATETIME DEFAULT CURRENT_TIMESTAMP,
     
     FOREIGN KEY (meeting_id) REFERENCES meeting(id) ON DELETE CASCADE,
-    UNIQUE KEY unique_meeting_user (meeting_id, user_id)
+    UNIQUE KEY unique_meeting_user (meeting_id, user_id),
+    INDEX idx_participant_user_id (user_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
 -- ==============================================
 -- 🟢 약속 히스토리 테이블
 -- ==============================================
+-- 이유: MySQL은 시퀀스가 없으므로 Hibernate가 이 테이블(next_val)을 시퀀스처럼 사용해 50개씩 ID를 할당하고
+-- INSERT를 배치로 보내기 위해 (엔티티 allocationSize와 동일한 폭으로 증가)
+CREATE TABLE meeting_history_seq (
+    next_val BIGINT NOT NULL
+) ENGINE=InnoDB;
+INSERT INTO meeting_history_seq VALUES (1);
+
 CREATE TABLE meeting_history (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     meeting_id BIGINT NOT NULL,
     user_id BIGINT NOT NULL,
     action ENUM('CREATED', 'JOINED', 'DECLINED', 'COMPLETED', 'CANCELLED', 'UPDATED') NOT NULL,
@@ -50,6 +78,81 @@ CREATE TABLE meeting_history (
     INDEX idx_meeting_history_user_id (user_id)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- ==============================================
+-- 🟢 사용자 활동 타임라인 테이블
+-- 이유: 히스토리를 저장할 때 참여자별로 미리 퍼뜨려 두어 타임라인 조회를
+-- (user_id, history_id) 범위 스캔 한 번으로 처리하기 위해
+-- ==============================================
+CREATE TABLE user_timeline_seq (
+    next_val BIGINT NOT NULL
+) ENGINE=InnoDB;
+INSERT INTO user_timeline_seq VALUES (1);
+
+CREATE TABLE user_timeline (
+    id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    history_id BIGINT NOT NULL,
+    meeting_id BIGINT NOT NULL,
+    actor_user_id BIGINT NOT NULL,
+    action ENUM('CREATED', 'JOINED', 'DECLINED', 'COMPLETED', 'CANCELLED', 'UPDATED') NOT NULL,
+    timestamp DATETIME NOT NULL,
+
+    FOREIGN KEY (meeting_id) REFERENCES meeting(id) ON DELETE CASCADE,
+    UNIQUE KEY uk_user_timeline_user_history (user_id, history_id),
+    INDEX idx_user_timeline_meeting_id (meeting_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ==============================================
+-- 🟢 약속 보관(아카이브) 테이블
+-- 이유: 완료/취소 후 오래 지난 약속과 참여자/히스토리를 운영 테이블에서 옮겨 두어
+-- 운영 테이블과 인덱스(버퍼 풀)를 작게 유지하기 위해 (ID는 원래 값을 그대로 사용)
+-- ==============================================
+CREATE TABLE meeting_archive (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    meeting_time DATETIME NOT NULL,
+    max_participants INT,
+    host_id BIGINT NOT NULL,
+    status ENUM('WAITING', 'CONFIRMED', 'COMPLETED', 'CANCELLED') NOT NULL,
+    location_name VARCHAR(500),
+    location_address VARCHAR(500),
+    location_coordinates TEXT,
+    latitude DOUBLE,
+    longitude DOUBLE,
+    accepted_count INT NOT NULL DEFAULT 0,
+    invited_count INT NOT NULL DEFAULT 0,
+    rejected_count INT NOT NULL DEFAULT 0,
+    created_at DATETIME,
+    updated_at DATETIME,
+    archived_at DATETIME NOT NULL,
+
+    INDEX idx_meeting_archive_host_id (host_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE meeting_participant_archive (
+    id BIGINT PRIMARY KEY,
+    meeting_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    response ENUM('INVITED', 'ACCEPTED', 'REJECTED') NOT NULL,
+    joined_at DATETIME NULL,
+    invited_at DATETIME,
+    archived_at DATETIME NOT NULL,
+
+    INDEX idx_participant_archive_meeting_id (meeting_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE meeting_history_archive (
+    id BIGINT PRIMARY KEY,
+    meeting_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    action ENUM('CREATED', 'JOINED', 'DECLINED', 'COMPLETED', 'CANCELLED', 'UPDATED') NOT NULL,
+    timestamp DATETIME,
+    archived_at DATETIME NOT NULL,
+
+    INDEX idx_history_archive_meeting_id (meeting_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- ==============================================
 -- 🟢 사용자 카카오 정보 테이블
 -- ==============================================
@@ -123,6 +226,36 @@ CREATE TABLE user_consents (
     INDEX idx_user_consents_friends (friends_consent)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- ==============================================
+-- 🟢 알림 전송 로그 테이블 (운영용)
+-- 이유: 카카오톡/SMS 등 알림 전송 결과를 기록하여 전송 상태 추적 및 디버깅 지원
+-- ==============================================
+-- 이유: MySQL은 시퀀스가 없으므로 Hibernate가 이 테이블(next_val)을 시퀀스처럼 사용해 50개씩 ID를 할당하고
+-- INSERT를 배치로 보내기 위해 (엔티티 allocationSize와 동일한 폭으로 증가)
+CREATE TABLE notification_log_seq (
+    next_val BIGINT NOT NULL
+) ENGINE=InnoDB;
+INSERT INTO notification_log_seq VALUES (1);
+
+CREATE TABLE notification_log (
+    id BIGINT PRIMARY KEY,
+    meeting_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    channel VARCHAR(32) NOT NULL,
+    payload_json TEXT NOT NULL,
+    http_status INT NOT NULL,
+    result_code INT,
+    error_json TEXT,
+    trace_id VARCHAR(64) NOT NULL,
+    created_at DATETIME DEFAULT CURRENT_TIMESTAMP,
+
+    -- 멱등성 보장: 동일한 약속/사용자/채널/추적ID로 중복 전송 방지
+    UNIQUE KEY uk_notification_log (meeting_id, user_id, channel, trace_id),
+    INDEX idx_notification_log_meeting (meeting_id),
+    INDEX idx_notification_log_user (user_id),
+    INDEX idx_notification_log_trace (trace_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- ==============================================
 -- 🟢 약속 시스템 전용 테이블들
 -- ==============================================
@@ -0,0 +1,216 @@
+package com.promiseservice.config;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource 테스트 (H2 인스턴스 2개)
+ * 이유: 기본 DB와 복제본을 서로 다른 H2 인메모리 DB로 띄우고, 각 DB에 자신을 나타내는 값을 넣어
+ * 트랜잭션 종류와 read-your-writes 고정 여부에 따라 실제로 어느 DB에서 읽는지 검증하기 위해
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String WHO_AM_I = "SELECT name FROM db_role";
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+    private ReadYourWritesTracker tracker;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 이유: 두 DB에 같은 테이블을 만들되 값으로 어느 DB인지 구분할 수 있도록 하기 위해
+        primary = h2("routing_primary");
+        replica = h2("routing_replica");
+        initRole(primary, "primary");
+        initRole(replica, "replica");
+
+        tracker = new ReadYourWritesTracker();
+        ReflectionTestUtils.setField(tracker, "windowMs", 3000L);
+
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replica, tracker));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        jdbcTemplate = new JdbcTemplate(routing);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracker.endRequest();
+        new JdbcTemplate(primary).execute("DROP TABLE db_role");
+        new JdbcTemplate(replica).execute("DROP TABLE db_role");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 종류별 라우팅 테스트")
+    // 테스트 이유: 읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 기본 DB에서 실행되는지 검증
+    void should_RouteReadOnlyToReplica_And_WritesToPrimary() {
+        // When
+        String readOnlyTarget = readOnlyTransaction.execute(status -> whoAmI());
+        String writeTarget = writeTransaction.execute(status -> whoAmI());
+
+        // Then
+        assertThat(readOnlyTarget).isEqualTo("replica");
+        assertThat(writeTarget).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 같은 사용자 읽기 고정 테스트")
+    // 테스트 이유: 쓰기를 한 사용자는 다음 요청에서도 기본 DB에서 읽고, 다른 사용자는 계속 복제본에서 읽는지 검증
+    void should_PinReadsToPrimary_When_SameUserWroteRecently() {
+        // Given - 사용자 1의 쓰기 요청
+        tracker.beginRequest(1L);
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE db_role SET name = name"));
+        String sameRequestRead = readOnlyTransaction.execute(status -> whoAmI());
+        tracker.endRequest();
+
+        // When
+        tracker.beginRequest(1L);
+        String writerNextRead = readOnlyTransaction.execute(status -> whoAmI());
+        tracker.endRequest();
+
+        tracker.beginRequest(2L);
+        String otherUserRead = readOnlyTransaction.execute(status -> whoAmI());
+        tracker.endRequest();
+
+        // Then
+        assertThat(sameRequestRead).isEqualTo("primary");
+        assertThat(writerNextRead).isEqualTo("primary");
+        assertThat(otherUserRead).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("고정 시간 경과 후 복제본 복귀 테스트")
+    // 테스트 이유: read-your-writes 고정이 설정한 시간 동안만 유지되고 이후에는 다시 복제본으로 읽는지 검증
+    void should_ReturnToReplica_When_WindowExpires() throws InterruptedException {
+        // Given
+        ReflectionTestUtils.setField(tracker, "windowMs", 20L);
+        tracker.beginRequest(1L);
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE db_role SET name = name"));
+        tracker.endRequest();
+
+        // When
+        Thread.sleep(50);
+        tracker.beginRequest(1L);
+        String target = readOnlyTransaction.execute(status -> whoAmI());
+        tracker.endRequest();
+
+        // Then
+        assertThat(target).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("커밋 시점 쓰기 시각 기록 테스트")
+    // 테스트 이유: 쓰기 요청이 끝나기 전(응답이 먼저 나간 경우)에도 커밋만 되었으면
+    // 같은 사용자의 다음 요청이 기본 DB에서 읽고, 롤백된 쓰기는 고정하지 않는지 검증
+    void should_PinFromCommit_When_WriterRequestNotEndedYet() throws Exception {
+        // Given - 사용자 1은 커밋, 사용자 2는 롤백 (두 요청 모두 아직 종료 전)
+        tracker.beginRequest(1L);
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE db_role SET name = name"));
+        tracker.endRequest();
+        tracker.beginRequest(2L);
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE db_role SET name = name");
+            status.setRollbackOnly();
+        });
+
+        // When - 다른 스레드에서 시작한 다음 요청
+        String[] targets = new String[2];
+        Thread nextRequests = new Thread(() -> {
+            tracker.beginRequest(1L);
+            targets[0] = readOnlyTransaction.execute(status -> whoAmI());
+            tracker.endRequest();
+            tracker.beginRequest(2L);
+            targets[1] = readOnlyTransaction.execute(status -> whoAmI());
+            tracker.endRequest();
+        });
+        nextRequests.start();
+        nextRequests.join();
+
+        // Then
+        assertThat(targets[0]).isEqualTo("primary");
+        assertThat(targets[1]).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("복제본 읽기 2차 캐시 저장 차단 테스트")
+    // 테스트 이유: 복제본으로 보낸 읽기는 Hibernate 세션이 2차 캐시에 넣지 않도록(GET) 바뀌고 트랜잭션 후 되돌아오며,
+    // 기본 DB로 고정된 사용자의 읽기는 캐시에 넣을 수 있어, 오래된 복제본 값이 고정 사용자에게 캐시로 보이지 않는지 검증
+    void should_SuppressCachePuts_When_ReadRoutedToReplica() {
+        // Given
+        Session session = mock(Session.class);
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.getCacheMode()).thenReturn(CacheMode.NORMAL);
+        when(session.isOpen()).thenReturn(true);
+        Object entityManagerFactoryKey = new Object();
+
+        // When - 복제본 읽기
+        readOnlyTransaction.executeWithoutResult(status -> {
+            TransactionSynchronizationManager.bindResource(entityManagerFactoryKey, new EntityManagerHolder(entityManager));
+            try {
+                whoAmI();
+                verify(session).setCacheMode(CacheMode.GET);
+            } finally {
+                TransactionSynchronizationManager.unbindResource(entityManagerFactoryKey);
+            }
+        });
+
+        // Then - 트랜잭션이 끝나면 원래 모드로 복귀
+        verify(session).setCacheMode(CacheMode.NORMAL);
+
+        // When - 쓰기 직후 기본 DB로 고정된 사용자의 읽기
+        clearInvocations(session);
+        tracker.beginRequest(1L);
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE db_role SET name = name"));
+        readOnlyTransaction.executeWithoutResult(status -> {
+            TransactionSynchronizationManager.bindResource(entityManagerFactoryKey, new EntityManagerHolder(entityManager));
+            try {
+                assertThat(whoAmI()).isEqualTo("primary");
+            } finally {
+                TransactionSynchronizationManager.unbindResource(entityManagerFactoryKey);
+            }
+        });
+
+        // Then
+        verify(session, never()).setCacheMode(any());
+    }
+
+    private String whoAmI() {
+        return jdbcTemplate.queryForObject(WHO_AM_I, String.class);
+    }
+
+    private static DriverManagerDataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static void initRole(DataSource dataSource, String role) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE db_role (name VARCHAR(20))");
+        template.update("INSERT INTO db_role (name) VALUES (?)", role);
+    }
+}
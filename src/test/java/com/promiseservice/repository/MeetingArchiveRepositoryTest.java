@@ -0,0 +1,123 @@
+package com.promiseservice.repository;
+
+import com.promiseservice.model.entity.Meeting;
+import com.promiseservice.model.entity.Meeting.MeetingStatus;
+import com.promiseservice.model.entity.MeetingArchive;
+import com.promiseservice.model.entity.MeetingHistory;
+import com.promiseservice.model.entity.MeetingHistoryArchive;
+import com.promiseservice.model.entity.MeetingParticipant;
+import com.promiseservice.model.entity.MeetingParticipant.ResponseStatus;
+import com.promiseservice.model.entity.MeetingParticipantArchive;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 약속 보관(아카이브) 쿼리 테스트
+ * 이유: 최종 상태 약속만 보관 대상으로 골라지고, INSERT ... SELECT와 일괄 DELETE로
+ * 약속/참여자/히스토리가 운영 테이블에서 보관 테이블로 그대로 옮겨지는지 검증하기 위해
+ */
+@DataJpaTest(properties =
+    "spring.jpa.properties.hibernate.globally_quoted_identifiers_skip_column_definitions=true")
+@ActiveProfiles("test")
+// 이유: 네이티브 INSERT ... SELECT를 운영과 같은 소문자 테이블명으로 실행하도록 test 프로필의 H2(MySQL 모드, DATABASE_TO_LOWER) 설정을 그대로 사용
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MeetingArchiveRepositoryTest {
+
+    private static final List<MeetingStatus> FINAL_STATUSES = List.of(MeetingStatus.COMPLETED, MeetingStatus.CANCELLED);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingParticipantRepository participantRepository;
+
+    @Autowired
+    private MeetingHistoryRepository historyRepository;
+
+    @Autowired
+    private MeetingArchiveRepository archiveRepository;
+
+    @Test
+    @DisplayName("최종 상태 약속만 보관 대상 조회 테스트")
+    // 테스트 이유: 진행 중인 약속과 기준 시각 이후에 바뀐 약속은 보관 대상에서 빠지는지 검증
+    void should_SelectOnlyFinalMeetings_When_OlderThanCutoff() {
+        // Given
+        Meeting completed = persistMeeting(MeetingStatus.COMPLETED);
+        Meeting cancelled = persistMeeting(MeetingStatus.CANCELLED);
+        persistMeeting(MeetingStatus.WAITING);
+        LocalDateTime cutoff = LocalDateTime.now().plusMinutes(1);
+
+        // When
+        List<Long> archivable = meetingRepository.findArchivableIds(FINAL_STATUSES, cutoff, PageRequest.of(0, 10));
+        List<Long> beforeChange = meetingRepository.findArchivableIds(FINAL_STATUSES, LocalDateTime.now().minusDays(1), PageRequest.of(0, 10));
+
+        // Then
+        assertThat(archivable).containsExactly(completed.getId(), cancelled.getId());
+        assertThat(beforeChange).isEmpty();
+    }
+
+    @Test
+    @DisplayName("약속/참여자/히스토리 보관 테이블 이동 테스트")
+    // 테스트 이유: 복사 후 삭제하면 운영 테이블에서는 사라지고, 보관 테이블에서는 원래 ID와 값으로 조회되는지 검증
+    void should_MoveMeetingWithChildren_When_Archived() {
+        // Given
+        Meeting meeting = persistMeeting(MeetingStatus.COMPLETED);
+        entityManager.persist(MeetingParticipant.create(meeting.getId(), 2L, meeting, ResponseStatus.ACCEPTED));
+        entityManager.persist(MeetingParticipant.create(meeting.getId(), 3L, meeting, ResponseStatus.REJECTED));
+        entityManager.persist(MeetingHistory.createHistory(meeting, 1L));
+        entityManager.flush();
+        List<Long> meetingIds = List.of(meeting.getId());
+        LocalDateTime archivedAt = LocalDateTime.now();
+
+        // When
+        int meetings = archiveRepository.copyMeetings(meetingIds, archivedAt);
+        int participants = archiveRepository.copyParticipants(meetingIds, archivedAt);
+        int histories = archiveRepository.copyHistories(meetingIds, archivedAt);
+        participantRepository.deleteByMeetingIdIn(meetingIds);
+        historyRepository.deleteByMeetingIdIn(meetingIds);
+        meetingRepository.deleteAllByIdIn(meetingIds);
+        entityManager.clear();
+
+        // Then
+        assertThat(meetings).isEqualTo(1);
+        assertThat(participants).isEqualTo(2);
+        assertThat(histories).isEqualTo(1);
+
+        assertThat(meetingRepository.findById(meeting.getId())).isEmpty();
+        assertThat(participantRepository.findMembershipByMeetingId(meeting.getId())).isEmpty();
+
+        MeetingArchive archived = archiveRepository.findById(meeting.getId()).orElseThrow();
+        assertThat(archived.getTitle()).isEqualTo(meeting.getTitle());
+        assertThat(archived.getStatus()).isEqualTo(MeetingStatus.COMPLETED);
+        assertThat(archived.getArchivedAt()).isNotNull();
+        assertThat(archiveRepository.findParticipantsByMeetingId(meeting.getId()))
+            .extracting(MeetingParticipantArchive::getUserId, MeetingParticipantArchive::getResponse)
+            .containsExactly(tuple(2L, ResponseStatus.ACCEPTED), tuple(3L, ResponseStatus.REJECTED));
+        assertThat(entityManager.getEntityManager()
+                .createQuery("SELECT h FROM MeetingHistoryArchive h WHERE h.meetingId = :meetingId", MeetingHistoryArchive.class)
+                .setParameter("meetingId", meeting.getId())
+                .getResultList())
+            .hasSize(1);
+    }
+
+    private Meeting persistMeeting(MeetingStatus status) {
+        Meeting meeting = Meeting.create("보관 테스트", "보관 쿼리 검증", LocalDateTime.now().minusDays(1),
+                5, 1L, null, null, null);
+        meeting.updateStatus(status);
+        return entityManager.persistAndFlush(meeting);
+    }
+}
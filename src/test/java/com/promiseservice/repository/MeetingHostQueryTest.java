@@ -0,0 +1,114 @@
+package com.promiseservice.repository;
+
+import com.promiseservice.model.entity.Meeting;
+import com.promiseservice.model.entity.MeetingParticipant;
+import com.promiseservice.model.entity.MeetingParticipant.ResponseStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 방장 조회 쿼리 테스트
+ * 이유: 방장 판별이 참여자 초대 순서가 아닌 약속 행의 host_id를 기준으로 하고,
+ * 방장별 약속/참여자 목록이 host_id로 올바르게 걸러지는지 검증하기 위해
+ */
+@DataJpaTest(properties =
+    "spring.jpa.properties.hibernate.globally_quoted_identifiers_skip_column_definitions=true")
+@ActiveProfiles("test")
+class MeetingHostQueryTest {
+
+    private static final Long HOST_ID = 1L;
+    private static final Long GUEST_ID = 2L;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingParticipantRepository participantRepository;
+
+    @Test
+    @DisplayName("host_id 기준 방장 조회 테스트")
+    // 테스트 이유: 다른 참여자가 방장보다 먼저 초대된 것으로 기록되어 있어도 host_id와 일치하는 참여자만 방장으로 판별하는지 검증
+    void should_ResolveHostFromHostId_When_GuestInvitedEarlier() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Meeting meeting = persistMeeting(HOST_ID, now);
+        MeetingParticipant host = persistParticipant(meeting, HOST_ID, now);
+        persistParticipant(meeting, GUEST_ID, now.minusHours(1));
+        entityManager.clear();
+
+        // When
+        Optional<MeetingParticipant> found = participantRepository.findHostByMeetingId(meeting.getId());
+
+        // Then
+        assertThat(found).map(MeetingParticipant::getId).contains(host.getId());
+        assertThat(participantRepository.isHost(meeting.getId(), HOST_ID)).isTrue();
+        assertThat(participantRepository.isHost(meeting.getId(), GUEST_ID)).isFalse();
+        assertThat(participantRepository.isHost(-1L, HOST_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("방장별 약속 및 참여자 목록 조회 테스트")
+    // 테스트 이유: 방장으로 주최한 약속만 최신 생성순으로 조회되고, 참여만 한 약속은 방장 목록과 방장 참여자 목록에서 빠지는지 검증
+    void should_ListOnlyHostedMeetings_When_QueryingByHostId() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        Meeting older = persistMeeting(HOST_ID, now.minusDays(2));
+        Meeting newer = persistMeeting(HOST_ID, now.minusDays(1));
+        Meeting guestHosted = persistMeeting(GUEST_ID, now);
+        persistParticipant(older, HOST_ID, now.minusDays(2));
+        persistParticipant(older, GUEST_ID, now.minusDays(2).plusMinutes(1));
+        persistParticipant(newer, HOST_ID, now.minusDays(1));
+        persistParticipant(guestHosted, GUEST_ID, now);
+        persistParticipant(guestHosted, HOST_ID, now.plusMinutes(1));
+        entityManager.clear();
+
+        // When
+        List<Meeting> hosted = meetingRepository.findByHostIdOrderByCreatedAtDesc(HOST_ID);
+        List<MeetingParticipant> participants = participantRepository.findParticipantsByHostId(HOST_ID);
+
+        // Then
+        assertThat(hosted).extracting(Meeting::getId).containsExactly(newer.getId(), older.getId());
+        assertThat(participants)
+            .extracting(MeetingParticipant::getMeetingId, MeetingParticipant::getUserId)
+            .containsExactly(
+                tuple(newer.getId(), HOST_ID),
+                tuple(older.getId(), HOST_ID),
+                tuple(older.getId(), GUEST_ID));
+    }
+
+    private Meeting persistMeeting(Long hostId, LocalDateTime createdAt) {
+        Meeting meeting = entityManager.persistAndFlush(Meeting.create("방장 조회 테스트", null,
+                LocalDateTime.now().plusDays(1), 5, hostId, null, null, null));
+        // 생성 시각은 감사(auditing) 값으로 채워지므로 순서 검증을 위해 직접 지정
+        entityManager.getEntityManager()
+            .createQuery("UPDATE Meeting m SET m.createdAt = :createdAt WHERE m.id = :id")
+            .setParameter("createdAt", createdAt)
+            .setParameter("id", meeting.getId())
+            .executeUpdate();
+        return meeting;
+    }
+
+    private MeetingParticipant persistParticipant(Meeting meeting, Long userId, LocalDateTime invitedAt) {
+        MeetingParticipant participant = entityManager.persistAndFlush(
+                MeetingParticipant.create(meeting.getId(), userId, meeting, ResponseStatus.ACCEPTED));
+        entityManager.getEntityManager()
+            .createQuery("UPDATE MeetingParticipant p SET p.invitedAt = :invitedAt WHERE p.id = :id")
+            .setParameter("invitedAt", invitedAt)
+            .setParameter("id", participant.getId())
+            .executeUpdate();
+        return participant;
+    }
+}
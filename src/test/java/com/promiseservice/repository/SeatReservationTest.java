@@ -0,0 +1,134 @@
+package com.promiseservice.repository;
+
+import com.promiseservice.model.entity.Meeting;
+import com.promiseservice.model.entity.MeetingParticipant;
+import com.promiseservice.model.entity.MeetingParticipant.ResponseStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 조건부 UPDATE 좌석 예약 테스트
+ * 이유: 정원 확인과 카운터 증가가 한 UPDATE로 처리되어 정원을 넘는 예약이 거절되고,
+ * 이미 바뀐 응답 상태로는 다시 응답을 바꿀 수 없는지 검증하기 위해
+ */
+@DataJpaTest(properties =
+    "spring.jpa.properties.hibernate.globally_quoted_identifiers_skip_column_definitions=true")
+@ActiveProfiles("test")
+// 이유: 네이티브 조건부 UPDATE를 운영과 같은 소문자 테이블명으로 실행하도록 test 프로필의 H2(MySQL 모드, DATABASE_TO_LOWER) 설정을 그대로 사용
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SeatReservationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private MeetingParticipantRepository participantRepository;
+
+    @Test
+    @DisplayName("정원까지만 수락 좌석 예약 테스트")
+    // 테스트 이유: 남은 좌석 수만큼만 예약되고, 예약할 때마다 약속 버전이 올라가는지 검증
+    void should_RejectReservation_When_MeetingIsFull() {
+        // Given
+        Meeting meeting = persistMeeting(2);
+        Long initialVersion = meeting.getVersion();
+
+        // When
+        boolean first = meetingRepository.tryReserveAcceptedSeat(meeting.getId(), null);
+        boolean second = meetingRepository.tryReserveAcceptedSeat(meeting.getId(), null);
+        boolean third = meetingRepository.tryReserveAcceptedSeat(meeting.getId(), null);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+
+        entityManager.clear();
+        Meeting reloaded = entityManager.find(Meeting.class, meeting.getId());
+        assertThat(reloaded.getAcceptedCount()).isEqualTo(2);
+        assertThat(reloaded.getVersion()).isEqualTo(initialVersion + 2);
+    }
+
+    @Test
+    @DisplayName("전체 인원 안에서만 초대 좌석 예약 테스트")
+    // 테스트 이유: 초대 인원을 더해 최대 인원을 넘으면 카운터를 바꾸지 않고 거절하고,
+    // 예약된 경우에만 약속 버전이 올라가는지 검증
+    void should_RejectInvites_When_TotalWouldExceedMax() {
+        // Given
+        Meeting meeting = persistMeeting(3);
+        Long initialVersion = meeting.getVersion();
+
+        // When
+        int first = meetingRepository.reserveInvitedSeats(meeting.getId(), 2);
+        int second = meetingRepository.reserveInvitedSeats(meeting.getId(), 2);
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+
+        entityManager.clear();
+        Meeting reloaded = entityManager.find(Meeting.class, meeting.getId());
+        assertThat(reloaded.getInvitedCount()).isEqualTo(2);
+        assertThat(reloaded.getVersion()).isEqualTo(initialVersion + 1);
+    }
+
+    @Test
+    @DisplayName("카운터 증감 후 같은 트랜잭션 재조회 테스트")
+    // 테스트 이유: 카운터 증감 UPDATE 뒤에 같은 트랜잭션에서 약속을 다시 조회하면 영속성 컨텍스트에 남은 이전 값이 아닌
+    // 변경된 카운터를 보고, UPDATE 전에 저장한 참여자도 함께 반영되는지 검증
+    void should_SeeAdjustedCounts_When_ReloadedInSameTransaction() {
+        // Given
+        Meeting meeting = persistMeeting(5);
+        Meeting managed = meetingRepository.findById(meeting.getId()).orElseThrow();
+        participantRepository.save(MeetingParticipant.create(meeting.getId(), 2L, managed, ResponseStatus.INVITED));
+
+        // When
+        meetingRepository.moveParticipantCount(meeting.getId(), null, ResponseStatus.INVITED);
+        Meeting reloaded = meetingRepository.findById(meeting.getId()).orElseThrow();
+
+        // Then
+        assertThat(reloaded).isNotSameAs(managed);
+        assertThat(reloaded.getInvitedCount()).isEqualTo(1);
+        assertThat(participantRepository.findByMeetingIdAndUserId(meeting.getId(), 2L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("응답 상태 조건부 변경 테스트")
+    // 테스트 이유: 같은 초대를 읽은 두 요청 중 먼저 반영된 요청만 성공하고, 늦은 요청은 0건 변경으로 충돌을 알리는지 검증
+    void should_FailSecondResponse_When_ReadStateIsStale() {
+        // Given
+        Meeting meeting = persistMeeting(5);
+        MeetingParticipant participant = entityManager.persistAndFlush(
+                MeetingParticipant.create(meeting.getId(), 2L, meeting, ResponseStatus.INVITED));
+
+        // When
+        boolean first = participantRepository.compareAndSetResponse(participant, ResponseStatus.ACCEPTED);
+        boolean second = participantRepository.compareAndSetResponse(participant, ResponseStatus.REJECTED);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+
+        entityManager.clear();
+        MeetingParticipant reloaded = entityManager.find(MeetingParticipant.class, participant.getId());
+        assertThat(reloaded.getResponse()).isEqualTo(ResponseStatus.ACCEPTED);
+        assertThat(reloaded.getJoinedAt()).isNotNull();
+    }
+
+    private Meeting persistMeeting(int maxParticipants) {
+        Meeting meeting = Meeting.create("좌석 예약 테스트", "조건부 UPDATE 검증", LocalDateTime.now().plusDays(1),
+                maxParticipants, 1L, null, null, null);
+        return entityManager.persistAndFlush(meeting);
+    }
+}
@@ -0,0 +1,120 @@
+package com.promiseservice.repository;
+
+import com.promiseservice.model.entity.Meeting;
+import com.promiseservice.model.entity.MeetingHistory;
+import com.promiseservice.model.entity.MeetingParticipant;
+import com.promiseservice.model.entity.NotificationLog;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 시퀀스 ID 엔티티의 JDBC 배치 INSERT 테스트
+ * 이유: 참여자/히스토리/알림 로그가 flush 한 번에 테이블별로 하나의 배치 INSERT 문으로 전송되는지 검증하기 위해
+ * (IDENTITY 전략이면 INSERT 문이 행 수만큼 준비된다)
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+    "spring.jpa.properties.hibernate.order_inserts=true",
+    "spring.jpa.properties.hibernate.globally_quoted_identifiers_skip_column_definitions=true",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.promiseservice.repository.SequenceBatchInsertTest$InsertStatementCounter"
+})
+@ActiveProfiles("test")
+class SequenceBatchInsertTest {
+
+    private static final int ROWS = 10;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MeetingParticipantRepository participantRepository;
+
+    @Autowired
+    private MeetingHistoryRepository historyRepository;
+
+    @Autowired
+    private NotificationLogRepository notificationLogRepository;
+
+    @Test
+    @DisplayName("테이블별 배치 INSERT 테스트")
+    // 테스트 이유: 서로 다른 테이블의 INSERT가 섞여 저장되어도 insert 정렬과 시퀀스 ID 덕분에
+    // flush 시 테이블마다 INSERT 문이 한 번만 준비되는지(행마다 준비되지 않는지) 검증
+    void should_PrepareOneInsertPerTable_When_FlushingInterleavedSaves() {
+        // Given
+        Meeting meeting = Meeting.create("배치 테스트", "시퀀스 ID 배치 검증", LocalDateTime.now().plusDays(1),
+                10, 1L, null, null, null);
+        entityManager.persistAndFlush(meeting);
+        InsertStatementCounter.reset();
+
+        // When
+        for (long userId = 1; userId <= ROWS; userId++) {
+            participantRepository.save(MeetingParticipant.create(
+                    meeting.getId(), userId, meeting, MeetingParticipant.ResponseStatus.INVITED));
+
+            historyRepository.save(MeetingHistory.updateHistory(meeting, userId));
+
+            notificationLogRepository.save(notificationLog(meeting.getId(), userId));
+        }
+        entityManager.flush();
+
+        // Then
+        assertThat(InsertStatementCounter.count("meeting_participant")).isEqualTo(1);
+        assertThat(InsertStatementCounter.count("meeting_history")).isEqualTo(1);
+        assertThat(InsertStatementCounter.count("notification_log")).isEqualTo(1);
+
+        entityManager.clear();
+        List<MeetingParticipant> saved = participantRepository.findByMeetingIdOrderByInvitedAtAsc(meeting.getId());
+        assertThat(saved).hasSize(ROWS);
+    }
+
+    private static NotificationLog notificationLog(Long meetingId, Long userId) {
+        NotificationLog log = new NotificationLog();
+        log.setMeetingId(meetingId);
+        log.setUserId(userId);
+        log.setChannel(NotificationLog.NotificationChannel.KAKAO);
+        log.setPayloadJson("{}");
+        log.setHttpStatus(200);
+        log.setTraceId("trace-" + userId);
+        return log;
+    }
+
+    /**
+     * 준비된 INSERT 문 수를 테이블별로 세는 Hibernate StatementInspector
+     * 이유: 배치로 묶인 INSERT는 문장이 한 번만 준비되므로, 준비 횟수로 배치 여부를 확인하기 위해
+     */
+    public static class InsertStatementCounter implements StatementInspector {
+
+        private static final Map<String, Integer> INSERTS = new ConcurrentHashMap<>();
+
+        @Override
+        public String inspect(String sql) {
+            String normalized = sql.toLowerCase().replace("\"", "").replace("`", "").trim();
+            if (normalized.startsWith("insert into ")) {
+                String table = normalized.substring("insert into ".length()).split("[\\s(]", 2)[0];
+                INSERTS.merge(table, 1, Integer::sum);
+            }
+            return sql;
+        }
+
+        static void reset() {
+            INSERTS.clear();
+        }
+
+        static int count(String table) {
+            return INSERTS.getOrDefault(table, 0);
+        }
+    }
+}
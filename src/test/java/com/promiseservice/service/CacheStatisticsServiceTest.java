@@ -0,0 +1,105 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.CacheRegionStatsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CacheStatisticsService 단위 테스트
+ * 이유: Hibernate 영역 통계와 제거/만료 집계가 영역별로 합쳐지고, 쿼리 결과 영역도 함께 보고되는지 검증하기 위해
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheStatisticsServiceTest {
+
+    private static final String QUERY_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Statistics statistics;
+
+    private CacheRegionEventCounter eventCounter;
+    private CacheStatisticsService cacheStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 이유: 실제 제거/만료 집계기와 모의 Hibernate 통계를 연결하기 위해
+        eventCounter = new CacheRegionEventCounter();
+        cacheStatisticsService = new CacheStatisticsService(entityManagerFactory, eventCounter);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+    }
+
+    @Test
+    @DisplayName("영역별 통계 합산 테스트")
+    // 테스트 이유: 영역마다 적중률이 계산되고, 캐시 구현에서 센 제거/만료 건수가 같은 영역에 붙는지 검증
+    void should_CombineHibernateAndEvictionStats_When_RegionsExist() {
+        // Given
+        CacheRegionStatistics meetingStats = regionStatistics(75, 25, 30, 120);
+        CacheRegionStatistics queryStats = regionStatistics(9, 1, 1, 5);
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[]{"meeting"});
+        when(statistics.getCacheRegionStatistics("meeting")).thenReturn(meetingStats);
+        when(statistics.getCacheRegionStatistics(QUERY_REGION)).thenReturn(queryStats);
+        eventCounter.recordEviction("meeting");
+        eventCounter.recordEviction("meeting");
+        eventCounter.recordExpiration("meeting");
+
+        // When
+        List<CacheRegionStatsResponse> stats = cacheStatisticsService.getRegionStats();
+
+        // Then
+        assertThat(stats).extracting(CacheRegionStatsResponse::getRegion).containsExactly("meeting", QUERY_REGION);
+
+        CacheRegionStatsResponse meeting = stats.get(0);
+        assertThat(meeting.getHitRate()).isEqualTo(0.75);
+        assertThat(meeting.getPuts()).isEqualTo(30);
+        assertThat(meeting.getEvictions()).isEqualTo(2);
+        assertThat(meeting.getExpirations()).isEqualTo(1);
+        assertThat(meeting.getSize()).isEqualTo(120);
+
+        assertThat(stats.get(1).getHitRate()).isEqualTo(0.9);
+        assertThat(stats.get(1).getEvictions()).isZero();
+    }
+
+    @Test
+    @DisplayName("2차 캐시 비활성화 시 빈 목록 테스트")
+    // 테스트 이유: 캐시 영역이 없으면 존재하지 않는 쿼리 결과 영역을 조회하지 않고 빈 목록을 반환하는지 검증
+    void should_ReturnEmpty_When_SecondLevelCacheDisabled() {
+        // Given
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[0]);
+
+        // When
+        List<CacheRegionStatsResponse> stats = cacheStatisticsService.getRegionStats();
+
+        // Then
+        assertThat(stats).isEmpty();
+        verify(statistics, never()).getCacheRegionStatistics(anyString());
+    }
+
+    private CacheRegionStatistics regionStatistics(long hits, long misses, long puts, long size) {
+        CacheRegionStatistics regionStatistics = mock(CacheRegionStatistics.class);
+        when(regionStatistics.getHitCount()).thenReturn(hits);
+        when(regionStatistics.getMissCount()).thenReturn(misses);
+        when(regionStatistics.getPutCount()).thenReturn(puts);
+        when(regionStatistics.getElementCountInMemory()).thenReturn(size);
+        return regionStatistics;
+    }
+}
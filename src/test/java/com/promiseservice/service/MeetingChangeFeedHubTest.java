@@ -0,0 +1,219 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.MeetingChangeFeedItem;
+import com.promiseservice.event.MeetingChangedEvent;
+import com.promiseservice.event.MeetingChangedEvent.ChangeType;
+import com.promiseservice.event.MeetingHistoryWrittenEvent;
+import com.promiseservice.model.entity.MeetingHistory;
+import com.promiseservice.model.entity.MeetingHistory.ActionType;
+import com.promiseservice.repository.MeetingHistoryRepository;
+import com.promiseservice.repository.MeetingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * MeetingChangeFeedHub 단위 테스트
+ * 이유: 재개 토큰 이후 변경 재생, 재생과 실시간 변경의 중복 제거, 느린 구독자 resync,
+ * 삭제된 약속 구독 종료가 설계대로 동작하는지 검증하기 위해
+ */
+@ExtendWith(MockitoExtension.class)
+class MeetingChangeFeedHubTest {
+
+    private static final Long MEETING_ID = 1L;
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private MeetingHistoryRepository historyRepository;
+
+    @InjectMocks
+    private MeetingChangeFeedHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub.initSender();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("재개 토큰 이후 변경 재생 테스트")
+    // 테스트 이유: 재개 토큰 이후 변경을 DB에서 다시 보내고, 이미 재생한 변경이 실시간으로 다시 와도 한 번만 보내는지 검증
+    void should_ReplayMissedChangesOnce_When_ResumedWithLastEventId() {
+        // Given
+        when(historyRepository.findByMeetingIdAndIdAfter(eq(MEETING_ID), eq(10L), any(Pageable.class)))
+            .thenReturn(List.of(history(11L), history(12L)));
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(MEETING_ID, 10L, emitter);
+
+        // When
+        hub.onHistoryWritten(new MeetingHistoryWrittenEvent(List.of(item(12L), item(13L))));
+        await(() -> emitter.changeIds().size() >= 3);
+
+        // Then
+        assertThat(emitter.changeIds()).containsExactly(11L, 12L, 13L);
+        assertThat(emitter.completed).isFalse();
+    }
+
+    @Test
+    @DisplayName("느린 구독자 resync 테스트")
+    // 테스트 이유: 전송이 밀려 구독자 대기열이 가득 차면 쌓인 항목을 버리고 resync 이벤트를 보낸 뒤 연결을 닫는지 검증
+    void should_SendResyncAndClose_When_SubscriberBufferOverflows() throws InterruptedException {
+        // Given - 대기열 1칸, 첫 전송이 막혀 있는 구독자
+        ReflectionTestUtils.setField(hub, "subscriberBuffer", 1);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter emitter = new RecordingEmitter(sending, release);
+        hub.subscribe(MEETING_ID, null, emitter);
+        hub.onHistoryWritten(new MeetingHistoryWrittenEvent(List.of(item(1L))));
+        assertThat(sending.await(2, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        hub.onHistoryWritten(new MeetingHistoryWrittenEvent(List.of(item(2L), item(3L))));
+        release.countDown();
+        await(() -> emitter.completed);
+
+        // Then
+        assertThat(emitter.changeIds()).containsExactly(1L);
+        assertThat(emitter.eventNames).endsWith(MeetingChangeFeedHub.RESYNC_EVENT);
+        assertThat(hub.getResyncCount()).isEqualTo(1);
+        assertThat(hub.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("재생 구간 초과 시 resync 테스트")
+    // 테스트 이유: 재개 토큰 이후 변경이 재생 한도를 넘으면 재생하지 않고 바로 resync로 닫아 전체 조회를 유도하는지 검증
+    void should_ResyncImmediately_When_ReplayExceedsLimit() {
+        // Given
+        ReflectionTestUtils.setField(hub, "replayLimit", 2);
+        when(historyRepository.findByMeetingIdAndIdAfter(eq(MEETING_ID), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(history(1L), history(2L), history(3L)));
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        hub.subscribe(MEETING_ID, 0L, emitter);
+
+        // Then
+        assertThat(emitter.changeIds()).isEmpty();
+        assertThat(emitter.eventNames).containsExactly(MeetingChangeFeedHub.RESYNC_EVENT);
+        assertThat(emitter.completed).isTrue();
+        assertThat(hub.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제된 약속 구독 종료 테스트")
+    // 테스트 이유: 약속이 삭제되면 구독자에게 removed 이벤트를 보내고 연결을 닫는지 검증
+    void should_SendRemovedAndClose_When_MeetingDeleted() {
+        // Given
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.subscribe(MEETING_ID, null, emitter);
+
+        // When
+        hub.onMeetingChanged(new MeetingChangedEvent(MEETING_ID, ChangeType.DELETED));
+        await(() -> emitter.completed);
+
+        // Then
+        assertThat(emitter.eventNames).containsExactly(MeetingChangeFeedHub.REMOVED_EVENT);
+        assertThat(hub.getSubscriberCount()).isZero();
+    }
+
+    private static MeetingHistory history(Long id) {
+        MeetingHistory history = new MeetingHistory();
+        history.setId(id);
+        history.setUserId(100L);
+        history.setAction(ActionType.UPDATED);
+        history.setTimestamp(LocalDateTime.now());
+        return history;
+    }
+
+    private static MeetingChangeFeedItem item(Long id) {
+        return new MeetingChangeFeedItem(id, MEETING_ID, 100L, ActionType.JOINED, LocalDateTime.now());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 보낸 이벤트를 기록하는 SSE 연결
+     * 이유: 서블릿 비동기 요청 없이 허브가 보낸 이벤트 이름과 변경 항목을 확인하기 위해
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> eventNames = new CopyOnWriteArrayList<>();
+        private final List<MeetingChangeFeedItem> items = new CopyOnWriteArrayList<>();
+        private final CountDownLatch sending;
+        private final CountDownLatch release;
+        private volatile boolean completed;
+
+        RecordingEmitter() {
+            this(null, null);
+        }
+
+        RecordingEmitter(CountDownLatch sending, CountDownLatch release) {
+            this.sending = sending;
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            if (sending != null && sending.getCount() > 0) {
+                sending.countDown();
+                try {
+                    release.await(2, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            builder.build().forEach(part -> {
+                if (part.getData() instanceof MeetingChangeFeedItem item) {
+                    items.add(item);
+                } else if (part.getData() instanceof String text && text.contains("event:")) {
+                    eventNames.add(text.substring(text.indexOf("event:") + 6).lines().findFirst().orElse(""));
+                }
+            });
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        List<Long> changeIds() {
+            return items.stream().map(MeetingChangeFeedItem::id).toList();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.promiseservice.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.promiseservice.dto.MeetingSearchRequest;
+import com.promiseservice.model.entity.Meeting;
+import com.promiseservice.repository.MeetingSpecifications;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * MeetingExportService 테스트
+ * 이유: 내보내기 스트림이 검색 조건에 일치하는 약속을 ID 순으로 한 줄씩 올바른 필드로 기록하고,
+ * 설정한 행 수마다 출력 스트림을 비워 클라이언트가 도중에 데이터를 받을 수 있는지 검증하기 위해
+ */
+@DataJpaTest(properties =
+    "spring.jpa.properties.hibernate.globally_quoted_identifiers_skip_column_definitions=true")
+@ActiveProfiles("test")
+class MeetingExportServiceTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManager sharedEntityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private MeetingSearchService searchService;
+
+    private MeetingExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = mock(MeetingSearchService.class);
+        exportService = new MeetingExportService(searchService, sharedEntityManager, objectMapper, transactionManager);
+    }
+
+    @Test
+    @DisplayName("내보내기 행 변환 테스트")
+    // 테스트 이유: 한 줄에 약속 하나씩 ID 오름차순으로 기록되고, 좌표/장소/방장 등 프로젝션 컬럼이 JSON 필드로 그대로 옮겨지는지 검증
+    void should_WriteOneJsonLinePerMeeting_When_Exporting() throws Exception {
+        // Given
+        when(searchService.toSpecification(any(MeetingSearchRequest.class))).thenReturn(MeetingSpecifications.all());
+        LocalDateTime meetingTime = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+        Meeting first = persistMeeting("강남 저녁", meetingTime, "강남역", "{\"lat\": 37.498, \"lng\": 127.027}");
+        Meeting second = persistMeeting("홍대 점심", meetingTime.plusDays(1), null, null);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long written = exportService.exportMeetings(new MeetingSearchRequest(), output);
+
+        // Then
+        List<JsonNode> lines = parseLines(output.toString(StandardCharsets.UTF_8));
+        assertThat(written).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+
+        JsonNode firstLine = lines.get(0);
+        assertThat(firstLine.get("id").asLong()).isEqualTo(first.getId());
+        assertThat(firstLine.get("title").asText()).isEqualTo("강남 저녁");
+        assertThat(LocalDateTime.parse(firstLine.get("meetingTime").asText())).isEqualTo(meetingTime);
+        assertThat(firstLine.get("maxParticipants").asInt()).isEqualTo(5);
+        assertThat(firstLine.get("status").asText()).isEqualTo("WAITING");
+        assertThat(firstLine.get("locationName").asText()).isEqualTo("강남역");
+        assertThat(firstLine.get("latitude").asDouble()).isEqualTo(37.498);
+        assertThat(firstLine.get("longitude").asDouble()).isEqualTo(127.027);
+        assertThat(firstLine.get("hostId").asLong()).isEqualTo(1L);
+
+        JsonNode secondLine = lines.get(1);
+        assertThat(secondLine.get("id").asLong()).isEqualTo(second.getId());
+        assertThat(secondLine.get("locationName").isNull()).isTrue();
+        assertThat(secondLine.get("latitude").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("내보내기 flush 주기 테스트")
+    // 테스트 이유: flushInterval 행마다 그때까지 기록한 줄이 출력 스트림으로 비워지고, 남은 행은 마지막에 한 번 더 비워지는지 검증
+    void should_FlushEveryInterval_When_ExportingManyRows() throws Exception {
+        // Given - 2행마다 flush, 약속 5건
+        ReflectionTestUtils.setField(exportService, "flushInterval", 2);
+        when(searchService.toSpecification(any(MeetingSearchRequest.class))).thenReturn(MeetingSpecifications.all());
+        for (int i = 0; i < 5; i++) {
+            persistMeeting("약속 " + i, LocalDateTime.now().plusDays(1 + i), null, null);
+        }
+        FlushRecordingOutputStream output = new FlushRecordingOutputStream();
+
+        // When
+        exportService.exportMeetings(new MeetingSearchRequest(), output);
+
+        // Then - flush 시점마다 출력된 누적 줄 수
+        assertThat(output.linesAtFlush).containsExactly(2L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("내보내기 연결 유지 시간 테스트")
+    // 테스트 이유: 긴 연결 유지 시간이 전역 비동기 타임아웃이 아닌 내보내기 응답의 emitter에만 지정되는지 검증
+    void should_SetTimeoutOnEmitter_When_StartingExport() {
+        // Given
+        ReflectionTestUtils.setField(exportService, "timeoutMs", 1234L);
+        when(searchService.toSpecification(any(MeetingSearchRequest.class))).thenReturn(MeetingSpecifications.all());
+        exportService.initExporter();
+
+        try {
+            // When
+            ResponseBodyEmitter emitter = exportService.startExport(new MeetingSearchRequest());
+
+            // Then
+            assertThat(emitter.getTimeout()).isEqualTo(1234L);
+        } finally {
+            exportService.shutdown();
+        }
+    }
+
+    private Meeting persistMeeting(String title, LocalDateTime meetingTime, String locationName, String coordinates) {
+        Meeting meeting = entityManager.persistAndFlush(
+                Meeting.create(title, null, meetingTime, 5, 1L, locationName, null, coordinates));
+        entityManager.clear();
+        return meeting;
+    }
+
+    private List<JsonNode> parseLines(String ndjson) throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    /**
+     * flush가 호출될 때마다 그때까지 받은 줄 수를 기록하는 출력 스트림
+     */
+    private static class FlushRecordingOutputStream extends ByteArrayOutputStream {
+
+        private final List<Long> linesAtFlush = new ArrayList<>();
+
+        @Override
+        public void flush() {
+            linesAtFlush.add(toString(StandardCharsets.UTF_8).chars().filter(c -> c == '\n').count());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.MeetingSearchResponse;
+import com.promiseservice.model.entity.Meeting;
+import com.promiseservice.model.entity.Meeting.MeetingStatus;
+import com.promiseservice.repository.MeetingSpecifications;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * MeetingFacetCounter 테스트
+ * 이유: 분류별로 나눈 GROUP BY 쿼리가 검색 조건을 그대로 적용하고,
+ * 장소 패싯은 건수 상위 항목만 제한된 개수로 돌려주는지 검증하기 위해
+ */
+@DataJpaTest(properties =
+    "spring.jpa.properties.hibernate.globally_quoted_identifiers_skip_column_definitions=true")
+@ActiveProfiles("test")
+@Import(MeetingFacetCounter.class)
+class MeetingFacetCounterTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.now().plusDays(1);
+    private static final LocalDate SECOND_DAY = LocalDate.now().plusDays(2);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MeetingFacetCounter facetCounter;
+
+    @Test
+    @DisplayName("분류별 패싯 집계 테스트")
+    // 테스트 이유: 상태는 건수가 없는 값도 0으로, 날짜는 오름차순으로, 장소는 건수 내림차순(같으면 이름순)
+    // 상위 limit개만 집계되고 장소가 없는 약속은 장소 패싯에서만 빠지는지 검증
+    void should_CountEachFacetSeparately_When_CountingAllMeetings() {
+        // Given - 장소 패싯 상위 2개로 제한
+        ReflectionTestUtils.setField(facetCounter, "locationLimit", 2);
+        persistMeeting(FIRST_DAY.atTime(10, 0), "강남역", MeetingStatus.WAITING);
+        persistMeeting(FIRST_DAY.atTime(18, 0), "강남역", MeetingStatus.CONFIRMED);
+        persistMeeting(SECOND_DAY.atTime(9, 0), "강남역", MeetingStatus.WAITING);
+        persistMeeting(SECOND_DAY.atTime(12, 0), "홍대입구", MeetingStatus.WAITING);
+        persistMeeting(SECOND_DAY.atTime(13, 0), "신촌", MeetingStatus.WAITING);
+        persistMeeting(SECOND_DAY.atTime(20, 0), null, MeetingStatus.WAITING);
+        entityManager.clear();
+
+        // When
+        MeetingSearchResponse.Facets facets = facetCounter.count(MeetingSpecifications.all());
+
+        // Then
+        assertThat(facets.getStatus()).containsOnlyKeys(
+                Arrays.stream(MeetingStatus.values()).map(Enum::name).toArray(String[]::new));
+        assertThat(facets.getStatus()).containsEntry("WAITING", 5L).containsEntry("CONFIRMED", 1L);
+        assertThat(facets.getStatus().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(6L);
+        assertThat(facets.getDay()).containsExactly(
+                entry(FIRST_DAY.toString(), 2L),
+                entry(SECOND_DAY.toString(), 4L));
+        assertThat(facets.getLocation()).containsExactly(
+                entry("강남역", 3L),
+                entry("신촌", 1L));
+    }
+
+    @Test
+    @DisplayName("검색 조건 적용 패싯 집계 테스트")
+    // 테스트 이유: 세 분류 쿼리 모두 같은 검색 조건으로 걸러져, 조건에 맞지 않는 약속은 어느 패싯에도 세지 않는지 검증
+    void should_ApplySpecificationToEveryFacet_When_Filtered() {
+        // Given
+        persistMeeting(FIRST_DAY.atTime(10, 0), "강남역", MeetingStatus.CONFIRMED);
+        persistMeeting(SECOND_DAY.atTime(10, 0), "강남역", MeetingStatus.WAITING);
+        persistMeeting(SECOND_DAY.atTime(11, 0), "홍대입구", MeetingStatus.CONFIRMED);
+        entityManager.clear();
+
+        // When
+        MeetingSearchResponse.Facets facets = facetCounter.count(MeetingSpecifications.hasStatus(MeetingStatus.CONFIRMED));
+
+        // Then
+        assertThat(facets.getStatus()).containsEntry("CONFIRMED", 2L).containsEntry("WAITING", 0L);
+        assertThat(facets.getDay()).containsExactly(
+                entry(FIRST_DAY.toString(), 1L),
+                entry(SECOND_DAY.toString(), 1L));
+        assertThat(facets.getLocation()).containsOnly(
+                entry("강남역", 1L),
+                entry("홍대입구", 1L));
+    }
+
+    private void persistMeeting(LocalDateTime meetingTime, String locationName, MeetingStatus status) {
+        Meeting meeting = Meeting.create("패싯 테스트", null, meetingTime, 5, 1L, locationName, null, null);
+        meeting.setStatus(status);
+        entityManager.persistAndFlush(meeting);
+    }
+}
@@ -0,0 +1,154 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.MeetingGeoPoint;
+import com.promiseservice.event.MeetingChangedEvent;
+import com.promiseservice.event.MeetingChangedEvent.ChangeType;
+import com.promiseservice.repository.MeetingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MeetingGeoIndex 단위 테스트
+ * 이유: 격자 색인의 반경/영역 검색이 실제 거리 기준으로 정확하고, 약속 이동/삭제 시 칸이 올바르게 갱신되는지 검증하기 위해
+ */
+@ExtendWith(MockitoExtension.class)
+class MeetingGeoIndexTest {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @InjectMocks
+    private MeetingGeoIndex geoIndex;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 이유: 빈 데이터베이스로 색인을 준비 상태로 만든 뒤 각 테스트에서 좌표를 직접 색인하기 위해
+        when(meetingRepository.findGeoPointByLatitudeIsNotNullAndLongitudeIsNotNull(any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of()));
+        geoIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("반경 검색 시 가까운 순 정렬 및 반경 밖 제외 테스트")
+    // 테스트 이유: 후보 칸에 들어온 약속이라도 실제 거리가 반경을 넘으면 제외되고, 결과가 거리 순인지 검증
+    void should_ReturnMeetingsByDistance_When_SearchingWithinRadius() {
+        // Given
+        geoIndex.put(1L, 37.498095, 127.027610);  // 강남역
+        geoIndex.put(2L, 37.500622, 127.036456);  // 역삼역 (약 0.8km)
+        geoIndex.put(3L, 37.556294, 126.922422);  // 홍대입구 (약 11km)
+
+        // When
+        List<MeetingGeoIndex.GeoHit> hits = geoIndex.withinRadius(37.498095, 127.027610, 2, 10);
+
+        // Then
+        assertThat(hits).extracting(MeetingGeoIndex.GeoHit::meetingId).containsExactly(1L, 2L);
+        assertThat(hits.get(1).distanceKm()).isBetween(0.7, 0.9);
+    }
+
+    @Test
+    @DisplayName("영역 검색 테스트")
+    // 테스트 이유: 경계 상자 안의 약속만 최신(ID 큰 순) 순서로 돌려주는지 검증
+    void should_ReturnMeetingsInsideBox_When_SearchingArea() {
+        // Given
+        geoIndex.put(1L, 37.498095, 127.027610);
+        geoIndex.put(2L, 37.513294, 127.098422);
+        geoIndex.put(3L, 37.663294, 127.012422);
+
+        // When
+        List<Long> result = geoIndex.withinBox(new MeetingGeoIndex.BoundingBox(37.45, 37.55, 127.0, 127.1), 10);
+
+        // Then
+        assertThat(result).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("약속 좌표 변경/삭제 시 색인 갱신 테스트")
+    // 테스트 이유: 좌표가 바뀌면 이전 칸에서 빠지고, 삭제하면 어떤 검색에도 나오지 않는지 검증
+    void should_MoveOrRemoveMeeting_When_CoordinatesChangeOrMeetingDeleted() {
+        // Given
+        geoIndex.put(1L, 37.498095, 127.027610);
+
+        // When
+        geoIndex.put(1L, 37.556294, 126.922422);
+
+        // Then
+        assertThat(geoIndex.withinRadius(37.498095, 127.027610, 1, 10)).isEmpty();
+        assertThat(geoIndex.withinRadius(37.556294, 126.922422, 1, 10))
+            .extracting(MeetingGeoIndex.GeoHit::meetingId).containsExactly(1L);
+
+        // When
+        geoIndex.remove(1L);
+
+        // Then
+        assertThat(geoIndex.withinRadius(37.556294, 126.922422, 1, 10)).isEmpty();
+        assertThat(geoIndex.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("시작 시 데이터베이스 기준 색인 구축 테스트")
+    // 테스트 이유: 재구축 시 위도/경도 컬럼을 읽어 모든 약속이 색인되는지 검증
+    void should_IndexAllMeetings_When_Rebuilt() {
+        // Given
+        MeetingGeoPoint point = mock(MeetingGeoPoint.class);
+        when(point.getId()).thenReturn(7L);
+        when(point.getLatitude()).thenReturn(37.498095);
+        when(point.getLongitude()).thenReturn(127.027610);
+        when(meetingRepository.findGeoPointByLatitudeIsNotNullAndLongitudeIsNotNull(any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(point)));
+
+        // When
+        geoIndex.rebuild();
+
+        // Then
+        assertThat(geoIndex.isReady()).isTrue();
+        assertThat(geoIndex.withinRadius(37.4981, 127.0276, 0.5, 10))
+            .extracting(MeetingGeoIndex.GeoHit::meetingId).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("재구축 중 변경된 좌표 재반영 테스트")
+    // 테스트 이유: 재구축이 좌표를 읽은 뒤 교체하기 전에 커밋된 약속 생성/삭제가
+    // 교체로 사라지지 않고 새 색인에 다시 반영되는지 검증
+    void should_ReplayChanges_When_MeetingsChangeDuringRebuild() {
+        // Given - 재구축이 약속 7(강남역)을 읽은 직후 약속 8(역삼역)이 생성되고 약속 7이 삭제됨
+        MeetingGeoPoint gangnam = point(7L, 37.498095, 127.027610);
+        MeetingGeoPoint yeoksam = point(8L, 37.500622, 127.036456);
+        when(meetingRepository.findGeoPointById(7L)).thenReturn(Optional.empty());
+        when(meetingRepository.findGeoPointById(8L)).thenReturn(Optional.of(yeoksam));
+        when(meetingRepository.findGeoPointByLatitudeIsNotNullAndLongitudeIsNotNull(any(Pageable.class)))
+            .thenAnswer(invocation -> {
+                geoIndex.onMeetingChanged(new MeetingChangedEvent(8L, ChangeType.CREATED));
+                geoIndex.onMeetingChanged(new MeetingChangedEvent(7L, ChangeType.DELETED));
+                return new SliceImpl<>(List.of(gangnam));
+            });
+
+        // When
+        geoIndex.rebuild();
+
+        // Then
+        assertThat(geoIndex.withinRadius(37.498095, 127.027610, 2, 10))
+            .extracting(MeetingGeoIndex.GeoHit::meetingId).containsExactly(8L);
+    }
+
+    private static MeetingGeoPoint point(Long id, double latitude, double longitude) {
+        MeetingGeoPoint point = mock(MeetingGeoPoint.class);
+        lenient().when(point.getId()).thenReturn(id);
+        lenient().when(point.getLatitude()).thenReturn(latitude);
+        lenient().when(point.getLongitude()).thenReturn(longitude);
+        return point;
+    }
+}
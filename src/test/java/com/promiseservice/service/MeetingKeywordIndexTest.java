@@ -0,0 +1,150 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.MeetingKeywordText;
+import com.promiseservice.repository.MeetingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MeetingKeywordIndex 단위 테스트
+ * 이유: 한글 n-gram 색인의 검색 결과가 LIKE 검색과 같은 일치 규칙을 따르고, 관련도 순서와 증분 갱신이 올바른지 검증하기 위해
+ */
+@ExtendWith(MockitoExtension.class)
+class MeetingKeywordIndexTest {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @InjectMocks
+    private MeetingKeywordIndex keywordIndex;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 이유: 빈 데이터베이스로 색인을 준비 상태로 만든 뒤 각 테스트에서 약속을 직접 색인하기 위해
+        when(meetingRepository.findKeywordTextBy(any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of()));
+        keywordIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("한글 부분 문자열 검색 테스트")
+    // 테스트 이유: 단어 중간의 음절 조합으로 검색해도 바이그램 교집합으로 약속을 찾는지 검증
+    void should_FindMeeting_When_KeywordIsHangulSubstring() {
+        // Given
+        keywordIndex.index(1L, "강남역 저녁 모임", null, "강남역 2번 출구");
+        keywordIndex.index(2L, "홍대 점심", null, "홍대입구역");
+
+        // When
+        Optional<List<Long>> result = keywordIndex.search("남역");
+
+        // Then
+        assertThat(result).contains(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("n-gram은 모두 있지만 연속되지 않은 경우 제외 테스트")
+    // 테스트 이유: 바이그램이 모두 포함되어도 실제 부분 문자열이 아니면 LIKE 검색과 동일하게 결과에서 제외되는지 검증
+    void should_ExcludeMeeting_When_GramsAreNotContiguous() {
+        // Given
+        keywordIndex.index(1L, "가나 나다", null, null);
+
+        // When
+        Optional<List<Long>> result = keywordIndex.search("가나다");
+
+        // Then
+        assertThat(result).contains(List.of());
+    }
+
+    @Test
+    @DisplayName("필드 가중치에 따른 관련도 정렬 테스트")
+    // 테스트 이유: 제목 일치가 장소명, 설명 일치보다 앞에 오도록 순위가 매겨지는지 검증
+    void should_RankTitleMatchFirst_When_KeywordMatchesDifferentFields() {
+        // Given
+        keywordIndex.index(1L, "스터디", "카페에서 만나요", null);
+        keywordIndex.index(2L, "카페 모임", null, null);
+        keywordIndex.index(3L, "스터디", null, "스타벅스 카페");
+
+        // When
+        Optional<List<Long>> result = keywordIndex.search("카페");
+
+        // Then
+        assertThat(result).contains(List.of(2L, 3L, 1L));
+    }
+
+    @Test
+    @DisplayName("한 글자 검색 및 대소문자/정규화 무시 테스트")
+    // 테스트 이유: 한 글자 검색어는 유니그램으로, 영문 대소문자와 NFD로 분리된 한글도 같은 글자로 찾는지 검증
+    void should_MatchIgnoringCaseAndNormalization_When_KeywordIsShortOrDecomposed() {
+        // Given
+        keywordIndex.index(1L, "Java 스터디", null, null);
+
+        // When & Then
+        assertThat(keywordIndex.search("JAVA")).contains(List.of(1L));
+        assertThat(keywordIndex.search("디")).contains(List.of(1L));
+        assertThat(keywordIndex.search(Normalizer.normalize("스터디", Normalizer.Form.NFD))).contains(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("약속 수정/삭제 시 색인 갱신 테스트")
+    // 테스트 이유: 같은 약속을 다시 색인하면 이전 n-gram이 제거되고, 삭제하면 검색되지 않는지 검증
+    void should_UpdatePostings_When_MeetingReindexedOrRemoved() {
+        // Given
+        keywordIndex.index(1L, "등산 모임", null, null);
+
+        // When
+        keywordIndex.index(1L, "독서 모임", null, null);
+
+        // Then
+        assertThat(keywordIndex.search("등산")).contains(List.of());
+        assertThat(keywordIndex.search("독서")).contains(List.of(1L));
+
+        // When
+        keywordIndex.remove(1L);
+
+        // Then
+        assertThat(keywordIndex.search("모임")).contains(List.of());
+        assertThat(keywordIndex.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("시작 시 데이터베이스 기준 색인 구축 테스트")
+    // 테스트 이유: 재구축 시 슬라이스 단위로 읽은 약속이 모두 색인되는지 검증
+    void should_IndexAllMeetings_When_Rebuilt() {
+        // Given
+        MeetingKeywordText text = mock(MeetingKeywordText.class);
+        when(text.getId()).thenReturn(7L);
+        when(text.getTitle()).thenReturn("보드게임 번개");
+        when(meetingRepository.findKeywordTextBy(any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(text)));
+
+        // When
+        keywordIndex.rebuild();
+
+        // Then
+        assertThat(keywordIndex.isReady()).isTrue();
+        assertThat(keywordIndex.search("게임")).contains(List.of(7L));
+    }
+
+    @Test
+    @DisplayName("검색 가능한 글자가 없는 키워드 테스트")
+    // 테스트 이유: n-gram을 만들 수 없는 키워드는 색인 대신 LIKE 검색으로 대체하도록 빈 결과(Optional.empty)를 돌려주는지 검증
+    void should_ReturnEmpty_When_KeywordHasNoLetters() {
+        // When & Then
+        assertThat(keywordIndex.search("  %% ")).isEmpty();
+    }
+}
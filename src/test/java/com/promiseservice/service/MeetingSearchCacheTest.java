@@ -0,0 +1,126 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.MeetingSearchRequest;
+import com.promiseservice.dto.MeetingSearchResponse;
+import com.promiseservice.dto.MeetingSummaryResponse;
+import com.promiseservice.model.entity.Meeting;
+import com.promiseservice.repository.MeetingRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * MeetingSearchCache 단위 테스트
+ * 이유: 정규화된 키로 같은 검색을 공유하고, 사용자별 방장 여부와 LRU 제거, 선택적 무효화가 올바른지 검증하기 위해
+ */
+@ExtendWith(MockitoExtension.class)
+class MeetingSearchCacheTest {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @InjectMocks
+    private MeetingSearchCache searchCache;
+
+    @Test
+    @DisplayName("정규화된 같은 검색 조건 캐시 적중 및 방장 여부 재계산 테스트")
+    // 테스트 이유: 대소문자/공백만 다른 검색이 같은 항목을 쓰고, 방장 여부는 요청 사용자 기준으로 다시 계산되는지 검증
+    void should_HitCacheWithPerUserHostFlag_When_SameNormalizedRequest() {
+        // Given
+        Meeting meeting = meeting(1L, 100L, "강남 저녁 모임");
+        searchCache.put(request(" 강남 ", "waiting"), response(meeting, 100L), searchCache.currentGeneration());
+
+        // When
+        MeetingSearchResponse forOther = searchCache.get(request("강남", "WAITING"), 200L).orElseThrow();
+        MeetingSearchResponse forHost = searchCache.get(request("강남", "WAITING"), 100L).orElseThrow();
+
+        // Then
+        assertThat(forOther.getMeetings().get(0).isHost()).isFalse();
+        assertThat(forHost.getMeetings().get(0).isHost()).isTrue();
+        assertThat(searchCache.stats().getHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 항목 수 초과 시 가장 오래 사용하지 않은 항목 제거 테스트")
+    // 테스트 이유: 최근에 조회한 항목은 남기고 사용하지 않은 항목부터 제거하는지 검증
+    void should_EvictLeastRecentlyUsed_When_CapacityExceeded() {
+        // Given
+        ReflectionTestUtils.setField(searchCache, "maxEntries", 2);
+        Meeting meeting = meeting(1L, 100L, "모임");
+        searchCache.put(request("a", null), response(meeting, 100L), searchCache.currentGeneration());
+        searchCache.put(request("b", null), response(meeting, 100L), searchCache.currentGeneration());
+        searchCache.get(request("a", null), 100L);
+
+        // When
+        searchCache.put(request("c", null), response(meeting, 100L), searchCache.currentGeneration());
+
+        // Then
+        assertThat(searchCache.get(request("a", null), 100L)).isPresent();
+        assertThat(searchCache.get(request("b", null), 100L)).isEmpty();
+        assertThat(searchCache.stats().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("약속 변경 시 관련 검색만 무효화 테스트")
+    // 테스트 이유: 변경된 약속이 결과에 있거나 조건에 새로 일치하는 검색만 지우고, 무관한 검색은 유지하는지 검증
+    void should_InvalidateOnlyAffectedSearches_When_MeetingChanged() {
+        // Given
+        Meeting existing = meeting(1L, 100L, "강남 모임");
+        Meeting created = meeting(2L, 100L, "홍대 번개");
+        searchCache.put(request("강남", null), response(existing, 100L), searchCache.currentGeneration());
+        searchCache.put(request("홍대", null), response(meeting(3L, 100L, "홍대 점심"), 100L), searchCache.currentGeneration());
+        searchCache.put(request("부산", null), response(meeting(4L, 100L, "부산 여행"), 100L), searchCache.currentGeneration());
+
+        // When
+        searchCache.invalidate(1L, existing);
+        searchCache.invalidate(2L, created);
+
+        // Then
+        assertThat(searchCache.get(request("강남", null), 100L)).isEmpty();
+        assertThat(searchCache.get(request("홍대", null), 100L)).isEmpty();
+        assertThat(searchCache.get(request("부산", null), 100L)).isPresent();
+    }
+
+    @Test
+    @DisplayName("검색 도중 무효화된 결과 저장 방지 테스트")
+    // 테스트 이유: 검색 시작 후 약속이 변경되면 변경 전 데이터로 만든 결과가 캐시에 남지 않는지 검증
+    void should_SkipPut_When_InvalidatedDuringSearch() {
+        // Given
+        long generation = searchCache.currentGeneration();
+        searchCache.invalidateAll();
+
+        // When
+        searchCache.put(request("강남", null), response(meeting(1L, 100L, "강남 모임"), 100L), generation);
+
+        // Then
+        assertThat(searchCache.get(request("강남", null), 100L)).isEmpty();
+    }
+
+    private MeetingSearchRequest request(String keyword, String status) {
+        MeetingSearchRequest request = new MeetingSearchRequest();
+        request.setKeyword(keyword);
+        request.setStatus(status);
+        return request;
+    }
+
+    private Meeting meeting(Long id, Long hostId, String title) {
+        Meeting meeting = Meeting.create(title, null, LocalDateTime.now().plusDays(1), 10, hostId, null, null, null);
+        meeting.setId(id);
+        return meeting;
+    }
+
+    private MeetingSearchResponse response(Meeting meeting, Long currentUserId) {
+        MeetingSummaryResponse summary = MeetingSummaryResponse.from(meeting, 0, meeting.isHost(currentUserId));
+        return new MeetingSearchResponse(List.of(summary), new MeetingSearchResponse.PageInfo(),
+            new MeetingSearchResponse.SearchSummary());
+    }
+}
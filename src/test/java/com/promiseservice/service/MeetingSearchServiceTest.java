@@ -0,0 +1,174 @@
+package com.promiseservice.service;
+
+import com.promiseservice.config.ReadYourWritesTracker;
+import com.promiseservice.dto.MeetingGeoPoint;
+import com.promiseservice.dto.MeetingSearchRequest;
+import com.promiseservice.dto.MeetingSearchResponse;
+import com.promiseservice.dto.MeetingSummaryResponse;
+import com.promiseservice.model.entity.Meeting;
+import com.promiseservice.repository.MeetingParticipantRepository;
+import com.promiseservice.repository.MeetingRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * MeetingSearchService 단위 테스트
+ * 이유: 색인이 준비되지 않았을 때의 대체 조회가 후보를 한 번에 올리지 않고 나눠 읽으면서도 색인과 같은 결과를 돌려주고,
+ * 패싯 집계가 검색과 같은 조건을 재사용하는지 검증하기 위해
+ */
+@ExtendWith(MockitoExtension.class)
+class MeetingSearchServiceTest {
+
+    private static final double CENTER_LATITUDE = 37.5;
+    private static final double CENTER_LONGITUDE = 127.0;
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private MeetingParticipantRepository participantRepository;
+
+    @Mock
+    private MeetingKeywordIndex keywordIndex;
+
+    @Mock
+    private PopularMeetingLeaderboard popularLeaderboard;
+
+    @Mock
+    private RecentMeetingRing recentMeetingRing;
+
+    @Mock
+    private MeetingGeoIndex geoIndex;
+
+    @Mock
+    private MeetingSearchCache searchCache;
+
+    @Mock
+    private ParticipantPostingIndex participantIndex;
+
+    @Mock
+    private MeetingFacetCounter facetCounter;
+
+    @Mock
+    private ObjectProvider<ReadYourWritesTracker> readYourWritesTracker;
+
+    @InjectMocks
+    private MeetingSearchService searchService;
+
+    @Test
+    @DisplayName("위치 색인 준비 전 근처 약속 슬라이스 조회 테스트")
+    // 테스트 이유: 상자 안 좌표를 배치 크기씩 끝까지 읽되, 반경 밖 후보는 버리고 가까운 limit개만 거리순으로 돌려주는지 검증
+    void should_ReadBoxInSlices_When_GeoIndexNotReady() {
+        // Given - 배치 크기 2, 두 번째 슬라이스에 더 가까운 약속과 반경 밖 약속
+        ReflectionTestUtils.setField(searchService, "geoFallbackBatchSize", 2);
+        when(geoIndex.isReady()).thenReturn(false);
+        Pageable first = PageRequest.of(0, 2, Sort.by("id"));
+        Pageable second = first.next();
+        when(meetingRepository.findGeoPointByLatitudeBetweenAndLongitudeBetween(
+                anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq(first)))
+            .thenReturn(new SliceImpl<>(List.of(point(1L, 37.5, 127.0), point(3L, 37.54, 127.0)), first, true));
+        when(meetingRepository.findGeoPointByLatitudeBetweenAndLongitudeBetween(
+                anyDouble(), anyDouble(), anyDouble(), anyDouble(), eq(second)))
+            .thenReturn(new SliceImpl<>(List.of(point(2L, 37.52, 127.0), point(5L, 37.544, 127.056)), second, false));
+        when(meetingRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(meeting(2L), meeting(1L)));
+
+        // When
+        List<MeetingSummaryResponse> nearby = searchService.searchNearby(CENTER_LATITUDE, CENTER_LONGITUDE, 5, 2, 10L);
+
+        // Then
+        assertThat(nearby).extracting(MeetingSummaryResponse::getId).containsExactly(1L, 2L);
+        assertThat(nearby.get(0).getDistanceKm()).isZero();
+        assertThat(nearby.get(1).getDistanceKm()).isBetween(2.0, 2.5);
+        verify(meetingRepository, never()).findAll(any(Specification.class));
+    }
+
+    @Test
+    @DisplayName("패싯 포함 검색 조건 재사용 테스트")
+    // 테스트 이유: 검색과 패싯 집계가 같은 검색 조건을 공유해 키워드 색인을 한 번만 조회하는지 검증
+    @SuppressWarnings("unchecked")
+    void should_ReuseSpecificationForFacets_When_FacetsRequested() {
+        // Given
+        MeetingSearchRequest request = new MeetingSearchRequest();
+        request.setKeyword("강남");
+        request.setIncludeFacets(true);
+        when(keywordIndex.search("강남")).thenReturn(Optional.of(List.of(1L, 2L)));
+        when(meetingRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(Page.empty());
+        when(facetCounter.count(any())).thenReturn(new MeetingSearchResponse.Facets());
+
+        // When
+        MeetingSearchResponse response = searchService.searchMeetings(request, 10L);
+
+        // Then
+        ArgumentCaptor<Specification<Meeting>> searched = ArgumentCaptor.forClass(Specification.class);
+        verify(meetingRepository).findAll(searched.capture(), any(Pageable.class));
+        verify(facetCounter).count(searched.getValue());
+        verify(keywordIndex, times(1)).search("강남");
+        assertThat(response.getSearchSummary().getFacets()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("기본 DB 고정 요청 검색 캐시 우회 테스트")
+    // 테스트 이유: 방금 쓴 사용자의 요청처럼 읽기가 기본 DB로 고정되면 캐시를 읽지도 채우지도 않고 DB에서 검색하는지 검증
+    @SuppressWarnings("unchecked")
+    void should_BypassSearchCache_When_PinnedToPrimary() {
+        // Given
+        ReadYourWritesTracker tracker = mock(ReadYourWritesTracker.class);
+        when(tracker.isPinnedToPrimary()).thenReturn(true);
+        when(readYourWritesTracker.getIfAvailable()).thenReturn(tracker);
+        when(meetingRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(Page.empty());
+
+        // When
+        searchService.searchMeetings(new MeetingSearchRequest(), 10L);
+
+        // Then
+        verify(meetingRepository).findAll(any(Specification.class), any(Pageable.class));
+        verify(searchCache, never()).get(any(), any());
+        verify(searchCache, never()).put(any(), any(), anyLong());
+    }
+
+    private static MeetingGeoPoint point(Long id, double latitude, double longitude) {
+        return new MeetingGeoPoint() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Double getLatitude() {
+                return latitude;
+            }
+
+            @Override
+            public Double getLongitude() {
+                return longitude;
+            }
+        };
+    }
+
+    private static Meeting meeting(Long id) {
+        Meeting meeting = Meeting.create("근처 약속 " + id, null, LocalDateTime.now().plusDays(1), 5, 1L, null, null, null);
+        meeting.setId(id);
+        return meeting;
+    }
+}
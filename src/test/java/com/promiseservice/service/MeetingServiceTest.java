@@ -1,13 +1,20 @@
 package com.promiseservice.service;
 
-import com.promiseservice.domain.entity.Meeting;
-import com.promiseservice.domain.entity.MeetingHistory;
-import com.promiseservice.domain.entity.MeetingParticipant;
-import com.promiseservice.domain.repository.MeetingRepository;
-import com.promiseservice.domain.repository.MeetingHistoryRepository;
-import com.promiseservice.domain.repository.MeetingParticipantRepository;
+import com.promiseservice.model.entity.Meeting;
+import com.promiseservice.model.entity.MeetingArchive;
+import com.promiseservice.model.entity.MeetingHistory;
+import com.promiseservice.model.entity.MeetingParticipant;
+import com.promiseservice.model.entity.MeetingParticipant.ResponseStatus;
+import com.promiseservice.model.entity.MeetingParticipantArchive;
+import com.promiseservice.repository.MeetingArchiveRepository;
+import com.promiseservice.repository.MeetingHistoryRepository;
+import com.promiseservice.repository.MeetingParticipantRepository;
+import com.promiseservice.repository.MeetingRepository;
 import com.promiseservice.dto.MeetingCreateRequest;
+import com.promiseservice.dto.MeetingHistoryEntry;
 import com.promiseservice.dto.MeetingResponse;
+import com.promiseservice.dto.UserExistenceResult;
+import com.promiseservice.event.MeetingChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,11 +22,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -47,6 +57,19 @@ class MeetingServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private OptimisticRetryExecutor retryExecutor;
+
+    @Mock
+    private MeetingArchiveRepository archiveRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    // 삭제를 제외한 히스토리는 쓰기 지연 버퍼로 기록 (버퍼 동작은 WriteBehindBufferTest에서 검증)
+    @Mock
+    private WriteBehindBuffer<MeetingHistoryEntry> historyBuffer;
+
     @InjectMocks
     private MeetingService meetingService;
 
@@ -57,15 +80,18 @@ class MeetingServiceTest {
     @BeforeEach
     void setUp() {
         // 테스트 이유: 각 테스트마다 일관된 초기 상태를 보장하기 위해
+
+        // 재시도 실행기는 작업을 그대로 한 번 실행 (재시도 동작은 OptimisticRetryExecutorTest에서 검증)
+        lenient().when(retryExecutor.execute(anyString(), any()))
+            .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(retryExecutor).run(anyString(), any());
         
-        testMeeting = new Meeting();
+        testMeeting = Meeting.create("테스트 약속", "테스트 설명", LocalDateTime.now().plusDays(1),
+                5, TEST_USER_ID, "테스트 장소", null, null);
         testMeeting.setId(1L);
-        testMeeting.setHostId(TEST_USER_ID);
-        testMeeting.setTitle("테스트 약속");
-        testMeeting.setDescription("테스트 설명");
-        testMeeting.setMeetingTime(LocalDateTime.now().plusDays(1));
-        testMeeting.setLocationName("테스트 장소");
-        testMeeting.setStatus(Meeting.MeetingStatus.WAITING);
 
         testRequest = new MeetingCreateRequest();
         testRequest.setTitle("테스트 약속");
@@ -83,28 +109,28 @@ class MeetingServiceTest {
     // 테스트 이유: 올바른 요청으로 약속이 정상적으로 생성되는지 비즈니스 로직 검증
     void should_CreateMeeting_When_ValidRequest() {
         // Given
-        // 참여자 유저들의 존재 여부 검증 (hostId는 검증하지 않음)
-        when(userService.existsUser(456L)).thenReturn(true);
-        when(userService.existsUser(789L)).thenReturn(true);
+        // 방장과 참여자 유저들의 존재 여부를 한 번에 검증
+        when(userService.existsUsers(anyCollection()))
+                .thenReturn(new UserExistenceResult(Set.of(TEST_USER_ID, 456L, 789L), Set.of()));
         when(meetingRepository.save(any(Meeting.class))).thenReturn(testMeeting);
-        when(participantRepository.save(any(MeetingParticipant.class))).thenReturn(new MeetingParticipant());
-        when(historyRepository.save(any(MeetingHistory.class))).thenReturn(new MeetingHistory());
-        doNothing().when(notificationService).sendMeetingCreatedNotification(any(Meeting.class));
+        when(participantRepository.save(any(MeetingParticipant.class))).thenReturn(MeetingParticipant.createInvited(1L, TEST_USER_ID));
+        when(meetingRepository.findWithParticipantsById(1L)).thenReturn(Optional.of(testMeeting));
 
         // When
         MeetingResponse response = meetingService.createMeeting(testRequest, TEST_USER_ID);
 
         // Then
         assertThat(response).isNotNull();
-        assertThat(response.getHostId()).isEqualTo(TEST_USER_ID);
         assertThat(response.getTitle()).isEqualTo("테스트 약속");
         assertThat(response.getStatus()).isEqualTo("WAITING");
 
         // 검증: 저장소 메서드들이 올바르게 호출되었는지 확인
         verify(meetingRepository, times(1)).save(any(Meeting.class));
-        verify(participantRepository, times(3)).save(any(MeetingParticipant.class)); // 호스트 1명 + 초대자 2명 = 3명
-        verify(historyRepository, times(1)).save(any(MeetingHistory.class));
-        verify(notificationService, times(1)).sendMeetingCreatedNotification(any(Meeting.class));
+        verify(participantRepository, times(1)).save(any(MeetingParticipant.class)); // 호스트 1명
+        verify(participantRepository, times(1)).saveAll(argThat(participants -> participants.spliterator().getExactSizeIfKnown() == 2)); // 초대자 2명은 배치 저장
+        verify(meetingRepository, times(1)).adjustParticipantCounts(1L, 1, 2, 0);
+        verify(historyBuffer, times(1)).append(any(MeetingHistoryEntry.class));
+        verify(eventPublisher, times(1)).publishEvent(any(MeetingChangedEvent.class));
     }
 
     @Test
@@ -112,9 +138,9 @@ class MeetingServiceTest {
     // 테스트 이유: 존재하지 않는 사용자를 초대할 때 적절한 예외가 발생하는지 검증
     void should_ThrowException_When_InvitingNonExistentUser() {
         // Given
-        // hostId는 검증하지 않음, 참여자만 검증
-        when(userService.existsUser(456L)).thenReturn(true);
-        when(userService.existsUser(789L)).thenReturn(false); // 존재하지 않는 사용자
+        // 789L은 존재하지 않는 사용자
+        when(userService.existsUsers(anyCollection()))
+                .thenReturn(new UserExistenceResult(Set.of(TEST_USER_ID, 456L), Set.of(789L)));
 
         // When & Then
         assertThatThrownBy(() -> meetingService.createMeeting(testRequest, TEST_USER_ID))
@@ -125,7 +151,7 @@ class MeetingServiceTest {
         // 이유: 존재하지 않는 사용자 초대 시 트랜잭션이 롤백되어야 하므로
         verify(meetingRepository, atMost(1)).save(any(Meeting.class)); // Meeting은 저장될 수 있음
         verify(participantRepository, atMost(2)).save(any(MeetingParticipant.class)); // 호스트만 저장될 수 있음
-        verify(historyRepository, never()).save(any(MeetingHistory.class)); // 히스토리는 마지막에 저장되므로 저장되지 않아야 함
+        verify(historyBuffer, never()).append(any(MeetingHistoryEntry.class)); // 히스토리는 마지막에 기록되므로 기록되지 않아야 함
         verify(notificationService, never()).sendMeetingCreatedNotification(any(Meeting.class));
     }
 
@@ -134,7 +160,7 @@ class MeetingServiceTest {
     // 테스트 이유: 존재하는 약속을 정상적으로 조회할 수 있는지 검증
     void should_GetMeeting_When_MeetingExists() {
         // Given
-        when(meetingRepository.findById(1L)).thenReturn(Optional.of(testMeeting));
+        when(meetingRepository.findWithParticipantsById(1L)).thenReturn(Optional.of(testMeeting));
 
         // When
         MeetingResponse response = meetingService.getMeeting(1L);
@@ -143,9 +169,8 @@ class MeetingServiceTest {
         assertThat(response).isNotNull();
         assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getTitle()).isEqualTo("테스트 약속");
-        assertThat(response.getHostId()).isEqualTo(TEST_USER_ID);
 
-        verify(meetingRepository, times(1)).findById(1L);
+        verify(meetingRepository, times(1)).findWithParticipantsById(1L);
     }
 
     @Test
@@ -153,14 +178,42 @@ class MeetingServiceTest {
     // 테스트 이유: 존재하지 않는 약속 조회 시 적절한 예외가 발생하는지 검증
     void should_ThrowException_When_MeetingNotExists() {
         // Given
-        when(meetingRepository.findById(999L)).thenReturn(Optional.empty());
+        when(meetingRepository.findWithParticipantsById(999L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> meetingService.getMeeting(999L))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("약속을 찾을 수 없습니다");
 
-        verify(meetingRepository, times(1)).findById(999L);
+        verify(meetingRepository, times(1)).findWithParticipantsById(999L);
+    }
+
+    @Test
+    @DisplayName("보관된 약속 조회 테스트")
+    // 테스트 이유: 운영 테이블에 없는 약속은 보관 테이블에서 참여자와 함께 같은 응답 형태로 조회되는지 검증
+    void should_GetArchivedMeeting_When_MovedToArchive() {
+        // Given
+        MeetingArchive archived = mock(MeetingArchive.class);
+        when(archived.getId()).thenReturn(7L);
+        when(archived.getTitle()).thenReturn("보관된 약속");
+        when(archived.getStatus()).thenReturn(Meeting.MeetingStatus.COMPLETED);
+        when(archived.getMaxParticipants()).thenReturn(5);
+        MeetingParticipantArchive participant = mock(MeetingParticipantArchive.class);
+        when(participant.getUserId()).thenReturn(2L);
+        when(participant.getResponse()).thenReturn(ResponseStatus.ACCEPTED);
+
+        when(meetingRepository.findWithParticipantsById(7L)).thenReturn(Optional.empty());
+        when(archiveRepository.findById(7L)).thenReturn(Optional.of(archived));
+        when(archiveRepository.findParticipantsByMeetingId(7L)).thenReturn(List.of(participant));
+
+        // When
+        MeetingResponse response = meetingService.getMeeting(7L);
+
+        // Then
+        assertThat(response.getId()).isEqualTo(7L);
+        assertThat(response.getStatus()).isEqualTo("COMPLETED");
+        assertThat(response.getParticipants()).extracting("userId").containsExactly(2L);
+        assertThat(response.getCurrentParticipantCount()).isEqualTo(1);
     }
 
     @Test
@@ -176,8 +229,7 @@ class MeetingServiceTest {
 
         // Then
         assertThat(responses).hasSize(2);
-        assertThat(responses.get(0).getHostId()).isEqualTo(TEST_USER_ID);
-        assertThat(responses.get(1).getHostId()).isEqualTo(TEST_USER_ID);
+        assertThat(responses).extracting(MeetingResponse::getId).containsExactly(1L, 2L);
 
         verify(meetingRepository, times(1)).findByHostIdOrderByCreatedAtDesc(TEST_USER_ID);
     }
@@ -187,8 +239,7 @@ class MeetingServiceTest {
     // 테스트 이유: 방장이 약속 상태를 정상적으로 변경할 수 있는지 검증
     void should_UpdateMeetingStatus_When_HostRequestsChange() {
         // Given
-        when(meetingRepository.findById(1L)).thenReturn(Optional.of(testMeeting));
-        when(historyRepository.save(any(MeetingHistory.class))).thenReturn(new MeetingHistory());
+        when(meetingRepository.findWithParticipantsById(1L)).thenReturn(Optional.of(testMeeting));
 
         // When
         MeetingResponse response = meetingService.updateMeetingStatus(1L, Meeting.MeetingStatus.CONFIRMED, TEST_USER_ID);
@@ -198,8 +249,8 @@ class MeetingServiceTest {
         assertThat(response.getStatus()).isEqualTo("CONFIRMED");
         assertThat(testMeeting.getStatus()).isEqualTo(Meeting.MeetingStatus.CONFIRMED);
 
-        verify(meetingRepository, times(1)).findById(1L);
-        verify(historyRepository, times(1)).save(any(MeetingHistory.class));
+        verify(meetingRepository, times(1)).findWithParticipantsById(1L);
+        verify(historyBuffer, times(1)).append(any(MeetingHistoryEntry.class));
     }
 
     @Test
@@ -208,15 +259,15 @@ class MeetingServiceTest {
     void should_ThrowException_When_NonHostTriesToChangeStatus() {
         // Given
         Long otherUserId = 999L;
-        when(meetingRepository.findById(1L)).thenReturn(Optional.of(testMeeting));
+        when(meetingRepository.findWithParticipantsById(1L)).thenReturn(Optional.of(testMeeting));
 
         // When & Then
         assertThatThrownBy(() -> meetingService.updateMeetingStatus(1L, Meeting.MeetingStatus.CONFIRMED, otherUserId))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("약속 상태 변경 권한이 없습니다");
 
-        verify(meetingRepository, times(1)).findById(1L);
-        verify(historyRepository, never()).save(any(MeetingHistory.class));
+        verify(meetingRepository, times(1)).findWithParticipantsById(1L);
+        verify(historyBuffer, never()).append(any(MeetingHistoryEntry.class));
     }
 
     @Test
@@ -260,14 +311,9 @@ class MeetingServiceTest {
      * 이유: 테스트 코드의 중복을 줄이고 일관된 테스트 데이터를 생성하기 위해
      */
     private Meeting createAnotherTestMeeting() {
-        Meeting meeting = new Meeting();
+        Meeting meeting = Meeting.create("또 다른 테스트 약속", "또 다른 테스트 설명", LocalDateTime.now().plusDays(2),
+                5, TEST_USER_ID, "또 다른 테스트 장소", null, null);
         meeting.setId(2L);
-        meeting.setHostId(TEST_USER_ID);
-        meeting.setTitle("또 다른 테스트 약속");
-        meeting.setDescription("또 다른 테스트 설명");
-        meeting.setMeetingTime(LocalDateTime.now().plusDays(2));
-        meeting.setLocationName("또 다른 테스트 장소");
-        meeting.setStatus(Meeting.MeetingStatus.WAITING);
         return meeting;
     }
 }
@@ -0,0 +1,98 @@
+package com.promiseservice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OptimisticRetryExecutor 단위 테스트
+ * 이유: 동시성 충돌만 새 트랜잭션으로 정해진 횟수까지 재시도하고, 그 밖의 실패는 즉시 전달하는지 검증하기 위해
+ */
+@ExtendWith(MockitoExtension.class)
+class OptimisticRetryExecutorTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OptimisticRetryExecutor retryExecutor;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 이유: 트랜잭션 시작 요청마다 새 상태를 돌려주고, 재시도 대기 없이 빠르게 검증하기 위해
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        retryExecutor = new OptimisticRetryExecutor(transactionManager);
+        ReflectionTestUtils.setField(retryExecutor, "maxBackoffMs", 0L);
+    }
+
+    @Test
+    @DisplayName("동시성 충돌 후 재시도 성공 테스트")
+    // 테스트 이유: 충돌한 시도는 롤백되고 다음 시도가 새 트랜잭션에서 처음부터 실행되어 결과를 반환하는지 검증
+    void should_RetryInNewTransaction_When_ConcurrencyFailureOccurs() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        String result = retryExecutor.execute("테스트", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new OptimisticLockingFailureException("충돌");
+            }
+            return "완료";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("완료");
+        assertThat(attempts).hasValue(2);
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("재시도 한도 초과 테스트")
+    // 테스트 이유: 충돌이 계속되면 무한히 반복하지 않고 최대 시도 횟수 후 실패를 알리는지 검증
+    void should_GiveUp_When_ConflictPersistsBeyondMaxAttempts() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        assertThatThrownBy(() -> retryExecutor.run("테스트", () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("충돌");
+        }))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("동시 요청이 많아")
+            .hasCauseInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("업무 오류 즉시 전달 테스트")
+    // 테스트 이유: 정원 초과 같은 업무 오류는 다시 시도해도 결과가 같으므로 재시도하지 않는지 검증
+    void should_NotRetry_When_BusinessErrorOccurs() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When & Then
+        assertThatThrownBy(() -> retryExecutor.run("테스트", () -> {
+            attempts.incrementAndGet();
+            throw new RuntimeException("약속 정원이 가득 찼습니다");
+        }))
+            .hasMessage("약속 정원이 가득 찼습니다");
+
+        assertThat(attempts).hasValue(1);
+    }
+}
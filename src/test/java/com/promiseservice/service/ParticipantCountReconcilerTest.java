@@ -0,0 +1,90 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.MeetingParticipantCounter;
+import com.promiseservice.dto.MeetingParticipantCounts;
+import com.promiseservice.repository.MeetingParticipantRepository;
+import com.promiseservice.repository.MeetingRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ParticipantCountReconciler 단위 테스트
+ * 이유: 카운터가 실제 참여자 집계와 다른 약속만 골라 재계산하는지 검증하기 위해
+ */
+@ExtendWith(MockitoExtension.class)
+class ParticipantCountReconcilerTest {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private MeetingParticipantRepository participantRepository;
+
+    @InjectMocks
+    private ParticipantCountReconciler reconciler;
+
+    @Test
+    @DisplayName("어긋난 카운터만 재계산 테스트")
+    // 테스트 이유: 수락/초대/거부 수가 모두 일치하는 약속은 건드리지 않고, 하나라도 다른 약속과 참여자가 없어진 약속만 보정하는지 검증
+    void should_RecountOnlyDriftedMeetings_When_CountersDiffer() {
+        // Given
+        List<MeetingParticipantCounter> counters = List.of(
+            counter(1L, 2, 1, 0),
+            counter(2L, 1, 1, 0),
+            counter(3L, 1, 0, 0));
+        when(meetingRepository.findParticipantCounterBy(any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(counters));
+        when(participantRepository.countParticipantsByMeetingIds(List.of(1L, 2L, 3L)))
+            .thenReturn(List.of(
+                new MeetingParticipantCounts(1L, 2L, 1L, 3L),
+                new MeetingParticipantCounts(2L, 1L, 0L, 2L)));
+        when(meetingRepository.recountParticipantCounts(List.of(2L, 3L))).thenReturn(2);
+
+        // When
+        int repaired = reconciler.reconcile();
+
+        // Then
+        assertThat(repaired).isEqualTo(2);
+        verify(meetingRepository, times(1)).recountParticipantCounts(List.of(2L, 3L));
+    }
+
+    @Test
+    @DisplayName("오차가 없으면 재계산하지 않음 테스트")
+    // 테스트 이유: 모든 카운터가 일치하면 UPDATE를 실행하지 않는지 검증
+    void should_NotRecount_When_CountersMatch() {
+        // Given
+        List<MeetingParticipantCounter> counters = List.of(counter(1L, 1, 2, 1));
+        when(meetingRepository.findParticipantCounterBy(any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(counters));
+        when(participantRepository.countParticipantsByMeetingIds(List.of(1L)))
+            .thenReturn(List.of(new MeetingParticipantCounts(1L, 1L, 2L, 4L)));
+
+        // When
+        int repaired = reconciler.reconcile();
+
+        // Then
+        assertThat(repaired).isZero();
+        verify(meetingRepository, never()).recountParticipantCounts(anyCollection());
+    }
+
+    private MeetingParticipantCounter counter(Long id, int accepted, int invited, int rejected) {
+        MeetingParticipantCounter counter = mock(MeetingParticipantCounter.class);
+        lenient().when(counter.getId()).thenReturn(id);
+        lenient().when(counter.getAcceptedCount()).thenReturn(accepted);
+        lenient().when(counter.getInvitedCount()).thenReturn(invited);
+        lenient().when(counter.getRejectedCount()).thenReturn(rejected);
+        return counter;
+    }
+}
@@ -0,0 +1,140 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.ParticipantMembership;
+import com.promiseservice.event.MeetingChangedEvent;
+import com.promiseservice.event.MeetingChangedEvent.ChangeType;
+import com.promiseservice.repository.MeetingParticipantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ParticipantPostingIndex 단위 테스트
+ * 이유: 사용자별 포스팅 목록의 합집합/교집합 결과와 참여자 변경 시 증분 갱신이 올바른지 검증하기 위해
+ */
+@ExtendWith(MockitoExtension.class)
+class ParticipantPostingIndexTest {
+
+    @Mock
+    private MeetingParticipantRepository participantRepository;
+
+    @InjectMocks
+    private ParticipantPostingIndex participantIndex;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 이유: 빈 데이터베이스로 색인을 준비 상태로 만든 뒤 각 테스트에서 참여자를 직접 반영하기 위해
+        when(participantRepository.findMembershipBy(any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of()));
+        participantIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("참여자 합집합/교집합 검색 테스트")
+    // 테스트 이유: ANY는 한 명이라도 참여한 약속, ALL은 모두 참여한 약속만 오름차순으로 돌려주는지 검증
+    void should_ReturnUnionAndIntersection_When_SearchingByParticipants() {
+        // Given
+        participantIndex.update(1L, List.of(10L, 20L));
+        participantIndex.update(2L, List.of(10L, 20L, 30L));
+        participantIndex.update(3L, List.of(20L, 30L));
+        participantIndex.update(4L, List.of(40L));
+
+        // When & Then
+        assertThat(participantIndex.anyOf(List.of(10L, 30L))).containsExactly(1L, 2L, 3L);
+        assertThat(participantIndex.allOf(List.of(10L, 20L))).containsExactly(1L, 2L);
+        assertThat(participantIndex.allOf(List.of(20L, 30L, 10L))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("포스팅이 없는 사용자가 포함된 교집합 테스트")
+    // 테스트 이유: 참여한 약속이 없는 사용자가 하나라도 있으면 ALL 검색 결과가 비어 있는지 검증
+    void should_ReturnEmpty_When_AnyUserHasNoMeetings() {
+        // Given
+        participantIndex.update(1L, List.of(10L));
+
+        // When & Then
+        assertThat(participantIndex.allOf(List.of(10L, 99L))).isEmpty();
+        assertThat(participantIndex.anyOf(List.of(10L, 99L))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("참여자 변경 및 약속 삭제 시 포스팅 갱신 테스트")
+    // 테스트 이유: 빠진 참여자의 포스팅에서는 약속이 제거되고, 약속 삭제 시 모든 포스팅에서 사라지는지 검증
+    void should_UpdatePostings_When_ParticipantsChangeOrMeetingRemoved() {
+        // Given
+        participantIndex.update(1L, List.of(10L, 20L));
+
+        // When
+        participantIndex.update(1L, List.of(20L, 30L));
+
+        // Then
+        assertThat(participantIndex.anyOf(List.of(10L))).isEmpty();
+        assertThat(participantIndex.allOf(List.of(20L, 30L))).containsExactly(1L);
+
+        // When
+        participantIndex.update(1L, List.of());
+
+        // Then
+        assertThat(participantIndex.anyOf(List.of(20L, 30L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("시작 시 데이터베이스 기준 색인 구축 테스트")
+    // 테스트 이유: 재구축 시 읽은 참여 관계가 사용자별 정렬된 포스팅으로 만들어지는지 검증
+    void should_BuildSortedPostings_When_Rebuilt() {
+        // Given
+        List<ParticipantMembership> memberships = List.of(membership(5L, 10L), membership(2L, 10L), membership(5L, 20L));
+        when(participantRepository.findMembershipBy(any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(memberships));
+
+        // When
+        participantIndex.rebuild();
+
+        // Then
+        assertThat(participantIndex.isReady()).isTrue();
+        assertThat(participantIndex.anyOf(List.of(10L))).containsExactly(2L, 5L);
+        assertThat(participantIndex.allOf(List.of(10L, 20L))).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("재구축 중 변경된 참여자 재반영 테스트")
+    // 테스트 이유: 재구축이 참여 관계를 읽은 뒤 교체하기 전에 커밋된 참여자 변경이
+    // 교체로 사라지지 않고 새 색인에 다시 반영되는지 검증
+    void should_ReplayChanges_When_ParticipantsChangeDuringRebuild() {
+        // Given - 재구축이 읽은 시점에는 약속 5에 사용자 10만 참여, 그 직후 사용자 20이 참여
+        List<ParticipantMembership> memberships = List.of(membership(5L, 10L));
+        List<ParticipantMembership> committed = List.of(membership(5L, 10L), membership(5L, 20L));
+        when(participantRepository.findMembershipByMeetingId(5L)).thenReturn(committed);
+        when(participantRepository.findMembershipBy(any(Pageable.class))).thenAnswer(invocation -> {
+            participantIndex.onMeetingChanged(new MeetingChangedEvent(5L, ChangeType.PARTICIPANTS_CHANGED));
+            return new SliceImpl<>(memberships);
+        });
+
+        // When
+        participantIndex.rebuild();
+
+        // Then
+        assertThat(participantIndex.allOf(List.of(10L, 20L))).containsExactly(5L);
+        verify(participantRepository, times(2)).findMembershipByMeetingId(5L);
+    }
+
+    private ParticipantMembership membership(Long meetingId, Long userId) {
+        ParticipantMembership membership = mock(ParticipantMembership.class);
+        // 약속별 참여자 조회 결과로 쓰일 때는 약속 ID를 읽지 않음
+        lenient().when(membership.getMeetingId()).thenReturn(meetingId);
+        when(membership.getUserId()).thenReturn(userId);
+        return membership;
+    }
+}
@@ -0,0 +1,106 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.MeetingParticipantCounts;
+import com.promiseservice.event.MeetingChangedEvent;
+import com.promiseservice.event.MeetingChangedEvent.ChangeType;
+import com.promiseservice.repository.MeetingParticipantRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PopularMeetingLeaderboard 단위 테스트
+ * 이유: 참여자 변경 이벤트에 따라 순위가 올바르게 조정되고 상위 K개가 정확한 순서로 조회되는지 검증하기 위해
+ */
+@ExtendWith(MockitoExtension.class)
+class PopularMeetingLeaderboardTest {
+
+    @Mock
+    private MeetingParticipantRepository participantRepository;
+
+    @InjectMocks
+    private PopularMeetingLeaderboard leaderboard;
+
+    @Test
+    @DisplayName("집계 결과로 순위표 구축 테스트")
+    // 테스트 이유: 참여자 수 내림차순, 동점이면 최신 약속(ID 큰 순) 우선으로 정렬되는지 검증
+    void should_RankByParticipantCount_When_Rebuilt() {
+        // Given
+        when(participantRepository.countParticipantsGroupedByMeeting()).thenReturn(List.of(
+            new MeetingParticipantCounts(1L, 1L, 0L, 3L),
+            new MeetingParticipantCounts(2L, 1L, 4L, 5L),
+            new MeetingParticipantCounts(3L, 1L, 2L, 3L)));
+
+        // When
+        leaderboard.rebuild();
+
+        // Then
+        assertThat(leaderboard.isReady()).isTrue();
+        assertThat(leaderboard.top(10)).containsExactly(2L, 3L, 1L);
+        assertThat(leaderboard.top(2)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("참여자 변경 이벤트 반영 테스트")
+    // 테스트 이유: 참여자 변경 시 해당 약속의 참여자 수를 다시 세어 순위가 이동하고, 삭제 시 순위표에서 빠지는지 검증
+    void should_MoveMeeting_When_ParticipantsChanged() {
+        // Given
+        leaderboard.update(1L, 2);
+        leaderboard.update(2L, 4);
+        when(participantRepository.countByMeetingId(1L)).thenReturn(6L);
+
+        // When
+        leaderboard.onMeetingChanged(new MeetingChangedEvent(1L, ChangeType.PARTICIPANTS_CHANGED));
+
+        // Then
+        assertThat(leaderboard.top(10)).containsExactly(1L, 2L);
+
+        // When
+        leaderboard.onMeetingChanged(new MeetingChangedEvent(1L, ChangeType.DELETED));
+
+        // Then
+        assertThat(leaderboard.top(10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("재구축 중 갱신 보존 테스트")
+    // 테스트 이유: 집계 쿼리가 실행되는 동안 들어온 참여자 수 갱신과 제거가 오래된 집계 결과로 덮어써지지 않고
+    // 교체 후에도 그대로 남는지 검증
+    void should_KeepUpdates_When_AppliedDuringRebuild() {
+        // Given - 집계 쿼리 도중 약속 1은 참여자가 늘고 약속 3은 삭제됨 (집계 결과에는 반영되지 않음)
+        when(participantRepository.countParticipantsGroupedByMeeting()).thenAnswer(invocation -> {
+            leaderboard.update(1L, 9);
+            leaderboard.remove(3L);
+            return List.of(
+                new MeetingParticipantCounts(1L, 1L, 0L, 2L),
+                new MeetingParticipantCounts(2L, 1L, 4L, 5L),
+                new MeetingParticipantCounts(3L, 1L, 2L, 3L));
+        });
+
+        // When
+        leaderboard.rebuild();
+        leaderboard.update(2L, 6);
+
+        // Then
+        assertThat(leaderboard.top(10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("참여자 수와 무관한 변경 무시 테스트")
+    // 테스트 이유: 제목 수정 등 참여자 수가 바뀌지 않는 변경에는 COUNT 쿼리를 실행하지 않는지 검증
+    void should_NotRecount_When_MeetingInfoUpdated() {
+        // When
+        leaderboard.onMeetingChanged(new MeetingChangedEvent(1L, ChangeType.UPDATED));
+
+        // Then
+        verify(participantRepository, never()).countByMeetingId(1L);
+    }
+}
@@ -0,0 +1,192 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.MeetingSummaryResponse;
+import com.promiseservice.event.MeetingChangedEvent;
+import com.promiseservice.event.MeetingChangedEvent.ChangeType;
+import com.promiseservice.model.entity.Meeting;
+import com.promiseservice.repository.MeetingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RecentMeetingRing 단위 테스트
+ * 이유: 링이 capacity를 넘으면 가장 오래된 약속부터 밀어내고, 생성 시간(같으면 ID) 내림차순을 유지하며,
+ * 여러 스레드가 동시에 기록해도 최신 capacity개만 일관되게 남는지 검증하기 위해
+ */
+@ExtendWith(MockitoExtension.class)
+class RecentMeetingRingTest {
+
+    private static final int CAPACITY = 3;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @InjectMocks
+    private RecentMeetingRing recentRing;
+
+    // 약속 ID → 저장된 약속 (findById 응답)
+    private final Map<Long, Meeting> meetings = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 이유: 빈 데이터베이스로 링을 준비 상태로 만든 뒤 각 테스트에서 생성 이벤트로 약속을 채우기 위해
+        ReflectionTestUtils.setField(recentRing, "capacity", CAPACITY);
+        when(meetingRepository.findByOrderByCreatedAtDescIdDesc(any(Pageable.class))).thenReturn(List.of());
+        lenient().when(meetingRepository.findById(anyLong()))
+            .thenAnswer(invocation -> Optional.ofNullable(meetings.get(invocation.<Long>getArgument(0))));
+        recentRing.rebuild();
+    }
+
+    @Test
+    @DisplayName("링 용량 초과 시 오래된 약속 제거 테스트")
+    // 테스트 이유: capacity보다 많은 약속이 생성되면 가장 오래된 약속부터 밀려나고,
+    // 밀려난 약속의 수정 이벤트는 링에 다시 넣지 않는지 검증
+    void should_EvictOldest_When_CapacityExceeded() {
+        // Given
+        for (long id = 1; id <= 5; id++) {
+            create(id, BASE_TIME.plusMinutes(id));
+        }
+        clearInvocations(meetingRepository);
+
+        // When
+        recentRing.onMeetingChanged(new MeetingChangedEvent(1L, ChangeType.UPDATED));
+
+        // Then
+        assertThat(ids(recentRing.latest(10, 99L))).containsExactly(5L, 4L, 3L);
+        verify(meetingRepository, never()).findById(1L);
+        assertThat(recentRing.canServe(CAPACITY)).isTrue();
+        assertThat(recentRing.canServe(CAPACITY + 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("생성 시간 및 ID 내림차순 정렬 테스트")
+    // 테스트 이유: 이벤트가 생성 순서와 다르게 도착해도 생성 시간 내림차순(같으면 ID 내림차순)으로 정렬되고,
+    // 링이 가득 찬 상태에서 가장 오래된 약속이 들어오면 곧바로 밀려나는지 검증
+    void should_KeepRecentOrder_When_EventsArriveOutOfOrder() {
+        // Given
+        create(2L, BASE_TIME.plusMinutes(10));
+        create(1L, BASE_TIME.plusMinutes(20));
+        create(3L, BASE_TIME.plusMinutes(10));
+
+        // When
+        create(4L, BASE_TIME);
+
+        // Then
+        assertThat(ids(recentRing.latest(CAPACITY, 99L))).containsExactly(1L, 3L, 2L);
+        assertThat(ids(recentRing.latest(2, 99L))).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("동시 기록 시 최신 약속 유지 테스트")
+    // 테스트 이유: 여러 스레드가 생성 이벤트를 동시에 기록하고 다른 스레드가 조회해도
+    // 예외 없이 항상 capacity 이하로 정렬된 결과를 읽고, 끝나면 가장 최신 capacity개만 남는지 검증
+    void should_KeepNewestMeetings_When_WrittenConcurrently() throws Exception {
+        // Given
+        int writers = 8;
+        long meetingsPerWriter = 50;
+        LongStream.rangeClosed(1, writers * meetingsPerWriter)
+            .forEach(id -> meetings.put(id, meeting(id, BASE_TIME.plusSeconds(id))));
+        ExecutorService pool = Executors.newFixedThreadPool(writers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> tasks = new ArrayList<>();
+
+        // When - 스레드마다 ID를 writers 간격으로 나눠 뒤섞인 순서로 기록
+        for (int writer = 0; writer < writers; writer++) {
+            long offset = writer + 1;
+            tasks.add(pool.submit(() -> {
+                start.await();
+                for (long id = offset; id <= writers * meetingsPerWriter; id += writers) {
+                    recentRing.onMeetingChanged(new MeetingChangedEvent(id, ChangeType.CREATED));
+                }
+                return null;
+            }));
+        }
+        Future<?> reader = pool.submit(() -> {
+            start.await();
+            for (int i = 0; i < 1000; i++) {
+                List<Long> read = ids(recentRing.latest(CAPACITY, 99L));
+                assertThat(read).hasSizeLessThanOrEqualTo(CAPACITY).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+            }
+            return null;
+        });
+        start.countDown();
+        for (Future<?> task : tasks) {
+            task.get(10, TimeUnit.SECONDS);
+        }
+        reader.get(10, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        // Then
+        long last = writers * meetingsPerWriter;
+        assertThat(ids(recentRing.latest(CAPACITY, 99L))).containsExactly(last, last - 1, last - 2);
+    }
+
+    @Test
+    @DisplayName("재구축 중 변경된 약속 재반영 테스트")
+    // 테스트 이유: 재구축이 최신 약속을 읽은 뒤 교체하기 전에 커밋된 생성/수정이
+    // 교체로 사라지지 않고 새 링에 다시 반영되는지 검증
+    void should_ReplayChanges_When_MeetingsChangeDuringRebuild() {
+        // Given - 재구축이 약속 1, 2를 읽은 직후 약속 3이 생성되고 약속 1의 제목이 바뀜
+        meetings.put(1L, meeting(1L, BASE_TIME.plusMinutes(1)));
+        meetings.put(2L, meeting(2L, BASE_TIME.plusMinutes(2)));
+        List<Meeting> loaded = List.of(meetings.get(2L), meetings.get(1L));
+        when(meetingRepository.findByOrderByCreatedAtDescIdDesc(any(Pageable.class))).thenAnswer(invocation -> {
+            meetings.put(3L, meeting(3L, BASE_TIME.plusMinutes(3)));
+            Meeting renamed = meeting(1L, BASE_TIME.plusMinutes(1));
+            renamed.setTitle("바뀐 제목");
+            meetings.put(1L, renamed);
+            recentRing.onMeetingChanged(new MeetingChangedEvent(3L, ChangeType.CREATED));
+            recentRing.onMeetingChanged(new MeetingChangedEvent(1L, ChangeType.UPDATED));
+            return loaded;
+        });
+
+        // When
+        recentRing.rebuild();
+
+        // Then
+        List<MeetingSummaryResponse> latest = recentRing.latest(CAPACITY, 99L);
+        assertThat(ids(latest)).containsExactly(3L, 2L, 1L);
+        assertThat(latest.get(2).getTitle()).isEqualTo("바뀐 제목");
+    }
+
+    private void create(Long id, LocalDateTime createdAt) {
+        meetings.put(id, meeting(id, createdAt));
+        recentRing.onMeetingChanged(new MeetingChangedEvent(id, ChangeType.CREATED));
+    }
+
+    private static Meeting meeting(Long id, LocalDateTime createdAt) {
+        Meeting meeting = Meeting.create("최근 약속 " + id, null, createdAt.plusDays(1), 5, 1L, null, null, null);
+        meeting.setId(id);
+        meeting.setCreatedAt(createdAt);
+        return meeting;
+    }
+
+    private static List<Long> ids(List<MeetingSummaryResponse> summaries) {
+        return summaries.stream().map(MeetingSummaryResponse::getId).toList();
+    }
+}
@@ -0,0 +1,186 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.UserExistenceResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * UserService 사용자 존재 여부 일괄 확인 단위 테스트
+ * 이유: 누락된 사용자 전체 반환, 캐시 재사용, 일괄 API 사용과 미지원 시 병렬 단건 조회 전환을 검증하기 위해
+ */
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+    private static final String BASE_URL = "http://user-service";
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @InjectMocks
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 이유: 설정 주입 없이 생성된 서비스에 URL을 지정하고 병렬 조회용 스레드 풀을 준비하기 위해
+        ReflectionTestUtils.setField(userService, "userServiceBaseUrl", BASE_URL);
+        ReflectionTestUtils.setField(userService, "usersApiPath", "/api/users");
+        userService.initExistsExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userService.shutdown();
+    }
+
+    @Test
+    @DisplayName("누락된 사용자 전체 반환 테스트")
+    // 테스트 이유: 존재하지 않는 사용자와 호출에 실패한 사용자가 첫 번째에서 멈추지 않고 한 결과에 모두 담기는지 검증
+    void should_ReturnAllMissingUsers_When_SomeUsersCannotBeFound() {
+        // Given
+        when(restTemplate.getForObject(BASE_URL + "/api/users/100/exists", Boolean.class)).thenReturn(true);
+        when(restTemplate.getForObject(BASE_URL + "/api/users/200/exists", Boolean.class)).thenReturn(false);
+        when(restTemplate.getForObject(BASE_URL + "/api/users/300/exists", Boolean.class))
+            .thenThrow(new ResourceAccessException("timeout"));
+
+        // When
+        UserExistenceResult result = userService.existsUsers(List.of(100L, 200L, 300L));
+
+        // Then
+        assertThat(result.existingUserIds()).containsExactly(100L);
+        assertThat(result.missingUserIds()).containsExactlyInAnyOrder(200L, 300L);
+        assertThat(result.allExist()).isFalse();
+    }
+
+    @Test
+    @DisplayName("존재 여부 캐시 재사용 테스트")
+    // 테스트 이유: 확인된 결과는 캐시에서 재사용하고, 호출에 실패한 사용자만 다음 요청에서 다시 조회하는지 검증
+    void should_ReuseCachedResults_When_CheckingSameUsersAgain() {
+        // Given
+        when(restTemplate.getForObject(BASE_URL + "/api/users/100/exists", Boolean.class)).thenReturn(true);
+        when(restTemplate.getForObject(BASE_URL + "/api/users/300/exists", Boolean.class))
+            .thenThrow(new ResourceAccessException("timeout"));
+
+        // When
+        userService.existsUsers(List.of(100L, 300L));
+        boolean exists = userService.existsUser(100L);
+        userService.existsUsers(List.of(100L, 300L));
+
+        // Then
+        assertThat(exists).isTrue();
+        verify(restTemplate, times(1)).getForObject(BASE_URL + "/api/users/100/exists", Boolean.class);
+        verify(restTemplate, times(2)).getForObject(BASE_URL + "/api/users/300/exists", Boolean.class);
+    }
+
+    @Test
+    @DisplayName("존재 여부 캐시 최대 크기 제한 테스트")
+    // 테스트 이유: 캐시가 최대 크기를 넘으면 가장 오래 사용하지 않은 사용자부터 제거되어 다시 조회되고,
+    // 최근에 사용한 사용자는 캐시에 남는지 검증
+    void should_EvictLeastRecentlyUsed_When_CacheExceedsMaxEntries() {
+        // Given
+        ReflectionTestUtils.setField(userService, "existsCacheMaxEntries", 2);
+        when(restTemplate.getForObject(startsWith(BASE_URL + "/api/users/"), eq(Boolean.class))).thenReturn(true);
+        userService.existsUsers(List.of(100L));
+        userService.existsUsers(List.of(200L));
+        userService.existsUsers(List.of(100L));
+
+        // When - 300 추가로 가장 오래 사용하지 않은 200이 제거됨
+        userService.existsUsers(List.of(300L));
+        userService.existsUsers(List.of(100L, 200L));
+
+        // Then
+        verify(restTemplate, times(1)).getForObject(BASE_URL + "/api/users/100/exists", Boolean.class);
+        verify(restTemplate, times(2)).getForObject(BASE_URL + "/api/users/200/exists", Boolean.class);
+    }
+
+    @Test
+    @DisplayName("테스트용 Mock 사용자 확인 테스트")
+    // 테스트 이유: Mock 설정이 켜져 있으면 단건/일괄 확인 모두 ID 1~8을 원격 호출 없이 존재하는 사용자로 보고,
+    // 그 밖의 사용자만 UserService에 확인하는지 검증
+    void should_TreatMockUsersAsExisting_When_MockEnabled() {
+        // Given
+        ReflectionTestUtils.setField(userService, "mockUsersEnabled", true);
+        when(restTemplate.getForObject(BASE_URL + "/api/users/100/exists", Boolean.class)).thenReturn(false);
+
+        // When
+        boolean hostExists = userService.existsUser(1L);
+        UserExistenceResult result = userService.existsUsers(List.of(1L, 8L, 100L));
+
+        // Then
+        assertThat(hostExists).isTrue();
+        assertThat(result.existingUserIds()).containsExactlyInAnyOrder(1L, 8L);
+        assertThat(result.missingUserIds()).containsExactly(100L);
+        verify(restTemplate, never()).getForObject(BASE_URL + "/api/users/1/exists", Boolean.class);
+        verify(restTemplate, never()).getForObject(BASE_URL + "/api/users/8/exists", Boolean.class);
+    }
+
+    @Test
+    @DisplayName("Mock 비활성화 시 원격 확인 테스트")
+    // 테스트 이유: Mock 설정이 꺼져 있으면 ID 1~8도 UserService에 확인하는지 검증
+    void should_CheckRemotely_When_MockDisabled() {
+        // Given
+        when(restTemplate.getForObject(BASE_URL + "/api/users/1/exists", Boolean.class)).thenReturn(false);
+
+        // When
+        boolean exists = userService.existsUser(1L);
+
+        // Then
+        assertThat(exists).isFalse();
+        verify(restTemplate, times(1)).getForObject(BASE_URL + "/api/users/1/exists", Boolean.class);
+    }
+
+    @Test
+    @DisplayName("일괄 존재 확인 API 사용 테스트")
+    // 테스트 이유: 일괄 API가 켜져 있으면 단건 호출 없이 한 번의 POST로 확인하는지 검증
+    void should_UseBatchEndpoint_When_Enabled() {
+        // Given
+        ReflectionTestUtils.setField(userService, "batchExistsEnabled", true);
+        when(restTemplate.postForObject(eq(BASE_URL + "/api/users/exists"), any(), eq(Long[].class)))
+            .thenReturn(new Long[]{100L});
+
+        // When
+        UserExistenceResult result = userService.existsUsers(List.of(100L, 200L));
+
+        // Then
+        assertThat(result.existingUserIds()).containsExactly(100L);
+        assertThat(result.missingUserIds()).containsExactly(200L);
+        verify(restTemplate, never()).getForObject(anyString(), eq(Boolean.class));
+    }
+
+    @Test
+    @DisplayName("일괄 API 미지원 시 병렬 단건 조회 전환 테스트")
+    // 테스트 이유: 일괄 API가 404를 반환하면 단건 조회로 대체하고, 이후 요청에서는 일괄 API를 다시 호출하지 않는지 검증
+    void should_FallBackToConcurrentLookups_When_BatchEndpointMissing() {
+        // Given
+        ReflectionTestUtils.setField(userService, "batchExistsEnabled", true);
+        when(restTemplate.postForObject(eq(BASE_URL + "/api/users/exists"), any(), eq(Long[].class)))
+            .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+        when(restTemplate.getForObject(BASE_URL + "/api/users/100/exists", Boolean.class)).thenReturn(true);
+        when(restTemplate.getForObject(BASE_URL + "/api/users/200/exists", Boolean.class)).thenReturn(true);
+
+        // When
+        UserExistenceResult first = userService.existsUsers(List.of(100L));
+        UserExistenceResult second = userService.existsUsers(List.of(200L));
+
+        // Then
+        assertThat(first.allExist()).isTrue();
+        assertThat(second.allExist()).isTrue();
+        verify(restTemplate, times(1)).postForObject(anyString(), any(), eq(Long[].class));
+    }
+}
@@ -0,0 +1,125 @@
+package com.promiseservice.service;
+
+import com.promiseservice.dto.MeetingChangeFeedItem;
+import com.promiseservice.dto.ParticipantMembership;
+import com.promiseservice.dto.UserTimelineResponse;
+import com.promiseservice.model.entity.MeetingHistory;
+import com.promiseservice.model.entity.MeetingHistory.ActionType;
+import com.promiseservice.model.entity.UserTimelineEntry;
+import com.promiseservice.repository.MeetingParticipantRepository;
+import com.promiseservice.repository.UserTimelineRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * UserTimelineService 단위 테스트
+ * 이유: 히스토리가 참여자와 활동한 사용자 타임라인에 한 번씩 퍼지고,
+ * 타임라인 조회가 커서 기준으로 다음 페이지를 이어 읽는지 검증하기 위해
+ */
+@ExtendWith(MockitoExtension.class)
+class UserTimelineServiceTest {
+
+    @Mock
+    private UserTimelineRepository timelineRepository;
+
+    @Mock
+    private MeetingParticipantRepository participantRepository;
+
+    @InjectMocks
+    private UserTimelineService timelineService;
+
+    @Test
+    @DisplayName("히스토리 참여자 타임라인 기록 테스트")
+    // 테스트 이유: 약속별 참여자를 한 번에 조회해 각 히스토리를 참여자마다 기록하고,
+    // 활동한 사용자가 참여자 목록에 없어도 본인 타임라인에는 남는지(중복 없이) 검증
+    @SuppressWarnings("unchecked")
+    void should_WriteEntryPerParticipantAndActor_When_FanningOut() {
+        // Given - 약속 1 참여자 {10, 20}, 약속 2 참여자 {30}
+        when(participantRepository.findMembershipByMeetingIdIn(Set.of(1L, 2L)))
+            .thenReturn(List.of(membership(1L, 10L), membership(1L, 20L), membership(2L, 30L)));
+        MeetingHistory joinedByParticipant = history(101L, 10L, ActionType.JOINED);
+        MeetingHistory updatedByOutsider = history(102L, 99L, ActionType.UPDATED);
+
+        // When
+        int written = timelineService.fanOut(List.of(1L, 2L), List.of(joinedByParticipant, updatedByOutsider));
+
+        // Then
+        ArgumentCaptor<List<UserTimelineEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(timelineRepository).saveAll(captor.capture());
+        assertThat(captor.getValue())
+            .extracting(UserTimelineEntry::getUserId, UserTimelineEntry::getHistoryId, UserTimelineEntry::getMeetingId)
+            .containsExactly(
+                tuple(10L, 101L, 1L),
+                tuple(20L, 101L, 1L),
+                tuple(30L, 102L, 2L),
+                tuple(99L, 102L, 2L));
+        assertThat(written).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("타임라인 커서 페이지네이션 테스트")
+    // 테스트 이유: 요청 크기보다 한 건 더 조회해 다음 페이지 여부를 판단하고,
+    // 마지막 항목의 히스토리 ID를 다음 커서로 돌려주며 그 커서로 이어 읽는지 검증
+    void should_ReturnNextCursor_When_MoreEntriesExist() {
+        // Given
+        when(timelineRepository.findLatest(eq(10L), any(Pageable.class)))
+            .thenReturn(List.of(entry(10L, 105L), entry(10L, 104L), entry(10L, 103L)));
+        when(timelineRepository.findBefore(eq(10L), eq(104L), any(Pageable.class)))
+            .thenReturn(List.of(entry(10L, 103L)));
+
+        // When
+        UserTimelineResponse first = timelineService.getTimeline(10L, null, 2);
+        UserTimelineResponse second = timelineService.getTimeline(10L, first.getNextCursor(), 2);
+
+        // Then
+        assertThat(first.getItems()).extracting(MeetingChangeFeedItem::id).containsExactly(105L, 104L);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isEqualTo(104L);
+        assertThat(second.getItems()).extracting(MeetingChangeFeedItem::id).containsExactly(103L);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    private static ParticipantMembership membership(Long meetingId, Long userId) {
+        return new ParticipantMembership() {
+            @Override
+            public Long getMeetingId() {
+                return meetingId;
+            }
+
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+        };
+    }
+
+    private static MeetingHistory history(Long id, Long userId, ActionType action) {
+        MeetingHistory history = new MeetingHistory();
+        history.setId(id);
+        history.setUserId(userId);
+        history.setAction(action);
+        history.setTimestamp(LocalDateTime.now());
+        return history;
+    }
+
+    private static UserTimelineEntry entry(Long userId, Long historyId) {
+        return UserTimelineEntry.of(userId, 1L, history(historyId, 20L, ActionType.UPDATED));
+    }
+}
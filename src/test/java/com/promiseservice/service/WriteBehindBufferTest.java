@@ -0,0 +1,232 @@
+package com.promiseservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.promiseservice.dto.WriteBehindStatsResponse;
+import com.promiseservice.service.WriteBehindBuffer.Durability;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+/**
+ * WriteBehindBuffer 단위 테스트
+ * 이유: 추가한 항목이 배치 크기 단위로 모여 쓰이고, 트랜잭션 커밋 여부와 저널 재처리,
+ * 제약 조건 위반 행 처리가 설계대로 동작하는지 검증하기 위해
+ */
+@ExtendWith(MockitoExtension.class)
+class WriteBehindBufferTest {
+
+    // 주기 비우기가 테스트 중에 끼어들지 않도록 충분히 긴 주기
+    private static final long NO_PERIODIC_FLUSH_MS = 60_000;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path journalDir;
+
+    private final List<List<String>> batches = new ArrayList<>();
+    private final List<WriteBehindBuffer<String>> buffers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        buffers.forEach(WriteBehindBuffer::close);
+    }
+
+    @Test
+    @DisplayName("배치 크기 도달 시 배치 단위 비우기 테스트")
+    // 테스트 이유: 커밋된 트랜잭션의 항목으로 배치 크기 이상 쌓이면 주기를 기다리지 않고 배치 크기만큼씩 나뉘어 쓰이는지 검증
+    void should_WriteInBatches_When_BatchSizeReached() throws InterruptedException {
+        // Given
+        WriteBehindBuffer<String> buffer = buffer(Durability.NONE, 2);
+        TransactionSynchronizationManager.initSynchronization();
+        List.of("a", "b", "c", "d", "e").forEach(buffer::append);
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        awaitWritten(buffer, 5);
+
+        // Then
+        assertThat(batches).containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+        WriteBehindStatsResponse stats = buffer.getStats();
+        assertThat(stats.getQueueDepth()).isZero();
+        assertThat(stats.getAppended()).isEqualTo(5);
+        assertThat(stats.getFlushes()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 커밋 후에만 버퍼 반영 테스트")
+    // 테스트 이유: 트랜잭션 안에서 추가한 항목은 커밋된 경우에만 버퍼에 들어가고, 롤백되면 버려지는지 검증
+    void should_EnqueueOnlyCommittedEntries_When_AppendedInTransaction() {
+        // Given
+        WriteBehindBuffer<String> buffer = buffer(Durability.NONE, 10);
+
+        // When - 커밋된 트랜잭션
+        TransactionSynchronizationManager.initSynchronization();
+        buffer.append("committed");
+        int depthBeforeCommit = buffer.getStats().getQueueDepth();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // When - 롤백된 트랜잭션
+        TransactionSynchronizationManager.initSynchronization();
+        buffer.append("rolled-back");
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        buffer.flush();
+
+        // Then
+        assertThat(depthBeforeCommit).isZero();
+        assertThat(batches).containsExactly(List.of("committed"));
+    }
+
+    @Test
+    @DisplayName("커밋 직전 쓰기 모드 테스트")
+    // 테스트 이유: BEFORE_COMMIT 모드에서는 트랜잭션의 항목이 버퍼를 거치지 않고 커밋 직전에 한 번에 쓰이는지 검증
+    void should_WriteBeforeCommit_When_DurabilityIsBeforeCommit() {
+        // Given
+        WriteBehindBuffer<String> buffer = buffer(Durability.BEFORE_COMMIT, 10);
+        TransactionSynchronizationManager.initSynchronization();
+        buffer.append("a");
+        buffer.append("b");
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.beforeCommit(false));
+
+        // Then
+        assertThat(batches).containsExactly(List.of("a", "b"));
+        assertThat(buffer.getStats().getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("저널 재처리 테스트")
+    // 테스트 이유: 비우기 전에 프로세스가 종료되어도 같은 저널 디렉터리로 다시 만든 버퍼가 남은 항목을 한 번만 쓰는지 검증
+    void should_ReplayJournal_When_RestartedBeforeFlush() {
+        // Given - 비우지 못하고 종료된 버퍼 (close를 호출하지 않아 종료 시 비우기도 없음)
+        WriteBehindBuffer<String> crashed = new WriteBehindBuffer<>("test", batches::add, transactionManager,
+                new WriteBehindBuffer.Settings(Durability.JOURNAL, 100, 10, NO_PERIODIC_FLUSH_MS), journal());
+        crashed.append("a");
+        crashed.append("b");
+
+        // When
+        WriteBehindBuffer<String> restarted = buffer(Durability.JOURNAL, 10);
+        int written = restarted.flush();
+        int writtenAgain = restarted.flush();
+
+        // Then
+        assertThat(written).isEqualTo(2);
+        assertThat(writtenAgain).isZero();
+        assertThat(batches).containsExactly(List.of("a", "b"));
+        assertThat(restarted.getStats().getPendingJournalSegments()).isZero();
+    }
+
+    @Test
+    @DisplayName("제약 조건 위반 항목만 버리기 테스트")
+    // 테스트 이유: 배치 중 한 행이 제약 조건을 위반하면 한 건씩 다시 써서 그 행만 버리고 나머지는 쓰는지 검증
+    void should_DropOnlyViolatingEntry_When_BatchViolatesConstraint() {
+        // Given
+        WriteBehindBuffer<String> buffer = new WriteBehindBuffer<>("test", entries -> {
+            if (entries.contains("duplicate")) {
+                throw new DataIntegrityViolationException("중복 키");
+            }
+            batches.add(entries);
+        }, transactionManager, new WriteBehindBuffer.Settings(Durability.NONE, 100, 10, NO_PERIODIC_FLUSH_MS), null);
+        buffers.add(buffer);
+        List.of("a", "duplicate", "b").forEach(buffer::append);
+
+        // When
+        buffer.flush();
+
+        // Then
+        assertThat(batches).containsExactly(List.of("a"), List.of("b"));
+        assertThat(buffer.getStats().getDropped()).isEqualTo(1);
+        assertThat(buffer.getStats().getWritten()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("저널 기록 실패 시 직접 쓰기 테스트")
+    // 테스트 이유: 저널에 기록하지 못한 항목을 버퍼에 남겨 저널 기준 비우기에서 잃지 않고, 요청 스레드에서 바로 쓰는지 검증
+    void should_WriteDirectly_When_JournalAppendFails() throws IOException {
+        // Given
+        @SuppressWarnings("unchecked")
+        WriteBehindJournal<String> failingJournal = mock(WriteBehindJournal.class);
+        doThrow(new IOException("디스크 가득 참")).when(failingJournal).append("a");
+        WriteBehindBuffer<String> buffer = new WriteBehindBuffer<>("test", batches::add, transactionManager,
+                new WriteBehindBuffer.Settings(Durability.JOURNAL, 100, 10, NO_PERIODIC_FLUSH_MS), failingJournal);
+        buffers.add(buffer);
+
+        // When
+        buffer.append("a");
+
+        // Then
+        assertThat(batches).containsExactly(List.of("a"));
+        assertThat(buffer.getStats().getQueueDepth()).isZero();
+        assertThat(buffer.getStats().getWritten()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차고 DB 장애 시 유실 집계 테스트")
+    // 테스트 이유: 커밋 후 버퍼가 가득 찬 상태에서 직접 쓰기까지 실패해도 이미 커밋된 요청에 예외를 던지지 않고 유실로 집계하는지 검증
+    void should_CountDropped_When_QueueFullAndDatabaseDown() {
+        // Given
+        WriteBehindBuffer<String> buffer = new WriteBehindBuffer<>("test", entries -> {
+            throw new IllegalStateException("DB 연결 실패");
+        }, transactionManager, new WriteBehindBuffer.Settings(Durability.NONE, 1, 10, NO_PERIODIC_FLUSH_MS), null);
+        buffers.add(buffer);
+        TransactionSynchronizationManager.initSynchronization();
+        buffer.append("a");
+        buffer.append("b");
+
+        // When & Then
+        assertThatCode(() -> TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit))
+            .doesNotThrowAnyException();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        WriteBehindStatsResponse stats = buffer.getStats();
+        assertThat(stats.getQueueDepth()).isEqualTo(1);
+        assertThat(stats.getDropped()).isEqualTo(1);
+    }
+
+    private WriteBehindBuffer<String> buffer(Durability durability, int batchSize) {
+        WriteBehindBuffer<String> buffer = new WriteBehindBuffer<>("test", batches::add, transactionManager,
+                new WriteBehindBuffer.Settings(durability, 100, batchSize, NO_PERIODIC_FLUSH_MS),
+                durability == Durability.JOURNAL ? journal() : null);
+        buffers.add(buffer);
+        return buffer;
+    }
+
+    private static void awaitWritten(WriteBehindBuffer<String> buffer, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (buffer.getStats().getWritten() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private WriteBehindJournal<String> journal() {
+        return new WriteBehindJournal<>(journalDir, "test", String.class, new ObjectMapper());
+    }
+}